@@ -0,0 +1,51 @@
+package org.sky.haaneul.pointcommon;
+
+/**
+ * 포인트 잔액 버킷/원장 Redis 키 규칙 (point-service, point-service-batch 공용)
+ * - 사용자 ID의 해시로 버킷을 고르고, 버킷 % 파티션 수로 파티션 결정
+ * - 잔액 버킷: point:balance:{파티션}:{버킷}, 원장: point:ledger:{파티션}, 반영 대기 증감: point:balance:{파티션}:pending
+ *   -> 같은 파티션의 버킷과 원장은 hash tag가 같아 Redis Cluster에서도 한 스크립트로 처리 가능
+ * - hash tag가 파티션이므로 잔액/원장 키는 최대 파티션 수만큼의 슬롯만 사용
+ *   - 파티션 수는 클러스터 마스터 수보다 충분히 커야 마스터별 부하가 고르게 나뉨 (기본 16: 마스터 3대 기준 5/5/6 슬롯)
+ *   - 파티션 수를 늘리면 원장 Stream 수도 늘어나 PointLedgerWriter가 주기마다 조회하는 Stream이 많아짐
+ *   - 파티션/버킷 수를 바꾸면 키가 바뀌므로 원장을 모두 저장한 뒤 잔액을 재배치해야 함
+ */
+public final class PointBalanceKeys {
+    private static final String BUCKET_KEY = "point:balance:{%d}:%d";
+    private static final String LEDGER_KEY = "point:ledger:{%d}";
+    private static final String PENDING_KEY = "point:balance:{%d}:pending";
+
+    private PointBalanceKeys() {
+    }
+
+    public static void validate(int buckets, int partitions) {
+        if (buckets < 2 || Integer.bitCount(buckets) != 1) {
+            throw new IllegalStateException("point.balance.buckets must be a power of two: " + buckets);
+        }
+        if (partitions < 1 || partitions > buckets) {
+            throw new IllegalStateException("point.ledger.partitions must be between 1 and buckets: " + partitions);
+        }
+    }
+
+    public static int bucket(Long userId, int buckets) {
+        // Fibonacci hashing (곱의 상위 비트 사용) -> 연속된 ID도 버킷에 고르게 분산
+        return (int) ((userId * 0x9E3779B97F4A7C15L) >>> (64 - Integer.numberOfTrailingZeros(buckets)));
+    }
+
+    public static int partition(Long userId, int buckets, int partitions) {
+        return bucket(userId, buckets) % partitions;
+    }
+
+    public static String balanceKey(Long userId, int buckets, int partitions) {
+        int bucket = bucket(userId, buckets);
+        return String.format(BUCKET_KEY, bucket % partitions, bucket);
+    }
+
+    public static String ledgerKey(int partition) {
+        return String.format(LEDGER_KEY, partition);
+    }
+
+    public static String pendingKey(int partition) {
+        return String.format(PENDING_KEY, partition);
+    }
+}
@@ -0,0 +1,38 @@
+package org.sky.haaneul.pointcommon;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PointBalanceKeysTest {
+
+    @Test
+    @DisplayName("키 - 잔액 버킷과 원장은 버킷 % 파티션 수를 hash tag로 사용")
+    void balanceKey_UsesPartitionHashTag() {
+        // given
+        Long userId = 42L;
+        int bucket = PointBalanceKeys.bucket(userId, 1024);
+
+        // when
+        String key = PointBalanceKeys.balanceKey(userId, 1024, 16);
+
+        // then
+        assertThat(key).isEqualTo("point:balance:{" + bucket % 16 + "}:" + bucket);
+        assertThat(PointBalanceKeys.partition(userId, 1024, 16)).isEqualTo(bucket % 16);
+        assertThat(PointBalanceKeys.ledgerKey(bucket % 16)).isEqualTo("point:ledger:{" + bucket % 16 + "}");
+    }
+
+    @Test
+    @DisplayName("설정 검증 - 버킷 수는 2의 거듭제곱, 파티션 수는 1 이상 버킷 수 이하")
+    void validate_RejectsInvalidLayout() {
+        // when & then
+        assertThatThrownBy(() -> PointBalanceKeys.validate(1000, 16))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("point.balance.buckets must be a power of two: 1000");
+        assertThatThrownBy(() -> PointBalanceKeys.validate(8, 16))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("point.ledger.partitions must be between 1 and buckets: 16");
+    }
+}
@@ -3,5 +3,8 @@ package org.sky.haaneul.pointservicebatch.domain;
 public enum PointType {
     EARNED,  // 적립
     USED,  // 사용
-    CANCELED  // 취소
+    CANCELED,  // 취소
+    EXPIRED,  // 만료 (일별 리포트 집계 X)
+    TRANSFERRED_OUT,  // 선물 보냄 (일별 리포트 집계 X)
+    TRANSFERRED_IN  // 선물 받음 (일별 리포트 집계 X)
 }
@@ -3,7 +3,13 @@ package org.sky.haaneul.pointservicebatch.job;
 import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.codec.CompositeCodec;
+import org.sky.haaneul.pointcommon.PointBalanceKeys;
 import org.sky.haaneul.pointservicebatch.domain.DailyPointReport;
 import org.sky.haaneul.pointservicebatch.domain.Point;
 import org.sky.haaneul.pointservicebatch.domain.PointBalance;
@@ -20,6 +26,7 @@ import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.JpaPagingItemReader;
 import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -36,12 +43,16 @@ import java.util.Map;
  *
  * 주요 기능:
  * 1. Redis 캐시와 DB의 포인트 잔액 동기화
- * 2. 전일 포인트 트랜잭션 기반 일별 리포트 생성
+ * 2. 전일 포인트 트랜잭션 기반 일별 리포트 생성 (재생성용, Job에서는 실행 X)
+ *    - 일별 리포트는 point-service가 쓰기 시점에 Redis로 집계하고 날짜가 지나면 DB에 저장 (PointDailyReportService)
  */
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class PointBalanceSyncJobConfig {
+    // point-service의 PointBalanceBuckets와 같은 저장 형식 사용 (키 규칙은 PointBalanceKeys 공유)
+    private static final Codec BALANCE_CODEC = new CompositeCodec(StringCodec.INSTANCE, LongCodec.INSTANCE);
+
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final EntityManagerFactory entityManagerFactory;
@@ -49,20 +60,24 @@ public class PointBalanceSyncJobConfig {
     private final JobCompletionNotificationListener jobCompletionNotificationListener;
     private final DailyPointReportRepository dailyPointReportRepository;
 
+    @Value("${point.balance.buckets:16384}")
+    private int buckets;
+
+    @Value("${point.ledger.partitions:16}")
+    private int partitions;
 
     /**
-     * 포인트 잔액 동기화 및 일별 리포트 생성 Job
+     * 포인트 잔액 동기화 Job
      *
      * 실행 순서:
      * 1. syncPointBalanceStep: DB의 포인트 잔액을 Redis 캐시에 동기화
-     * 2. generateDailyReportStep: 전일 포인트 트랜잭션을 집계하여 일별 리포트 생성
+     * (일별 리포트는 point-service가 저장하므로 전일 포인트 트랜잭션 전체를 다시 읽지 않음)
      */
     @Bean
     public Job pointBalanceSyncJob() {
         return new JobBuilder("pointBalanceSyncJob", jobRepository)
                 .listener(jobCompletionNotificationListener)
                 .start(syncPointBalanceStep())
-                .next(generateDailyReportStep())
                 .build();
     }
 
@@ -71,13 +86,13 @@ public class PointBalanceSyncJobConfig {
      *
      * DB의 포인트 잔액 정보를 Redis 캐시에 동기화하는 Step
      * - Reader: JPA를 통해 포인트 잔액 조회
-     * - Processor: 캐시 키 생성
-     * - Writer: Redis에 포인트 잔액 저장
+     * - Processor: 사용자 ID와 잔액 추출
+     * - Writer: Redis 잔액 버킷에 없는 잔액만 저장
      */
     @Bean
     public Step syncPointBalanceStep() {
         return new StepBuilder("syncPointBalanceStep", jobRepository)
-                .<PointBalance, Map.Entry<String, Long>>chunk(1000, transactionManager)
+                .<PointBalance, Map.Entry<Long, Long>>chunk(1000, transactionManager)
                 .reader(pointBalanceReader())
                 .processor(pointBalancerProcessor())
                 .writer(pointBalanceWriter())
@@ -98,35 +113,41 @@ public class PointBalanceSyncJobConfig {
     /**
      * 포인트 잔액 Processor
      *
-     * 포인트 잔액을 Redis 캐시 키-값 쌍으로 변환
+     * 포인트 잔액을 사용자 ID-잔액 쌍으로 변환
      */
     @Bean
     @StepScope
-    public ItemProcessor<PointBalance, Map.Entry<String, Long>> pointBalancerProcessor() {
-        return pointBalance -> Map.entry(
-                String.format("point:balance:%d", pointBalance.getUserId()),
-                pointBalance.getBalance()
-        );
+    public ItemProcessor<PointBalance, Map.Entry<Long, Long>> pointBalancerProcessor() {
+        return pointBalance -> Map.entry(pointBalance.getUserId(), pointBalance.getBalance());
     }
 
     /**
      * 포인트 잔액 Writer
      *
-     * Redis 캐시에 포인트 잔액 저장
+     * 사용자별 잔액 버킷(point:balance:{파티션}:{버킷})에 잔액 저장
+     * - 청크 단위로 한 번에 전송 (사용자마다 round trip X)
+     * - 이미 Redis에 있는 잔액은 덮어쓰지 않음 (v3는 Redis 잔액이 기준이고 DB는 원장 저장 후 따라옴)
      */
     @Bean
     @StepScope
-    public ItemWriter<Map.Entry<String, Long>> pointBalanceWriter() {
+    public ItemWriter<Map.Entry<Long, Long>> pointBalanceWriter() {
         return items -> {
-            var balanceMap = redissonClient.getMap("point:balance");
-            items.forEach(item -> balanceMap.put(item.getKey(), item.getValue()));
+            RBatch batch = redissonClient.createBatch();
+            items.forEach(item -> batch.<String, Long>getMap(balanceKey(item.getKey()), BALANCE_CODEC)
+                    .fastPutIfAbsentAsync(String.valueOf(item.getKey()), item.getValue()));
+            batch.execute();
         };
     }
 
+    private String balanceKey(Long userId) {
+        return PointBalanceKeys.balanceKey(userId, buckets, partitions);
+    }
+
     /**
      * 일별 리포트 생성 Step
      *
      * 전일 포인트 트랜잭션을 집계하여 일별 리포트를 생성하는 Step
+     * - point-service의 Redis 일별 집계가 유실된 경우 등 재생성이 필요할 때만 단독 실행
      * - Reader: JPA를 통해 전일 포인트 트랜잭션 조회
      * - Processor: 포인트 트랜잭션을 사용자별로 집계
      * - Writer: 일별 리포트를 DB에 저장
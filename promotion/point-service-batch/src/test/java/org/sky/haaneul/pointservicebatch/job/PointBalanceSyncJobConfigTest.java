@@ -3,8 +3,10 @@ package org.sky.haaneul.pointservicebatch.job;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.redisson.api.RMap;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMapAsync;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
 import org.sky.haaneul.pointservicebatch.domain.PointBalance;
 import org.sky.haaneul.pointservicebatch.repository.DailyPointReportRepository;
 import org.sky.haaneul.pointservicebatch.repository.PointBalanceRepository;
@@ -21,6 +23,7 @@ import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
@@ -46,12 +49,16 @@ class PointBalanceSyncJobConfigTest {
     private RedissonClient redissonClient;
 
     @MockitoBean
-    private RMap<String, Long> balanceMap;
+    private RBatch batch;
+
+    @MockitoBean
+    private RMapAsync<String, Long> balanceMap;
 
     @BeforeEach
     void setUp() {
         // Redis mock 설정
-        when(redissonClient.<String, Long>getMap(anyString())).thenReturn(balanceMap);
+        when(redissonClient.createBatch()).thenReturn(batch);
+        when(batch.<String, Long>getMap(anyString(), any(Codec.class))).thenReturn(balanceMap);
 
         // 테스트 데이터 초기화 -> 테스트 케이스가 서로 영향이 없도록!
         dailyPointReportRepository.deleteAll();
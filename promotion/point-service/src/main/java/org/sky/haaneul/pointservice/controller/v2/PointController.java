@@ -39,6 +39,16 @@ public class PointController {
                 .body(PointDto.Response.from(point));
     }
 
+    @PostMapping("/transfer")
+    public ResponseEntity<PointDto.Response> transferPoints(@Valid @RequestBody PointDto.TransferRequest request) {
+        Long userId = UserIdInterceptor.getCurrentUserId();
+        Point point = pointRedisService.transferPoints(userId, request.getToUserId(), request.getAmount(), request.getDescription());
+
+        // 보낸 사용자의 이력만 응답 (받는 사용자 잔액 노출 X)
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(PointDto.Response.from(point));
+    }
+
     @PostMapping("/{pointId}/cancel")
     public ResponseEntity<PointDto.Response> cancelPoints(
             @PathVariable Long pointId,
@@ -0,0 +1,126 @@
+package org.sky.haaneul.pointservice.controller.v3;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.sky.haaneul.pointservice.config.UserIdInterceptor;
+import org.sky.haaneul.pointservice.dto.PointDto;
+import org.sky.haaneul.pointservice.service.PointBalanceRebuilder;
+import org.sky.haaneul.pointservice.service.PointCheckpointService;
+import org.sky.haaneul.pointservice.service.PointDailyReportService;
+import org.sky.haaneul.pointservice.service.PointHistoryService;
+import org.sky.haaneul.pointservice.service.PointPayoutService;
+import org.sky.haaneul.pointservice.service.v3.PointAtomicService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@RestController("PointControllerV3")
+@RequestMapping("/api/v3/points")
+@RequiredArgsConstructor
+public class PointController {
+
+    private final PointAtomicService pointAtomicService;
+    private final PointCheckpointService pointCheckpointService;
+    private final PointBalanceRebuilder pointBalanceRebuilder;
+    private final PointPayoutService pointPayoutService;
+    private final PointHistoryService pointHistoryService;
+    private final PointDailyReportService pointDailyReportService;
+
+    @PostMapping("/earn")
+    public ResponseEntity<PointDto.LedgerResponse> earnPoints(@Valid @RequestBody PointDto.EarnRequest request) {
+        Long userId = UserIdInterceptor.getCurrentUserId();
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(pointAtomicService.earnPoints(userId, request.getAmount(), request.getDescription()));
+    }
+
+    @PostMapping("/use")
+    public ResponseEntity<PointDto.LedgerResponse> usePoints(@Valid @RequestBody PointDto.UseRequest request) {
+        Long userId = UserIdInterceptor.getCurrentUserId();
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(pointAtomicService.usePoints(userId, request.getAmount(), request.getDescription()));
+    }
+
+    @GetMapping("/users/{userId}/balance")
+    public ResponseEntity<PointDto.BalanceResponse> getBalance(@PathVariable Long userId) {
+        Long balance = pointAtomicService.getBalance(userId);
+        return ResponseEntity.ok(PointDto.BalanceResponse.of(userId, balance));
+    }
+
+    // 일별 리포트 (date 없으면 오늘, 쓰기 시점 집계이므로 당일 값도 조회 가능)
+    @GetMapping("/users/{userId}/daily-report")
+    public ResponseEntity<PointDto.DailyReportResponse> getDailyReport(
+            @PathVariable Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        LocalDate reportDate = date != null ? date : LocalDate.now();
+        return ResponseEntity.ok(pointDailyReportService.getReport(userId, reportDate));
+    }
+
+    @GetMapping("/users/{userId}/balance-at")
+    public ResponseEntity<PointDto.BalanceAtResponse> getBalanceAt(
+            @PathVariable Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at
+    ) {
+        // DB에 저장된 이력 기준 (원장이 아직 저장되지 않은 최근 변경은 반영되지 않음)
+        Long balance = pointCheckpointService.getBalanceAt(userId, at);
+        return ResponseEntity.ok(PointDto.BalanceAtResponse.of(userId, balance, at));
+    }
+
+    // 잔액 캐시 재구성 시작 (완료를 기다리지 않음, 이미 실행 중이면 409)
+    @PostMapping("/balance-cache/rebuild")
+    public ResponseEntity<Void> rebuildBalanceCache() {
+        if (!pointBalanceRebuilder.rebuildAsync()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.accepted().build();
+    }
+
+    // 캠페인 일괄 지급 (CSV: 한 줄에 userId,amount, 같은 지급 ID로 다시 요청하면 이어서 처리, 지급을 시작한 사용자만)
+    @PostMapping(value = "/payouts/{payoutId}", consumes = "text/csv")
+    public ResponseEntity<PointDto.PayoutResponse> payoutCsv(
+            @PathVariable String payoutId,
+            @RequestParam String description,
+            InputStream body
+    ) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            Long userId = UserIdInterceptor.getCurrentUserId();
+            return ResponseEntity.ok(pointPayoutService.payout(payoutId, userId, description, reader));
+        }
+    }
+
+    @PostMapping(value = "/payouts/{payoutId}", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PointDto.PayoutResponse> payout(
+            @PathVariable String payoutId,
+            @Valid @RequestBody PointDto.PayoutRequest request
+    ) {
+        Long userId = UserIdInterceptor.getCurrentUserId();
+        return ResponseEntity.ok(pointPayoutService.payout(payoutId, userId, request.getDescription(), request.getGrants().iterator()));
+    }
+
+    // 지급을 시작한 사용자의 지급만 조회
+    @GetMapping("/payouts/{payoutId}")
+    public ResponseEntity<PointDto.PayoutResponse> getPayout(@PathVariable String payoutId) {
+        Long userId = UserIdInterceptor.getCurrentUserId();
+        return ResponseEntity.ok(pointPayoutService.getPayout(payoutId, userId));
+    }
+
+    @GetMapping("/users/{userId}/history")
+    public ResponseEntity<PointDto.HistoryPage> getPointHistory(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        // 원장이 DB에 저장된 이력만 조회됨
+        return ResponseEntity.ok(pointHistoryService.getHistory(userId, cursor, size));
+    }
+}
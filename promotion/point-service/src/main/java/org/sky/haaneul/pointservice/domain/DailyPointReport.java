@@ -0,0 +1,67 @@
+package org.sky.haaneul.pointservice.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 일별 포인트 리포트 (point-service-batch와 같은 테이블)
+ * - 쓰기 시점 Redis 집계(PointDailyAggregates)를 날짜가 지난 뒤 PointDailyReportService가 저장
+ * - netAmount: 적립/사용/취소에 따른 잔액 증감 합계
+ */
+@Entity
+@Table(name = "daily_point_reports",
+        uniqueConstraints = @UniqueConstraint(name = "uk_daily_point_report", columnNames = {"user_id", "report_date"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class DailyPointReport {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDate reportDate;
+
+    @Column(nullable = false)
+    private Long earnAmount;
+
+    @Column(nullable = false)
+    private Long useAmount;
+
+    @Column(nullable = false)
+    private Long cancelAmount;
+
+    @Column(nullable = false)
+    private Long netAmount;
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public DailyPointReport(Long userId, LocalDate reportDate, Long earnAmount, Long useAmount,
+                            Long cancelAmount, Long netAmount) {
+        this.userId = userId;
+        this.reportDate = reportDate;
+        this.earnAmount = earnAmount;
+        this.useAmount = useAmount;
+        this.cancelAmount = cancelAmount;
+        this.netAmount = netAmount;
+    }
+}
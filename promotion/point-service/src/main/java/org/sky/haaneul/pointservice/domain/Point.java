@@ -12,7 +12,10 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "points")
+@Table(name = "points", indexes = {
+        @Index(name = "idx_points_user_id", columnList = "user_id, id"),
+        @Index(name = "idx_points_user_created", columnList = "user_id, created_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -45,6 +48,11 @@ public class Point {
     @JoinColumn(name = "point_balance_id")
     private PointBalance pointBalance;
 
+    private Long originalPointId;  // 취소한 원본 포인트 이력 ID (취소 이력만)
+
+    @Column(unique = true, length = 32)
+    private String ledgerId;  // 포인트 원장 entry ID (v3 비동기 저장 이력만, 재처리시 중복 저장 방지)
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -54,13 +62,15 @@ public class Point {
     private LocalDateTime updatedAt;
 
     @Builder
-    public Point(Long userId, Long amount, PointType type, String description, Long balanceSnapshot, PointBalance pointBalance) {
+    public Point(Long userId, Long amount, PointType type, String description, Long balanceSnapshot, PointBalance pointBalance,
+                 Long originalPointId) {
         this.userId = userId;
         this.amount = amount;
         this.type = type;
         this.description = description;
         this.balanceSnapshot = balanceSnapshot;
         this.pointBalance = pointBalance;
+        this.originalPointId = originalPointId;
         this.version = 0L;
     }
 
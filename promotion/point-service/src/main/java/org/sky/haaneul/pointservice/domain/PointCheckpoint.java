@@ -0,0 +1,54 @@
+package org.sky.haaneul.pointservice.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 포인트 잔액 체크포인트
+ * - lastPointId까지의 포인트 이력을 반영한 잔액 (이후 이력만 더하면 현재/특정 시점 잔액)
+ * - checkpointAt: 반영된 마지막 이력의 생성 시각
+ */
+@Entity
+@Table(name = "point_checkpoints",
+        uniqueConstraints = @UniqueConstraint(name = "uk_point_checkpoint", columnNames = {"user_id", "last_point_id"}),
+        indexes = @Index(name = "idx_point_checkpoint_user_at", columnList = "user_id, checkpoint_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class PointCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long balance;
+
+    @Column(nullable = false)
+    private Long lastPointId;
+
+    @Column(nullable = false)
+    private LocalDateTime checkpointAt;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public PointCheckpoint(Long userId, Long balance, Long lastPointId, LocalDateTime checkpointAt) {
+        this.userId = userId;
+        this.balance = balance;
+        this.lastPointId = lastPointId;
+        this.checkpointAt = checkpointAt;
+    }
+}
@@ -0,0 +1,64 @@
+package org.sky.haaneul.pointservice.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 적립 포인트 묶음 (만료 단위)
+ * - 적립 이력(또는 사용 취소 이력)마다 하나, 사용시 만료일이 빠른 묶음부터 차감 (FIFO)
+ * - expireOn: 만료일 버킷 (이 날짜가 되면 남은 포인트 만료), 남은 포인트가 없으면 null -> 만료 대상 인덱스에서 제외
+ */
+@Entity
+@Table(name = "point_lots", indexes = {
+        @Index(name = "idx_point_lot_expire", columnList = "expire_on, id"),
+        @Index(name = "idx_point_lot_user", columnList = "user_id, expire_on, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class PointLot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, unique = true)
+    private Long pointId;  // 묶음을 만든 포인트 이력
+
+    @Column(nullable = false)
+    private Long amount;
+
+    @Column(nullable = false)
+    private Long remaining;
+
+    private LocalDate expireOn;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public PointLot(Long userId, Long pointId, Long amount, Long remaining, LocalDate expireOn) {
+        this.userId = userId;
+        this.pointId = pointId;
+        this.amount = amount;
+        this.remaining = remaining != null ? remaining : amount;
+        this.expireOn = expireOn;
+    }
+}
@@ -0,0 +1,37 @@
+package org.sky.haaneul.pointservice.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 적립 묶음에 반영된 마지막 포인트 이력 ID (한 행)
+ */
+@Entity
+@Table(name = "point_lot_progress")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointLotProgress {
+    public static final Long ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long lastPointId;
+
+    @Version
+    private Long version;
+
+    public static PointLotProgress start() {
+        PointLotProgress progress = new PointLotProgress();
+        progress.id = ID;
+        progress.lastPointId = 0L;
+        return progress;
+    }
+
+    public void advance(Long lastPointId) {
+        this.lastPointId = lastPointId;
+    }
+}
@@ -0,0 +1,84 @@
+package org.sky.haaneul.pointservice.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캠페인 포인트 일괄 지급 진행 상태
+ * - processedCount: 반영된 지급 요청 수 (같은 지급 ID로 다시 요청하면 이만큼 건너뛰고 이어서 처리)
+ * - 지급 묶음 반영과 같은 트랜잭션에서 증가 (@Version으로 같은 지급의 동시 처리 방지)
+ * - requestedBy: 지급을 시작한 사용자 (이어서 처리/진행 상태 조회는 이 사용자만 가능)
+ */
+@Entity
+@Table(name = "point_payouts")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class PointPayout {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String payoutId;
+
+    @Column(nullable = false)
+    private String description;
+
+    private Long requestedBy;  // 컬럼 추가 전에 생성된 지급은 null (누구도 조회/재개 X)
+
+    @Column(nullable = false)
+    private Long processedCount = 0L;
+
+    @Column(nullable = false)
+    private Long grantedAmount = 0L;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @Version
+    private Long version = 0L;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public PointPayout(String payoutId, String description, Long requestedBy) {
+        this.payoutId = payoutId;
+        this.description = description;
+        this.requestedBy = requestedBy;
+        this.processedCount = 0L;
+        this.grantedAmount = 0L;
+        this.version = 0L;
+    }
+
+    public boolean isRequestedBy(Long userId) {
+        return requestedBy != null && requestedBy.equals(userId);
+    }
+
+    public void advance(long count, long amount) {
+        if (completed) {
+            throw new IllegalStateException("Payout already completed: " + payoutId);
+        }
+        this.processedCount += count;
+        this.grantedAmount += amount;
+    }
+
+    public void complete() {
+        this.completed = true;
+    }
+}
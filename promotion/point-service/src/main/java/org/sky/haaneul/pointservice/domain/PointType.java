@@ -3,5 +3,20 @@ package org.sky.haaneul.pointservice.domain;
 public enum PointType {
     EARNED,  // 적립
     USED,  // 사용
-    CANCELED  // 취소
+    CANCELED,  // 취소
+    EXPIRED,  // 만료
+    TRANSFERRED_OUT,  // 선물 보냄 (취소 X)
+    TRANSFERRED_IN;  // 선물 받음 (취소 X)
+
+    /**
+     * 유형별 잔액 증감량 (적립/선물 받음은 +, 사용/만료/선물 보냄은 -)
+     * - 취소는 원본 이력에 따라 방향이 달라지므로 지원 X
+     */
+    public long signedAmount(long amount) {
+        return switch (this) {
+            case EARNED, TRANSFERRED_IN -> amount;
+            case USED, EXPIRED, TRANSFERRED_OUT -> -amount;
+            default -> throw new IllegalArgumentException("Unsupported ledger type: " + this);
+        };
+    }
 }
@@ -1,14 +1,24 @@
 package org.sky.haaneul.pointservice.dto;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.sky.haaneul.pointservice.domain.DailyPointReport;
 import org.sky.haaneul.pointservice.domain.Point;
+import org.sky.haaneul.pointservice.domain.PointPayout;
 import org.sky.haaneul.pointservice.domain.PointType;
+import org.sky.haaneul.pointservice.repository.PointHistory;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class PointDto {
     @Getter
@@ -47,6 +57,77 @@ public class PointDto {
         private String description;
     }
 
+    @Getter
+    @Builder
+    public static class TransferRequest {
+        @NotNull(message = "toUserId must not be null")
+        private Long toUserId;
+
+        @NotNull(message = "amount must not be null")
+        @Min(value = 1, message = "amount must be greater than 0")
+        private Long amount;
+
+        @NotBlank(message = "description must not be blank")
+        private String description;
+    }
+
+    @Getter
+    @Builder
+    public static class PayoutGrant {
+        @NotNull(message = "userId must not be null")
+        private Long userId;
+
+        @NotNull(message = "amount must not be null")
+        @Min(value = 1, message = "amount must be greater than 0")
+        private Long amount;
+
+        // CSV 한 줄 (userId,amount)
+        public static PayoutGrant parse(String line) {
+            String[] columns = line.split(",");
+            if (columns.length != 2) {
+                throw new IllegalArgumentException("Invalid payout line: " + line);
+            }
+            try {
+                return PayoutGrant.builder()
+                        .userId(Long.valueOf(columns[0].trim()))
+                        .amount(Long.valueOf(columns[1].trim()))
+                        .build();
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid payout line: " + line, e);
+            }
+        }
+    }
+
+    @Getter
+    @Builder
+    public static class PayoutRequest {
+        @NotBlank(message = "description must not be blank")
+        private String description;
+
+        @NotEmpty(message = "grants must not be empty")
+        private List<@Valid PayoutGrant> grants;
+    }
+
+    @Getter
+    @Builder
+    public static class PayoutResponse {
+        private String payoutId;
+        private String description;
+        private Long processedCount;
+        private Long grantedAmount;
+        private boolean completed;
+
+        public static PayoutResponse from(PointPayout payout) {
+            return PayoutResponse.builder()
+                    .payoutId(payout.getPayoutId())
+                    .description(payout.getDescription())
+                    .processedCount(payout.getProcessedCount())
+                    .grantedAmount(payout.getGrantedAmount())
+                    .completed(payout.isCompleted())
+                    .build();
+        }
+    }
+
     @Getter
     @Builder
     public static class BalanceResponse {
@@ -63,6 +144,57 @@ public class PointDto {
 
     @Getter
     @Builder
+    public static class BalanceAtResponse {
+        private Long userId;
+        private Long balance;
+        private LocalDateTime at;
+
+        public static BalanceAtResponse of(Long userId, Long balance, LocalDateTime at) {
+            return BalanceAtResponse.builder()
+                    .userId(userId)
+                    .balance(balance)
+                    .at(at)
+                    .build();
+        }
+    }
+
+    @Getter
+    @Builder
+    public static class DailyReportResponse {
+        private Long userId;
+        private LocalDate reportDate;
+        private Long earnAmount;
+        private Long useAmount;
+        private Long cancelAmount;
+        private Long netAmount;  // 적립/사용/취소에 따른 잔액 증감 합계
+
+        public static DailyReportResponse from(DailyPointReport report) {
+            return DailyReportResponse.builder()
+                    .userId(report.getUserId())
+                    .reportDate(report.getReportDate())
+                    .earnAmount(report.getEarnAmount())
+                    .useAmount(report.getUseAmount())
+                    .cancelAmount(report.getCancelAmount())
+                    .netAmount(report.getNetAmount())
+                    .build();
+        }
+
+        public static DailyReportResponse empty(Long userId, LocalDate reportDate) {
+            return DailyReportResponse.builder()
+                    .userId(userId)
+                    .reportDate(reportDate)
+                    .earnAmount(0L)
+                    .useAmount(0L)
+                    .cancelAmount(0L)
+                    .netAmount(0L)
+                    .build();
+        }
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)  // Redis 캐시 역직렬화
+    @AllArgsConstructor
     public static class Response {
         private Long id;
         private Long userId;
@@ -83,5 +215,38 @@ public class PointDto {
                     .createdAt(point.getCreatedAt())
                     .build();
         }
+
+        public static Response from(PointHistory history) {
+            return Response.builder()
+                    .id(history.getId())
+                    .userId(history.getUserId())
+                    .amount(history.getAmount())
+                    .type(history.getType())
+                    .description(history.getDescription())
+                    .balanceSnapshot(history.getBalanceSnapshot())
+                    .createdAt(history.getCreatedAt())
+                    .build();
+        }
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)  // Redis 캐시 역직렬화
+    @AllArgsConstructor
+    public static class HistoryPage {
+        private List<Response> items;
+        private String nextCursor;  // 다음 페이지 커서 (마지막 페이지면 null)
+    }
+
+    @Getter
+    @Builder
+    public static class LedgerResponse {
+        private String ledgerId;  // 포인트 원장 entry ID (DB 저장 전이므로 이력 ID 대신 사용)
+        private Long userId;
+        private Long amount;
+        private PointType type;
+        private String description;
+        private Long balanceSnapshot;
+        private LocalDateTime createdAt;
     }
 }
@@ -0,0 +1,12 @@
+package org.sky.haaneul.pointservice.repository;
+
+import org.sky.haaneul.pointservice.domain.DailyPointReport;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface DailyPointReportRepository extends JpaRepository<DailyPointReport, Long> {
+
+    Optional<DailyPointReport> findByUserIdAndReportDate(Long userId, LocalDate reportDate);
+}
@@ -2,13 +2,21 @@ package org.sky.haaneul.pointservice.repository;
 
 import jakarta.persistence.LockModeType;
 import org.sky.haaneul.pointservice.domain.PointBalance;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface PointBalanceRepository extends JpaRepository<PointBalance, Long> {
 
     @Lock(LockModeType.OPTIMISTIC)
     Optional<PointBalance> findByUserId(Long userId);
+
+    // 사용자 ID keyset 페이지
+    @Query("SELECT pb.userId FROM PointBalance pb WHERE pb.userId > :userCursor ORDER BY pb.userId")
+    List<Long> findUserIdsAfter(@Param("userCursor") Long userCursor, Pageable pageable);
 }
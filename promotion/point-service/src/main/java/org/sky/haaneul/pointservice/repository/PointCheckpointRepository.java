@@ -0,0 +1,26 @@
+package org.sky.haaneul.pointservice.repository;
+
+import org.sky.haaneul.pointservice.domain.PointCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PointCheckpointRepository extends JpaRepository<PointCheckpoint, Long> {
+
+    // 특정 시점 이전의 마지막 체크포인트
+    Optional<PointCheckpoint> findFirstByUserIdAndCheckpointAtLessThanEqualOrderByLastPointIdDesc(Long userId, LocalDateTime at);
+
+    // 사용자별 마지막 체크포인트
+    @Query("SELECT c FROM PointCheckpoint c WHERE c.userId IN :userIds " +
+            "AND c.lastPointId = (SELECT MAX(c2.lastPointId) FROM PointCheckpoint c2 WHERE c2.userId = c.userId)")
+    List<PointCheckpoint> findLatestByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    // 마지막 체크포인트 실행시 반영된 이력 ID
+    @Query("SELECT MAX(c.lastPointId) FROM PointCheckpoint c")
+    Optional<Long> findMaxLastPointId();
+}
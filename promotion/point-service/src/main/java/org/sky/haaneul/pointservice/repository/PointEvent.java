@@ -0,0 +1,26 @@
+package org.sky.haaneul.pointservice.repository;
+
+import org.sky.haaneul.pointservice.domain.PointType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 잔액 재계산에 필요한 포인트 이력 정보만 조회하는 projection (엔티티 로딩 X)
+ */
+public interface PointEvent {
+    Long getId();
+
+    Long getUserId();
+
+    Long getAmount();
+
+    PointType getType();
+
+    Long getBalanceSnapshot();
+
+    LocalDateTime getCreatedAt();
+
+    Long getOriginalPointId();  // 취소 이력의 원본 이력 ID (취소 이력이 아니면 null)
+
+    PointType getOriginalType();  // 취소 이력의 원본 유형 (적립 취소/사용 취소 구분)
+}
@@ -0,0 +1,8 @@
+package org.sky.haaneul.pointservice.repository;
+
+/**
+ * 이력 조회 projection (엔티티/잔액 로딩 X)
+ */
+public interface PointHistory extends PointEvent {
+    String getDescription();
+}
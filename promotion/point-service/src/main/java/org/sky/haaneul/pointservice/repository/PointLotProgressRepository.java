@@ -0,0 +1,7 @@
+package org.sky.haaneul.pointservice.repository;
+
+import org.sky.haaneul.pointservice.domain.PointLotProgress;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PointLotProgressRepository extends JpaRepository<PointLotProgress, Long> {
+}
@@ -0,0 +1,26 @@
+package org.sky.haaneul.pointservice.repository;
+
+import org.sky.haaneul.pointservice.domain.PointLot;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PointLotRepository extends JpaRepository<PointLot, Long> {
+
+    // 사용자별 남은 묶음 (만료일 빠른 순 = 차감 순서)
+    @Query("SELECT l FROM PointLot l WHERE l.userId IN :userIds AND l.expireOn IS NOT NULL ORDER BY l.expireOn, l.id")
+    List<PointLot> findOpenLots(@Param("userIds") Collection<Long> userIds);
+
+    // 남은 묶음 중 가장 빠른 만료일 버킷
+    @Query("SELECT MIN(l.expireOn) FROM PointLot l")
+    Optional<LocalDate> findOldestExpireOn();
+
+    // 만료일 버킷의 묶음 (ID keyset 페이지)
+    List<PointLot> findByExpireOnAndIdGreaterThanOrderByIdAsc(LocalDate expireOn, Long id, Pageable pageable);
+}
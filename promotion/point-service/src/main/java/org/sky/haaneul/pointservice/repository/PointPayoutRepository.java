@@ -0,0 +1,11 @@
+package org.sky.haaneul.pointservice.repository;
+
+import org.sky.haaneul.pointservice.domain.PointPayout;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface PointPayoutRepository extends JpaRepository<PointPayout, Long> {
+
+    Optional<PointPayout> findByPayoutId(String payoutId);
+}
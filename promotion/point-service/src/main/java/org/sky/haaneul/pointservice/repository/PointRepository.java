@@ -1,11 +1,16 @@
 package org.sky.haaneul.pointservice.repository;
 
-import io.lettuce.core.dynamic.annotation.Param;
 import org.sky.haaneul.pointservice.domain.Point;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface PointRepository extends JpaRepository<Point, Long> {
 
@@ -15,4 +20,54 @@ public interface PointRepository extends JpaRepository<Point, Long> {
             "ORDER BY p.createdAt DESC")
     Page<Point> findByUserIdOrderByCreatedAtDesc(@Param("userId") Long userId, Pageable pageable);
 
+    // 최근 이력 첫 페이지 (user_id, created_at, id 인덱스 역순 스캔, COUNT/OFFSET X)
+    @Query("SELECT p.id AS id, p.userId AS userId, p.amount AS amount, p.type AS type, p.description AS description, " +
+            "p.balanceSnapshot AS balanceSnapshot, p.createdAt AS createdAt FROM Point p " +
+            "WHERE p.userId = :userId ORDER BY p.createdAt DESC, p.id DESC")
+    List<PointHistory> findHistory(@Param("userId") Long userId, Pageable pageable);
+
+    // 커서(createdAt, id) 이전 이력 페이지
+    @Query("SELECT p.id AS id, p.userId AS userId, p.amount AS amount, p.type AS type, p.description AS description, " +
+            "p.balanceSnapshot AS balanceSnapshot, p.createdAt AS createdAt FROM Point p " +
+            "WHERE p.userId = :userId " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PointHistory> findHistoryBefore(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id, Pageable pageable);
+
+    // 체크포인트 이후 특정 시점까지의 이력 (사용자별 이력 ID 순 = 반영 순서)
+    @Query("SELECT p.id AS id, p.userId AS userId, p.amount AS amount, p.type AS type, " +
+            "p.balanceSnapshot AS balanceSnapshot, p.createdAt AS createdAt, " +
+            "p.originalPointId AS originalPointId, o.type AS originalType FROM Point p " +
+            "LEFT JOIN Point o ON o.id = p.originalPointId " +
+            "WHERE p.userId = :userId AND p.id > :afterId AND p.createdAt <= :at ORDER BY p.id")
+    List<PointEvent> findEventsAt(@Param("userId") Long userId, @Param("afterId") Long afterId,
+                                  @Param("at") LocalDateTime at);
+
+    // 여러 사용자의 사용자별 마지막 체크포인트 이후 이력 (체크포인트 lastPointId < id <= upToId, 체크포인트가 없으면 처음부터)
+    @Query("SELECT p.id AS id, p.userId AS userId, p.amount AS amount, p.type AS type, " +
+            "p.balanceSnapshot AS balanceSnapshot, p.createdAt AS createdAt, " +
+            "p.originalPointId AS originalPointId, o.type AS originalType FROM Point p " +
+            "LEFT JOIN Point o ON o.id = p.originalPointId " +
+            "WHERE p.userId IN :userIds AND p.id <= :upToId " +
+            "AND p.id > COALESCE((SELECT MAX(c.lastPointId) FROM PointCheckpoint c WHERE c.userId = p.userId), 0) " +
+            "ORDER BY p.id")
+    List<PointEvent> findEventsAfterCheckpoints(@Param("userIds") Collection<Long> userIds, @Param("upToId") Long upToId);
+
+    // 전체 사용자의 이력 (afterId < id <= upToId, ID 순 페이지)
+    @Query("SELECT p.id AS id, p.userId AS userId, p.amount AS amount, p.type AS type, " +
+            "p.balanceSnapshot AS balanceSnapshot, p.createdAt AS createdAt, " +
+            "p.originalPointId AS originalPointId, o.type AS originalType FROM Point p " +
+            "LEFT JOIN Point o ON o.id = p.originalPointId " +
+            "WHERE p.id > :afterId AND p.id <= :upToId ORDER BY p.id")
+    List<PointEvent> findEventsAfter(@Param("afterId") Long afterId, @Param("upToId") Long upToId, Pageable pageable);
+
+    // afterId 이후 이력이 있는 사용자 (사용자 ID keyset 페이지)
+    @Query("SELECT DISTINCT p.userId FROM Point p " +
+            "WHERE p.id > :afterId AND p.id <= :upToId AND p.userId > :userCursor ORDER BY p.userId")
+    List<Long> findActiveUserIds(@Param("afterId") Long afterId, @Param("upToId") Long upToId,
+                                 @Param("userCursor") Long userCursor, Pageable pageable);
+
+    // before 이전에 저장된 마지막 이력 (이력은 수정되지 않으므로 updatedAt = 저장 시각)
+    Optional<Point> findFirstByUpdatedAtBeforeOrderByIdDesc(LocalDateTime before);
 }
@@ -0,0 +1,269 @@
+package org.sky.haaneul.pointservice.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RMap;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.codec.CompositeCodec;
+import org.sky.haaneul.pointcommon.PointBalanceKeys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 포인트 잔액 Redis Hash 분할
+ * - 사용자 ID의 해시로 버킷을 골라 point:balance:{파티션}:{버킷} Hash에 잔액 저장 (사용자 하나당 필드 하나)
+ * - 버킷당 필드 수가 hash-max-listpack-entries(기본 128) 이하가 되도록 버킷 수 설정 (사용자 수 / 100 이상인 2의 거듭제곱)
+ *   -> listpack 인코딩 유지로 사용자당 메모리 감소, 큰 키 하나를 삭제/이동하느라 Redis가 멈추지 않음
+ * - 같은 파티션의 버킷과 포인트 원장은 hash tag가 같아 Redis Cluster에서도 한 스크립트로 처리 가능
+ *   (키 규칙과 파티션 수에 따른 슬롯 분산은 point-common의 PointBalanceKeys 참고, point-service-batch와 공유)
+ * - 버킷 수/파티션 수를 바꾸면 키가 바뀌므로 재배치 필요 (point-service-batch 설정과 같아야 함)
+ * - 분할 전 단일 Hash(point:balance)에 남은 잔액은 조회시 옮기고, PointBalanceMigration이 일괄로 옮김
+ * - DB에 반영된 증감을 캐시에 반영하지 못하면 다시 시도하고, 그래도 실패하면 보관해 두었다가 주기적으로 재반영
+ *   (캐시를 삭제하면 v3 원장에서 아직 DB에 저장되지 않은 증감까지 사라지므로 삭제 X)
+ *   - 같은 파티션의 Hash(point:balance:{파티션}:pending)에 보관 -> 인스턴스가 재시작되어도 유지, 어느 인스턴스든 재반영
+ *   - Redis에 보관하지도 못하면 인스턴스 메모리에 보관하고 다시 시도 (그 사이 종료되면 유실되므로 error 로그의 증감으로 복구)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointBalanceBuckets {
+    public static final String LEGACY_KEY = "point:balance";
+    // 숫자 문자열로 저장 (v3 Lua 스크립트가 HINCRBY로 변경)
+    public static final Codec CODEC = new CompositeCodec(StringCodec.INSTANCE, LongCodec.INSTANCE);
+    // KEYS: 잔액 버킷 / ARGV: userId, 증감량
+    private static final String APPLY_IF_PRESENT_SCRIPT =
+            "local balance = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if not balance then return nil end " +
+            "local delta = math.max(tonumber(ARGV[2]), -tonumber(balance)) " +
+            "return redis.call('HINCRBY', KEYS[1], ARGV[1], delta)";
+    // KEYS: 잔액 버킷, 반영 대기 Hash / ARGV: userId (대기 증감을 꺼내면서 반영 -> 여러 인스턴스가 실행해도 한 번만 반영)
+    private static final String APPLY_PENDING_SCRIPT =
+            "local delta = redis.call('HGET', KEYS[2], ARGV[1]) " +
+            "if not delta then return nil end " +
+            "redis.call('HDEL', KEYS[2], ARGV[1]) " +
+            "local balance = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if not balance then return nil end " +
+            "delta = math.max(tonumber(delta), -tonumber(balance)) " +
+            "return redis.call('HINCRBY', KEYS[1], ARGV[1], delta)";
+    private static final int MAX_APPLY_ATTEMPTS = 3;
+
+    private final RedissonClient redissonClient;
+
+    private final Map<Long, Long> failedDeltas = new ConcurrentHashMap<>();  // Redis에 보관하지도 못한 사용자별 증감 (재시도 대기)
+
+    @Value("${point.balance.buckets:16384}")
+    private int buckets;
+
+    @Value("${point.ledger.partitions:16}")
+    private int partitions;
+
+    @PostConstruct
+    void validate() {
+        PointBalanceKeys.validate(buckets, partitions);
+    }
+
+    public int bucket(Long userId) {
+        return PointBalanceKeys.bucket(userId, buckets);
+    }
+
+    public int partition(Long userId) {
+        return PointBalanceKeys.partition(userId, buckets, partitions);
+    }
+
+    public int partitions() {
+        return partitions;
+    }
+
+    public String key(Long userId) {
+        return PointBalanceKeys.balanceKey(userId, buckets, partitions);
+    }
+
+    public String ledgerKey(int partition) {
+        return PointBalanceKeys.ledgerKey(partition);
+    }
+
+    public String pendingKey(Long userId) {
+        return PointBalanceKeys.pendingKey(partition(userId));
+    }
+
+    public RMap<String, Long> map(Long userId) {
+        return redissonClient.getMap(key(userId), CODEC);
+    }
+
+    /**
+     * 잔액이 버킷에 없으면 초기화 (분할 전 Hash에 남은 값 -> loader 순)
+     * - 다른 요청이 먼저 초기화했으면 그 값을 유지
+     */
+    public Long loadIfAbsent(Long userId, Supplier<Long> loader) {
+        Long balance = legacyBalance(userId);
+        if (balance == null) {
+            balance = loader.get();
+        }
+        Long current = map(userId).putIfAbsent(String.valueOf(userId), balance);
+        return current != null ? current : balance;
+    }
+
+    /**
+     * 사용자별 캐시된 잔액 (v3 원장에서 아직 DB에 저장되지 않은 증감 포함, 캐시에 없는 사용자는 제외)
+     */
+    public Map<Long, Long> getBalances(Collection<Long> userIds) {
+        RBatch batch = redissonClient.createBatch();
+        Map<Long, RFuture<Long>> futures = new HashMap<>();
+        userIds.forEach(userId -> futures.put(userId,
+                batch.<String, Long>getMap(key(userId), CODEC).getAsync(String.valueOf(userId))));
+        batch.execute();
+
+        Map<Long, Long> balances = new HashMap<>();
+        futures.forEach((userId, future) -> {
+            Long balance = future.toCompletableFuture().join();
+            if (balance != null) {
+                balances.put(userId, balance);
+            }
+        });
+        return balances;
+    }
+
+    /**
+     * DB에 반영된 잔액 증감을 캐시에 한 번에 반영 (파이프라인)
+     * - 캐시에 없는 사용자는 다음 조회시 DB에서 로드하므로 건너뜀, 차감은 0 미만으로 내려가지 않음
+     * - 실패하면 max-attempts까지 다시 시도, 그래도 실패하면 보관(defer) 후 retryFailedDeltas에서 재반영
+     */
+    public void applyDeltas(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        for (int attempt = 1; attempt <= MAX_APPLY_ATTEMPTS; attempt++) {
+            try {
+                execute(deltas);
+                return;
+            } catch (Exception e) {
+                log.warn("Failed to apply point balance deltas to cache for {} users (attempt {}/{})",
+                        deltas.size(), attempt, MAX_APPLY_ATTEMPTS, e);
+            }
+        }
+        defer(deltas);
+    }
+
+    /**
+     * 보관된 증감 재반영
+     * - 메모리에 보관된 증감 (실패하면 다시 보관)
+     * - Redis에 보관된 증감 (보관된 파티션만 사용자별로 꺼내면서 반영)
+     */
+    @Scheduled(fixedDelayString = "${point.balance.retry-interval-ms:1000}")
+    public void retryFailedDeltas() {
+        retryLocalDeltas();
+        try {
+            applyPendingDeltas();
+        } catch (Exception e) {
+            log.warn("Failed to apply pending point balance deltas", e);
+        }
+    }
+
+    int failedDeltaCount() {
+        return failedDeltas.size();
+    }
+
+    // 반영하지 못한 증감을 같은 파티션의 대기 Hash에 누적 (실패하면 메모리에 보관)
+    private void defer(Map<Long, Long> deltas) {
+        try {
+            RBatch batch = redissonClient.createBatch();
+            deltas.forEach((userId, delta) -> batch.<String, Long>getMap(pendingKey(userId), CODEC)
+                    .addAndGetAsync(String.valueOf(userId), delta));
+            batch.execute();
+            log.warn("Deferred point balance deltas for {} users", deltas.size());
+        } catch (Exception e) {
+            log.error("Deferring point balance deltas in memory for {} users: {}", deltas.size(), deltas, e);
+            deltas.forEach((userId, delta) -> failedDeltas.merge(userId, delta, Long::sum));
+        }
+    }
+
+    private void retryLocalDeltas() {
+        if (failedDeltas.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> deltas = new HashMap<>();
+        failedDeltas.keySet().forEach(userId -> {
+            Long delta = failedDeltas.remove(userId);
+            if (delta != null) {
+                deltas.put(userId, delta);
+            }
+        });
+        try {
+            execute(deltas);
+            log.info("Deferred point balance deltas applied for {} users", deltas.size());
+        } catch (Exception e) {
+            log.warn("Failed to apply deferred point balance deltas for {} users", deltas.size(), e);
+            deltas.forEach((userId, delta) -> failedDeltas.merge(userId, delta, Long::sum));
+        }
+    }
+
+    private void applyPendingDeltas() {
+        // 파티션별 대기 Hash 크기를 한 번에 조회 (보관된 증감이 없으면 round trip 1번)
+        RBatch sizes = redissonClient.createBatch();
+        List<RFuture<Integer>> futures = new ArrayList<>(partitions);
+        for (int partition = 0; partition < partitions; partition++) {
+            futures.add(sizes.getMap(PointBalanceKeys.pendingKey(partition), CODEC).sizeAsync());
+        }
+        sizes.execute();
+
+        for (int partition = 0; partition < partitions; partition++) {
+            if (futures.get(partition).toCompletableFuture().join() > 0) {
+                applyPendingDeltas(PointBalanceKeys.pendingKey(partition));
+            }
+        }
+    }
+
+    private void applyPendingDeltas(String pendingKey) {
+        Set<String> userIds = redissonClient.<String, Long>getMap(pendingKey, CODEC).readAllKeySet();
+        RBatch batch = redissonClient.createBatch();
+        userIds.forEach(userId -> {
+            String key = key(Long.valueOf(userId));
+            batch.getScript(StringCodec.INSTANCE).evalAsync(key, RScript.Mode.READ_WRITE, APPLY_PENDING_SCRIPT,
+                    RScript.ReturnType.INTEGER, List.of(key, pendingKey), userId);
+        });
+        batch.execute();
+        log.info("Pending point balance deltas applied for {} users: {}", userIds.size(), pendingKey);
+    }
+
+    private void execute(Map<Long, Long> deltas) {
+        RBatch batch = redissonClient.createBatch();
+        deltas.forEach((userId, delta) -> {
+            String key = key(userId);
+            batch.getScript(StringCodec.INSTANCE).evalAsync(key, RScript.Mode.READ_WRITE, APPLY_IF_PRESENT_SCRIPT,
+                    RScript.ReturnType.INTEGER, List.of(key), String.valueOf(userId), String.valueOf(delta));
+        });
+        batch.execute();
+    }
+
+    // 분할 전 Hash의 잔액 (숫자가 아닌 값은 기본 codec으로 저장된 v2 캐시이므로 DB 값 사용)
+    private Long legacyBalance(Long userId) {
+        String value = redissonClient.<String, String>getMap(LEGACY_KEY, StringCodec.INSTANCE)
+                .get(String.valueOf(userId));
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            log.debug("Ignore non-numeric legacy point balance: userId={}", userId);
+            return null;
+        }
+    }
+}
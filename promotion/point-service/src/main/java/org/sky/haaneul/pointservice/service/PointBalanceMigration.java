@@ -0,0 +1,104 @@
+package org.sky.haaneul.pointservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 분할 전 단일 Hash(point:balance)의 잔액을 버킷 Hash로 이동
+ * - HSCAN으로 batch-size씩 읽어 버킷에 HSETNX + 원래 Hash에서 HDEL (큰 키 하나를 한 번에 DEL하지 않음)
+ * - 이미 버킷에 있는 잔액(조회시 옮겨졌거나 이후 변경됨)은 덮어쓰지 않으므로 서비스 중에 실행해도 안전
+ * - 숫자가 아닌 값(기본 codec으로 저장된 v2 캐시, 잘못된 필드)은 옮기지 않음 (DB 값으로 다시 초기화)
+ * - 여러 인스턴스가 동시에 실행해도 결과가 같음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointBalanceMigration {
+    private final RedissonClient redissonClient;
+    private final PointBalanceBuckets pointBalanceBuckets;
+
+    @Value("${point.balance.migration.enabled:true}")
+    private boolean enabled;
+
+    @Value("${point.balance.migration.batch-size:1000}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            migrate();
+        } catch (Exception e) {
+            log.error("Failed to migrate point balances", e);
+        }
+    }
+
+    /**
+     * @return 버킷으로 옮긴 잔액 수
+     */
+    public long migrate() {
+        RMap<String, String> legacy = redissonClient.getMap(PointBalanceBuckets.LEGACY_KEY, StringCodec.INSTANCE);
+        if (!legacy.isExists()) {
+            return 0L;
+        }
+
+        long migrated = 0L;
+        List<Map.Entry<String, String>> chunk = new ArrayList<>(batchSize);
+        Iterator<Map.Entry<String, String>> iterator = legacy.entrySet(batchSize).iterator();
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == batchSize || !iterator.hasNext()) {
+                migrated += move(legacy, chunk);
+                chunk.clear();
+            }
+        }
+
+        log.info("Point balances migrated to buckets: {}", migrated);
+        return migrated;
+    }
+
+    private long move(RMap<String, String> legacy, List<Map.Entry<String, String>> entries) {
+        // 1. 버킷에 추가 (모두 성공한 후에만 원래 Hash에서 삭제)
+        RBatch copy = redissonClient.createBatch();
+        long moved = 0L;
+        for (Map.Entry<String, String> entry : entries) {
+            Long userId = parse(entry.getKey());
+            Long balance = parse(entry.getValue());
+            if (userId != null && balance != null) {
+                copy.<String, Long>getMap(pointBalanceBuckets.key(userId), PointBalanceBuckets.CODEC)
+                        .fastPutIfAbsentAsync(entry.getKey(), balance);
+                moved++;
+            }
+        }
+        if (moved > 0) {
+            copy.execute();
+        }
+
+        // 2. 원래 Hash에서 삭제
+        legacy.fastRemove(entries.stream().map(Map.Entry::getKey).toArray(String[]::new));
+        return moved;
+    }
+
+    private static Long parse(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
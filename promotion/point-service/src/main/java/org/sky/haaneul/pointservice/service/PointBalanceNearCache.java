@@ -0,0 +1,228 @@
+package org.sky.haaneul.pointservice.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.BaseStatusListener;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 포인트 잔액 near cache (인스턴스 로컬)
+ * - 잔액 조회 결과를 ttl-ms 동안 로컬에 보관 -> 헤더/프로필 위젯처럼 자주 호출되는 조회는 Redis/DB 호출 X
+ * - 같은 사용자의 동시 조회는 하나만 로드하고 나머지는 그 결과를 기다림 (single-flight, 캐시 미스시 DB 몰림 방지)
+ * - 잔액 변경시 로컬 항목 삭제 + Redis pub/sub으로 다른 인스턴스에 무효화 전파
+ *   - pub/sub은 유실될 수 있으므로 TTL을 짧게 유지 (오래된 값이 보이는 최대 시간), 재구독시 로컬 항목 전체 삭제
+ *   - 로드 중에 해당 사용자가 무효화됐으면 로드 결과는 반환만 하고 저장하지 않음 (무효화 이전 값일 수 있음)
+ * - 최대 max-size명까지 보관, 넘으면 만료된 항목부터, 그래도 넘으면 가장 오래 조회되지 않은 항목부터 삭제
+ *   - 조회는 ConcurrentHashMap 조회 + 항목의 조회 시각 기록만 (전역 락 X, 모든 사용자의 조회가 한 락에 줄 서지 않음)
+ *   - 정리는 크기를 넘었을 때 한 스레드만 수행하고, 여유분(10%)까지 한 번에 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointBalanceNearCache {
+    static final String INVALIDATION_TOPIC = "point:balance:invalidate";
+
+    private final RedissonClient redissonClient;
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Load> loads = new ConcurrentHashMap<>();
+    private final AtomicBoolean trimming = new AtomicBoolean();
+
+    @Value("${point.balance.near-cache.ttl-ms:1000}")
+    private long ttlMs;
+
+    @Value("${point.balance.near-cache.max-size:100000}")
+    private int maxSize;
+
+    private RTopic topic;
+
+    @PostConstruct
+    void subscribe() {
+        topic = redissonClient.getTopic(INVALIDATION_TOPIC, StringCodec.INSTANCE);
+        topic.addListener(String.class, (channel, message) -> evict(parse(message)));
+        topic.addListener(new BaseStatusListener() {
+            @Override
+            public void onSubscribe(String channel) {
+                // 구독이 끊긴 동안의 무효화 메시지는 받을 수 없으므로 전부 삭제
+                clear();
+            }
+        });
+    }
+
+    /**
+     * 잔액 조회 (로컬에 없거나 만료됐으면 loader로 로드, 같은 사용자의 동시 로드는 하나로 합침)
+     */
+    public Long get(Long userId, Supplier<Long> loader) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(userId);
+        if (entry != null && !entry.isExpired(now)) {
+            entry.accessedAt = now;
+            return entry.balance;
+        }
+
+        Load load = new Load();
+        Load inFlight = loads.putIfAbsent(userId, load);
+        if (inFlight != null) {
+            return join(inFlight.result);
+        }
+
+        try {
+            Long balance = loader.get();
+            if (balance != null) {
+                put(userId, balance, load);
+            }
+            load.result.complete(balance);
+            return balance;
+        } catch (Throwable e) {
+            load.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(userId, load);
+        }
+    }
+
+    /**
+     * 잔액 변경 후 무효화 (로컬 삭제 + 다른 인스턴스에 전파)
+     */
+    public void invalidate(Long userId) {
+        invalidate(List.of(userId));
+    }
+
+    public void invalidate(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        evict(userIds);
+        try {
+            topic.publish(userIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        } catch (Exception e) {
+            // 다른 인스턴스는 TTL이 지나면 다시 로드
+            log.warn("Failed to publish point balance invalidation for {} users", userIds.size(), e);
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 후 무효화 (커밋 전에 무효화하면 다른 요청이 커밋 전 잔액을 다시 캐시할 수 있음)
+     */
+    public void invalidateAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(userId);
+            }
+        });
+    }
+
+    // 항목 삭제와 로드 분리를 같은 키의 compute 안에서 (put의 무효화 확인과 겹치지 않음)
+    private void evict(Collection<Long> userIds) {
+        userIds.forEach(userId -> entries.compute(userId, (id, current) -> {
+            // 무효화 이전에 시작한 로드는 저장하지 않고, 이후 조회가 합류하지 않도록 분리
+            Load load = loads.remove(id);
+            if (load != null) {
+                load.invalidated = true;
+            }
+            return null;
+        }));
+    }
+
+    // 재구독시에만 호출 (정리와 동시에 끝난 로드가 남겨도 TTL 안에 만료)
+    private void clear() {
+        loads.values().forEach(load -> load.invalidated = true);
+        loads.clear();
+        entries.clear();
+    }
+
+    // 무효화 여부 확인과 저장을 같은 키의 compute 안에서 (확인 후 저장 전에 들어온 무효화를 놓치지 않음)
+    private void put(Long userId, Long balance, Load load) {
+        long now = System.nanoTime();
+        long expiresAt = now + TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        entries.compute(userId, (id, current) -> load.invalidated ? current : new Entry(balance, expiresAt, now));
+        if (entries.size() > maxSize) {
+            trim();
+        }
+    }
+
+    // 만료된 항목 삭제 후에도 max-size를 넘으면 가장 오래 조회되지 않은 항목부터 삭제 (정리 중이면 다른 스레드는 건너뜀)
+    private void trim() {
+        if (!trimming.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = System.nanoTime();
+            entries.entrySet().removeIf(entry -> entry.getValue().isExpired(now));
+            int excess = entries.size() - maxSize;
+            if (excess > 0) {
+                entries.entrySet().stream()
+                        .sorted(Comparator.comparingLong(entry -> entry.getValue().accessedAt))
+                        .limit(excess + maxSize / 10)
+                        .toList()
+                        .forEach(entry -> entries.remove(entry.getKey(), entry.getValue()));
+            }
+        } finally {
+            trimming.set(false);
+        }
+    }
+
+    private static List<Long> parse(String message) {
+        return Arrays.stream(message.split(","))
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    private static Long join(CompletableFuture<Long> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static class Load {
+        private final CompletableFuture<Long> result = new CompletableFuture<>();
+        private volatile boolean invalidated;
+    }
+
+    private static class Entry {
+        private final Long balance;
+        private final long expiresAt;
+        private volatile long accessedAt;  // 마지막 조회 시각 (정리시 삭제 순서)
+
+        Entry(Long balance, long expiresAt, long accessedAt) {
+            this.balance = balance;
+            this.expiresAt = expiresAt;
+            this.accessedAt = accessedAt;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package org.sky.haaneul.pointservice.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.sky.haaneul.pointservice.repository.PointBalanceRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Redis 잔액 버킷 재구성 (Redis 데이터 유실 등)
+ * - 사용자 page-size명씩 마지막 체크포인트 + 이후 이력으로 잔액 계산 (묶음당 쿼리 2번, 전체 이력 스캔 X)
+ * - 버킷에 RBatch로 한 번에 HSETNX (재구성 중에 변경된 잔액은 덮어쓰지 않음)
+ * - 요청 스레드를 막지 않도록 별도 스레드에서 실행, 여러 인스턴스 중 하나만 실행 (분산 락)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointBalanceRebuilder {
+    private static final String LOCK_KEY = "point:balance-rebuild:lock";
+
+    private final RedissonClient redissonClient;
+    private final PointBalanceRepository pointBalanceRepository;
+    private final PointCheckpointService pointCheckpointService;
+    private final PointBalanceBuckets pointBalanceBuckets;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "point-balance-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${point.checkpoint.page-size:500}")
+    private int pageSize;
+
+    /**
+     * 재구성 시작 (완료를 기다리지 않음)
+     *
+     * @return 이미 이 인스턴스나 다른 인스턴스에서 실행 중이면 false
+     */
+    public boolean rebuildAsync() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        if (redissonClient.getLock(LOCK_KEY).isLocked()) {
+            running.set(false);
+            return false;
+        }
+        executor.execute(() -> {
+            try {
+                rebuildWithLock();
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 락은 실행 스레드에서 획득 (watchdog으로 재구성이 끝날 때까지 연장)
+    private void rebuildWithLock() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!lock.tryLock()) {
+            log.info("Point balance cache rebuild is already running");
+            return;
+        }
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Failed to rebuild point balance cache", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * @return 재구성한 사용자 수
+     */
+    public long rebuild() {
+        long rebuilt = 0L;
+        long userCursor = 0L;
+        while (true) {
+            List<Long> userIds = pointBalanceRepository.findUserIdsAfter(userCursor, PageRequest.of(0, pageSize));
+            if (userIds.isEmpty()) {
+                break;
+            }
+
+            Map<Long, Long> balances = pointCheckpointService.getBalances(userIds);
+            RBatch batch = redissonClient.createBatch();
+            balances.forEach((userId, balance) -> batch.<String, Long>getMap(pointBalanceBuckets.key(userId), PointBalanceBuckets.CODEC)
+                    .fastPutIfAbsentAsync(String.valueOf(userId), balance));
+            batch.execute();
+
+            rebuilt += balances.size();
+            userCursor = userIds.get(userIds.size() - 1);
+            if (userIds.size() < pageSize) {
+                break;
+            }
+        }
+
+        log.info("Point balance cache rebuilt: {}", rebuilt);
+        return rebuilt;
+    }
+}
@@ -0,0 +1,82 @@
+package org.sky.haaneul.pointservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.sky.haaneul.pointservice.domain.Point;
+import org.sky.haaneul.pointservice.repository.PointCheckpointRepository;
+import org.sky.haaneul.pointservice.repository.PointRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주기적으로 사용자별 잔액 체크포인트 저장
+ * - 마지막 실행 이후 이력이 있는 사용자만 page-size씩 처리 (사용자 ID keyset)
+ * - 커밋되지 않은 트랜잭션이 앞선 ID를 갖고 있을 수 있으므로 settle-time 이전에 저장된 이력까지만 반영
+ * - 여러 인스턴스 중 하나만 실행 (분산 락)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointCheckpointScheduler {
+    private static final String LOCK_KEY = "point:checkpoint:lock";
+    private static final Duration SETTLE_TIME = Duration.ofMinutes(1);
+
+    private final RedissonClient redissonClient;
+    private final PointRepository pointRepository;
+    private final PointCheckpointRepository pointCheckpointRepository;
+    private final PointCheckpointService pointCheckpointService;
+
+    @Value("${point.checkpoint.page-size:500}")
+    private int pageSize;
+
+    @Scheduled(cron = "${point.checkpoint.cron:0 0 4 * * *}")
+    public void checkpointAll() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            int checkpoints = checkpoint();
+            log.info("Point checkpoints saved: {}", checkpoints);
+        } catch (Exception e) {
+            log.error("Failed to save point checkpoints", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private int checkpoint() {
+        long afterId = pointCheckpointRepository.findMaxLastPointId().orElse(0L);
+        Long upToId = pointRepository.findFirstByUpdatedAtBeforeOrderByIdDesc(LocalDateTime.now().minus(SETTLE_TIME))
+                .map(Point::getId)
+                .orElse(0L);
+        if (upToId <= afterId) {
+            return 0;
+        }
+
+        int saved = 0;
+        long userCursor = 0L;
+        while (true) {
+            List<Long> userIds = pointRepository.findActiveUserIds(afterId, upToId, userCursor, PageRequest.of(0, pageSize));
+            if (userIds.isEmpty()) {
+                break;
+            }
+            saved += pointCheckpointService.checkpoint(userIds, upToId);
+            userCursor = userIds.get(userIds.size() - 1);
+            if (userIds.size() < pageSize) {
+                break;
+            }
+        }
+        return saved;
+    }
+}
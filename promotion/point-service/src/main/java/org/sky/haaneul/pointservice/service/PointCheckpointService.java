@@ -0,0 +1,143 @@
+package org.sky.haaneul.pointservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sky.haaneul.pointservice.domain.PointCheckpoint;
+import org.sky.haaneul.pointservice.domain.PointType;
+import org.sky.haaneul.pointservice.repository.PointCheckpointRepository;
+import org.sky.haaneul.pointservice.repository.PointEvent;
+import org.sky.haaneul.pointservice.repository.PointRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 포인트 이력 기반 잔액 재계산 (체크포인트 + 이후 이력)
+ * - 체크포인트: 사용자별로 특정 이력까지 반영한 잔액 (PointCheckpointScheduler가 주기적으로 저장)
+ * - 특정 시점 잔액 = 그 시점 이전 마지막 체크포인트 + 이후 그 시점까지의 이력 (전체 이력 스캔 X)
+ * - 이력은 사용자별 ID 순으로 반영, 취소는 취소 이력이 가리키는 원본 이력의 반대 방향으로 반영
+ *   - 원본을 모르는 취소 이력(원본 ID 저장 전 이력)은 방향을 정할 수 없으므로 balanceSnapshot을 그대로 사용
+ * - 계산한 잔액이 이력의 balanceSnapshot과 다르면 경고 로그 (감사용, 계산한 잔액 유지)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointCheckpointService {
+    private final PointRepository pointRepository;
+    private final PointCheckpointRepository pointCheckpointRepository;
+
+    /**
+     * 특정 시점의 잔액
+     */
+    @Transactional(readOnly = true)
+    public Long getBalanceAt(Long userId, LocalDateTime at) {
+        Replay replay = pointCheckpointRepository
+                .findFirstByUserIdAndCheckpointAtLessThanEqualOrderByLastPointIdDesc(userId, at)
+                .map(Replay::from)
+                .orElseGet(Replay::new);
+        pointRepository.findEventsAt(userId, replay.lastPointId, at).forEach(replay::apply);
+        replay.warnIfMismatched(userId);
+        return replay.balance;
+    }
+
+    /**
+     * 여러 사용자의 현재 잔액 (DB에 저장된 이력 기준)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Long> getBalances(Collection<Long> userIds) {
+        return replay(userIds, Long.MAX_VALUE).entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().balance));
+    }
+
+    /**
+     * upToId까지의 이력을 반영한 체크포인트 저장 (마지막 체크포인트 이후 이력이 없는 사용자는 건너뜀)
+     *
+     * @return 저장한 체크포인트 수
+     */
+    @Transactional
+    public int checkpoint(Collection<Long> userIds, Long upToId) {
+        List<PointCheckpoint> checkpoints = replay(userIds, upToId).entrySet().stream()
+                .filter(entry -> entry.getValue().applied > 0)
+                .map(entry -> {
+                    entry.getValue().warnIfMismatched(entry.getKey());
+                    return PointCheckpoint.builder()
+                            .userId(entry.getKey())
+                            .balance(entry.getValue().balance)
+                            .lastPointId(entry.getValue().lastPointId)
+                            .checkpointAt(entry.getValue().lastAt)
+                            .build();
+                })
+                .toList();
+        pointCheckpointRepository.saveAll(checkpoints);
+        return checkpoints.size();
+    }
+
+    /**
+     * 사용자별 마지막 체크포인트 + 이후 upToId까지의 이력 (사용자 묶음당 쿼리 2번)
+     * - 이력 조회 범위를 사용자별 체크포인트로 정함 (체크포인트가 없는 사용자가 섞여도 다른 사용자의 반영된 이력은 읽지 않음)
+     * - 이력을 먼저 조회 -> 그 사이 새 체크포인트가 저장되어도 체크포인트 이후 이력은 모두 포함 (이미 반영된 이력은 건너뜀)
+     */
+    private Map<Long, Replay> replay(Collection<Long> userIds, Long upToId) {
+        List<PointEvent> events = pointRepository.findEventsAfterCheckpoints(userIds, upToId);
+
+        Map<Long, Replay> replays = new HashMap<>();
+        userIds.forEach(userId -> replays.put(userId, new Replay()));
+        pointCheckpointRepository.findLatestByUserIdIn(userIds)
+                .forEach(checkpoint -> replays.put(checkpoint.getUserId(), Replay.from(checkpoint)));
+
+        for (PointEvent event : events) {
+            Replay replay = replays.get(event.getUserId());
+            if (event.getId() > replay.lastPointId) {
+                replay.apply(event);
+            }
+        }
+        return replays;
+    }
+
+    private static class Replay {
+        private long balance;
+        private long lastPointId;
+        private LocalDateTime lastAt;
+        private int applied;
+        private int mismatches;
+
+        static Replay from(PointCheckpoint checkpoint) {
+            Replay replay = new Replay();
+            replay.balance = checkpoint.getBalance();
+            replay.lastPointId = checkpoint.getLastPointId();
+            replay.lastAt = checkpoint.getCheckpointAt();
+            return replay;
+        }
+
+        void apply(PointEvent event) {
+            long amount = event.getAmount();
+            long snapshot = event.getBalanceSnapshot();
+            if (event.getType() == PointType.CANCELED) {
+                // 원본의 반대 방향 (적립 취소 -, 사용 취소 +)
+                balance = event.getOriginalType() != null
+                        ? balance - event.getOriginalType().signedAmount(amount)
+                        : snapshot;
+            } else {
+                balance += event.getType().signedAmount(amount);
+            }
+            if (balance != snapshot) {
+                mismatches++;
+            }
+            lastPointId = event.getId();
+            lastAt = event.getCreatedAt();
+            applied++;
+        }
+
+        void warnIfMismatched(Long userId) {
+            if (mismatches > 0) {
+                log.warn("Point balance snapshot mismatch: userId={}, mismatches={}, balance={}", userId, mismatches, balance);
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package org.sky.haaneul.pointservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMap;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.sky.haaneul.pointservice.domain.PointType;
+import org.sky.haaneul.pointservice.dto.PointDto;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자별 일별 포인트 집계 (Redis Hash, 쓰기 시점에 증가)
+ * - point:daily:{파티션}:{날짜} Hash에 "{userId}:{유형}" 필드로 적립/사용/취소 금액, "{userId}:NET" 필드로 잔액 증감 합계
+ * - 잔액 버킷/원장과 같은 파티션 hash tag -> v3는 원장 추가와 같은 Lua 스크립트에서 증가
+ * - v1/v2는 커밋 후, 일괄 지급은 묶음마다 파이프라인으로 증가
+ * - 만료/선물은 일별 리포트 집계 대상 X (배치 리포트와 같은 기준)
+ * - 지난 날짜는 PointDailyReportService가 DB(daily_point_reports)에 저장한 뒤 만료
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointDailyAggregates {
+    public static final String NET = "NET";
+    private static final String DAILY_KEY = "point:daily:{%d}:%s";
+    // KEYS: 일별 집계 / ARGV: 유형 필드, 금액, NET 필드, 잔액 증감
+    private static final String INCREMENT_SCRIPT =
+            "redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2]) " +
+            "return redis.call('HINCRBY', KEYS[1], ARGV[3], ARGV[4])";
+
+    private final RedissonClient redissonClient;
+    private final PointBalanceBuckets pointBalanceBuckets;
+
+    public static boolean isAggregated(PointType type) {
+        return type == PointType.EARNED || type == PointType.USED || type == PointType.CANCELED;
+    }
+
+    public static String field(Long userId, String name) {
+        return userId + ":" + name;
+    }
+
+    public String key(int partition, LocalDate date) {
+        return String.format(DAILY_KEY, partition, date);
+    }
+
+    public String key(Long userId, LocalDate date) {
+        return key(pointBalanceBuckets.partition(userId), date);
+    }
+
+    public RMap<String, Long> map(int partition, LocalDate date) {
+        return redissonClient.getMap(key(partition, date), PointBalanceBuckets.CODEC);
+    }
+
+    /**
+     * 트랜잭션 커밋 후 집계 증가 (롤백된 처리는 집계 X)
+     *
+     * @param delta 잔액 증감 (취소는 원본 유형에 따라 + 또는 -)
+     */
+    public void recordAfterCommit(Long userId, PointType type, long amount, long delta) {
+        LocalDate date = LocalDate.now();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(date, type, Map.of(userId, amount), Map.of(userId, delta));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(date, type, Map.of(userId, amount), Map.of(userId, delta));
+            }
+        });
+    }
+
+    /**
+     * DB에 반영된 사용자별 금액을 한 번에 집계 (파이프라인, 잔액 증감 = 유형별 부호이므로 취소는 recordAfterCommit 사용)
+     */
+    public void record(PointType type, Map<Long, Long> amounts) {
+        Map<Long, Long> deltas = new HashMap<>();
+        amounts.forEach((userId, amount) -> deltas.put(userId, type.signedAmount(amount)));
+        record(LocalDate.now(), type, amounts, deltas);
+    }
+
+    /**
+     * 집계 중인 날짜의 사용자 집계 (없으면 null)
+     */
+    public PointDto.DailyReportResponse get(Long userId, LocalDate date) {
+        Map<String, Long> totals = map(pointBalanceBuckets.partition(userId), date).getAll(Set.of(
+                field(userId, PointType.EARNED.name()), field(userId, PointType.USED.name()),
+                field(userId, PointType.CANCELED.name()), field(userId, NET)));
+        if (totals.isEmpty()) {
+            return null;
+        }
+        return PointDto.DailyReportResponse.builder()
+                .userId(userId)
+                .reportDate(date)
+                .earnAmount(totals.getOrDefault(field(userId, PointType.EARNED.name()), 0L))
+                .useAmount(totals.getOrDefault(field(userId, PointType.USED.name()), 0L))
+                .cancelAmount(totals.getOrDefault(field(userId, PointType.CANCELED.name()), 0L))
+                .netAmount(totals.getOrDefault(field(userId, NET), 0L))
+                .build();
+    }
+
+    // 집계 실패가 포인트 처리 실패가 되지 않도록 로그만 남김 (DB 이력은 이미 저장됨)
+    private void record(LocalDate date, PointType type, Map<Long, Long> amounts, Map<Long, Long> deltas) {
+        if (!isAggregated(type) || amounts.isEmpty()) {
+            return;
+        }
+        try {
+            RBatch batch = redissonClient.createBatch();
+            amounts.forEach((userId, amount) -> {
+                String key = key(userId, date);
+                batch.getScript(StringCodec.INSTANCE).evalAsync(key, RScript.Mode.READ_WRITE, INCREMENT_SCRIPT,
+                        RScript.ReturnType.INTEGER, List.of(key), field(userId, type.name()), String.valueOf(amount),
+                        field(userId, NET), String.valueOf(deltas.get(userId)));
+            });
+            batch.execute();
+        } catch (Exception e) {
+            log.error("Failed to record daily point aggregates: date={}, type={}, users={}", date, type, amounts.size(), e);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package org.sky.haaneul.pointservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.sky.haaneul.pointservice.domain.PointType;
+import org.sky.haaneul.pointservice.dto.PointDto;
+import org.sky.haaneul.pointservice.repository.DailyPointReportRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 일별 포인트 리포트
+ * - 조회: Redis에 집계가 남아 있으면 Redis 집계(그 날짜의 전체 합계), 없으면 daily_point_reports
+ *   - 저장 중에도 Redis 필드를 지우지 않으므로 일부만 저장된 합계가 보이지 않음
+ * - 저장: 매일 지난 lookback-days 동안의 날짜별/파티션별 집계를 HSCAN으로 page-size 필드씩 읽어 MERGE
+ *   - 집계 전체를 메모리에 올리지 않음
+ *   - MERGE는 필드 값(그 날짜의 전체 합계)으로 덮어씀 -> 같은 필드를 여러 번 저장해도 결과가 같음 (중간에 실패해도 다음 실행에서 다시 저장)
+ *   - 페이지에 없는 필드는 기존 값 유지 -> 한 사용자의 필드가 여러 페이지에 나뉘어도 됨
+ *   - 저장한 키는 삭제하지 않고 KEY_RETENTION 뒤 만료 -> 다음 실행에서 한 번 더 덮어써 저장 직후 늦게 커밋된 증가분도 반영
+ *   - 원본 포인트 이력을 다시 읽지 않으므로 비용이 거래량이 아닌 사용자 수에 비례
+ * - 여러 인스턴스 중 하나만 실행 (분산 락)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointDailyReportService {
+    private static final String LOCK_KEY = "point:daily:lock";
+    private static final Duration KEY_RETENTION = Duration.ofDays(2);  // 저장 후 다음 실행에서 한 번 더 저장될 때까지 유지
+    private static final String UPSERT_REPORT_SQL = "MERGE INTO daily_point_reports r " +
+            "USING (VALUES (CAST(? AS BIGINT), CAST(? AS DATE), CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS BIGINT), " +
+            "CAST(? AS BIGINT), CAST(? AS TIMESTAMP))) " +
+            "AS s (user_id, report_date, earn_amount, use_amount, cancel_amount, net_amount, updated_at) " +
+            "ON r.user_id = s.user_id AND r.report_date = s.report_date " +
+            "WHEN MATCHED THEN UPDATE SET earn_amount = COALESCE(s.earn_amount, r.earn_amount), " +
+            "use_amount = COALESCE(s.use_amount, r.use_amount), cancel_amount = COALESCE(s.cancel_amount, r.cancel_amount), " +
+            "net_amount = COALESCE(s.net_amount, r.net_amount), updated_at = s.updated_at " +
+            "WHEN NOT MATCHED THEN INSERT " +
+            "(user_id, report_date, earn_amount, use_amount, cancel_amount, net_amount, created_at, updated_at) " +
+            "VALUES (s.user_id, s.report_date, COALESCE(s.earn_amount, 0), COALESCE(s.use_amount, 0), " +
+            "COALESCE(s.cancel_amount, 0), COALESCE(s.net_amount, 0), s.updated_at, s.updated_at)";
+
+    private final RedissonClient redissonClient;
+    private final JdbcTemplate jdbcTemplate;
+    private final DailyPointReportRepository dailyPointReportRepository;
+    private final PointDailyAggregates pointDailyAggregates;
+    private final PointBalanceBuckets pointBalanceBuckets;
+
+    @Value("${point.daily.lookback-days:7}")
+    private int lookbackDays;
+
+    @Value("${point.daily.page-size:1000}")
+    private int pageSize;
+
+    /**
+     * 사용자의 일별 리포트 (Redis 집계 -> DB, 기록이 없으면 0)
+     * - Redis 집계는 저장 여부와 관계없이 그 날짜의 전체 합계이므로 DB 값보다 우선
+     */
+    public PointDto.DailyReportResponse getReport(Long userId, LocalDate date) {
+        PointDto.DailyReportResponse aggregated = pointDailyAggregates.get(userId, date);
+        if (aggregated != null) {
+            return aggregated;
+        }
+        return dailyPointReportRepository.findByUserIdAndReportDate(userId, date)
+                .map(PointDto.DailyReportResponse::from)
+                .orElseGet(() -> PointDto.DailyReportResponse.empty(userId, date));
+    }
+
+    @Scheduled(cron = "${point.daily.flush-cron:0 10 0 * * *}")
+    public void flushClosedDays() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            int reports = flush(LocalDate.now());
+            log.info("Daily point reports saved: {}", reports);
+        } catch (Exception e) {
+            log.error("Failed to save daily point reports", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * today 이전 lookback-days 동안의 집계 저장
+     *
+     * @return 저장(MERGE)한 행 수 (한 사용자의 필드가 여러 페이지에 나뉘면 중복 포함, 다시 저장한 행 포함)
+     */
+    int flush(LocalDate today) {
+        int saved = 0;
+        for (LocalDate date = today.minusDays(lookbackDays); date.isBefore(today); date = date.plusDays(1)) {
+            for (int partition = 0; partition < pointBalanceBuckets.partitions(); partition++) {
+                saved += flush(partition, date);
+            }
+        }
+        return saved;
+    }
+
+    private int flush(int partition, LocalDate date) {
+        RMap<String, Long> aggregates = pointDailyAggregates.map(partition, date);
+        int saved = 0;
+        Map<String, Long> page = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> entry : aggregates.entrySet(pageSize)) {
+            page.put(entry.getKey(), entry.getValue());
+            if (page.size() == pageSize) {
+                saved += flushPage(date, page);
+                page = new LinkedHashMap<>();
+            }
+        }
+        if (!page.isEmpty()) {
+            saved += flushPage(date, page);
+        }
+        // 처음 저장한 키만 만료 시각 지정 (다시 저장할 때마다 연장하면 만료되지 않음)
+        if (saved > 0 && aggregates.remainTimeToLive() == -1) {
+            aggregates.expire(KEY_RETENTION);
+        }
+        return saved;
+    }
+
+    // 한 페이지의 필드를 사용자별로 모아 MERGE (페이지에 없는 필드는 null -> 기존 값 유지)
+    private int flushPage(LocalDate date, Map<String, Long> fields) {
+        Map<Long, Totals> totals = new TreeMap<>();
+        fields.forEach((field, amount) -> {
+            int separator = field.indexOf(':');
+            totals.computeIfAbsent(Long.valueOf(field.substring(0, separator)), userId -> new Totals())
+                    .add(field.substring(separator + 1), amount);
+        });
+
+        Date reportDate = Date.valueOf(date);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_REPORT_SQL, totals.entrySet().stream()
+                .map(entry -> new Object[]{entry.getKey(), reportDate, entry.getValue().earn, entry.getValue().use,
+                        entry.getValue().cancel, entry.getValue().net, now})
+                .toList());
+        return totals.size();
+    }
+
+    // 필드별 전체 합계 (페이지에 없는 필드는 null)
+    private static class Totals {
+        private Long earn;
+        private Long use;
+        private Long cancel;
+        private Long net;
+
+        void add(String name, long amount) {
+            if (PointDailyAggregates.NET.equals(name)) {
+                net = amount;
+                return;
+            }
+            switch (PointType.valueOf(name)) {
+                case EARNED -> earn = amount;
+                case USED -> use = amount;
+                case CANCELED -> cancel = amount;
+                default -> log.warn("Ignore unexpected daily point aggregate: {}", name);
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package org.sky.haaneul.pointservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.sky.haaneul.pointservice.domain.Point;
+import org.sky.haaneul.pointservice.domain.PointLot;
+import org.sky.haaneul.pointservice.repository.PointLotRepository;
+import org.sky.haaneul.pointservice.repository.PointRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 포인트 만료 스케줄러
+ * - 주기적으로 새 포인트 이력을 적립 묶음에 반영 (PointLotIndexer)
+ * - 매일 묶음 반영을 따라잡은 뒤 만료일 버킷 순으로 오늘까지 만료일이 된 묶음을 page-size씩 만료
+ *   (만료일 + ID 인덱스 범위만 읽으므로 전체 이력/묶음 스캔 X)
+ * - 만료 한도는 Redis 잔액(원장 기준), 만료된 잔액은 DB 반영 후 Redis 잔액 버킷에 반영, near cache 무효화
+ * - 두 작업 모두 같은 분산 락으로 한 인스턴스에서 하나씩만 실행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointExpiryScheduler {
+    private static final String LOCK_KEY = "point:lot:lock";
+    private static final long EXPIRE_LOCK_WAIT_SECONDS = 60L;
+    private static final Duration SETTLE_TIME = Duration.ofMinutes(1);
+
+    private final RedissonClient redissonClient;
+    private final PointRepository pointRepository;
+    private final PointLotRepository pointLotRepository;
+    private final PointLotIndexer pointLotIndexer;
+    private final PointExpiryWriter pointExpiryWriter;
+    private final PointBalanceBuckets pointBalanceBuckets;
+    private final PointBalanceNearCache pointBalanceNearCache;
+
+    @Value("${point.expiry.page-size:1000}")
+    private int pageSize;
+
+    @Scheduled(fixedDelayString = "${point.expiry.index-interval-ms:60000}")
+    public void indexLots() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            index();
+        } catch (Exception e) {
+            log.error("Failed to index point lots", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Scheduled(cron = "${point.expiry.cron:0 0 3 * * *}")
+    public void expireLots() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        try {
+            if (!lock.tryLock(EXPIRE_LOCK_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                return;
+            }
+            index();
+            long expired = expire(LocalDate.now());
+            log.info("Point lots expired: users={}", expired);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Failed to expire point lots", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void index() {
+        Long upToId = pointRepository.findFirstByUpdatedAtBeforeOrderByIdDesc(LocalDateTime.now().minus(SETTLE_TIME))
+                .map(Point::getId)
+                .orElse(0L);
+        int indexed;
+        do {
+            indexed = pointLotIndexer.index(upToId);
+        } while (indexed == pageSize);
+    }
+
+    /**
+     * today까지 만료일이 된 묶음을 만료일 버킷 순으로 만료
+     *
+     * @return 잔액이 만료된 사용자 수 (같은 사용자가 여러 페이지에 있으면 중복 포함)
+     */
+    long expire(LocalDate today) {
+        long expired = 0L;
+        Optional<LocalDate> bucket = pointLotRepository.findOldestExpireOn();
+        while (bucket.isPresent() && !bucket.get().isAfter(today)) {
+            LocalDate expireOn = bucket.get();
+            long afterId = 0L;
+            while (true) {
+                List<PointLot> lots = pointLotRepository.findByExpireOnAndIdGreaterThanOrderByIdAsc(
+                        expireOn, afterId, PageRequest.of(0, pageSize));
+                if (lots.isEmpty()) {
+                    break;
+                }
+                Map<Long, Long> deltas = pointExpiryWriter.expire(lots, currentBalances(lots));
+                pointBalanceBuckets.applyDeltas(deltas);
+                pointBalanceNearCache.invalidate(deltas.keySet());
+                expired += deltas.size();
+                afterId = lots.get(lots.size() - 1).getId();
+                if (lots.size() < pageSize) {
+                    break;
+                }
+            }
+
+            Optional<LocalDate> next = pointLotRepository.findOldestExpireOn();
+            if (next.equals(bucket)) {
+                // 만료하지 못한 묶음이 남은 버킷 (다음 실행에서 다시 처리)
+                break;
+            }
+            bucket = next;
+        }
+        return expired;
+    }
+
+    // 만료 전 잔액 (v3 사용자는 DB가 원장보다 늦으므로 Redis 잔액 기준, 조회 실패시 DB 잔액 기준)
+    private Map<Long, Long> currentBalances(List<PointLot> lots) {
+        Set<Long> userIds = lots.stream().map(PointLot::getUserId).collect(Collectors.toSet());
+        try {
+            return pointBalanceBuckets.getBalances(userIds);
+        } catch (Exception e) {
+            log.warn("Failed to read point balances from cache, using DB balances for expiry", e);
+            return Map.of();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package org.sky.haaneul.pointservice.service;
+
+import lombok.RequiredArgsConstructor;
+import org.sky.haaneul.pointservice.domain.PointLot;
+import org.sky.haaneul.pointservice.domain.PointType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 만료일이 된 적립 묶음 한 페이지를 한 트랜잭션으로 만료
+ * - 묶음은 남은 포인트가 그대로인 경우에만 만료 (그 사이 차감된 묶음은 다음 실행에서 다시 처리)
+ * - 사용자별로 합산해 잔액 차감 + 만료 이력 한 건 (잔액보다 많이 만료하지 않음)
+ *   - 잔액은 Redis 잔액(원장 기준) 우선, 캐시에 없는 사용자만 DB 잔액 (v3 사용자의 DB 잔액은 원장보다 늦음)
+ */
+@Service
+@RequiredArgsConstructor
+public class PointExpiryWriter {
+    private static final String EXPIRE_LOT_SQL = "UPDATE point_lots SET remaining = 0, expire_on = NULL, updated_at = ? " +
+            "WHERE id = ? AND remaining = ?";
+    private static final String UPDATE_BALANCE_SQL = "UPDATE point_balances " +
+            "SET balance = balance - ?, version = version + 1, updated_at = ? WHERE user_id = ?";
+    private static final String INSERT_POINT_SQL = "INSERT INTO points " +
+            "(user_id, amount, type, description, balance_snapshot, version, point_balance_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, 0, (SELECT id FROM point_balances WHERE user_id = ?), ?, ?)";
+    private static final String DESCRIPTION = "포인트 유효기간 만료";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param currentBalances 만료 전 사용자별 Redis 잔액 (없는 사용자는 DB 잔액 사용)
+     * @return 사용자별 잔액 증감 (음수, 캐시 반영용)
+     */
+    @Transactional
+    public Map<Long, Long> expire(List<PointLot> lots, Map<Long, Long> currentBalances) {
+        List<PointLot> open = lots.stream().filter(lot -> lot.getRemaining() > 0).toList();
+        if (open.isEmpty()) {
+            return Map.of();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[] updated = jdbcTemplate.batchUpdate(EXPIRE_LOT_SQL, open.stream()
+                .map(lot -> new Object[]{now, lot.getId(), lot.getRemaining()})
+                .toList());
+        Map<Long, Long> expiring = new TreeMap<>();  // 사용자 ID 순으로 잔액 변경 (행 락 순서 고정)
+        for (int i = 0; i < open.size(); i++) {
+            if (updated[i] != 0) {
+                expiring.merge(open.get(i).getUserId(), open.get(i).getRemaining(), Long::sum);
+            }
+        }
+        if (expiring.isEmpty()) {
+            return Map.of();
+        }
+
+        // DB 잔액 행은 v1/v2 변경과 순서를 맞추기 위해 항상 잠금
+        Map<Long, Long> balances = new HashMap<>(lockBalances(expiring.keySet()));
+        balances.replaceAll((userId, balance) -> currentBalances.getOrDefault(userId, balance));
+        Map<Long, Long> expired = new TreeMap<>();
+        expiring.forEach((userId, amount) -> {
+            long deducted = Math.min(amount, balances.getOrDefault(userId, 0L));
+            if (deducted > 0) {
+                expired.put(userId, deducted);
+            }
+        });
+
+        jdbcTemplate.batchUpdate(UPDATE_BALANCE_SQL, expired.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), now, entry.getKey()})
+                .toList());
+        jdbcTemplate.batchUpdate(INSERT_POINT_SQL, expired.entrySet().stream()
+                .map(entry -> new Object[]{
+                        entry.getKey(),
+                        entry.getValue(),
+                        PointType.EXPIRED.name(),
+                        DESCRIPTION,
+                        balances.get(entry.getKey()) - entry.getValue(),
+                        entry.getKey(),
+                        now,
+                        now
+                })
+                .toList());
+
+        return expired.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> PointType.EXPIRED.signedAmount(entry.getValue())));
+    }
+
+    private Map<Long, Long> lockBalances(Collection<Long> userIds) {
+        List<Map.Entry<Long, Long>> balances = jdbcTemplate.query(
+                "SELECT user_id, balance FROM point_balances WHERE user_id IN (" +
+                        String.join(",", Collections.nCopies(userIds.size(), "?")) + ") ORDER BY user_id FOR UPDATE",
+                (rs, rowNum) -> Map.entry(rs.getLong("user_id"), rs.getLong("balance")),
+                userIds.toArray());
+        return balances.stream().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+}
@@ -0,0 +1,120 @@
+package org.sky.haaneul.pointservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.sky.haaneul.pointservice.dto.PointDto;
+import org.sky.haaneul.pointservice.repository.PointHistory;
+import org.sky.haaneul.pointservice.repository.PointRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 포인트 이력 커서 페이지 조회
+ * - (createdAt, id) 역순 keyset 페이지 -> 이력이 많아도 페이지당 비용 일정 (COUNT/OFFSET X)
+ * - 엔티티 대신 projection 조회 (잔액 엔티티 로딩 X)
+ * - 기본 크기의 첫 페이지는 Redis에 짧게 캐시 (최근 변경은 최대 cache-ttl만큼 늦게 보일 수 있음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointHistoryService {
+    private static final String HISTORY_KEY = "point:history:";
+    private static final int MAX_SIZE = 100;
+
+    private final RedissonClient redissonClient;
+    private final PointRepository pointRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${point.history.page-size:20}")
+    private int defaultSize;
+
+    @Value("${point.history.cache-ttl-ms:5000}")
+    private long cacheTtlMs;
+
+    @Transactional(readOnly = true)
+    public PointDto.HistoryPage getHistory(Long userId, String cursor, Integer size) {
+        int pageSize = size != null ? Math.min(Math.max(size, 1), MAX_SIZE) : defaultSize;
+        if (cursor == null && pageSize == defaultSize) {
+            return getFirstPage(userId, pageSize);
+        }
+        return findPage(userId, cursor, pageSize);
+    }
+
+    private PointDto.HistoryPage getFirstPage(Long userId, int pageSize) {
+        RBucket<String> bucket = redissonClient.getBucket(HISTORY_KEY + userId, StringCodec.INSTANCE);
+        String cached = bucket.get();
+        if (cached != null) {
+            try {
+                return objectMapper.readValue(cached, PointDto.HistoryPage.class);
+            } catch (JsonProcessingException e) {
+                log.warn("Failed to parse cached point history: userId={}", userId, e);
+            }
+        }
+
+        PointDto.HistoryPage page = findPage(userId, null, pageSize);
+        try {
+            bucket.set(objectMapper.writeValueAsString(page), Duration.ofMillis(cacheTtlMs));
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to cache point history: userId={}", userId, e);
+        }
+        return page;
+    }
+
+    private PointDto.HistoryPage findPage(Long userId, String cursor, int pageSize) {
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<PointHistory> rows;
+        if (cursor == null) {
+            rows = pointRepository.findHistory(userId, limit);
+        } else {
+            Cursor position = Cursor.decode(cursor);
+            rows = pointRepository.findHistoryBefore(userId, position.getCreatedAt(), position.getId(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<PointHistory> items = hasNext ? rows.subList(0, pageSize) : rows;
+        PointHistory last = items.isEmpty() ? null : items.get(items.size() - 1);
+        return PointDto.HistoryPage.builder()
+                .items(items.stream().map(PointDto.Response::from).toList())
+                .nextCursor(hasNext ? new Cursor(last.getCreatedAt(), last.getId()).encode() : null)
+                .build();
+    }
+
+    // 마지막 이력의 (createdAt, id), 응답에는 Base64로 인코딩
+    @Getter
+    @RequiredArgsConstructor
+    private static class Cursor {
+        private final LocalDateTime createdAt;
+        private final Long id;
+
+        String encode() {
+            String raw = createdAt + "," + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf(',');
+                return new Cursor(LocalDateTime.parse(raw.substring(0, separator)), Long.valueOf(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+            }
+        }
+    }
+}
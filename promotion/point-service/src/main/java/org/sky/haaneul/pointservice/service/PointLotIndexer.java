@@ -0,0 +1,176 @@
+package org.sky.haaneul.pointservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sky.haaneul.pointservice.domain.PointLot;
+import org.sky.haaneul.pointservice.domain.PointLotProgress;
+import org.sky.haaneul.pointservice.domain.PointType;
+import org.sky.haaneul.pointservice.repository.PointEvent;
+import org.sky.haaneul.pointservice.repository.PointLotProgressRepository;
+import org.sky.haaneul.pointservice.repository.PointLotRepository;
+import org.sky.haaneul.pointservice.repository.PointRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 포인트 이력을 ID 순으로 읽어 적립 묶음(PointLot)에 반영
+ * - 적립, 선물 받음: 묶음 추가 (만료일 = 적립일 + validity-days)
+ * - 사용, 선물 보냄: 만료일이 빠른 묶음부터 차감 (묶음이 모자란 만큼은 묶음 도입 전 잔액에서 차감된 것으로 봄)
+ * - 적립 취소: 원본 적립 묶음의 남은 포인트를 무효화, 원본에서 이미 사용/만료된 만큼은 만료일이 빠른 묶음부터 차감
+ * - 사용 취소: 돌려받은 포인트로 새 묶음 추가 (취소일 기준 만료일)
+ *   - 취소 방향은 취소 이력이 가리키는 원본 이력(originalPointId)의 유형으로 확인 (원본을 모르는 취소 이력은 건너뜀)
+ * - 만료: PointExpiryWriter가 묶음과 함께 저장하므로 건너뜀
+ * - v1/v2/v3/일괄 지급 모두 포인트 이력을 남기므로 사용 경로마다 묶음 처리를 넣지 않고 이력에서 한 곳으로 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointLotIndexer {
+    private static final String INSERT_LOT_SQL = "INSERT INTO point_lots " +
+            "(user_id, point_id, amount, remaining, expire_on, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_LOT_SQL = "UPDATE point_lots SET remaining = ?, expire_on = ?, updated_at = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PointRepository pointRepository;
+    private final PointLotRepository pointLotRepository;
+    private final PointLotProgressRepository pointLotProgressRepository;
+
+    @Value("${point.expiry.validity-days:365}")
+    private int validityDays;
+
+    @Value("${point.expiry.page-size:1000}")
+    private int pageSize;
+
+    /**
+     * 마지막으로 반영한 이력 이후 upToId까지의 이력 중 page-size만큼 반영
+     *
+     * @return 반영한 이력 수 (page-size보다 작으면 upToId까지 모두 반영)
+     */
+    @Transactional
+    public int index(Long upToId) {
+        PointLotProgress progress = pointLotProgressRepository.findById(PointLotProgress.ID)
+                .orElseGet(() -> pointLotProgressRepository.save(PointLotProgress.start()));
+        List<PointEvent> events = pointRepository.findEventsAfter(progress.getLastPointId(), upToId, PageRequest.of(0, pageSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> userIds = events.stream().map(PointEvent::getUserId).collect(Collectors.toSet());
+        Map<Long, List<OpenLot>> lots = new HashMap<>();
+        pointLotRepository.findOpenLots(userIds).forEach(lot ->
+                lots.computeIfAbsent(lot.getUserId(), userId -> new ArrayList<>()).add(OpenLot.from(lot)));
+
+        List<OpenLot> created = new ArrayList<>();
+        for (PointEvent event : events) {
+            List<OpenLot> userLots = lots.computeIfAbsent(event.getUserId(), userId -> new ArrayList<>());
+            switch (event.getType()) {
+                case EARNED, TRANSFERRED_IN -> created.add(add(userLots, event));
+                case USED, TRANSFERRED_OUT -> consume(userLots, event.getAmount());
+                case CANCELED -> {
+                    if (event.getOriginalType() == PointType.USED) {
+                        created.add(add(userLots, event));
+                    } else if (event.getOriginalType() == PointType.EARNED) {
+                        cancelEarn(userLots, event.getOriginalPointId(), event.getAmount());
+                    } else {
+                        log.warn("Skipping point cancel without original point: pointId={}", event.getId());
+                    }
+                }
+                default -> {
+                    // 만료 이력은 묶음에 이미 반영됨
+                }
+            }
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_LOT_SQL, created.stream()
+                .map(lot -> new Object[]{lot.userId, lot.pointId, lot.amount, lot.remaining, date(lot), now, now})
+                .toList());
+        jdbcTemplate.batchUpdate(UPDATE_LOT_SQL, lots.values().stream()
+                .flatMap(List::stream)
+                .filter(lot -> lot.id != null && lot.changed)
+                .map(lot -> new Object[]{lot.remaining, date(lot), now, lot.id})
+                .toList());
+
+        progress.advance(events.get(events.size() - 1).getId());
+        return events.size();
+    }
+
+    private OpenLot add(List<OpenLot> userLots, PointEvent event) {
+        OpenLot lot = new OpenLot(null, event.getUserId(), event.getId(), event.getAmount(), event.getAmount(),
+                event.getCreatedAt().toLocalDate().plusDays(validityDays));
+        userLots.add(lot);
+        userLots.sort(Comparator.comparing((OpenLot open) -> open.expireOn));
+        return lot;
+    }
+
+    private void consume(List<OpenLot> userLots, long amount) {
+        for (OpenLot lot : userLots) {
+            if (amount == 0) {
+                return;
+            }
+            if (lot.remaining == 0) {
+                continue;
+            }
+            long used = Math.min(lot.remaining, amount);
+            lot.remaining -= used;
+            lot.changed = true;
+            amount -= used;
+        }
+    }
+
+    // 원본 적립 묶음의 남은 포인트부터 무효화, 모자란 만큼(이미 사용/만료된 만큼)은 만료일이 빠른 묶음부터 차감
+    private void cancelEarn(List<OpenLot> userLots, Long originalPointId, long amount) {
+        for (OpenLot lot : userLots) {
+            if (lot.pointId.equals(originalPointId)) {
+                long voided = Math.min(lot.remaining, amount);
+                lot.remaining -= voided;
+                lot.changed = true;
+                amount -= voided;
+                break;
+            }
+        }
+        consume(userLots, amount);
+    }
+
+    private static Date date(OpenLot lot) {
+        return lot.remaining > 0 ? Date.valueOf(lot.expireOn) : null;
+    }
+
+    private static class OpenLot {
+        private final Long id;
+        private final Long userId;
+        private final Long pointId;
+        private final long amount;
+        private long remaining;
+        private final LocalDate expireOn;
+        private boolean changed;
+
+        OpenLot(Long id, Long userId, Long pointId, long amount, long remaining, LocalDate expireOn) {
+            this.id = id;
+            this.userId = userId;
+            this.pointId = pointId;
+            this.amount = amount;
+            this.remaining = remaining;
+            this.expireOn = expireOn;
+        }
+
+        static OpenLot from(PointLot lot) {
+            return new OpenLot(lot.getId(), lot.getUserId(), lot.getPointId(), lot.getAmount(), lot.getRemaining(), lot.getExpireOn());
+        }
+    }
+}
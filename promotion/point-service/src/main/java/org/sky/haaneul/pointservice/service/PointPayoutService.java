@@ -0,0 +1,130 @@
+package org.sky.haaneul.pointservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sky.haaneul.pointservice.domain.PointPayout;
+import org.sky.haaneul.pointservice.domain.PointType;
+import org.sky.haaneul.pointservice.dto.PointDto;
+import org.sky.haaneul.pointservice.repository.PointPayoutRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 캠페인 포인트 일괄 지급
+ * - 지급 요청을 chunk-size씩 읽어 묶음마다 한 트랜잭션으로 반영 (PointPayoutWriter)
+ * - 지급 ID별로 반영된 요청 수를 저장하므로 같은 지급 ID로 같은 목록을 다시 보내면 반영된 만큼 건너뛰고 이어서 처리
+ * - 지급을 시작한 사용자만 이어서 처리/조회 가능 (다른 사용자에게는 없는 지급으로 응답)
+ * - 이력의 balanceSnapshot은 Redis 잔액(원장 기준) + 지급액 (캐시에 없는 사용자는 DB 잔액 기준)
+ * - 묶음 반영 후 Redis 잔액 버킷을 파이프라인으로 갱신 (PointBalanceBuckets.applyDeltas), near cache 무효화, 일별 집계 증가
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointPayoutService {
+    private final PointPayoutRepository pointPayoutRepository;
+    private final PointPayoutWriter pointPayoutWriter;
+    private final PointBalanceBuckets pointBalanceBuckets;
+    private final PointBalanceNearCache pointBalanceNearCache;
+    private final PointDailyAggregates pointDailyAggregates;
+
+    @Value("${point.payout.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * CSV(userId,amount) 지급 목록을 스트림으로 읽어 지급 (빈 줄은 건너뜀)
+     */
+    public PointDto.PayoutResponse payout(String payoutId, Long requestedBy, String description, BufferedReader reader) {
+        return payout(payoutId, requestedBy, description, reader.lines()
+                .filter(line -> !line.isBlank())
+                .map(PointDto.PayoutGrant::parse)
+                .iterator());
+    }
+
+    public PointDto.PayoutResponse payout(String payoutId, Long requestedBy, String description,
+                                          Iterator<PointDto.PayoutGrant> grants) {
+        PointPayout payout = findOrCreate(payoutId, requestedBy, description);
+        if (!payout.isRequestedBy(requestedBy)) {
+            throw new IllegalStateException("Payout already exists: " + payoutId);
+        }
+        if (payout.isCompleted()) {
+            return PointDto.PayoutResponse.from(payout);
+        }
+
+        // 이전 요청에서 반영된 지급 건너뜀
+        long processed = payout.getProcessedCount();
+        for (long skipped = 0; skipped < processed && grants.hasNext(); skipped++) {
+            grants.next();
+        }
+
+        List<PointDto.PayoutGrant> chunk = new ArrayList<>(chunkSize);
+        while (grants.hasNext()) {
+            PointDto.PayoutGrant grant = grants.next();
+            if (grant.getAmount() == null || grant.getAmount() <= 0) {
+                throw new IllegalArgumentException("Amount must be positive");
+            }
+            chunk.add(grant);
+            if (chunk.size() == chunkSize) {
+                processed = write(payoutId, processed, chunk);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            processed = write(payoutId, processed, chunk);
+        }
+
+        PointPayout completed = pointPayoutWriter.complete(payoutId);
+        log.info("Point payout completed: payoutId={}, processed={}, amount={}",
+                payoutId, completed.getProcessedCount(), completed.getGrantedAmount());
+        return PointDto.PayoutResponse.from(completed);
+    }
+
+    public PointDto.PayoutResponse getPayout(String payoutId, Long userId) {
+        return pointPayoutRepository.findByPayoutId(payoutId)
+                .filter(payout -> payout.isRequestedBy(userId))
+                .map(PointDto.PayoutResponse::from)
+                .orElseThrow(() -> new IllegalArgumentException("Payout not found: " + payoutId));
+    }
+
+    private long write(String payoutId, long processed, List<PointDto.PayoutGrant> chunk) {
+        Map<Long, Long> deltas = pointPayoutWriter.write(payoutId, processed, chunk, currentBalances(chunk));
+        pointBalanceBuckets.applyDeltas(deltas);
+        pointBalanceNearCache.invalidate(deltas.keySet());
+        pointDailyAggregates.record(PointType.EARNED, deltas);
+        return processed + chunk.size();
+    }
+
+    // 지급 전 잔액 (v3 사용자는 DB가 원장보다 늦으므로 Redis 잔액 기준, 조회 실패시 DB 잔액 기준)
+    private Map<Long, Long> currentBalances(List<PointDto.PayoutGrant> chunk) {
+        Set<Long> userIds = chunk.stream().map(PointDto.PayoutGrant::getUserId).collect(Collectors.toSet());
+        try {
+            return pointBalanceBuckets.getBalances(userIds);
+        } catch (Exception e) {
+            log.warn("Failed to read point balances from cache, using DB balances for payout snapshots", e);
+            return Map.of();
+        }
+    }
+
+    private PointPayout findOrCreate(String payoutId, Long requestedBy, String description) {
+        return pointPayoutRepository.findByPayoutId(payoutId).orElseGet(() -> {
+            try {
+                return pointPayoutRepository.save(PointPayout.builder()
+                        .payoutId(payoutId)
+                        .description(description)
+                        .requestedBy(requestedBy)
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                // 같은 지급 ID로 동시에 요청된 경우
+                return pointPayoutRepository.findByPayoutId(payoutId).orElseThrow(() -> e);
+            }
+        });
+    }
+}
@@ -0,0 +1,112 @@
+package org.sky.haaneul.pointservice.service;
+
+import lombok.RequiredArgsConstructor;
+import org.sky.haaneul.pointservice.domain.PointPayout;
+import org.sky.haaneul.pointservice.domain.PointType;
+import org.sky.haaneul.pointservice.dto.PointDto;
+import org.sky.haaneul.pointservice.repository.PointPayoutRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 일괄 지급 묶음을 한 트랜잭션으로 DB에 반영
+ * - 잔액은 사용자별로 합산해 MERGE 한 번 (없는 사용자는 INSERT), 이력은 JDBC batch INSERT
+ * - 지급 진행 상태(processedCount)도 같은 트랜잭션에서 증가 -> 묶음 단위로 재시작해도 중복 지급 X
+ */
+@Service
+@RequiredArgsConstructor
+public class PointPayoutWriter {
+    private static final String UPSERT_BALANCE_SQL = "MERGE INTO point_balances b " +
+            "USING (VALUES (CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS TIMESTAMP))) AS s (user_id, amount, updated_at) " +
+            "ON b.user_id = s.user_id " +
+            "WHEN MATCHED THEN UPDATE SET balance = b.balance + s.amount, version = b.version + 1, updated_at = s.updated_at " +
+            "WHEN NOT MATCHED THEN INSERT (user_id, balance, version, created_at, updated_at) " +
+            "VALUES (s.user_id, s.amount, 0, s.updated_at, s.updated_at)";
+    private static final String INSERT_POINT_SQL = "INSERT INTO points " +
+            "(user_id, amount, type, description, balance_snapshot, version, point_balance_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, 0, (SELECT id FROM point_balances WHERE user_id = ?), ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PointPayoutRepository pointPayoutRepository;
+
+    /**
+     * 지급 묶음 반영
+     *
+     * @param processedCount 이 묶음 이전까지 반영된 지급 요청 수 (다르면 다른 요청이 처리 중)
+     * @param currentBalances 지급 전 사용자별 잔액 (Redis 원장 기준, 없는 사용자는 DB 잔액 사용)
+     * @return 사용자별 지급액 (캐시 갱신용)
+     */
+    @Transactional
+    public Map<Long, Long> write(String payoutId, long processedCount, List<PointDto.PayoutGrant> grants,
+                                 Map<Long, Long> currentBalances) {
+        PointPayout payout = findPayout(payoutId);
+        if (payout.getProcessedCount() != processedCount) {
+            throw new IllegalStateException("Payout is being processed by another request: " + payoutId);
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Map<Long, Long> deltas = new TreeMap<>();  // 사용자 ID 순으로 반영 (행 락 순서 고정)
+        grants.forEach(grant -> deltas.merge(grant.getUserId(), grant.getAmount(), Long::sum));
+        jdbcTemplate.batchUpdate(UPSERT_BALANCE_SQL, deltas.entrySet().stream()
+                .map(delta -> new Object[]{delta.getKey(), delta.getValue(), now})
+                .toList());
+
+        // 지급 전 잔액부터 요청 순서대로 balanceSnapshot 계산 (DB 잔액은 원장보다 늦을 수 있으므로 캐시에 없는 사용자만 조회)
+        Map<Long, Long> running = new HashMap<>();
+        deltas.keySet().stream()
+                .filter(currentBalances::containsKey)
+                .forEach(userId -> running.put(userId, currentBalances.get(userId)));
+        List<Long> uncached = deltas.keySet().stream().filter(userId -> !running.containsKey(userId)).toList();
+        if (!uncached.isEmpty()) {
+            findBalances(uncached).forEach((userId, balance) -> running.put(userId, balance - deltas.get(userId)));
+        }
+        String description = payout.getDescription();
+        jdbcTemplate.batchUpdate(INSERT_POINT_SQL, grants.stream()
+                .map(grant -> new Object[]{
+                        grant.getUserId(),
+                        grant.getAmount(),
+                        PointType.EARNED.name(),
+                        description,
+                        running.merge(grant.getUserId(), grant.getAmount(), Long::sum),
+                        grant.getUserId(),
+                        now,
+                        now
+                })
+                .toList());
+
+        payout.advance(grants.size(), deltas.values().stream().mapToLong(Long::longValue).sum());
+        return deltas;
+    }
+
+    @Transactional
+    public PointPayout complete(String payoutId) {
+        PointPayout payout = findPayout(payoutId);
+        payout.complete();
+        return payout;
+    }
+
+    private PointPayout findPayout(String payoutId) {
+        return pointPayoutRepository.findByPayoutId(payoutId)
+                .orElseThrow(() -> new IllegalArgumentException("Payout not found: " + payoutId));
+    }
+
+    private Map<Long, Long> findBalances(Collection<Long> userIds) {
+        List<Map.Entry<Long, Long>> balances = jdbcTemplate.query(
+                "SELECT user_id, balance FROM point_balances WHERE user_id IN (" +
+                        String.join(",", Collections.nCopies(userIds.size(), "?")) + ")",
+                (rs, rowNum) -> Map.entry(rs.getLong("user_id"), rs.getLong("balance")),
+                userIds.toArray());
+        return balances.stream().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+}
@@ -7,6 +7,8 @@ import org.sky.haaneul.pointservice.domain.PointBalance;
 import org.sky.haaneul.pointservice.domain.PointType;
 import org.sky.haaneul.pointservice.repository.PointBalanceRepository;
 import org.sky.haaneul.pointservice.repository.PointRepository;
+import org.sky.haaneul.pointservice.service.PointBalanceNearCache;
+import org.sky.haaneul.pointservice.service.PointDailyAggregates;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -18,6 +20,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class PointService {
     private final PointBalanceRepository pointBalanceRepository;
     private final PointRepository pointRepository;
+    private final PointBalanceNearCache pointBalanceNearCache;
+    private final PointDailyAggregates pointDailyAggregates;
 
     // 포인트 획득
     @Transactional(isolation = Isolation.REPEATABLE_READ)
@@ -31,6 +35,8 @@ public class PointService {
 
         pointBalance.addBalance(amount);
         pointBalance = pointBalanceRepository.save(pointBalance);
+        pointBalanceNearCache.invalidateAfterCommit(userId);
+        pointDailyAggregates.recordAfterCommit(userId, PointType.EARNED, amount, amount);
 
         // 포인트 내역 추가
         Point point = Point.builder()
@@ -54,6 +60,8 @@ public class PointService {
 
         pointBalance.subtractBalance(amount);
         pointBalance = pointBalanceRepository.save(pointBalance);
+        pointBalanceNearCache.invalidateAfterCommit(userId);
+        pointDailyAggregates.recordAfterCommit(userId, PointType.USED, amount, -amount);
 
         Point point = Point.builder()
                 .userId(userId)
@@ -98,12 +106,16 @@ public class PointService {
 
         pointBalance.setBalance(newBalance);
         pointBalance = pointBalanceRepository.save(pointBalance);
+        pointBalanceNearCache.invalidateAfterCommit(originalPoint.getUserId());
+        pointDailyAggregates.recordAfterCommit(originalPoint.getUserId(), PointType.CANCELED,
+                originalPoint.getAmount(), newBalance - currentBalance);
 
         Point cancelPoint = Point.builder()
                 .userId(originalPoint.getUserId())
                 .amount(originalPoint.getAmount())
                 .type(PointType.CANCELED)
                 .description(description)
+                .originalPointId(originalPoint.getId())
                 .balanceSnapshot(pointBalance.getBalance())
                 .pointBalance(pointBalance)
                 .build();
@@ -111,13 +123,11 @@ public class PointService {
         return pointRepository.save(cancelPoint);
     }
 
-    // 포인트 정보 조회
-    @Transactional(readOnly = true)
+    // 포인트 정보 조회 (near cache -> DB)
     public Long getBalance(Long userId) {
-        return pointBalanceRepository.findByUserId(userId)
+        return pointBalanceNearCache.get(userId, () -> pointBalanceRepository.findByUserId(userId)
                 .map(PointBalance::getBalance)
-                .orElse(0L);
-
+                .orElse(0L));
     }
 
     // 포인트 이력 조회
@@ -1,32 +1,36 @@
 package org.sky.haaneul.pointservice.service.v2;
 
 import lombok.RequiredArgsConstructor;
-import org.redisson.api.RLock;
 import org.redisson.api.RMap;
-import org.redisson.api.RedissonClient;
 import org.sky.haaneul.pointservice.aop.PointMetered;
 import org.sky.haaneul.pointservice.domain.Point;
 import org.sky.haaneul.pointservice.domain.PointBalance;
 import org.sky.haaneul.pointservice.domain.PointType;
 import org.sky.haaneul.pointservice.repository.PointBalanceRepository;
 import org.sky.haaneul.pointservice.repository.PointRepository;
+import org.sky.haaneul.pointservice.service.PointBalanceBuckets;
+import org.sky.haaneul.pointservice.service.PointBalanceNearCache;
+import org.sky.haaneul.pointservice.service.PointDailyAggregates;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
 
-import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
 public class PointRedisService {
 
-    private static final String POINT_BALANCE_MAP = "point:balance";
-    private static final String POINT_LOCK_PREFIX = "point:lock:";
-    private static final long LOCK_WAIT_TIME = 3L;
-    private static final long LOCK_LEASE_TIME = 3L;
-
-    private final RedissonClient redissonClient;
     private final PointBalanceRepository pointBalanceRepository;
     private final PointRepository pointRepository;
+    private final PointBalanceBuckets pointBalanceBuckets;
+    private final PointBalanceNearCache pointBalanceNearCache;
+    private final PointDailyAggregates pointDailyAggregates;
+    private final PointUserExecutor pointUserExecutor;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 포인트 적립 처리
@@ -36,26 +40,15 @@ public class PointRedisService {
      * 4. DB 저장 및 캐시 업데이트
      * 5. 포인트 이력 저장
      */
-    @Transactional
     @PointMetered(version = "v2")
     public Point earnPoints(Long userId, Long amount, String description) {
-        // 분산 락 획득
-        RLock lock = redissonClient.getLock(POINT_LOCK_PREFIX + userId);
-        try {
-            // 락 획득 시도
-            boolean locked = lock.tryLock(LOCK_WAIT_TIME, LOCK_LEASE_TIME, TimeUnit.SECONDS);
-            if (!locked) {
-                // 락 획득 실패
-                throw new IllegalStateException("Failed to acquire lock for user: " + userId);
-            }
-
+        // 사용자별 분산 락 안에서 트랜잭션 실행 (커밋 후 락 해제)
+        return pointUserExecutor.execute(userId, () -> transactionTemplate.execute(status -> {
             // 캐시된 잔액 조회
             Long currentBalance = getBalanceFromCache(userId);
             if (currentBalance == null) {
-                // 캐시된 잔액이 없으면 DB에서 조회
-                currentBalance = getBalanceFromDB(userId);
-                // 캐시 업데이트
-                updateBalanceCache(userId, currentBalance);
+                // 캐시된 잔액이 없으면 DB에서 조회해 캐시 초기화
+                currentBalance = loadBalanceCache(userId);
             }
 
             // 포인트 잔액 증가
@@ -68,7 +61,9 @@ public class PointRedisService {
             pointBalance.addBalance(amount);
             pointBalance = pointBalanceRepository.save(pointBalance);
             // 캐시 업데이트
-            updateBalanceCache(userId, pointBalance.getBalance());
+            applyBalanceDeltaAfterCommit(userId, amount);
+            pointBalanceNearCache.invalidateAfterCommit(userId);
+            pointDailyAggregates.recordAfterCommit(userId, PointType.EARNED, amount, amount);
 
             // 포인트 이력 저장
             Point point = Point.builder()
@@ -80,22 +75,33 @@ public class PointRedisService {
                     .pointBalance(pointBalance)
                     .build();
             return pointRepository.save(point);
+        }));
+    }
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new IllegalStateException("Lock acquisition was interrupted", e);
-        } finally {
-            // 락 해제
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
-            }
-        }
+    /**
+     * 캐시된 잔액이 없을 때 DB 잔액으로 초기화 (다른 요청이 먼저 넣은 값은 덮어쓰지 않음)
+     * - 같은 버킷을 v3가 원장 반영 전 잔액 기준으로 사용하므로 v3로 변경된 사용자의 캐시를 DB 값(원장 반영 전)으로 덮어쓰면 안 됨
+     */
+    private Long loadBalanceCache(Long userId) {
+        return pointBalanceBuckets.loadIfAbsent(userId, () -> getBalanceFromDB(userId));
     }
 
-    // 캐시 업데이트
-    private void updateBalanceCache(Long userId, Long currentBalance) {
-        RMap<String, Long> balanceMap = redissonClient.getMap(POINT_BALANCE_MAP);
-        balanceMap.fastPut(String.valueOf(userId), currentBalance);
+    /**
+     * 커밋 후 캐시된 잔액에 증감량만 반영 (HINCRBY, 캐시가 없으면 건너뜀)
+     * - DB 잔액을 그대로 덮어쓰지 않으므로 v3에서 아직 DB에 저장되지 않은 증감도 유지
+     * - 롤백되면 반영하지 않음
+     */
+    private void applyBalanceDeltaAfterCommit(Long userId, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pointBalanceBuckets.applyDeltas(Map.of(userId, delta));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pointBalanceBuckets.applyDeltas(Map.of(userId, delta));
+            }
+        });
     }
 
     // DB로부터 조회
@@ -107,7 +113,7 @@ public class PointRedisService {
 
     // 캐시로부터 조회
     private Long getBalanceFromCache(Long userId) {
-        RMap<String, Long> balanceMap = redissonClient.getMap(POINT_BALANCE_MAP);
+        RMap<String, Long> balanceMap = pointBalanceBuckets.map(userId);
         return balanceMap.get(String.valueOf(userId));
     }
 
@@ -120,27 +126,14 @@ public class PointRedisService {
      * 5. DB 저장 및 캐시 업데이트
      * 6. 포인트 이력 저장
      */
-    @Transactional
     @PointMetered(version = "v2")
     public Point usePoints(Long userId, Long amount, String description) {
-        // 분산 락 획득
-        RLock lock = redissonClient.getLock(POINT_LOCK_PREFIX + userId);
-
-        try {
-            // 락 획득 시도
-            boolean locked = lock.tryLock(LOCK_WAIT_TIME, LOCK_LEASE_TIME, TimeUnit.SECONDS);
-            if (!locked) {
-                // 락 획득 실패
-                throw new IllegalStateException("Failed to acquire lock for user: " + userId);
-            }
-
+        return pointUserExecutor.execute(userId, () -> transactionTemplate.execute(status -> {
             // 캐시된 잔액 조회 및 체크
             Long currentBalance = getBalanceFromCache(userId);
             if (currentBalance == null) {
-                // 캐시된 잔액이 없으면 DB에서 조회
-                currentBalance = getBalanceFromDB(userId);
-                // 캐시 업데이트
-                updateBalanceCache(userId, currentBalance);
+                // 캐시된 잔액이 없으면 DB에서 조회해 캐시 초기화
+                currentBalance = loadBalanceCache(userId);
             }
 
             if (currentBalance < amount) {
@@ -156,7 +149,9 @@ public class PointRedisService {
             pointBalance = pointBalanceRepository.save(pointBalance);
 
             // 캐시 업데이트
-            updateBalanceCache(userId, pointBalance.getBalance());
+            applyBalanceDeltaAfterCommit(userId, -amount);
+            pointBalanceNearCache.invalidateAfterCommit(userId);
+            pointDailyAggregates.recordAfterCommit(userId, PointType.USED, amount, -amount);
 
             // 포인트 이력 저장
             Point point = Point.builder()
@@ -168,16 +163,7 @@ public class PointRedisService {
                     .pointBalance(pointBalance)
                     .build();
             return pointRepository.save(point);
-        } catch (InterruptedException e) {
-            // 락 획득 중 인터럽트 발생
-            Thread.currentThread().interrupt();
-            throw new IllegalStateException("Lock acquisition was interrupted");
-        } finally {
-            // 락 해제
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
-            }
-        }
+        }));
     }
 
 
@@ -190,28 +176,25 @@ public class PointRedisService {
      * 5. DB 저장 및 캐시 업데이트
      * 6. 취소 이력 저장
      */
-    @Transactional
     public Point cancelPoints(Long pointId, String description) {
-        // 원본 포인트 이력 조회
-        Point originalPoint = pointRepository.findById(pointId)
+        // 원본 포인트 이력 조회 (락 대상 사용자 확인)
+        Long userId = pointRepository.findById(pointId)
+                .map(Point::getUserId)
                 .orElseThrow(() -> new IllegalArgumentException("Point not found"));
 
-        Long userId = originalPoint.getUserId();
-        // 분산 락 획득
-        RLock lock = redissonClient.getLock(POINT_LOCK_PREFIX + userId);
-
-        try {
-            // 락 획득 시도
-            boolean locked = lock.tryLock(LOCK_WAIT_TIME, LOCK_LEASE_TIME, TimeUnit.SECONDS);
-            if (!locked) {
-                // 락 획득 실패
-                throw new IllegalStateException("Failed to acquire lock for user: " + userId);
-            }
+        return pointUserExecutor.execute(userId, () -> transactionTemplate.execute(status -> {
+            // 락 안에서 다시 조회
+            Point originalPoint = pointRepository.findById(pointId)
+                    .orElseThrow(() -> new IllegalArgumentException("Point not found"));
 
             if (originalPoint.getType() == PointType.CANCELED) {
                 // 이미 취소된 포인트
                 throw new IllegalArgumentException("Already cancelled point");
             }
+            if (originalPoint.getType() != PointType.EARNED && originalPoint.getType() != PointType.USED) {
+                // 만료/선물 이력은 취소 X (선물은 한쪽만 원복되면 잔액이 맞지 않음)
+                throw new IllegalArgumentException("Invalid point type for cancellation");
+            }
 
             // 포인트 잔액 원복
             PointBalance pointBalance = originalPoint.getPointBalance();
@@ -222,8 +205,11 @@ public class PointRedisService {
             }
 
             pointBalance = pointBalanceRepository.save(pointBalance);
+            long delta = originalPoint.getType() == PointType.EARNED ? -originalPoint.getAmount() : originalPoint.getAmount();
             // 캐시 업데이트
-            updateBalanceCache(userId, pointBalance.getBalance());
+            applyBalanceDeltaAfterCommit(userId, delta);
+            pointBalanceNearCache.invalidateAfterCommit(userId);
+            pointDailyAggregates.recordAfterCommit(userId, PointType.CANCELED, originalPoint.getAmount(), delta);
 
             // 취소 이력 저장
             Point point = Point.builder()
@@ -231,38 +217,90 @@ public class PointRedisService {
                     .amount(originalPoint.getAmount())
                     .type(PointType.CANCELED)
                     .description(description)
+                    .originalPointId(originalPoint.getId())
                     .balanceSnapshot(pointBalance.getBalance())
                     .pointBalance(pointBalance)
                     .build();
             return pointRepository.save(point);
-        } catch (InterruptedException e) {
-            // 락 획득 중 인터럽트 발생
-            Thread.currentThread().interrupt();
-            throw new IllegalStateException("Lock acquisition was interrupted");
-        } finally {
-            // 락 해제
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
-            }
+        }));
+    }
+
+
+    /**
+     * 포인트 선물 처리 (보내는 사용자 차감 + 받는 사용자 적립)
+     * 1. 두 사용자의 분산 락을 사용자 ID 순서로 획득 (각각 적립/사용을 호출하면 락 순서가 엇갈려 교착/부분 실패)
+     * 2. 한 트랜잭션에서 보내는 사용자 잔액 체크 및 차감, 받는 사용자 잔액 증가
+     * 3. DB 저장 및 캐시 업데이트
+     * 4. 보냄/받음 이력을 한 번에 저장
+     */
+    @PointMetered(version = "v2")
+    public Point transferPoints(Long fromUserId, Long toUserId, Long amount, String description) {
+        if (fromUserId.equals(toUserId)) {
+            throw new IllegalArgumentException("Cannot transfer points to yourself");
         }
+
+        return pointUserExecutor.execute(fromUserId, toUserId, () -> transactionTemplate.execute(status -> {
+            PointBalance sender = pointBalanceRepository.findByUserId(fromUserId)
+                    .orElseThrow(() -> new IllegalArgumentException("User not found"));
+            if (sender.getBalance() < amount) {
+                // 잔액 부족
+                throw new IllegalArgumentException("Insufficient balance");
+            }
+            PointBalance receiver = pointBalanceRepository.findByUserId(toUserId)
+                    .orElseGet(() -> PointBalance.builder()
+                            .userId(toUserId)
+                            .balance(0L)
+                            .build());
+
+            sender.subtractBalance(amount);
+            receiver.addBalance(amount);
+            List<PointBalance> balances = pointBalanceRepository.saveAll(List.of(sender, receiver));
+            sender = balances.get(0);
+            receiver = balances.get(1);
+
+            // 캐시 업데이트
+            applyBalanceDeltaAfterCommit(fromUserId, -amount);
+            applyBalanceDeltaAfterCommit(toUserId, amount);
+            pointBalanceNearCache.invalidateAfterCommit(fromUserId);
+            pointBalanceNearCache.invalidateAfterCommit(toUserId);
+
+            // 보냄/받음 이력 저장
+            List<Point> points = pointRepository.saveAll(List.of(
+                    Point.builder()
+                            .userId(fromUserId)
+                            .amount(amount)
+                            .type(PointType.TRANSFERRED_OUT)
+                            .description(description)
+                            .balanceSnapshot(sender.getBalance())
+                            .pointBalance(sender)
+                            .build(),
+                    Point.builder()
+                            .userId(toUserId)
+                            .amount(amount)
+                            .type(PointType.TRANSFERRED_IN)
+                            .description(description)
+                            .balanceSnapshot(receiver.getBalance())
+                            .pointBalance(receiver)
+                            .build()));
+            return points.get(0);
+        }));
     }
 
 
     /**
      * 포인트 잔액 조회
-     * 1. 캐시에서 조회
-     * 2. 캐시 없으면 DB에서 조회 후 캐시 업데이트
+     * 1. near cache에서 조회 (같은 사용자의 동시 조회는 아래 로드를 한 번만 실행)
+     * 2. 캐시에서 조회
+     * 3. 캐시 없으면 DB에서 조회 후 캐시 업데이트
      */
-    @Transactional(readOnly = true)
     public Long getBalance(Long userId) {
-        Long cachedBalance = getBalanceFromCache(userId);
-        if (cachedBalance != null)
-            return cachedBalance;
-
-        Long dbBalance = getBalanceFromDB(userId);
-        updateBalanceCache(userId, dbBalance);
+        return pointBalanceNearCache.get(userId, () -> {
+            Long cachedBalance = getBalanceFromCache(userId);
+            if (cachedBalance != null)
+                return cachedBalance;
 
-        return dbBalance;
+            return loadBalanceCache(userId);
+        });
     }
 
 
@@ -0,0 +1,210 @@
+package org.sky.haaneul.pointservice.service.v2;
+
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 작업 직렬 실행 (인스턴스 내 대기열 + 분산 락)
+ * - 같은 사용자의 작업은 인스턴스 안에서 먼저 대기열에 쌓이고, 대기열이 비어 있을 때 들어온 요청(head)만 분산 락 획득
+ * - head는 락을 잡은 동안 자기 작업을 포함해 대기열의 작업을 최대 MAX_OPERATIONS_PER_LOCK개까지 이어서 실행
+ *   -> 연속 클릭/재시도처럼 같은 사용자 요청이 몰려도 Redis 락 요청은 한 번, 나머지는 대기 없이 순서대로 처리
+ * - 이후 락을 풀고 대기열 맨 앞 요청의 스레드에 head를 넘김 (head 스레드는 바로 자기 응답 반환)
+ *   -> 같은 사용자 요청이 계속 들어와도 한 요청 스레드가 다른 요청의 작업을 끝없이 처리하지 않음
+ * - 락 획득 실패시 대기 중인 작업 모두 실패 처리
+ * - 락은 임대 시간 없이 획득 (watchdog이 작업이 끝날 때까지 연장), 작업 사이에 락을 잃었으면 남은 작업은 다음 head가 다시 획득 후 실행
+ */
+@Component
+@RequiredArgsConstructor
+public class PointUserExecutor {
+    private static final String POINT_LOCK_PREFIX = "point:lock:";
+    private static final long LOCK_WAIT_TIME = 3L;
+    private static final long LOCK_LEASE_TIME = -1L;  // watchdog 사용 (고정 임대 시간이면 긴 작업 중 락이 풀림)
+    private static final int MAX_OPERATIONS_PER_LOCK = 16;  // head 한 번이 실행하는 작업 수 (자기 작업 포함)
+
+    private final RedissonClient redissonClient;
+    private final ConcurrentHashMap<Long, Queue<Task<?>>> queues = new ConcurrentHashMap<>();
+
+    public <T> T execute(Long userId, Supplier<T> operation) {
+        Task<T> task = new Task<>(operation);
+        boolean[] head = new boolean[1];
+        queues.compute(userId, (id, queue) -> {
+            if (queue == null) {
+                queue = new ArrayDeque<>();
+                head[0] = true;
+            }
+            queue.add(task);
+            return queue;
+        });
+
+        // 처음부터 head이거나, 앞선 head가 넘겨주면 직접 락을 잡고 실행
+        if (head[0] || task.awaitTurn()) {
+            drain(userId);
+        }
+        return task.join();
+    }
+
+    /**
+     * 두 사용자의 락을 모두 잡고 실행 (선물 등 두 사용자 잔액을 함께 변경)
+     * - 항상 사용자 ID 오름차순으로 락 획득 -> 서로 반대 방향 요청이 동시에 와도 교착 X
+     * - 사용자별 대기열을 거치지 않고 바로 락 획득 (대기열 head가 잡은 락은 MAX_OPERATIONS_PER_LOCK개 실행 후 풀림)
+     */
+    public <T> T execute(Long userId, Long otherUserId, Supplier<T> operation) {
+        Long first = userId < otherUserId ? userId : otherUserId;
+        Long second = userId < otherUserId ? otherUserId : userId;
+        RLock firstLock = redissonClient.getLock(POINT_LOCK_PREFIX + first);
+        RLock secondLock = redissonClient.getLock(POINT_LOCK_PREFIX + second);
+
+        lock(firstLock, first);
+        try {
+            lock(secondLock, second);
+            try {
+                return operation.get();
+            } finally {
+                unlock(secondLock);
+            }
+        } finally {
+            unlock(firstLock);
+        }
+    }
+
+    private void lock(RLock lock, Long userId) {
+        try {
+            if (!lock.tryLock(LOCK_WAIT_TIME, LOCK_LEASE_TIME, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Failed to acquire lock for user: " + userId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Lock acquisition was interrupted", e);
+        }
+    }
+
+    private void unlock(RLock lock) {
+        if (lock.isHeldByCurrentThread()) {
+            lock.unlock();
+        }
+    }
+
+    // 락을 잡고 대기열 맨 앞(자기 작업)부터 최대 MAX_OPERATIONS_PER_LOCK개 실행, 남은 작업이 있으면 다음 요청에 head를 넘김
+    private void drain(Long userId) {
+        RLock lock = redissonClient.getLock(POINT_LOCK_PREFIX + userId);
+        boolean locked;
+        try {
+            locked = lock.tryLock(LOCK_WAIT_TIME, LOCK_LEASE_TIME, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failAll(userId, new IllegalStateException("Lock acquisition was interrupted", e));
+            return;
+        }
+        if (!locked) {
+            failAll(userId, new IllegalStateException("Failed to acquire lock for user: " + userId));
+            return;
+        }
+
+        boolean remaining = false;
+        try {
+            int executed = 0;
+            Task<?> next = poll(userId);
+            while (next != null) {
+                next.run();
+                executed++;
+                if (executed >= MAX_OPERATIONS_PER_LOCK || !lock.isHeldByCurrentThread()) {
+                    // 실행 수 제한에 도달했거나 락을 잃었으면 (Redis 장애 등) 남은 작업은 다음 head가 처리
+                    remaining = true;
+                    break;
+                }
+                next = poll(userId);
+            }
+        } finally {
+            unlock(lock);
+            if (remaining) {
+                handOff(userId);
+            }
+        }
+    }
+
+    // 다음 작업 (없으면 대기열 제거 -> 이후 요청이 새 head)
+    private Task<?> poll(Long userId) {
+        Object[] next = new Object[1];
+        queues.computeIfPresent(userId, (id, queue) -> {
+            next[0] = queue.poll();
+            return next[0] != null ? queue : null;
+        });
+        return (Task<?>) next[0];
+    }
+
+    // 대기열 맨 앞 작업의 스레드를 head로 지정 (대기열이 비었으면 제거 -> 이후 요청이 새 head)
+    private void handOff(Long userId) {
+        queues.computeIfPresent(userId, (id, queue) -> {
+            Task<?> next = queue.peek();
+            if (next == null) {
+                return null;
+            }
+            next.promote();
+            return queue;
+        });
+    }
+
+    // 대기열의 작업 모두 실패 처리 (자기 작업은 아직 대기열 맨 앞에 있음)
+    private void failAll(Long userId, RuntimeException cause) {
+        Queue<Task<?>> remaining = queues.remove(userId);
+        if (remaining != null) {
+            remaining.forEach(task -> task.fail(cause));
+        }
+    }
+
+    private static class Task<T> {
+        private final Supplier<T> operation;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final CompletableFuture<Void> turn = new CompletableFuture<>();  // head를 넘겨받으면 완료
+
+        Task(Supplier<T> operation) {
+            this.operation = operation;
+        }
+
+        void run() {
+            try {
+                result.complete(operation.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        void fail(RuntimeException cause) {
+            result.completeExceptionally(cause);
+        }
+
+        void promote() {
+            turn.complete(null);
+        }
+
+        // 결과가 나오거나 head를 넘겨받을 때까지 대기 (넘겨받았으면 true)
+        boolean awaitTurn() {
+            CompletableFuture.anyOf(result, turn).exceptionally(e -> null).join();
+            return !result.isDone();
+        }
+
+        T join() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package org.sky.haaneul.pointservice.service.v3;
+
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.sky.haaneul.pointservice.aop.PointMetered;
+import org.sky.haaneul.pointservice.domain.PointBalance;
+import org.sky.haaneul.pointservice.domain.PointType;
+import org.sky.haaneul.pointservice.dto.PointDto;
+import org.sky.haaneul.pointservice.repository.PointBalanceRepository;
+import org.sky.haaneul.pointservice.service.PointBalanceBuckets;
+import org.sky.haaneul.pointservice.service.PointBalanceNearCache;
+import org.sky.haaneul.pointservice.service.PointDailyAggregates;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 포인트 적립/사용 (Redis 잔액 기준, 락 X)
+ * 1. Lua 스크립트 하나로 잔액 확인 -> 증감 -> 포인트 원장 추가 -> 일별 집계 증가 (단일 round trip)
+ *    - 잔액 버킷, 원장, 일별 집계는 같은 파티션(hash tag)이므로 Redis Cluster에서도 한 스크립트로 실행
+ * 2. 잔액이 Redis에 없으면 DB에서 읽어 초기화 후 한 번 더 실행
+ * 3. Point 이력과 PointBalance는 PointLedgerWriter가 원장을 읽어 배치로 저장
+ * -> Redis 잔액이 기준이고 DB는 원장을 따라감 (같은 사용자에게 v2 적립/사용을 섞어 쓰지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+public class PointAtomicService {
+    private static final long INSUFFICIENT_BALANCE = -1L;
+    private static final long NOT_INITIALIZED = -3L;
+
+    // KEYS: balance, ledger, daily / ARGV: userId, delta, type, amount, description, createdAt
+    // 반환: {변경 후 잔액, 원장 entry ID} 또는 {실패 코드}
+    // 일별 집계 필드는 PointDailyAggregates.field와 같은 형식 ({userId}:{유형}, {userId}:NET)
+    private static final String APPLY_SCRIPT =
+            "local balance = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if not balance then return {-3} end " +
+            "local delta = tonumber(ARGV[2]) " +
+            "if tonumber(balance) + delta < 0 then return {-1} end " +
+            "local updated = redis.call('HINCRBY', KEYS[1], ARGV[1], delta) " +
+            "local id = redis.call('XADD', KEYS[2], '*', 'userId', ARGV[1], 'amount', ARGV[4], 'type', ARGV[3], " +
+            "  'description', ARGV[5], 'balanceSnapshot', updated, 'createdAt', ARGV[6]) " +
+            "redis.call('HINCRBY', KEYS[3], ARGV[1] .. ':' .. ARGV[3], ARGV[4]) " +
+            "redis.call('HINCRBY', KEYS[3], ARGV[1] .. ':NET', delta) " +
+            "return {updated, id}";
+
+    private final RedissonClient redissonClient;
+    private final PointBalanceRepository pointBalanceRepository;
+    private final PointBalanceBuckets pointBalanceBuckets;
+    private final PointBalanceNearCache pointBalanceNearCache;
+    private final PointDailyAggregates pointDailyAggregates;
+
+    @PointMetered(version = "v3")
+    public PointDto.LedgerResponse earnPoints(Long userId, Long amount, String description) {
+        return apply(userId, amount, PointType.EARNED, description);
+    }
+
+    @PointMetered(version = "v3")
+    public PointDto.LedgerResponse usePoints(Long userId, Long amount, String description) {
+        return apply(userId, amount, PointType.USED, description);
+    }
+
+    /**
+     * 포인트 잔액 조회 (near cache -> Redis, Redis에 없으면 DB에서 읽어 초기화)
+     */
+    public Long getBalance(Long userId) {
+        return pointBalanceNearCache.get(userId, () -> {
+            Long balance = pointBalanceBuckets.map(userId).get(String.valueOf(userId));
+            return balance != null ? balance : loadBalance(userId);
+        });
+    }
+
+    private PointDto.LedgerResponse apply(Long userId, Long amount, PointType type, String description) {
+        if (amount == null || amount <= 0) {
+            throw new IllegalArgumentException("Amount must be positive");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int partition = pointBalanceBuckets.partition(userId);
+        List<Object> result = eval(partition, userId, amount, type, description, now);
+        if (code(result) == NOT_INITIALIZED) {
+            loadBalance(userId);
+            result = eval(partition, userId, amount, type, description, now);
+        }
+
+        long code = code(result);
+        if (code == INSUFFICIENT_BALANCE) {
+            throw new IllegalArgumentException("Insufficient balance");
+        }
+        if (code == NOT_INITIALIZED) {
+            throw new IllegalStateException("Failed to load balance for user: " + userId);
+        }
+        pointBalanceNearCache.invalidate(userId);
+
+        return PointDto.LedgerResponse.builder()
+                .ledgerId(PointLedger.ledgerId(partition, (String) result.get(1)))
+                .userId(userId)
+                .amount(amount)
+                .type(type)
+                .description(description)
+                .balanceSnapshot(code)
+                .createdAt(now)
+                .build();
+    }
+
+    private List<Object> eval(int partition, Long userId, Long amount, PointType type, String description, LocalDateTime createdAt) {
+        long delta = type.signedAmount(amount);
+        return redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, APPLY_SCRIPT,
+                RScript.ReturnType.MULTI, List.of(pointBalanceBuckets.key(userId), pointBalanceBuckets.ledgerKey(partition),
+                        pointDailyAggregates.key(partition, createdAt.toLocalDate())),
+                String.valueOf(userId), String.valueOf(delta), type.name(), String.valueOf(amount),
+                description, createdAt.toString());
+    }
+
+    private Long loadBalance(Long userId) {
+        return pointBalanceBuckets.loadIfAbsent(userId, () -> pointBalanceRepository.findByUserId(userId)
+                .map(PointBalance::getBalance)
+                .orElse(0L));
+    }
+
+    private static long code(List<Object> result) {
+        return ((Number) result.get(0)).longValue();
+    }
+}
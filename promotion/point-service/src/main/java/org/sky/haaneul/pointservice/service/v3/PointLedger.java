@@ -0,0 +1,115 @@
+package org.sky.haaneul.pointservice.service.v3;
+
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.StreamMessageId;
+import org.sky.haaneul.pointservice.domain.PointType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 포인트 원장 entry를 DB에 저장
+ * - Point 이력은 JDBC batch INSERT, PointBalance는 사용자별 증감량을 합산해 한 번만 UPDATE
+ * - 잔액은 스냅샷이 아닌 증감량으로 반영하므로 재처리 순서가 바뀌어도 결과가 같음
+ * - 이미 저장된 entry(ledger_id)는 이력/잔액 모두 건너뜀 (재처리시 중복 반영 X)
+ * - entry ID는 파티션별 원장마다 따로 증가하므로 ledger_id는 "파티션:entry ID"
+ */
+@Service
+@RequiredArgsConstructor
+public class PointLedger {
+    private static final String INSERT_POINT_SQL = "INSERT INTO points " +
+            "(user_id, amount, type, description, balance_snapshot, version, point_balance_id, created_at, updated_at, ledger_id) " +
+            "VALUES (?, ?, ?, ?, ?, 0, (SELECT id FROM point_balances WHERE user_id = ?), ?, ?, ?)";
+    private static final String INSERT_BALANCE_SQL = "INSERT INTO point_balances " +
+            "(user_id, balance, version, created_at, updated_at) VALUES (?, 0, 0, ?, ?)";
+    private static final String UPDATE_BALANCE_SQL = "UPDATE point_balances " +
+            "SET balance = balance + ?, version = version + 1, updated_at = ? WHERE user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 원장 entry를 저장 (이미 저장된 entry는 건너뜀)
+     *
+     * @return 새로 저장된 이력 수
+     */
+    @Transactional
+    public int write(int partition, Map<StreamMessageId, Map<String, String>> entries) {
+        Set<String> written = findWrittenLedgerIds(partition, entries.keySet());
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Map<Long, Long> deltas = new TreeMap<>();  // 사용자 ID 순으로 UPDATE (행 락 순서 고정)
+        List<Object[]> rows = new ArrayList<>();
+        entries.forEach((id, entry) -> {
+            String ledgerId = ledgerId(partition, id.toString());
+            if (written.contains(ledgerId)) {
+                return;
+            }
+            Long userId = Long.valueOf(entry.get("userId"));
+            Long amount = Long.valueOf(entry.get("amount"));
+            PointType type = PointType.valueOf(entry.get("type"));
+            deltas.merge(userId, type.signedAmount(amount), Long::sum);
+            rows.add(new Object[]{
+                    userId,
+                    amount,
+                    type.name(),
+                    entry.get("description"),
+                    Long.valueOf(entry.get("balanceSnapshot")),
+                    userId,
+                    Timestamp.valueOf(LocalDateTime.parse(entry.get("createdAt"))),
+                    now,
+                    ledgerId
+            });
+        });
+
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        createMissingBalances(deltas.keySet(), now);
+        jdbcTemplate.batchUpdate(UPDATE_BALANCE_SQL, deltas.entrySet().stream()
+                .map(delta -> new Object[]{delta.getValue(), now, delta.getKey()})
+                .toList());
+        jdbcTemplate.batchUpdate(INSERT_POINT_SQL, rows);
+        return rows.size();
+    }
+
+    static String ledgerId(int partition, String entryId) {
+        return partition + ":" + entryId;
+    }
+
+    private void createMissingBalances(Collection<Long> userIds, Timestamp now) {
+        Set<Long> existing = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT user_id FROM point_balances WHERE user_id IN (" + placeholders(userIds.size()) + ")",
+                Long.class, userIds.toArray()));
+
+        List<Object[]> rows = userIds.stream()
+                .filter(userId -> !existing.contains(userId))
+                .map(userId -> new Object[]{userId, now, now})
+                .toList();
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_BALANCE_SQL, rows);
+        }
+    }
+
+    private Set<String> findWrittenLedgerIds(int partition, Set<StreamMessageId> ids) {
+        List<String> ledgerIds = ids.stream().map(id -> ledgerId(partition, id.toString())).toList();
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT ledger_id FROM points WHERE ledger_id IN (" + placeholders(ledgerIds.size()) + ")",
+                String.class, ledgerIds.toArray()));
+    }
+
+    private static String placeholders(int size) {
+        return String.join(",", Collections.nCopies(size, "?"));
+    }
+}
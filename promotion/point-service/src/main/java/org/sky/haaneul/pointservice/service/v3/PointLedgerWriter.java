@@ -0,0 +1,106 @@
+package org.sky.haaneul.pointservice.service.v3;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.AutoClaimResult;
+import org.redisson.api.RStream;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.api.stream.StreamCreateGroupArgs;
+import org.redisson.api.stream.StreamReadGroupArgs;
+import org.redisson.client.codec.StringCodec;
+import org.sky.haaneul.pointservice.service.PointBalanceBuckets;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 원장을 DB로 저장
+ * - 파티션별 원장(point:ledger:{파티션})을 차례로 처리
+ * - Consumer Group으로 읽으므로 여러 인스턴스가 나눠서 처리 (락 X)
+ * - 저장 후 ACK + 삭제, 저장 실패/인스턴스 종료로 ACK되지 않은 entry는 claim-idle-ms 이후 다시 가져와 재처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointLedgerWriter {
+    private static final String GROUP = "point-ledger-writer";
+    private static final int MAX_BATCHES_PER_RUN = 20;  // 한 주기에 파티션별로 처리할 최대 배치 수
+
+    private final RedissonClient redissonClient;
+    private final PointLedger pointLedger;
+    private final PointBalanceBuckets pointBalanceBuckets;
+
+    private final String consumerName = UUID.randomUUID().toString();
+    private final Set<String> groupCreated = ConcurrentHashMap.newKeySet();
+
+    @Value("${point.ledger.batch-size:500}")
+    private int batchSize;
+
+    @Value("${point.ledger.claim-idle-ms:30000}")
+    private long claimIdleMs;
+
+    @Scheduled(fixedDelayString = "${point.ledger.flush-interval-ms:200}")
+    public void drain() {
+        // 한 파티션의 저장 실패가 다른 파티션 처리를 막지 않음
+        for (int partition = 0; partition < pointBalanceBuckets.partitions(); partition++) {
+            drain(partition);
+        }
+    }
+
+    private void drain(int partition) {
+        String ledgerKey = pointBalanceBuckets.ledgerKey(partition);
+        RStream<String, String> ledger = redissonClient.getStream(ledgerKey, StringCodec.INSTANCE);
+        try {
+            createGroupIfAbsent(ledgerKey, ledger);
+
+            // 1. 처리되지 못하고 남은 entry 회수 (저장 실패, 다른 인스턴스 종료)
+            AutoClaimResult<String, String> claimed = ledger.autoClaim(
+                    GROUP, consumerName, claimIdleMs, TimeUnit.MILLISECONDS, StreamMessageId.MIN, batchSize);
+            write(partition, ledger, claimed.getMessages());
+
+            // 2. 새 entry
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                Map<StreamMessageId, Map<String, String>> entries = ledger.readGroup(
+                        GROUP, consumerName, StreamReadGroupArgs.neverDelivered().count(batchSize));
+                write(partition, ledger, entries);
+                if (entries.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to write point ledger: {}", ledgerKey, e);
+        }
+    }
+
+    private void write(int partition, RStream<String, String> ledger, Map<StreamMessageId, Map<String, String>> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        int written = pointLedger.write(partition, entries);
+        StreamMessageId[] ids = entries.keySet().toArray(new StreamMessageId[0]);
+        ledger.ack(GROUP, ids);
+        ledger.remove(ids);
+        log.debug("Point ledger written: {} / {}", written, entries.size());
+    }
+
+    private void createGroupIfAbsent(String ledgerKey, RStream<String, String> ledger) {
+        if (groupCreated.contains(ledgerKey)) {
+            return;
+        }
+        try {
+            ledger.createGroup(StreamCreateGroupArgs.name(GROUP).id(StreamMessageId.ALL).makeStream());
+        } catch (Exception e) {
+            // 다른 인스턴스가 이미 생성한 경우 (BUSYGROUP)
+            log.debug("Point ledger group already exists: {}", e.getMessage());
+        }
+        groupCreated.add(ledgerKey);
+    }
+}
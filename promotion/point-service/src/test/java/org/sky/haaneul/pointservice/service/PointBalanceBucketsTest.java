@@ -0,0 +1,226 @@
+package org.sky.haaneul.pointservice.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RMap;
+import org.redisson.api.RMapAsync;
+import org.redisson.api.RScript;
+import org.redisson.api.RScriptAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointBalanceBucketsTest {
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private RMap<String, String> legacy;
+    @Mock
+    private RMap<String, Long> bucket;
+    @Mock
+    private Supplier<Long> loader;
+    @Mock
+    private RBatch batch;
+    @Mock
+    private RScriptAsync script;
+    @Mock
+    private RMapAsync<Object, Object> pendingAsync;
+    @Mock
+    private RMapAsync<Object, Object> emptyPendingAsync;
+    @Mock
+    private RMap<String, Long> pending;
+    @Mock
+    private RFuture<Integer> pendingSize;
+    @Mock
+    private RFuture<Integer> emptyPendingSize;
+
+    private PointBalanceBuckets pointBalanceBuckets;
+
+    @BeforeEach
+    void setUp() {
+        pointBalanceBuckets = new PointBalanceBuckets(redissonClient);
+        ReflectionTestUtils.setField(pointBalanceBuckets, "buckets", 1024);
+        ReflectionTestUtils.setField(pointBalanceBuckets, "partitions", 16);
+    }
+
+    @Test
+    @DisplayName("버킷 선택 - 연속된 사용자 ID도 버킷에 고르게 분산")
+    void bucket_SpreadsSequentialIds() {
+        // given
+        Map<Integer, Integer> counts = new HashMap<>();
+
+        // when
+        for (long userId = 1; userId <= 102_400; userId++) {
+            counts.merge(pointBalanceBuckets.bucket(userId), 1, Integer::sum);
+        }
+
+        // then (버킷당 평균 100, listpack 한도 128 이하)
+        assertThat(counts).hasSize(1024);
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(90, 110));
+    }
+
+    @Test
+    @DisplayName("키 - 잔액 버킷과 원장은 같은 파티션 hash tag 사용")
+    void key_SharesHashTagWithLedger() {
+        // given
+        Long userId = 42L;
+        int bucket = pointBalanceBuckets.bucket(userId);
+        int partition = pointBalanceBuckets.partition(userId);
+
+        // when & then
+        assertThat(pointBalanceBuckets.key(userId)).isEqualTo("point:balance:{" + partition + "}:" + bucket);
+        assertThat(pointBalanceBuckets.ledgerKey(partition)).isEqualTo("point:ledger:{" + partition + "}");
+    }
+
+    @Test
+    @DisplayName("초기화 - 분할 전 Hash에 남은 잔액을 우선 사용")
+    void loadIfAbsent_UsesLegacyBalance() {
+        // given
+        given(redissonClient.<String, String>getMap(PointBalanceBuckets.LEGACY_KEY, StringCodec.INSTANCE)).willReturn(legacy);
+        given(legacy.get("1")).willReturn("1500");
+        given(redissonClient.<String, Long>getMap(eq(pointBalanceBuckets.key(1L)), any(Codec.class))).willReturn(bucket);
+
+        // when
+        Long balance = pointBalanceBuckets.loadIfAbsent(1L, loader);
+
+        // then
+        assertThat(balance).isEqualTo(1500L);
+        verify(bucket).putIfAbsent("1", 1500L);
+        verifyNoInteractions(loader);
+    }
+
+    @Test
+    @DisplayName("초기화 - 숫자가 아닌 이전 캐시 값은 무시하고 DB 값 사용, 먼저 초기화된 값이 있으면 유지")
+    void loadIfAbsent_FallsBackToLoader() {
+        // given
+        given(redissonClient.<String, String>getMap(PointBalanceBuckets.LEGACY_KEY, StringCodec.INSTANCE)).willReturn(legacy);
+        given(legacy.get("1")).willReturn("\u0009\u0002");
+        given(loader.get()).willReturn(300L);
+        given(redissonClient.<String, Long>getMap(eq(pointBalanceBuckets.key(1L)), any(Codec.class))).willReturn(bucket);
+        given(bucket.putIfAbsent("1", 300L)).willReturn(700L);
+
+        // when
+        Long balance = pointBalanceBuckets.loadIfAbsent(1L, loader);
+
+        // then
+        assertThat(balance).isEqualTo(700L);
+    }
+
+    @Test
+    @DisplayName("캐시 증감 - 사용자별 스크립트를 한 파이프라인으로 실행")
+    void applyDeltas_PipelinesScripts() {
+        // given
+        given(redissonClient.createBatch()).willReturn(batch);
+        given(batch.getScript(any(Codec.class))).willReturn(script);
+
+        // when
+        pointBalanceBuckets.applyDeltas(Map.of(1L, 100L, 2L, -50L));
+
+        // then
+        verify(script).evalAsync(eq(pointBalanceBuckets.key(1L)), eq(RScript.Mode.READ_WRITE), anyString(),
+                eq(RScript.ReturnType.INTEGER), eq(List.of(pointBalanceBuckets.key(1L))), eq("1"), eq("100"));
+        verify(script).evalAsync(eq(pointBalanceBuckets.key(2L)), eq(RScript.Mode.READ_WRITE), anyString(),
+                eq(RScript.ReturnType.INTEGER), eq(List.of(pointBalanceBuckets.key(2L))), eq("2"), eq("-50"));
+        verify(batch, times(1)).execute();
+    }
+
+    @Test
+    @DisplayName("캐시 증감 - 실패하면 다시 시도하고, 계속 실패하면 캐시를 지우지 않고 같은 파티션의 대기 Hash에 보관")
+    void applyDeltas_DefersToPendingHash() {
+        // given
+        given(redissonClient.createBatch()).willReturn(batch);
+        given(batch.getScript(any(Codec.class))).willReturn(script);
+        given(batch.getMap(anyString(), any(Codec.class))).willReturn(pendingAsync);
+        given(batch.execute())
+                .willThrow(new IllegalStateException("timeout"))
+                .willThrow(new IllegalStateException("timeout"))
+                .willThrow(new IllegalStateException("timeout"))
+                .willReturn(null);
+
+        // when
+        pointBalanceBuckets.applyDeltas(Map.of(1L, 100L));
+
+        // then
+        verify(batch, times(4)).execute();
+        verify(batch).getMap(eq(pointBalanceBuckets.pendingKey(1L)), any(Codec.class));
+        verify(pendingAsync).addAndGetAsync("1", 100L);
+        assertThat(pointBalanceBuckets.pendingKey(1L))
+                .isEqualTo("point:balance:{" + pointBalanceBuckets.partition(1L) + "}:pending");
+        assertThat(pointBalanceBuckets.failedDeltaCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("캐시 증감 - Redis에 보관하지도 못하면 메모리에 보관 후 재반영")
+    void applyDeltas_DefersInMemoryWhenRedisDown() {
+        // given
+        given(redissonClient.createBatch()).willReturn(batch);
+        given(batch.getScript(any(Codec.class))).willReturn(script);
+        given(batch.getMap(anyString(), any(Codec.class))).willReturn(pendingAsync);
+        given(batch.execute()).willThrow(new IllegalStateException("redis down"));
+
+        // when
+        pointBalanceBuckets.applyDeltas(Map.of(1L, 100L));
+
+        // then
+        verify(batch, times(4)).execute();
+        assertThat(pointBalanceBuckets.failedDeltaCount()).isEqualTo(1);
+
+        // when (Redis 복구 후 재반영, 대기 Hash는 비어 있음)
+        reset(batch);
+        given(batch.getScript(any(Codec.class))).willReturn(script);
+        given(batch.getMap(anyString(), any(Codec.class))).willReturn(emptyPendingAsync);
+        given(emptyPendingAsync.sizeAsync()).willReturn(emptyPendingSize);
+        given(emptyPendingSize.toCompletableFuture()).willReturn(CompletableFuture.completedFuture(0));
+        pointBalanceBuckets.retryFailedDeltas();
+
+        // then
+        verify(script).evalAsync(eq(pointBalanceBuckets.key(1L)), eq(RScript.Mode.READ_WRITE), anyString(),
+                eq(RScript.ReturnType.INTEGER), eq(List.of(pointBalanceBuckets.key(1L))), eq("1"), eq("100"));
+        assertThat(pointBalanceBuckets.failedDeltaCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("캐시 증감 재반영 - 대기 Hash가 있는 파티션만 사용자별로 꺼내면서 반영 (여러 인스턴스가 실행해도 한 번만 반영)")
+    void retryFailedDeltas_AppliesPendingDeltas() {
+        // given
+        String pendingKey = pointBalanceBuckets.pendingKey(1L);
+        given(redissonClient.createBatch()).willReturn(batch);
+        given(batch.getMap(anyString(), any(Codec.class))).willReturn(emptyPendingAsync);
+        given(batch.getMap(eq(pendingKey), any(Codec.class))).willReturn(pendingAsync);
+        given(emptyPendingAsync.sizeAsync()).willReturn(emptyPendingSize);
+        given(emptyPendingSize.toCompletableFuture()).willReturn(CompletableFuture.completedFuture(0));
+        given(pendingAsync.sizeAsync()).willReturn(pendingSize);
+        given(pendingSize.toCompletableFuture()).willReturn(CompletableFuture.completedFuture(1));
+        given(redissonClient.<String, Long>getMap(eq(pendingKey), any(Codec.class))).willReturn(pending);
+        given(pending.readAllKeySet()).willReturn(Set.of("1"));
+        given(batch.getScript(any(Codec.class))).willReturn(script);
+
+        // when
+        pointBalanceBuckets.retryFailedDeltas();
+
+        // then
+        verify(script).evalAsync(eq(pointBalanceBuckets.key(1L)), eq(RScript.Mode.READ_WRITE), anyString(),
+                eq(RScript.ReturnType.INTEGER), eq(List.of(pointBalanceBuckets.key(1L), pendingKey)), eq("1"));
+        verify(batch, times(2)).execute();
+    }
+}
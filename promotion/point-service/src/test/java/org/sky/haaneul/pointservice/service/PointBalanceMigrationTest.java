@@ -0,0 +1,86 @@
+package org.sky.haaneul.pointservice.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMap;
+import org.redisson.api.RMapAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointBalanceMigrationTest {
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private PointBalanceBuckets pointBalanceBuckets;
+    @Mock
+    private RMap<String, String> legacy;
+    @Mock
+    private RBatch batch;
+    @Mock
+    private RMapAsync<String, Long> bucket;
+
+    private PointBalanceMigration pointBalanceMigration;
+
+    @BeforeEach
+    void setUp() {
+        pointBalanceMigration = new PointBalanceMigration(redissonClient, pointBalanceBuckets);
+        ReflectionTestUtils.setField(pointBalanceMigration, "batchSize", 2);
+        given(redissonClient.<String, String>getMap(PointBalanceBuckets.LEGACY_KEY, StringCodec.INSTANCE)).willReturn(legacy);
+    }
+
+    @Test
+    @DisplayName("마이그레이션 - batch-size씩 버킷에 HSETNX 후 원래 Hash에서 삭제, 숫자가 아닌 값은 삭제만")
+    void migrate_MovesNumericBalances() {
+        // given
+        Map<String, String> entries = new LinkedHashMap<>();
+        entries.put("1", "100");
+        entries.put("2", "200");
+        entries.put("3", "\u0009\u0002");  // 기본 codec으로 저장된 이전 캐시
+        given(legacy.isExists()).willReturn(true);
+        given(legacy.entrySet(2)).willReturn(entries.entrySet());
+        given(redissonClient.createBatch()).willReturn(batch);
+        given(pointBalanceBuckets.key(anyLong())).willAnswer(invocation -> "point:balance:{0}:" + invocation.getArgument(0));
+        given(batch.<String, Long>getMap(anyString(), any(Codec.class))).willReturn(bucket);
+
+        // when
+        long migrated = pointBalanceMigration.migrate();
+
+        // then
+        assertThat(migrated).isEqualTo(2L);
+        verify(bucket).fastPutIfAbsentAsync("1", 100L);
+        verify(bucket).fastPutIfAbsentAsync("2", 200L);
+        verify(batch, times(1)).execute();
+        verify(legacy).fastRemove("1", "2");
+        verify(legacy).fastRemove("3");
+    }
+
+    @Test
+    @DisplayName("마이그레이션 - 분할 전 Hash가 없으면 아무것도 하지 않음")
+    void migrate_NothingToMigrate() {
+        // given
+        given(legacy.isExists()).willReturn(false);
+
+        // when
+        long migrated = pointBalanceMigration.migrate();
+
+        // then
+        assertThat(migrated).isZero();
+        verify(redissonClient, never()).createBatch();
+    }
+}
@@ -0,0 +1,184 @@
+package org.sky.haaneul.pointservice.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PointBalanceNearCacheTest {
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private RTopic topic;
+    @Captor
+    private ArgumentCaptor<MessageListener<String>> listener;
+
+    private PointBalanceNearCache pointBalanceNearCache;
+
+    @BeforeEach
+    void setUp() {
+        given(redissonClient.getTopic(PointBalanceNearCache.INVALIDATION_TOPIC, StringCodec.INSTANCE)).willReturn(topic);
+        pointBalanceNearCache = new PointBalanceNearCache(redissonClient);
+        ReflectionTestUtils.setField(pointBalanceNearCache, "ttlMs", 60_000L);
+        ReflectionTestUtils.setField(pointBalanceNearCache, "maxSize", 100);
+        pointBalanceNearCache.subscribe();
+    }
+
+    @Test
+    @DisplayName("조회 - TTL 안에서는 로컬 값 사용")
+    void get_UsesLocalEntry() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        Long first = pointBalanceNearCache.get(1L, () -> 1000L + loads.incrementAndGet());
+        Long second = pointBalanceNearCache.get(1L, () -> 1000L + loads.incrementAndGet());
+
+        // then
+        assertThat(first).isEqualTo(1001L);
+        assertThat(second).isEqualTo(1001L);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("조회 - 같은 사용자의 동시 조회는 한 번만 로드")
+    void get_CoalescesConcurrentLoads() throws Exception {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // when
+            Future<Long> first = executor.submit(() -> pointBalanceNearCache.get(1L, () -> {
+                loads.incrementAndGet();
+                started.countDown();
+                await(release);
+                return 500L;
+            }));
+            started.await(1, TimeUnit.SECONDS);
+            Future<Long> second = executor.submit(() -> pointBalanceNearCache.get(1L, () -> {
+                loads.incrementAndGet();
+                return 700L;
+            }));
+            release.countDown();
+
+            // then
+            assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo(500L);
+            assertThat(second.get(1, TimeUnit.SECONDS)).isEqualTo(500L);
+            assertThat(loads).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("무효화 - 로컬 삭제 후 다른 인스턴스에 전파")
+    void invalidate_EvictsAndPublishes() {
+        // given
+        pointBalanceNearCache.get(1L, () -> 1000L);
+
+        // when
+        pointBalanceNearCache.invalidate(List.of(1L, 2L));
+
+        // then
+        assertThat(pointBalanceNearCache.get(1L, () -> 300L)).isEqualTo(300L);
+        verify(topic).publish("1,2");
+    }
+
+    @Test
+    @DisplayName("무효화 - 로드 중에 무효화되면 로드한 값은 저장하지 않음")
+    void get_SkipsEntryInvalidatedWhileLoading() {
+        // given
+        Long loaded = pointBalanceNearCache.get(1L, () -> {
+            pointBalanceNearCache.invalidate(1L);
+            return 1000L;
+        });
+
+        // when
+        Long balance = pointBalanceNearCache.get(1L, () -> 300L);
+
+        // then
+        assertThat(loaded).isEqualTo(1000L);
+        assertThat(balance).isEqualTo(300L);
+    }
+
+    @Test
+    @DisplayName("무효화 - 로드 중에 다른 사용자가 무효화되어도 로드한 값은 저장")
+    void get_KeepsEntryWhenOtherUserInvalidated() {
+        // given
+        pointBalanceNearCache.get(1L, () -> {
+            pointBalanceNearCache.invalidate(2L);
+            return 1000L;
+        });
+
+        // when
+        Long balance = pointBalanceNearCache.get(1L, () -> 300L);
+
+        // then
+        assertThat(balance).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("저장 - max-size를 넘으면 가장 오래 조회되지 않은 항목부터 삭제")
+    void get_EvictsLeastRecentlyUsed() {
+        // given
+        ReflectionTestUtils.setField(pointBalanceNearCache, "maxSize", 2);
+        pointBalanceNearCache.get(1L, () -> 100L);
+        pointBalanceNearCache.get(2L, () -> 200L);
+        pointBalanceNearCache.get(1L, () -> -1L);  // 사용자 1 최근 조회
+
+        // when
+        pointBalanceNearCache.get(3L, () -> 300L);
+
+        // then
+        assertThat(pointBalanceNearCache.get(1L, () -> -1L)).isEqualTo(100L);
+        assertThat(pointBalanceNearCache.get(2L, () -> 201L)).isEqualTo(201L);
+    }
+
+    @Test
+    @DisplayName("무효화 - 다른 인스턴스의 메시지로 로컬 삭제")
+    void onMessage_EvictsLocalEntry() {
+        // given
+        verify(topic).addListener(eq(String.class), listener.capture());
+        pointBalanceNearCache.get(1L, () -> 1000L);
+
+        // when
+        listener.getValue().onMessage(PointBalanceNearCache.INVALIDATION_TOPIC, "1");
+
+        // then
+        assertThat(pointBalanceNearCache.get(1L, () -> 300L)).isEqualTo(300L);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.sky.haaneul.pointservice.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RBatch;
+import org.redisson.api.RLock;
+import org.redisson.api.RMapAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.sky.haaneul.pointservice.repository.PointBalanceRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointBalanceRebuilderTest {
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private PointBalanceRepository pointBalanceRepository;
+    @Mock
+    private PointCheckpointService pointCheckpointService;
+    @Mock
+    private PointBalanceBuckets pointBalanceBuckets;
+    @Mock
+    private RBatch batch;
+    @Mock
+    private RMapAsync<String, Long> bucket;
+    @Mock
+    private RLock lock;
+
+    private PointBalanceRebuilder pointBalanceRebuilder;
+
+    @BeforeEach
+    void setUp() {
+        pointBalanceRebuilder = new PointBalanceRebuilder(
+                redissonClient, pointBalanceRepository, pointCheckpointService, pointBalanceBuckets);
+        ReflectionTestUtils.setField(pointBalanceRebuilder, "pageSize", 2);
+    }
+
+    @Test
+    @DisplayName("캐시 재구성 - 사용자 page-size씩 계산한 잔액을 버킷에 HSETNX")
+    void rebuild_PagesUsers() {
+        // given
+        given(pointBalanceRepository.findUserIdsAfter(0L, PageRequest.of(0, 2))).willReturn(List.of(1L, 2L));
+        given(pointBalanceRepository.findUserIdsAfter(2L, PageRequest.of(0, 2))).willReturn(List.of(3L));
+        given(pointCheckpointService.getBalances(List.of(1L, 2L))).willReturn(Map.of(1L, 100L, 2L, 200L));
+        given(pointCheckpointService.getBalances(List.of(3L))).willReturn(Map.of(3L, 300L));
+        given(redissonClient.createBatch()).willReturn(batch);
+        given(pointBalanceBuckets.key(anyLong())).willAnswer(invocation -> "point:balance:{0}:" + invocation.getArgument(0));
+        given(batch.<String, Long>getMap(anyString(), any(Codec.class))).willReturn(bucket);
+
+        // when
+        long rebuilt = pointBalanceRebuilder.rebuild();
+
+        // then
+        assertThat(rebuilt).isEqualTo(3L);
+        verify(bucket).fastPutIfAbsentAsync("1", 100L);
+        verify(bucket).fastPutIfAbsentAsync("2", 200L);
+        verify(bucket).fastPutIfAbsentAsync("3", 300L);
+        verify(batch, times(2)).execute();
+    }
+
+    @Test
+    @DisplayName("비동기 재구성 - 다른 인스턴스가 실행 중(락 보유)이면 시작하지 않음")
+    void rebuildAsync_SkipsWhenLocked() {
+        // given
+        given(redissonClient.getLock("point:balance-rebuild:lock")).willReturn(lock);
+        given(lock.isLocked()).willReturn(true);
+
+        // when
+        boolean started = pointBalanceRebuilder.rebuildAsync();
+
+        // then
+        assertThat(started).isFalse();
+        verify(pointBalanceRepository, never()).findUserIdsAfter(anyLong(), any());
+    }
+}
@@ -0,0 +1,101 @@
+package org.sky.haaneul.pointservice.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.sky.haaneul.pointservice.domain.Point;
+import org.sky.haaneul.pointservice.repository.PointCheckpointRepository;
+import org.sky.haaneul.pointservice.repository.PointRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointCheckpointSchedulerTest {
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private PointRepository pointRepository;
+    @Mock
+    private PointCheckpointRepository pointCheckpointRepository;
+    @Mock
+    private PointCheckpointService pointCheckpointService;
+    @Mock
+    private RLock lock;
+    @Mock
+    private Point point;
+
+    private PointCheckpointScheduler pointCheckpointScheduler;
+
+    @BeforeEach
+    void setUp() {
+        pointCheckpointScheduler = new PointCheckpointScheduler(
+                redissonClient, pointRepository, pointCheckpointRepository, pointCheckpointService);
+        ReflectionTestUtils.setField(pointCheckpointScheduler, "pageSize", 2);
+        given(redissonClient.getLock(anyString())).willReturn(lock);
+    }
+
+    @Test
+    @DisplayName("체크포인트 - 마지막 실행 이후 이력이 있는 사용자를 page-size씩 처리")
+    void checkpointAll_PagesActiveUsers() {
+        // given
+        given(lock.tryLock()).willReturn(true);
+        given(lock.isHeldByCurrentThread()).willReturn(true);
+        given(pointCheckpointRepository.findMaxLastPointId()).willReturn(Optional.of(100L));
+        given(point.getId()).willReturn(200L);
+        given(pointRepository.findFirstByUpdatedAtBeforeOrderByIdDesc(any(LocalDateTime.class))).willReturn(Optional.of(point));
+        given(pointRepository.findActiveUserIds(100L, 200L, 0L, PageRequest.of(0, 2))).willReturn(List.of(1L, 2L));
+        given(pointRepository.findActiveUserIds(100L, 200L, 2L, PageRequest.of(0, 2))).willReturn(List.of(5L));
+
+        // when
+        pointCheckpointScheduler.checkpointAll();
+
+        // then
+        verify(pointCheckpointService).checkpoint(List.of(1L, 2L), 200L);
+        verify(pointCheckpointService).checkpoint(List.of(5L), 200L);
+        verify(lock).unlock();
+    }
+
+    @Test
+    @DisplayName("체크포인트 - 새 이력이 없으면 사용자 조회 X")
+    void checkpointAll_NoNewEvents() {
+        // given
+        given(lock.tryLock()).willReturn(true);
+        given(lock.isHeldByCurrentThread()).willReturn(true);
+        given(pointCheckpointRepository.findMaxLastPointId()).willReturn(Optional.of(200L));
+        given(point.getId()).willReturn(200L);
+        given(pointRepository.findFirstByUpdatedAtBeforeOrderByIdDesc(any(LocalDateTime.class))).willReturn(Optional.of(point));
+
+        // when
+        pointCheckpointScheduler.checkpointAll();
+
+        // then
+        verify(pointRepository, never()).findActiveUserIds(anyLong(), anyLong(), anyLong(), any());
+        verifyNoInteractions(pointCheckpointService);
+    }
+
+    @Test
+    @DisplayName("체크포인트 - 다른 인스턴스가 실행 중이면 건너뜀")
+    void checkpointAll_SkipsWhenLocked() {
+        // given
+        given(lock.tryLock()).willReturn(false);
+
+        // when
+        pointCheckpointScheduler.checkpointAll();
+
+        // then
+        verifyNoInteractions(pointRepository, pointCheckpointRepository, pointCheckpointService);
+    }
+}
@@ -0,0 +1,213 @@
+package org.sky.haaneul.pointservice.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.sky.haaneul.pointservice.domain.PointCheckpoint;
+import org.sky.haaneul.pointservice.domain.PointType;
+import org.sky.haaneul.pointservice.repository.PointCheckpointRepository;
+import org.sky.haaneul.pointservice.repository.PointEvent;
+import org.sky.haaneul.pointservice.repository.PointRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PointCheckpointServiceTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Mock
+    private PointRepository pointRepository;
+    @Mock
+    private PointCheckpointRepository pointCheckpointRepository;
+
+    private PointCheckpointService pointCheckpointService;
+
+    @BeforeEach
+    void setUp() {
+        pointCheckpointService = new PointCheckpointService(pointRepository, pointCheckpointRepository);
+    }
+
+    @Test
+    @DisplayName("특정 시점 잔액 - 이전 체크포인트 이후 이력만 반영")
+    void getBalanceAt_CheckpointPlusTail() {
+        // given
+        LocalDateTime at = NOW.plusHours(1);
+        given(pointCheckpointRepository.findFirstByUserIdAndCheckpointAtLessThanEqualOrderByLastPointIdDesc(1L, at))
+                .willReturn(Optional.of(checkpoint(1L, 1000L, 10L)));
+        given(pointRepository.findEventsAt(1L, 10L, at)).willReturn(List.of(
+                event(11L, 1L, 500L, PointType.EARNED, 1500L),
+                event(12L, 1L, 200L, PointType.USED, 1300L)
+        ));
+
+        // when
+        Long balance = pointCheckpointService.getBalanceAt(1L, at);
+
+        // then
+        assertThat(balance).isEqualTo(1300L);
+    }
+
+    @Test
+    @DisplayName("특정 시점 잔액 - 체크포인트가 없으면 처음부터, 취소는 원본 이력의 반대 방향으로 반영")
+    void getBalanceAt_WithoutCheckpoint() {
+        // given
+        given(pointCheckpointRepository.findFirstByUserIdAndCheckpointAtLessThanEqualOrderByLastPointIdDesc(1L, NOW))
+                .willReturn(Optional.empty());
+        given(pointRepository.findEventsAt(1L, 0L, NOW)).willReturn(List.of(
+                event(1L, 1L, 1000L, PointType.EARNED, 1000L),
+                event(2L, 1L, 300L, PointType.USED, 700L),
+                cancel(3L, 1L, 300L, 1000L, PointType.USED),  // 사용 취소
+                cancel(4L, 1L, 1000L, 0L, PointType.EARNED)  // 적립 취소
+        ));
+
+        // when
+        Long balance = pointCheckpointService.getBalanceAt(1L, NOW);
+
+        // then
+        assertThat(balance).isZero();
+    }
+
+    @Test
+    @DisplayName("특정 시점 잔액 - 취소 방향은 balanceSnapshot이 아닌 원본 이력으로 결정, 원본을 모르는 취소 이력만 balanceSnapshot 사용")
+    void getBalanceAt_CancelDirectionFromOriginal() {
+        // given
+        given(pointCheckpointRepository.findFirstByUserIdAndCheckpointAtLessThanEqualOrderByLastPointIdDesc(1L, NOW))
+                .willReturn(Optional.empty());
+        given(pointRepository.findEventsAt(1L, 0L, NOW)).willReturn(List.of(
+                event(1L, 1L, 1000L, PointType.EARNED, 1000L),
+                event(2L, 1L, 500L, PointType.USED, 500L),
+                cancel(3L, 1L, 500L, 0L, PointType.USED),  // 사용 취소 (snapshot이 어긋나도 +500)
+                event(4L, 1L, 200L, PointType.USED, 800L),
+                cancel(5L, 1L, 100L, 900L, null)  // 원본 ID 저장 전 취소 이력
+        ));
+
+        // when
+        Long balance = pointCheckpointService.getBalanceAt(1L, NOW);
+
+        // then
+        assertThat(balance).isEqualTo(900L);
+    }
+
+    @Test
+    @DisplayName("여러 사용자 잔액 - 사용자별 체크포인트 이후 이력만 반영")
+    void getBalances_PerUserCheckpoint() {
+        // given
+        List<Long> userIds = List.of(1L, 2L, 3L);
+        given(pointCheckpointRepository.findLatestByUserIdIn(userIds)).willReturn(List.of(
+                checkpoint(1L, 1000L, 10L),
+                checkpoint(2L, 500L, 5L)
+        ));
+        given(pointRepository.findEventsAfterCheckpoints(userIds, Long.MAX_VALUE)).willReturn(List.of(
+                event(8L, 1L, 100L, PointType.EARNED, 900L),  // 이력 조회 후 저장된 사용자 1의 체크포인트에 이미 반영
+                event(9L, 2L, 100L, PointType.USED, 400L),
+                event(11L, 1L, 100L, PointType.EARNED, 1100L)
+        ));
+
+        // when
+        Map<Long, Long> balances = pointCheckpointService.getBalances(userIds);
+
+        // then
+        assertThat(balances).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 1100L, 2L, 400L, 3L, 0L));
+    }
+
+    @Test
+    @DisplayName("체크포인트 저장 - 새 이력이 있는 사용자만 마지막 이력 기준으로 저장")
+    void checkpoint_SavesUsersWithNewEvents() {
+        // given
+        List<Long> userIds = List.of(1L, 2L);
+        given(pointCheckpointRepository.findLatestByUserIdIn(userIds)).willReturn(List.of(
+                checkpoint(1L, 1000L, 10L),
+                checkpoint(2L, 500L, 12L)
+        ));
+        given(pointRepository.findEventsAfterCheckpoints(userIds, 20L)).willReturn(List.of(
+                event(15L, 1L, 300L, PointType.USED, 700L)
+        ));
+
+        // when
+        int saved = pointCheckpointService.checkpoint(userIds, 20L);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PointCheckpoint>> captor = ArgumentCaptor.forClass(List.class);
+        verify(pointCheckpointRepository).saveAll(captor.capture());
+        assertThat(saved).isEqualTo(1);
+        assertThat(captor.getValue()).singleElement().satisfies(checkpoint -> {
+            assertThat(checkpoint.getUserId()).isEqualTo(1L);
+            assertThat(checkpoint.getBalance()).isEqualTo(700L);
+            assertThat(checkpoint.getLastPointId()).isEqualTo(15L);
+            assertThat(checkpoint.getCheckpointAt()).isEqualTo(NOW.plusMinutes(15));
+        });
+    }
+
+    private PointCheckpoint checkpoint(Long userId, Long balance, Long lastPointId) {
+        return PointCheckpoint.builder()
+                .userId(userId)
+                .balance(balance)
+                .lastPointId(lastPointId)
+                .checkpointAt(NOW.plusMinutes(lastPointId))
+                .build();
+    }
+
+    private PointEvent event(Long id, Long userId, Long amount, PointType type, Long balanceSnapshot) {
+        return event(id, userId, amount, type, balanceSnapshot, null);
+    }
+
+    private PointEvent cancel(Long id, Long userId, Long amount, Long balanceSnapshot, PointType originalType) {
+        return event(id, userId, amount, PointType.CANCELED, balanceSnapshot, originalType);
+    }
+
+    private PointEvent event(Long id, Long userId, Long amount, PointType type, Long balanceSnapshot, PointType originalType) {
+        return new PointEvent() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Long getAmount() {
+                return amount;
+            }
+
+            @Override
+            public PointType getType() {
+                return type;
+            }
+
+            @Override
+            public Long getBalanceSnapshot() {
+                return balanceSnapshot;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return NOW.plusMinutes(id);
+            }
+
+            @Override
+            public Long getOriginalPointId() {
+                return originalType != null ? id - 1 : null;
+            }
+
+            @Override
+            public PointType getOriginalType() {
+                return originalType;
+            }
+        };
+    }
+}
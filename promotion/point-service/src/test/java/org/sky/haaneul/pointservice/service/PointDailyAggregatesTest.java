@@ -0,0 +1,122 @@
+package org.sky.haaneul.pointservice.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMap;
+import org.redisson.api.RScript;
+import org.redisson.api.RScriptAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.sky.haaneul.pointservice.domain.PointType;
+import org.sky.haaneul.pointservice.dto.PointDto;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointDailyAggregatesTest {
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private RBatch batch;
+    @Mock
+    private RScriptAsync script;
+    @Mock
+    private RMap<String, Long> aggregates;
+
+    private PointBalanceBuckets pointBalanceBuckets;
+    private PointDailyAggregates pointDailyAggregates;
+
+    @BeforeEach
+    void setUp() {
+        pointBalanceBuckets = new PointBalanceBuckets(redissonClient);
+        ReflectionTestUtils.setField(pointBalanceBuckets, "buckets", 1024);
+        ReflectionTestUtils.setField(pointBalanceBuckets, "partitions", 16);
+        pointDailyAggregates = new PointDailyAggregates(redissonClient, pointBalanceBuckets);
+    }
+
+    @Test
+    @DisplayName("키 - 잔액 버킷/원장과 같은 파티션 hash tag 사용")
+    void key_SharesHashTagWithLedger() {
+        // given
+        int partition = pointBalanceBuckets.partition(42L);
+
+        // when & then
+        assertThat(pointDailyAggregates.key(42L, TODAY)).isEqualTo("point:daily:{" + partition + "}:" + TODAY);
+    }
+
+    @Test
+    @DisplayName("집계 - 사용자별 유형/NET 필드 증가를 한 파이프라인으로 실행")
+    void record_PipelinesIncrements() {
+        // given
+        given(redissonClient.createBatch()).willReturn(batch);
+        given(batch.getScript(any(Codec.class))).willReturn(script);
+
+        // when
+        pointDailyAggregates.record(PointType.EARNED, Map.of(1L, 100L, 2L, 200L));
+
+        // then
+        String key = pointDailyAggregates.key(1L, TODAY);
+        verify(script).evalAsync(eq(key), eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER),
+                eq(List.of(key)), eq("1:EARNED"), eq("100"), eq("1:NET"), eq("100"));
+        verify(script, times(2)).evalAsync(anyString(), any(), anyString(), any(), anyList(), any(), any(), any(), any());
+        verify(batch, times(1)).execute();
+    }
+
+    @Test
+    @DisplayName("집계 - 트랜잭션 밖에서는 바로 증가, 사용은 NET 차감")
+    void recordAfterCommit_WithoutTransaction() {
+        // given
+        given(redissonClient.createBatch()).willReturn(batch);
+        given(batch.getScript(any(Codec.class))).willReturn(script);
+
+        // when
+        pointDailyAggregates.recordAfterCommit(1L, PointType.USED, 300L, -300L);
+
+        // then
+        verify(script).evalAsync(anyString(), eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER),
+                anyList(), eq("1:USED"), eq("300"), eq("1:NET"), eq("-300"));
+    }
+
+    @Test
+    @DisplayName("집계 - 만료/선물은 집계 X")
+    void record_SkipsUnaggregatedTypes() {
+        // when
+        pointDailyAggregates.recordAfterCommit(1L, PointType.EXPIRED, 100L, -100L);
+        pointDailyAggregates.recordAfterCommit(1L, PointType.TRANSFERRED_IN, 100L, 100L);
+
+        // then
+        verify(redissonClient, never()).createBatch();
+    }
+
+    @Test
+    @DisplayName("조회 - 집계 중인 날짜의 사용자 필드를 리포트로 변환")
+    void get_FromAggregates() {
+        // given
+        given(redissonClient.<String, Long>getMap(eq(pointDailyAggregates.key(1L, TODAY)), any(Codec.class))).willReturn(aggregates);
+        given(aggregates.getAll(anySet())).willReturn(Map.of("1:EARNED", 1000L, "1:USED", 300L, "1:NET", 700L));
+
+        // when
+        PointDto.DailyReportResponse report = pointDailyAggregates.get(1L, TODAY);
+
+        // then
+        assertThat(report.getEarnAmount()).isEqualTo(1000L);
+        assertThat(report.getUseAmount()).isEqualTo(300L);
+        assertThat(report.getCancelAmount()).isZero();
+        assertThat(report.getNetAmount()).isEqualTo(700L);
+    }
+}
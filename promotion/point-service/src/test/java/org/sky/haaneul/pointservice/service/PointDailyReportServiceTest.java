@@ -0,0 +1,164 @@
+package org.sky.haaneul.pointservice.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.sky.haaneul.pointservice.domain.DailyPointReport;
+import org.sky.haaneul.pointservice.dto.PointDto;
+import org.sky.haaneul.pointservice.repository.DailyPointReportRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointDailyReportServiceTest {
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 19);
+    private static final LocalDate YESTERDAY = TODAY.minusDays(1);
+
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private DailyPointReportRepository dailyPointReportRepository;
+    @Mock
+    private PointDailyAggregates pointDailyAggregates;
+    @Mock
+    private PointBalanceBuckets pointBalanceBuckets;
+    @Mock
+    private RMap<String, Long> yesterday;
+    @Mock
+    private RMap<String, Long> older;
+    @Captor
+    private ArgumentCaptor<List<Object[]>> rows;
+
+    private PointDailyReportService pointDailyReportService;
+
+    @BeforeEach
+    void setUp() {
+        pointDailyReportService = new PointDailyReportService(redissonClient, jdbcTemplate, dailyPointReportRepository,
+                pointDailyAggregates, pointBalanceBuckets);
+        ReflectionTestUtils.setField(pointDailyReportService, "lookbackDays", 2);
+        ReflectionTestUtils.setField(pointDailyReportService, "pageSize", 1000);
+    }
+
+    @Test
+    @DisplayName("조회 - 집계 중인 날짜는 Redis 집계 사용")
+    void getReport_FromAggregates() {
+        // given
+        PointDto.DailyReportResponse aggregated = PointDto.DailyReportResponse.builder()
+                .userId(1L).reportDate(TODAY).earnAmount(100L).useAmount(0L).cancelAmount(0L).netAmount(100L).build();
+        given(pointDailyAggregates.get(1L, TODAY)).willReturn(aggregated);
+
+        // when
+        PointDto.DailyReportResponse report = pointDailyReportService.getReport(1L, TODAY);
+
+        // then
+        assertThat(report).isSameAs(aggregated);
+        verifyNoInteractions(dailyPointReportRepository);
+    }
+
+    @Test
+    @DisplayName("조회 - 저장된 날짜는 DB 리포트, 기록이 없으면 0")
+    void getReport_FromDatabase() {
+        // given
+        given(dailyPointReportRepository.findByUserIdAndReportDate(1L, YESTERDAY)).willReturn(Optional.of(
+                DailyPointReport.builder().userId(1L).reportDate(YESTERDAY)
+                        .earnAmount(500L).useAmount(200L).cancelAmount(0L).netAmount(300L).build()));
+        given(dailyPointReportRepository.findByUserIdAndReportDate(2L, YESTERDAY)).willReturn(Optional.empty());
+
+        // when
+        PointDto.DailyReportResponse saved = pointDailyReportService.getReport(1L, YESTERDAY);
+        PointDto.DailyReportResponse empty = pointDailyReportService.getReport(2L, YESTERDAY);
+
+        // then
+        assertThat(saved.getNetAmount()).isEqualTo(300L);
+        assertThat(empty.getEarnAmount()).isZero();
+        assertThat(empty.getNetAmount()).isZero();
+    }
+
+    @Test
+    @DisplayName("저장 - 지난 날짜의 사용자별 집계를 MERGE, 키는 삭제하지 않고 만료 시각 지정")
+    void flush_UpsertsClosedDays() {
+        // given
+        given(pointBalanceBuckets.partitions()).willReturn(1);
+        given(pointDailyAggregates.map(0, TODAY.minusDays(2))).willReturn(older);
+        given(pointDailyAggregates.map(0, YESTERDAY)).willReturn(yesterday);
+        Map<String, Long> fields = new LinkedHashMap<>();
+        fields.put("2:EARNED", 1000L);
+        fields.put("2:NET", 1000L);
+        fields.put("1:EARNED", 500L);
+        fields.put("1:CANCELED", 500L);
+        fields.put("1:NET", 0L);
+        given(older.entrySet(1000)).willReturn(Map.<String, Long>of().entrySet());
+        given(yesterday.entrySet(1000)).willReturn(fields.entrySet());
+        given(yesterday.remainTimeToLive()).willReturn(-1L);
+
+        // when
+        int saved = pointDailyReportService.flush(TODAY);
+
+        // then
+        assertThat(saved).isEqualTo(2);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertThat(rows.getValue()).hasSize(2);
+        assertThat(rows.getValue().get(0)).startsWith(1L, Date.valueOf(YESTERDAY), 500L, null, 500L, 0L);
+        assertThat(rows.getValue().get(1)).startsWith(2L, Date.valueOf(YESTERDAY), 1000L, null, null, 1000L);
+        verify(yesterday).expire(Duration.ofDays(2));
+        verify(yesterday, never()).fastRemove(any(String[].class));
+        verify(older, never()).expire(any(Duration.class));
+        verify(pointDailyAggregates, never()).map(0, TODAY);
+    }
+
+    @Test
+    @DisplayName("저장 - page-size 필드씩 전체 합계로 덮어씀(없는 필드는 유지), 다시 저장해도 결과가 같고 만료 시각은 연장 X")
+    void flush_OverwritesPagesIdempotently() {
+        // given
+        ReflectionTestUtils.setField(pointDailyReportService, "lookbackDays", 1);
+        ReflectionTestUtils.setField(pointDailyReportService, "pageSize", 2);
+        given(pointBalanceBuckets.partitions()).willReturn(1);
+        given(pointDailyAggregates.map(0, YESTERDAY)).willReturn(yesterday);
+        Map<String, Long> fields = new LinkedHashMap<>();
+        fields.put("1:EARNED", 500L);
+        fields.put("2:EARNED", 1000L);
+        fields.put("1:NET", 500L);
+        given(yesterday.entrySet(2)).willReturn(fields.entrySet());
+        given(yesterday.remainTimeToLive()).willReturn(-1L, 86_400_000L);  // 두 번째 실행은 이미 만료 시각 있음
+
+        // when
+        pointDailyReportService.flush(TODAY);
+        int saved = pointDailyReportService.flush(TODAY);
+
+        // then
+        assertThat(saved).isEqualTo(3);
+        verify(jdbcTemplate, times(4)).batchUpdate(argThat((String sql) -> sql.contains("earn_amount = COALESCE(s.earn_amount, r.earn_amount)")),
+                rows.capture());
+        // 두 실행 모두 같은 값(더하지 않음)을 저장
+        for (int run = 0; run < 2; run++) {
+            assertThat(rows.getAllValues().get(run * 2)).hasSize(2);
+            assertThat(rows.getAllValues().get(run * 2).get(0)).startsWith(1L, Date.valueOf(YESTERDAY), 500L, null, null, null);
+            assertThat(rows.getAllValues().get(run * 2 + 1)).singleElement()
+                    .satisfies(row -> assertThat(row).startsWith(1L, Date.valueOf(YESTERDAY), null, null, null, 500L));
+        }
+        verify(yesterday, times(1)).expire(Duration.ofDays(2));
+        verify(yesterday, never()).fastRemove(any(String[].class));
+    }
+}
@@ -0,0 +1,131 @@
+package org.sky.haaneul.pointservice.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.sky.haaneul.pointservice.domain.PointLot;
+import org.sky.haaneul.pointservice.repository.PointLotRepository;
+import org.sky.haaneul.pointservice.repository.PointRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointExpirySchedulerTest {
+    private static final LocalDate TODAY = LocalDate.of(2024, 1, 10);
+
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private PointRepository pointRepository;
+    @Mock
+    private PointLotRepository pointLotRepository;
+    @Mock
+    private PointLotIndexer pointLotIndexer;
+    @Mock
+    private PointExpiryWriter pointExpiryWriter;
+    @Mock
+    private PointBalanceBuckets pointBalanceBuckets;
+    @Mock
+    private PointBalanceNearCache pointBalanceNearCache;
+    @Mock
+    private RLock lock;
+
+    private PointExpiryScheduler pointExpiryScheduler;
+
+    @BeforeEach
+    void setUp() {
+        pointExpiryScheduler = new PointExpiryScheduler(redissonClient, pointRepository, pointLotRepository,
+                pointLotIndexer, pointExpiryWriter, pointBalanceBuckets, pointBalanceNearCache);
+        ReflectionTestUtils.setField(pointExpiryScheduler, "pageSize", 2);
+    }
+
+    private PointLot lot(Long id) {
+        PointLot lot = PointLot.builder()
+                .userId(id)
+                .pointId(id)
+                .amount(100L)
+                .build();
+        ReflectionTestUtils.setField(lot, "id", id);
+        return lot;
+    }
+
+    @Test
+    @DisplayName("만료 - 오늘까지의 만료일 버킷을 오래된 순으로 page-size씩 만료하고 캐시 반영")
+    void expire_SweepsBucketsInOrder() {
+        // given
+        LocalDate first = TODAY.minusDays(2);
+        given(pointLotRepository.findOldestExpireOn())
+                .willReturn(Optional.of(first), Optional.of(TODAY), Optional.of(TODAY.plusDays(1)));
+        given(pointLotRepository.findByExpireOnAndIdGreaterThanOrderByIdAsc(first, 0L, PageRequest.of(0, 2)))
+                .willReturn(List.of(lot(1L), lot(2L)));
+        given(pointLotRepository.findByExpireOnAndIdGreaterThanOrderByIdAsc(first, 2L, PageRequest.of(0, 2)))
+                .willReturn(List.of());
+        given(pointLotRepository.findByExpireOnAndIdGreaterThanOrderByIdAsc(TODAY, 0L, PageRequest.of(0, 2)))
+                .willReturn(List.of(lot(7L)));
+        given(pointBalanceBuckets.getBalances(Set.of(7L))).willReturn(Map.of(7L, 500L));
+        given(pointExpiryWriter.expire(anyList(), anyMap())).willReturn(Map.of(1L, -100L, 2L, -100L), Map.of(7L, -100L));
+
+        // when
+        long expired = pointExpiryScheduler.expire(TODAY);
+
+        // then
+        assertThat(expired).isEqualTo(3L);
+        verify(pointBalanceBuckets).applyDeltas(Map.of(1L, -100L, 2L, -100L));
+        verify(pointBalanceBuckets).applyDeltas(Map.of(7L, -100L));
+        verify(pointExpiryWriter).expire(anyList(), eq(Map.of(7L, 500L)));  // 만료 한도는 Redis 잔액 기준
+        verify(pointBalanceNearCache).invalidate(Map.of(7L, -100L).keySet());
+        verify(pointLotRepository, never()).findByExpireOnAndIdGreaterThanOrderByIdAsc(eq(TODAY.plusDays(1)), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("만료 - 만료하지 못한 묶음이 남은 버킷에서 멈춤 (무한 반복 X)")
+    void expire_StopsOnStuckBucket() {
+        // given
+        given(pointLotRepository.findOldestExpireOn()).willReturn(Optional.of(TODAY));
+        given(pointLotRepository.findByExpireOnAndIdGreaterThanOrderByIdAsc(TODAY, 0L, PageRequest.of(0, 2)))
+                .willReturn(List.of(lot(1L)));
+        given(pointExpiryWriter.expire(anyList(), anyMap())).willReturn(Map.of());
+
+        // when
+        long expired = pointExpiryScheduler.expire(TODAY);
+
+        // then
+        assertThat(expired).isZero();
+        verify(pointLotRepository, times(2)).findOldestExpireOn();
+    }
+
+    @Test
+    @DisplayName("묶음 반영 - upToId까지 page-size씩 반복")
+    void indexLots_RepeatsUntilCaughtUp() {
+        // given
+        given(redissonClient.getLock(anyString())).willReturn(lock);
+        given(lock.tryLock()).willReturn(true);
+        given(lock.isHeldByCurrentThread()).willReturn(true);
+        given(pointRepository.findFirstByUpdatedAtBeforeOrderByIdDesc(any(LocalDateTime.class))).willReturn(Optional.empty());
+        given(pointLotIndexer.index(0L)).willReturn(2, 2, 1);
+
+        // when
+        pointExpiryScheduler.indexLots();
+
+        // then
+        verify(pointLotIndexer, times(3)).index(0L);
+        verify(lock).unlock();
+    }
+}
@@ -0,0 +1,112 @@
+package org.sky.haaneul.pointservice.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.sky.haaneul.pointservice.domain.PointLot;
+import org.sky.haaneul.pointservice.domain.PointType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointExpiryWriterTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private PointExpiryWriter pointExpiryWriter;
+
+    @BeforeEach
+    void setUp() {
+        pointExpiryWriter = new PointExpiryWriter(jdbcTemplate);
+    }
+
+    private PointLot lot(Long id, Long userId, Long remaining) {
+        PointLot lot = PointLot.builder()
+                .userId(userId)
+                .pointId(id)
+                .amount(100L)
+                .remaining(remaining)
+                .expireOn(LocalDate.of(2024, 1, 1))
+                .build();
+        ReflectionTestUtils.setField(lot, "id", id);
+        return lot;
+    }
+
+    @Test
+    @DisplayName("만료 - 변경되지 않은 묶음만 만료, 사용자별 합산해 잔액 이내로 차감하고 만료 이력 저장")
+    @SuppressWarnings("unchecked")
+    void expire_DeductsPerUser() {
+        // given
+        List<PointLot> lots = List.of(lot(1L, 1L, 100L), lot(2L, 1L, 50L), lot(3L, 2L, 30L), lot(4L, 3L, 0L));
+        given(jdbcTemplate.batchUpdate(startsWith("UPDATE point_lots"), anyList())).willReturn(new int[]{1, 1, 0});
+        given(jdbcTemplate.query(contains("FOR UPDATE"), any(RowMapper.class), any(Object[].class)))
+                .willReturn(List.of(Map.entry(1L, 120L)));
+
+        // when
+        Map<Long, Long> deltas = pointExpiryWriter.expire(lots, Map.of());
+
+        // then
+        assertThat(deltas).containsExactly(Map.entry(1L, -120L));
+
+        ArgumentCaptor<List<Object[]>> expiredLots = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE point_lots"), expiredLots.capture());
+        assertThat(expiredLots.getValue()).extracting(row -> row[1]).containsExactly(1L, 2L, 3L);
+
+        ArgumentCaptor<List<Object[]>> balances = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE point_balances"), balances.capture());
+        assertThat(balances.getValue()).singleElement().satisfies(row -> assertThat(row[0]).isEqualTo(120L));
+
+        ArgumentCaptor<List<Object[]>> points = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO points"), points.capture());
+        assertThat(points.getValue()).singleElement().satisfies(row -> {
+            assertThat(row[2]).isEqualTo(PointType.EXPIRED.name());
+            assertThat(row[4]).isEqualTo(0L);
+        });
+    }
+
+    @Test
+    @DisplayName("만료 - Redis 잔액이 있으면 원장보다 늦은 DB 잔액 대신 Redis 잔액 이내로 차감")
+    @SuppressWarnings("unchecked")
+    void expire_CapsByCurrentBalance() {
+        // given
+        List<PointLot> lots = List.of(lot(1L, 1L, 100L), lot(2L, 1L, 50L));
+        given(jdbcTemplate.batchUpdate(startsWith("UPDATE point_lots"), anyList())).willReturn(new int[]{1, 1});
+        given(jdbcTemplate.query(contains("FOR UPDATE"), any(RowMapper.class), any(Object[].class)))
+                .willReturn(List.of(Map.entry(1L, 120L)));
+
+        // when
+        Map<Long, Long> deltas = pointExpiryWriter.expire(lots, Map.of(1L, 300L));
+
+        // then
+        assertThat(deltas).containsExactly(Map.entry(1L, -150L));
+
+        ArgumentCaptor<List<Object[]>> points = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO points"), points.capture());
+        assertThat(points.getValue()).singleElement().satisfies(row -> assertThat(row[4]).isEqualTo(150L));
+    }
+
+    @Test
+    @DisplayName("만료 - 남은 포인트가 없는 묶음만 있으면 아무것도 하지 않음")
+    void expire_NothingRemaining() {
+        // when
+        Map<Long, Long> deltas = pointExpiryWriter.expire(List.of(lot(4L, 3L, 0L)), Map.of());
+
+        // then
+        assertThat(deltas).isEmpty();
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,126 @@
+package org.sky.haaneul.pointservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.sky.haaneul.pointservice.domain.PointType;
+import org.sky.haaneul.pointservice.dto.PointDto;
+import org.sky.haaneul.pointservice.repository.PointHistory;
+import org.sky.haaneul.pointservice.repository.PointRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointHistoryServiceTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private PointRepository pointRepository;
+    @Mock
+    private RBucket<String> bucket;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private PointHistoryService pointHistoryService;
+
+    @BeforeEach
+    void setUp() {
+        pointHistoryService = new PointHistoryService(redissonClient, pointRepository, objectMapper);
+        ReflectionTestUtils.setField(pointHistoryService, "defaultSize", 2);
+        ReflectionTestUtils.setField(pointHistoryService, "cacheTtlMs", 5000L);
+    }
+
+    @Test
+    @DisplayName("이력 조회 - 첫 페이지는 DB 조회 후 캐시, 다음 페이지 커서 반환")
+    void getHistory_FirstPageCached() {
+        // given
+        given(redissonClient.<String>getBucket(eq("point:history:1"), any(Codec.class))).willReturn(bucket);
+        given(pointRepository.findHistory(1L, PageRequest.of(0, 3))).willReturn(List.of(
+                history(30L, NOW), history(20L, NOW), history(10L, NOW.minusDays(1))));
+
+        // when
+        PointDto.HistoryPage page = pointHistoryService.getHistory(1L, null, null);
+
+        // then
+        assertThat(page.getItems()).extracting(PointDto.Response::getId).containsExactly(30L, 20L);
+        assertThat(page.getNextCursor()).isNotNull();
+        verify(bucket).set(anyString(), eq(Duration.ofMillis(5000L)));
+    }
+
+    @Test
+    @DisplayName("이력 조회 - 캐시된 첫 페이지가 있으면 DB 조회 X")
+    void getHistory_CacheHit() throws Exception {
+        // given
+        PointDto.HistoryPage cached = PointDto.HistoryPage.builder()
+                .items(List.of(PointDto.Response.from(history(30L, NOW))))
+                .build();
+        given(redissonClient.<String>getBucket(eq("point:history:1"), any(Codec.class))).willReturn(bucket);
+        given(bucket.get()).willReturn(objectMapper.writeValueAsString(cached));
+
+        // when
+        PointDto.HistoryPage page = pointHistoryService.getHistory(1L, null, null);
+
+        // then
+        assertThat(page.getItems()).extracting(PointDto.Response::getId).containsExactly(30L);
+        verifyNoInteractions(pointRepository);
+    }
+
+    @Test
+    @DisplayName("이력 조회 - 커서 이후 페이지는 (createdAt, id) 기준으로 조회, 마지막 페이지는 커서 없음")
+    void getHistory_NextPageByCursor() {
+        // given
+        given(redissonClient.<String>getBucket(anyString(), any(Codec.class))).willReturn(bucket);
+        given(pointRepository.findHistory(1L, PageRequest.of(0, 3))).willReturn(List.of(
+                history(30L, NOW), history(20L, NOW), history(10L, NOW.minusDays(1))));
+        String cursor = pointHistoryService.getHistory(1L, null, null).getNextCursor();
+        given(pointRepository.findHistoryBefore(1L, NOW, 20L, PageRequest.of(0, 3)))
+                .willReturn(List.of(history(10L, NOW.minusDays(1))));
+
+        // when
+        PointDto.HistoryPage page = pointHistoryService.getHistory(1L, cursor, null);
+
+        // then
+        assertThat(page.getItems()).extracting(PointDto.Response::getId).containsExactly(10L);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("이력 조회 - 잘못된 커서는 실패")
+    void getHistory_InvalidCursor() {
+        // when & then
+        assertThatThrownBy(() -> pointHistoryService.getHistory(1L, "invalid", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid cursor");
+    }
+
+    private PointHistory history(Long id, LocalDateTime createdAt) {
+        PointHistory history = mock(PointHistory.class);
+        lenient().when(history.getId()).thenReturn(id);
+        lenient().when(history.getUserId()).thenReturn(1L);
+        lenient().when(history.getAmount()).thenReturn(100L);
+        lenient().when(history.getType()).thenReturn(PointType.EARNED);
+        lenient().when(history.getDescription()).thenReturn("test");
+        lenient().when(history.getBalanceSnapshot()).thenReturn(100L);
+        lenient().when(history.getCreatedAt()).thenReturn(createdAt);
+        return history;
+    }
+}
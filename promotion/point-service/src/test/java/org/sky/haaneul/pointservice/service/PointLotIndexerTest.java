@@ -0,0 +1,166 @@
+package org.sky.haaneul.pointservice.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.sky.haaneul.pointservice.domain.PointLot;
+import org.sky.haaneul.pointservice.domain.PointLotProgress;
+import org.sky.haaneul.pointservice.domain.PointType;
+import org.sky.haaneul.pointservice.repository.PointEvent;
+import org.sky.haaneul.pointservice.repository.PointLotProgressRepository;
+import org.sky.haaneul.pointservice.repository.PointLotRepository;
+import org.sky.haaneul.pointservice.repository.PointRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Date;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointLotIndexerTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PointRepository pointRepository;
+    @Mock
+    private PointLotRepository pointLotRepository;
+    @Mock
+    private PointLotProgressRepository pointLotProgressRepository;
+
+    private PointLotIndexer pointLotIndexer;
+    private PointLotProgress progress;
+
+    @BeforeEach
+    void setUp() {
+        pointLotIndexer = new PointLotIndexer(jdbcTemplate, pointRepository, pointLotRepository, pointLotProgressRepository);
+        ReflectionTestUtils.setField(pointLotIndexer, "validityDays", 30);
+        ReflectionTestUtils.setField(pointLotIndexer, "pageSize", 100);
+        progress = PointLotProgress.start();
+        progress.advance(10L);
+        given(pointLotProgressRepository.findById(PointLotProgress.ID)).willReturn(Optional.of(progress));
+    }
+
+    @Test
+    @DisplayName("묶음 반영 - 적립은 묶음 추가, 사용은 만료일이 빠른 묶음부터 차감, 사용 취소는 새 묶음")
+    @SuppressWarnings("unchecked")
+    void index_AppliesEventsFifo() {
+        // given
+        PointLot existing = PointLot.builder()
+                .userId(1L)
+                .pointId(1L)
+                .amount(50L)
+                .expireOn(NOW.toLocalDate().plusDays(10))
+                .build();
+        ReflectionTestUtils.setField(existing, "id", 5L);
+        given(pointRepository.findEventsAfter(10L, 20L, PageRequest.of(0, 100))).willReturn(List.of(
+                event(11L, 100L, PointType.EARNED, 150L),
+                event(12L, 80L, PointType.USED, 70L),
+                cancel(13L, 20L, 90L, 12L, PointType.USED)  // 사용 취소
+        ));
+        given(pointLotRepository.findOpenLots(anyCollection())).willReturn(List.of(existing));
+
+        // when
+        int indexed = pointLotIndexer.index(20L);
+
+        // then
+        assertThat(indexed).isEqualTo(3);
+        assertThat(progress.getLastPointId()).isEqualTo(13L);
+
+        ArgumentCaptor<List<Object[]>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO point_lots"), inserted.capture());
+        assertThat(inserted.getValue()).extracting(row -> row[1], row -> row[3])
+                .containsExactly(tuple(11L, 70L), tuple(13L, 20L));
+        assertThat(inserted.getValue().get(0)[4]).isEqualTo(Date.valueOf(NOW.toLocalDate().plusDays(30)));
+
+        ArgumentCaptor<List<Object[]>> updated = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE point_lots"), updated.capture());
+        assertThat(updated.getValue()).singleElement().satisfies(row -> {
+            assertThat(row[0]).isEqualTo(0L);
+            assertThat(row[1]).isNull();  // 다 쓴 묶음은 만료 대상에서 제외
+            assertThat(row[3]).isEqualTo(5L);
+        });
+    }
+
+    @Test
+    @DisplayName("묶음 반영 - 적립 취소는 원본 적립 묶음을 무효화하고, 이미 사용된 만큼만 만료일이 빠른 묶음에서 차감")
+    @SuppressWarnings("unchecked")
+    void index_CancelEarnVoidsOriginalLot() {
+        // given
+        PointLot older = PointLot.builder()
+                .userId(1L)
+                .pointId(2L)
+                .amount(30L)
+                .expireOn(NOW.toLocalDate().plusDays(5))
+                .build();
+        ReflectionTestUtils.setField(older, "id", 6L);
+        PointLot original = PointLot.builder()
+                .userId(1L)
+                .pointId(1L)
+                .amount(50L)
+                .remaining(40L)  // 10은 이미 사용
+                .expireOn(NOW.toLocalDate().plusDays(10))
+                .build();
+        ReflectionTestUtils.setField(original, "id", 5L);
+        given(pointRepository.findEventsAfter(10L, 20L, PageRequest.of(0, 100))).willReturn(List.of(
+                cancel(11L, 50L, 20L, 1L, PointType.EARNED)  // 1번 적립 취소
+        ));
+        given(pointLotRepository.findOpenLots(anyCollection())).willReturn(List.of(older, original));
+
+        // when
+        pointLotIndexer.index(20L);
+
+        // then
+        // 원본 묶음의 남은 40 무효화, 이미 사용된 10만 만료일이 빠른 묶음에서 차감 (FIFO였다면 older 30 + original 20)
+        ArgumentCaptor<List<Object[]>> updated = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE point_lots"), updated.capture());
+        assertThat(updated.getValue()).extracting(row -> row[3], row -> row[0])
+                .containsExactlyInAnyOrder(tuple(6L, 20L), tuple(5L, 0L));
+    }
+
+    @Test
+    @DisplayName("묶음 반영 - 새 이력이 없으면 아무것도 하지 않음")
+    void index_NoEvents() {
+        // given
+        given(pointRepository.findEventsAfter(10L, 20L, PageRequest.of(0, 100))).willReturn(List.of());
+
+        // when
+        int indexed = pointLotIndexer.index(20L);
+
+        // then
+        assertThat(indexed).isZero();
+        verifyNoInteractions(jdbcTemplate, pointLotRepository);
+    }
+
+    private PointEvent cancel(Long id, Long amount, Long balanceSnapshot, Long originalPointId, PointType originalType) {
+        PointEvent event = event(id, amount, PointType.CANCELED, balanceSnapshot);
+        lenient().when(event.getOriginalPointId()).thenReturn(originalPointId);
+        lenient().when(event.getOriginalType()).thenReturn(originalType);
+        return event;
+    }
+
+    private PointEvent event(Long id, Long amount, PointType type, Long balanceSnapshot) {
+        PointEvent event = mock(PointEvent.class);
+        lenient().when(event.getId()).thenReturn(id);
+        lenient().when(event.getUserId()).thenReturn(1L);
+        lenient().when(event.getAmount()).thenReturn(amount);
+        lenient().when(event.getType()).thenReturn(type);
+        lenient().when(event.getBalanceSnapshot()).thenReturn(balanceSnapshot);
+        lenient().when(event.getCreatedAt()).thenReturn(NOW);
+        return event;
+    }
+}
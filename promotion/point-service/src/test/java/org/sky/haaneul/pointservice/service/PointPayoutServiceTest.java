@@ -0,0 +1,185 @@
+package org.sky.haaneul.pointservice.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.sky.haaneul.pointservice.domain.PointPayout;
+import org.sky.haaneul.pointservice.domain.PointType;
+import org.sky.haaneul.pointservice.dto.PointDto;
+import org.sky.haaneul.pointservice.repository.PointPayoutRepository;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointPayoutServiceTest {
+    private static final Long REQUESTER_ID = 9L;
+
+    @Mock
+    private PointPayoutRepository pointPayoutRepository;
+    @Mock
+    private PointPayoutWriter pointPayoutWriter;
+    @Mock
+    private PointBalanceBuckets pointBalanceBuckets;
+    @Mock
+    private PointBalanceNearCache pointBalanceNearCache;
+    @Mock
+    private PointDailyAggregates pointDailyAggregates;
+
+    private PointPayoutService pointPayoutService;
+
+    @BeforeEach
+    void setUp() {
+        pointPayoutService = new PointPayoutService(pointPayoutRepository, pointPayoutWriter, pointBalanceBuckets,
+                pointBalanceNearCache, pointDailyAggregates);
+        ReflectionTestUtils.setField(pointPayoutService, "chunkSize", 2);
+    }
+
+    private PointPayout payout(long processedCount) {
+        PointPayout payout = PointPayout.builder()
+                .payoutId("campaign-1")
+                .description("캠페인 지급")
+                .requestedBy(REQUESTER_ID)
+                .build();
+        if (processedCount > 0) {
+            payout.advance(processedCount, processedCount * 100L);
+        }
+        return payout;
+    }
+
+    @Test
+    @DisplayName("일괄 지급 - chunk-size씩 반영 후 묶음별 지급액을 캐시에 반영")
+    @SuppressWarnings("unchecked")
+    void payout_WritesChunksAndRefreshesCache() {
+        // given
+        BufferedReader reader = new BufferedReader(new StringReader("1,100\n2,200\n\n3,300\n"));
+        given(pointPayoutRepository.findByPayoutId("campaign-1")).willReturn(Optional.empty());
+        given(pointPayoutRepository.save(any(PointPayout.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(pointPayoutWriter.write(eq("campaign-1"), eq(0L), anyList(), anyMap())).willReturn(Map.of(1L, 100L, 2L, 200L));
+        given(pointPayoutWriter.write(eq("campaign-1"), eq(2L), anyList(), anyMap())).willReturn(Map.of(3L, 300L));
+        given(pointPayoutWriter.complete("campaign-1")).willReturn(payout(3L));
+
+        // when
+        PointDto.PayoutResponse response = pointPayoutService.payout("campaign-1", REQUESTER_ID, "캠페인 지급", reader);
+
+        // then
+        assertThat(response.getProcessedCount()).isEqualTo(3L);
+        verify(pointPayoutWriter).write(eq("campaign-1"), eq(0L), argThat(grants -> grants.size() == 2), anyMap());
+        verify(pointPayoutWriter).write(eq("campaign-1"), eq(2L), argThat(grants -> grants.size() == 1), anyMap());
+        verify(pointBalanceBuckets).applyDeltas(Map.of(1L, 100L, 2L, 200L));
+        verify(pointBalanceBuckets).applyDeltas(Map.of(3L, 300L));
+        verify(pointBalanceNearCache).invalidate(Map.of(3L, 300L).keySet());
+        verify(pointDailyAggregates).record(PointType.EARNED, Map.of(3L, 300L));
+    }
+
+    @Test
+    @DisplayName("일괄 지급 - 지급 전 잔액은 Redis 잔액(원장 기준)을 전달")
+    void payout_PassesCachedBalances() {
+        // given
+        List<PointDto.PayoutGrant> grants = List.of(PointDto.PayoutGrant.builder().userId(1L).amount(100L).build());
+        given(pointPayoutRepository.findByPayoutId("campaign-1")).willReturn(Optional.of(payout(0L)));
+        given(pointBalanceBuckets.getBalances(Set.of(1L))).willReturn(Map.of(1L, 700L));
+        given(pointPayoutWriter.write(eq("campaign-1"), eq(0L), anyList(), anyMap())).willReturn(Map.of(1L, 100L));
+        given(pointPayoutWriter.complete("campaign-1")).willReturn(payout(1L));
+
+        // when
+        pointPayoutService.payout("campaign-1", REQUESTER_ID, "캠페인 지급", grants.iterator());
+
+        // then
+        verify(pointPayoutWriter).write(eq("campaign-1"), eq(0L), anyList(), eq(Map.of(1L, 700L)));
+    }
+
+    @Test
+    @DisplayName("일괄 지급 - 같은 지급 ID로 다시 요청하면 반영된 요청은 건너뛰고 이어서 처리")
+    void payout_ResumesFromProcessedCount() {
+        // given
+        List<PointDto.PayoutGrant> grants = List.of(
+                PointDto.PayoutGrant.builder().userId(1L).amount(100L).build(),
+                PointDto.PayoutGrant.builder().userId(2L).amount(100L).build(),
+                PointDto.PayoutGrant.builder().userId(3L).amount(100L).build());
+        given(pointPayoutRepository.findByPayoutId("campaign-1")).willReturn(Optional.of(payout(2L)));
+        given(pointPayoutWriter.write(eq("campaign-1"), eq(2L), anyList(), anyMap())).willReturn(Map.of(3L, 100L));
+        given(pointPayoutWriter.complete("campaign-1")).willReturn(payout(3L));
+
+        // when
+        pointPayoutService.payout("campaign-1", REQUESTER_ID, "캠페인 지급", grants.iterator());
+
+        // then
+        verify(pointPayoutWriter).write(eq("campaign-1"), eq(2L), argThat(chunk ->
+                chunk.size() == 1 && chunk.get(0).getUserId().equals(3L)), anyMap());
+    }
+
+    @Test
+    @DisplayName("일괄 지급 - 완료된 지급은 다시 반영하지 않음")
+    void payout_CompletedPayoutIsIdempotent() {
+        // given
+        PointPayout completed = payout(3L);
+        completed.complete();
+        given(pointPayoutRepository.findByPayoutId("campaign-1")).willReturn(Optional.of(completed));
+
+        // when
+        PointDto.PayoutResponse response = pointPayoutService.payout("campaign-1", REQUESTER_ID, "캠페인 지급",
+                new BufferedReader(new StringReader("1,100\n")));
+
+        // then
+        assertThat(response.isCompleted()).isTrue();
+        verifyNoInteractions(pointPayoutWriter, pointBalanceBuckets, pointBalanceNearCache);
+    }
+
+    @Test
+    @DisplayName("일괄 지급 - 잘못된 줄은 실패")
+    void payout_RejectsInvalidLine() {
+        // given
+        given(pointPayoutRepository.findByPayoutId("campaign-1")).willReturn(Optional.of(payout(0L)));
+
+        // when & then
+        assertThatThrownBy(() -> pointPayoutService.payout("campaign-1", REQUESTER_ID, "캠페인 지급",
+                new BufferedReader(new StringReader("1,abc\n"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid payout line");
+    }
+
+    @Test
+    @DisplayName("일괄 지급 - 다른 사용자가 시작한 지급은 이어서 처리하지 않음")
+    void payout_RejectsOtherRequester() {
+        // given
+        given(pointPayoutRepository.findByPayoutId("campaign-1")).willReturn(Optional.of(payout(1L)));
+
+        // when & then
+        assertThatThrownBy(() -> pointPayoutService.payout("campaign-1", 1L, "캠페인 지급",
+                new BufferedReader(new StringReader("1,100\n"))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Payout already exists: campaign-1");
+        verifyNoInteractions(pointPayoutWriter, pointBalanceBuckets, pointBalanceNearCache);
+    }
+
+    @Test
+    @DisplayName("지급 조회 - 지급을 시작한 사용자만 조회, 다른 사용자에게는 없는 지급으로 응답")
+    void getPayout_ScopedToRequester() {
+        // given
+        given(pointPayoutRepository.findByPayoutId("campaign-1")).willReturn(Optional.of(payout(2L)));
+
+        // when
+        PointDto.PayoutResponse response = pointPayoutService.getPayout("campaign-1", REQUESTER_ID);
+
+        // then
+        assertThat(response.getProcessedCount()).isEqualTo(2L);
+        assertThatThrownBy(() -> pointPayoutService.getPayout("campaign-1", 1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Payout not found: campaign-1");
+    }
+}
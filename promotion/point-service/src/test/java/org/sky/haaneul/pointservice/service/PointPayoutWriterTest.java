@@ -0,0 +1,109 @@
+package org.sky.haaneul.pointservice.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.sky.haaneul.pointservice.domain.PointPayout;
+import org.sky.haaneul.pointservice.dto.PointDto;
+import org.sky.haaneul.pointservice.repository.PointPayoutRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointPayoutWriterTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PointPayoutRepository pointPayoutRepository;
+
+    private PointPayoutWriter pointPayoutWriter;
+    private PointPayout payout;
+
+    @BeforeEach
+    void setUp() {
+        pointPayoutWriter = new PointPayoutWriter(jdbcTemplate, pointPayoutRepository);
+        payout = PointPayout.builder()
+                .payoutId("campaign-1")
+                .description("캠페인 지급")
+                .build();
+        given(pointPayoutRepository.findByPayoutId("campaign-1")).willReturn(Optional.of(payout));
+    }
+
+    private PointDto.PayoutGrant grant(Long userId, Long amount) {
+        return PointDto.PayoutGrant.builder()
+                .userId(userId)
+                .amount(amount)
+                .build();
+    }
+
+    @Test
+    @DisplayName("지급 묶음 반영 - 사용자별 합산 MERGE, 이력은 요청 순서대로 balanceSnapshot 계산, 진행 상태 증가")
+    @SuppressWarnings("unchecked")
+    void write_UpsertsBalancesAndInsertsPoints() {
+        // given
+        List<PointDto.PayoutGrant> grants = List.of(grant(2L, 100L), grant(1L, 300L), grant(2L, 50L));
+        given(jdbcTemplate.query(contains("FROM point_balances"), any(RowMapper.class), any(Object[].class)))
+                .willReturn(List.of(Map.entry(1L, 1300L), Map.entry(2L, 150L)));
+
+        // when
+        Map<Long, Long> deltas = pointPayoutWriter.write("campaign-1", 0L, grants, Map.of());
+
+        // then
+        assertThat(deltas).containsExactly(Map.entry(1L, 300L), Map.entry(2L, 150L));
+
+        ArgumentCaptor<List<Object[]>> upserts = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("MERGE INTO point_balances"), upserts.capture());
+        assertThat(upserts.getValue()).extracting(row -> row[0]).containsExactly(1L, 2L);
+
+        ArgumentCaptor<List<Object[]>> points = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO points"), points.capture());
+        assertThat(points.getValue()).extracting(row -> row[4]).containsExactly(100L, 1300L, 150L);
+
+        assertThat(payout.getProcessedCount()).isEqualTo(3L);
+        assertThat(payout.getGrantedAmount()).isEqualTo(450L);
+    }
+
+    @Test
+    @DisplayName("지급 묶음 반영 - Redis 잔액이 있는 사용자는 그 잔액부터 balanceSnapshot 계산 (DB 잔액 조회 X)")
+    @SuppressWarnings("unchecked")
+    void write_UsesCurrentBalancesForSnapshots() {
+        // given
+        List<PointDto.PayoutGrant> grants = List.of(grant(1L, 300L), grant(2L, 100L));
+        given(jdbcTemplate.query(contains("FROM point_balances"), any(RowMapper.class), eq(2L)))
+                .willReturn(List.of(Map.entry(2L, 100L)));
+
+        // when
+        pointPayoutWriter.write("campaign-1", 0L, grants, Map.of(1L, 2000L));
+
+        // then (사용자 1: 원장 반영 전 DB 잔액과 무관하게 2000 + 300)
+        ArgumentCaptor<List<Object[]>> points = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO points"), points.capture());
+        assertThat(points.getValue()).extracting(row -> row[4]).containsExactly(2300L, 100L);
+    }
+
+    @Test
+    @DisplayName("지급 묶음 반영 - 진행 상태가 다르면 다른 요청이 처리 중이므로 실패")
+    void write_RejectsConcurrentPayout() {
+        // given
+        List<PointDto.PayoutGrant> grants = List.of(grant(1L, 100L));
+
+        // when & then
+        assertThatThrownBy(() -> pointPayoutWriter.write("campaign-1", 1000L, grants, Map.of()))
+                .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
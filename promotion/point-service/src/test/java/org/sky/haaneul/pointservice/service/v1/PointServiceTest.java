@@ -12,12 +12,17 @@ import org.sky.haaneul.pointservice.domain.PointBalance;
 import org.sky.haaneul.pointservice.domain.PointType;
 import org.sky.haaneul.pointservice.repository.PointBalanceRepository;
 import org.sky.haaneul.pointservice.repository.PointRepository;
+import org.sky.haaneul.pointservice.service.PointBalanceNearCache;
+import org.sky.haaneul.pointservice.service.PointDailyAggregates;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -31,6 +36,12 @@ class PointServiceTest {
     @Mock
     private PointRepository pointRepository;
 
+    @Mock
+    private PointBalanceNearCache pointBalanceNearCache;
+
+    @Mock
+    private PointDailyAggregates pointDailyAggregates;
+
     @InjectMocks
     private PointService pointService;
 
@@ -91,6 +102,8 @@ class PointServiceTest {
         assertThat(result.getType()).isEqualTo(PointType.EARNED);
         verify(pointBalanceRepository, times(1)).save(any(PointBalance.class));
         verify(pointRepository, times(1)).save(any(Point.class));
+        verify(pointBalanceNearCache).invalidateAfterCommit(userId);
+        verify(pointDailyAggregates).recordAfterCommit(userId, PointType.EARNED, amout, amout);
     }
 
     @Test
@@ -186,6 +199,8 @@ class PointServiceTest {
     @DisplayName("포인트 잔액 조회 테스트")
     void getBalanceSuccess() {
         // given
+        given(pointBalanceNearCache.get(eq(userId), any()))
+                .willAnswer(invocation -> invocation.<Supplier<Long>>getArgument(1).get());
         PointBalance balance = PointBalance.builder()
                 .userId(userId)
                 .balance(1000L)
@@ -205,6 +220,8 @@ class PointServiceTest {
     @DisplayName("존재하지 않는 사용자의 포인트 잔액 조회 테스트")
     void getBalanceUserNotFound() {
         // given
+        given(pointBalanceNearCache.get(eq(userId), any()))
+                .willAnswer(invocation -> invocation.<Supplier<Long>>getArgument(1).get());
         given(pointBalanceRepository.findByUserId(userId))
                 .willReturn(Optional.empty());
 
@@ -227,6 +244,7 @@ class PointServiceTest {
                 .balanceSnapshot(1000L)
                 .pointBalance(pointBalance)
                 .build();
+        ReflectionTestUtils.setField(originalPoint, "id", 1L);
 
         given(pointRepository.findById(1L))
                 .willReturn(Optional.of(originalPoint));
@@ -244,6 +262,7 @@ class PointServiceTest {
                             .description(savedPoint.getDescription())
                             .balanceSnapshot(savedPoint.getBalanceSnapshot())
                             .pointBalance(savedPoint.getPointBalance())
+                            .originalPointId(savedPoint.getOriginalPointId())
                             .build();
                 });
 
@@ -254,6 +273,7 @@ class PointServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getType()).isEqualTo(PointType.CANCELED);
         assertThat(result.getAmount()).isEqualTo(amout);
+        assertThat(result.getOriginalPointId()).isEqualTo(1L);  // 원본 이력으로 취소 방향 확인
         verify(pointBalanceRepository, times(1)).save(any(PointBalance.class));
         verify(pointRepository, times(1)).save(any(Point.class));
     }
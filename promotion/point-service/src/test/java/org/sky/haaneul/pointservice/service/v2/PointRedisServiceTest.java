@@ -1,11 +1,12 @@
 package org.sky.haaneul.pointservice.service.v2;
 
 import jakarta.validation.constraints.Min;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.redisson.api.RLock;
@@ -16,9 +17,17 @@ import org.sky.haaneul.pointservice.domain.PointBalance;
 import org.sky.haaneul.pointservice.domain.PointType;
 import org.sky.haaneul.pointservice.repository.PointBalanceRepository;
 import org.sky.haaneul.pointservice.repository.PointRepository;
-
+import org.sky.haaneul.pointservice.service.PointBalanceBuckets;
+import org.sky.haaneul.pointservice.service.PointBalanceNearCache;
+import org.sky.haaneul.pointservice.service.PointDailyAggregates;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
@@ -31,7 +40,6 @@ import static org.mockito.Mockito.verify;
 @ExtendWith(MockitoExtension.class)
 class PointRedisServiceTest {
 
-    @InjectMocks
     private PointRedisService pointRedisService;
 
     @Mock
@@ -43,24 +51,42 @@ class PointRedisServiceTest {
     @Mock
     private RedissonClient redissonClient;
 
+    @Mock
+    private PointBalanceBuckets pointBalanceBuckets;
+
+    @Mock
+    private PointBalanceNearCache pointBalanceNearCache;
+
+    @Mock
+    private PointDailyAggregates pointDailyAggregates;
+
     @Mock
     private RLock rLock;
 
     @Mock
     private RMap<String, Long> rMap;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private static final Long USER_ID = 1L;
     private static final Long POINT_ID = 1L;
     private static final Long AMOUNT = 1000L;
     private static final String DESCRIPTION = "Test description";
 
+    @BeforeEach
+    void setUp() {
+        pointRedisService = new PointRedisService(pointBalanceRepository, pointRepository, pointBalanceBuckets, pointBalanceNearCache,
+                pointDailyAggregates, new PointUserExecutor(redissonClient), new TransactionTemplate(transactionManager));
+    }
+
     private void setupLockBehavior() throws InterruptedException {
         given(redissonClient.getLock(anyString())).willReturn(rLock);
         given(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
     }
 
     private void setupMapBehavior() {
-        given(redissonClient.<String, Long>getMap(anyString())).willReturn(rMap);
+        given(pointBalanceBuckets.map(USER_ID)).willReturn(rMap);
     }
 
     @Test
@@ -94,7 +120,8 @@ class PointRedisServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getAmount()).isEqualTo(AMOUNT);
         assertThat(result.getType()).isEqualTo(PointType.EARNED);
-        verify(rMap).fastPut(eq(USER_ID.toString()), eq(AMOUNT));
+        verify(pointBalanceBuckets).applyDeltas(Map.of(USER_ID, AMOUNT));
+        verify(rMap, never()).fastPut(anyString(), anyLong());
     }
 
     @Test
@@ -129,7 +156,7 @@ class PointRedisServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getAmount()).isEqualTo(AMOUNT);
         assertThat(result.getType()).isEqualTo(PointType.USED);
-        verify(rMap).fastPut(eq(USER_ID.toString()), eq(0L));
+        verify(pointBalanceBuckets).applyDeltas(Map.of(USER_ID, -AMOUNT));
     }
 
     @Test
@@ -152,7 +179,6 @@ class PointRedisServiceTest {
     void cancelEarnedPointSuccess() throws InterruptedException {
         // given
         setupLockBehavior();
-        setupMapBehavior();
 
         PointBalance pointBalance = PointBalance.builder()
                 .userId(USER_ID)
@@ -184,7 +210,7 @@ class PointRedisServiceTest {
         // then
         assertThat(result).isNotNull();
         assertThat(result.getType()).isEqualTo(PointType.CANCELED);
-        verify(rMap).fastPut(eq(USER_ID.toString()), eq(0L));
+        verify(pointBalanceBuckets).applyDeltas(Map.of(USER_ID, -AMOUNT));
     }
 
     @Test
@@ -206,6 +232,93 @@ class PointRedisServiceTest {
                 .hasMessage("Already cancelled point");
     }
 
+    @Test
+    @DisplayName("포인트 선물 성공 - 한 트랜잭션으로 차감/적립 후 보냄/받음 이력을 한 번에 저장")
+    @SuppressWarnings("unchecked")
+    void transferPointSuccess() throws InterruptedException {
+        // given
+        setupLockBehavior();
+        Long toUserId = 2L;
+        PointBalance sender = PointBalance.builder()
+                .userId(USER_ID)
+                .balance(AMOUNT)
+                .build();
+        PointBalance receiver = PointBalance.builder()
+                .userId(toUserId)
+                .balance(200L)
+                .build();
+
+        given(pointBalanceRepository.findByUserId(USER_ID)).willReturn(Optional.of(sender));
+        given(pointBalanceRepository.findByUserId(toUserId)).willReturn(Optional.of(receiver));
+        given(pointBalanceRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+        given(pointRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        Point result = pointRedisService.transferPoints(USER_ID, toUserId, AMOUNT, DESCRIPTION);
+
+        // then
+        assertThat(result.getType()).isEqualTo(PointType.TRANSFERRED_OUT);
+        assertThat(result.getBalanceSnapshot()).isZero();
+        ArgumentCaptor<List<Point>> points = ArgumentCaptor.forClass(List.class);
+        verify(pointRepository).saveAll(points.capture());
+        Point received = points.getValue().get(1);
+        assertThat(received.getUserId()).isEqualTo(toUserId);
+        assertThat(received.getType()).isEqualTo(PointType.TRANSFERRED_IN);
+        assertThat(received.getBalanceSnapshot()).isEqualTo(1200L);
+        verify(pointBalanceBuckets).applyDeltas(Map.of(USER_ID, -AMOUNT));
+        verify(pointBalanceBuckets).applyDeltas(Map.of(toUserId, AMOUNT));
+        verify(redissonClient).getLock("point:lock:" + USER_ID);
+        verify(redissonClient).getLock("point:lock:" + toUserId);
+    }
+
+    @Test
+    @DisplayName("포인트 선물 실패 - 잔액 부족시 두 사용자 모두 변경 X")
+    void transferPointFailInsufficientBalance() throws InterruptedException {
+        // given
+        setupLockBehavior();
+        PointBalance sender = PointBalance.builder()
+                .userId(USER_ID)
+                .balance(500L)
+                .build();
+        given(pointBalanceRepository.findByUserId(USER_ID)).willReturn(Optional.of(sender));
+
+        // when & then
+        assertThatThrownBy(() -> pointRedisService.transferPoints(USER_ID, 2L, AMOUNT, DESCRIPTION))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Insufficient balance");
+        verify(pointBalanceRepository, never()).saveAll(anyList());
+        verify(pointRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("포인트 선물 실패 - 자기 자신에게 선물 불가")
+    void transferPointFailToSelf() {
+        // when & then
+        assertThatThrownBy(() -> pointRedisService.transferPoints(USER_ID, USER_ID, AMOUNT, DESCRIPTION))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Cannot transfer points to yourself");
+        verify(redissonClient, never()).getLock(anyString());
+    }
+
+    @Test
+    @DisplayName("선물 이력 취소 시도 실패")
+    void cancelTransferredPointFail() throws InterruptedException {
+        // given
+        setupLockBehavior();
+        Point originalPoint = Point.builder()
+                .userId(USER_ID)
+                .amount(AMOUNT)
+                .type(PointType.TRANSFERRED_OUT)
+                .build();
+
+        given(pointRepository.findById(POINT_ID)).willReturn(Optional.of(originalPoint));
+
+        // when & then
+        assertThatThrownBy(() -> pointRedisService.cancelPoints(POINT_ID, DESCRIPTION))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid point type for cancellation");
+    }
+
     @Test
     @DisplayName("분산 락 획득 실패")
     void lockAcquisitionFailure() throws  InterruptedException {
@@ -223,6 +336,8 @@ class PointRedisServiceTest {
     @DisplayName("캐시된 잔액 조회 성공")
     void getBalanceFromCache() {
         // given
+        given(pointBalanceNearCache.get(eq(USER_ID), any()))
+                .willAnswer(invocation -> invocation.<Supplier<Long>>getArgument(1).get());
         setupMapBehavior();
         given(rMap.get(USER_ID.toString())).willReturn(AMOUNT);
 
@@ -234,6 +349,30 @@ class PointRedisServiceTest {
         verify(pointBalanceRepository, never()).findByUserId(any());
     }
 
+    @Test
+    @DisplayName("캐시된 잔액이 없으면 DB 잔액으로 초기화 - 이미 있는 값(v3 잔액)은 덮어쓰지 않음")
+    @SuppressWarnings("unchecked")
+    void getBalanceLoadsIfAbsent() {
+        // given
+        given(pointBalanceNearCache.get(eq(USER_ID), any()))
+                .willAnswer(invocation -> invocation.<Supplier<Long>>getArgument(1).get());
+        setupMapBehavior();
+        given(pointBalanceBuckets.loadIfAbsent(eq(USER_ID), any()))
+                .willAnswer(invocation -> invocation.<Supplier<Long>>getArgument(1).get());
+        given(pointBalanceRepository.findByUserId(USER_ID)).willReturn(Optional.of(PointBalance.builder()
+                .userId(USER_ID)
+                .balance(AMOUNT)
+                .build()));
+
+        // when
+        Long balance = pointRedisService.getBalance(USER_ID);
+
+        // then
+        assertThat(balance).isEqualTo(AMOUNT);
+        verify(pointBalanceBuckets).loadIfAbsent(eq(USER_ID), any(Supplier.class));
+        verify(rMap, never()).fastPut(anyString(), anyLong());
+    }
+
 
 
 }
\ No newline at end of file
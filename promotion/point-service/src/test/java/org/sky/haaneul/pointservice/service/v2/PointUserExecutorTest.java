@@ -0,0 +1,238 @@
+package org.sky.haaneul.pointservice.service.v2;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointUserExecutorTest {
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private RLock lock;
+    @Mock
+    private RLock otherLock;
+
+    private PointUserExecutor pointUserExecutor;
+
+    @BeforeEach
+    void setUp() {
+        pointUserExecutor = new PointUserExecutor(redissonClient);
+        given(redissonClient.getLock("point:lock:" + USER_ID)).willReturn(lock);
+    }
+
+    @Test
+    @DisplayName("직렬 실행 - 같은 사용자 요청이 몰리면 head가 락 한 번으로 대기열 작업을 순서대로 실행")
+    @Timeout(10)
+    void execute_CoalescesQueuedOperations() throws Exception {
+        // given
+        given(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
+        given(lock.isHeldByCurrentThread()).willReturn(true);
+        CountDownLatch headStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> executed = new ArrayList<>();
+        ExecutorService threads = Executors.newFixedThreadPool(4);
+
+        // when
+        Future<Integer> head = threads.submit(() -> pointUserExecutor.execute(USER_ID, () -> {
+            headStarted.countDown();
+            await(release);
+            executed.add(0);
+            return 0;
+        }));
+        headStarted.await();
+        List<Future<Integer>> followers = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            int order = i;
+            followers.add(threads.submit(() -> pointUserExecutor.execute(USER_ID, () -> {
+                executed.add(order);
+                return order;
+            })));
+        }
+        Thread.sleep(200);  // 후속 요청이 대기열에 쌓이도록 대기
+        release.countDown();
+
+        // then
+        assertThat(head.get()).isZero();
+        for (int i = 0; i < followers.size(); i++) {
+            assertThat(followers.get(i).get()).isEqualTo(i + 1);
+        }
+        assertThat(executed).containsExactlyInAnyOrder(0, 1, 2, 3);
+        assertThat(executed.get(0)).isZero();
+        verify(lock, times(1)).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
+        verify(lock, times(1)).unlock();
+        threads.shutdown();
+    }
+
+    @Test
+    @DisplayName("직렬 실행 - 락은 watchdog으로 획득하고, 작업 사이에 락을 잃으면 다시 획득 후 남은 작업 실행")
+    @Timeout(10)
+    void execute_ReacquiresLostLock() throws Exception {
+        // given
+        given(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
+        given(lock.isHeldByCurrentThread()).willReturn(false, false, true);
+        CountDownLatch headStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService threads = Executors.newFixedThreadPool(2);
+
+        // when
+        Future<Integer> head = threads.submit(() -> pointUserExecutor.execute(USER_ID, () -> {
+            headStarted.countDown();
+            await(release);
+            return 0;
+        }));
+        headStarted.await();
+        Future<Integer> follower = threads.submit(() -> pointUserExecutor.execute(USER_ID, () -> 1));
+        Thread.sleep(200);  // 후속 요청이 대기열에 쌓이도록 대기
+        release.countDown();
+
+        // then
+        assertThat(head.get()).isZero();
+        assertThat(follower.get()).isEqualTo(1);
+        verify(lock, times(2)).tryLock(3L, -1L, TimeUnit.SECONDS);
+        threads.shutdown();
+    }
+
+    @Test
+    @DisplayName("직렬 실행 - head는 자기 작업 포함 최대 16개만 실행하고 남은 작업은 다음 요청 스레드가 이어서 실행")
+    @Timeout(10)
+    void execute_HandsOffAfterMaxOperations() throws Exception {
+        // given
+        given(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
+        given(lock.isHeldByCurrentThread()).willReturn(true);
+        CountDownLatch headStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService threads = Executors.newFixedThreadPool(17);
+
+        // when
+        Future<Integer> head = threads.submit(() -> pointUserExecutor.execute(USER_ID, () -> {
+            headStarted.countDown();
+            await(release);
+            return 0;
+        }));
+        headStarted.await();
+        // 요청 스레드가 직접 자기 작업을 실행했는지 반환
+        List<Future<Boolean>> followers = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            followers.add(threads.submit(() -> {
+                Thread caller = Thread.currentThread();
+                return pointUserExecutor.execute(USER_ID, () -> Thread.currentThread() == caller);
+            }));
+        }
+        Thread.sleep(200);  // 후속 요청이 대기열에 쌓이도록 대기
+        release.countDown();
+
+        // then
+        // head가 16개(자기 작업 + 후속 15개) 실행 후 락을 풀고, 마지막 후속 요청 스레드가 다시 락을 잡고 실행
+        assertThat(head.get()).isZero();
+        int runByCaller = 0;
+        for (Future<Boolean> follower : followers) {
+            if (follower.get()) {
+                runByCaller++;
+            }
+        }
+        assertThat(runByCaller).isEqualTo(1);
+        verify(lock, times(2)).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
+        verify(lock, times(2)).unlock();
+        threads.shutdown();
+    }
+
+    @Test
+    @DisplayName("직렬 실행 - 작업 예외는 해당 요청에만 전달")
+    void execute_PropagatesOperationFailure() throws Exception {
+        // given
+        given(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> pointUserExecutor.execute(USER_ID, () -> {
+            throw new IllegalArgumentException("Insufficient balance");
+        }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Insufficient balance");
+        assertThat(pointUserExecutor.execute(USER_ID, () -> 1)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("직렬 실행 - 분산 락 획득 실패")
+    void execute_LockFailure() throws Exception {
+        // given
+        given(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> pointUserExecutor.execute(USER_ID, () -> 1))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Failed to acquire lock for user: " + USER_ID);
+    }
+
+    @Test
+    @DisplayName("두 사용자 실행 - 요청 순서와 관계없이 사용자 ID 오름차순으로 락 획득")
+    void executeBoth_LocksInUserIdOrder() throws Exception {
+        // given
+        given(redissonClient.getLock("point:lock:3")).willReturn(otherLock);
+        given(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
+        given(otherLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
+        given(lock.isHeldByCurrentThread()).willReturn(true);
+        given(otherLock.isHeldByCurrentThread()).willReturn(true);
+
+        // when
+        Integer result = pointUserExecutor.execute(3L, USER_ID, () -> 1);
+
+        // then
+        assertThat(result).isEqualTo(1);
+        InOrder inOrder = inOrder(lock, otherLock);
+        inOrder.verify(lock).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
+        inOrder.verify(otherLock).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
+        inOrder.verify(otherLock).unlock();
+        inOrder.verify(lock).unlock();
+    }
+
+    @Test
+    @DisplayName("두 사용자 실행 - 두 번째 락 획득 실패시 작업 실행 X, 먼저 잡은 락 해제")
+    void executeBoth_SecondLockFailure() throws Exception {
+        // given
+        given(redissonClient.getLock("point:lock:3")).willReturn(otherLock);
+        given(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
+        given(otherLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(false);
+        given(lock.isHeldByCurrentThread()).willReturn(true);
+        List<Integer> executed = new ArrayList<>();
+
+        // when & then
+        assertThatThrownBy(() -> pointUserExecutor.execute(USER_ID, 3L, () -> executed.add(1)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Failed to acquire lock for user: 3");
+        assertThat(executed).isEmpty();
+        verify(lock).unlock();
+        verify(otherLock, never()).unlock();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package org.sky.haaneul.pointservice.service.v3;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RMap;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.sky.haaneul.pointservice.domain.PointType;
+import org.sky.haaneul.pointservice.dto.PointDto;
+import org.sky.haaneul.pointservice.repository.PointBalanceRepository;
+import org.sky.haaneul.pointservice.service.PointBalanceBuckets;
+import org.sky.haaneul.pointservice.service.PointBalanceNearCache;
+import org.sky.haaneul.pointservice.service.PointDailyAggregates;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointAtomicServiceTest {
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private PointBalanceRepository pointBalanceRepository;
+    @Mock
+    private RScript rScript;
+    @Mock
+    private RMap<String, Long> balances;
+    @Mock
+    private PointBalanceNearCache pointBalanceNearCache;
+
+    private PointBalanceBuckets pointBalanceBuckets;
+
+    private PointAtomicService pointAtomicService;
+
+    private static final Long USER_ID = 1L;
+    private static final Long AMOUNT = 1000L;
+    private static final String DESCRIPTION = "Test description";
+
+    @BeforeEach
+    void setUp() {
+        pointBalanceBuckets = spy(new PointBalanceBuckets(redissonClient));
+        ReflectionTestUtils.setField(pointBalanceBuckets, "buckets", 8);
+        ReflectionTestUtils.setField(pointBalanceBuckets, "partitions", 4);
+        pointAtomicService = new PointAtomicService(redissonClient, pointBalanceRepository, pointBalanceBuckets, pointBalanceNearCache,
+                new PointDailyAggregates(redissonClient, pointBalanceBuckets));
+    }
+
+    @SafeVarargs
+    private void givenScriptResults(List<Object> first, List<Object>... rest) {
+        given(redissonClient.getScript(any(Codec.class))).willReturn(rScript);
+        given(rScript.<List<Object>>eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.MULTI), anyList(),
+                any(), any(), any(), any(), any(), any()))
+                .willReturn(first, rest);
+    }
+
+    @Test
+    @DisplayName("포인트 적립 - 스크립트 한 번으로 잔액 증가 및 원장 추가 (락/DB 조회 X)")
+    void earnPoints_Success() {
+        // given
+        givenScriptResults(List.of(1500L, "1-0"));
+
+        // when
+        PointDto.LedgerResponse result = pointAtomicService.earnPoints(USER_ID, AMOUNT, DESCRIPTION);
+
+        // then
+        int partition = pointBalanceBuckets.partition(USER_ID);
+        assertThat(result.getLedgerId()).isEqualTo(partition + ":1-0");
+        assertThat(result.getType()).isEqualTo(PointType.EARNED);
+        assertThat(result.getBalanceSnapshot()).isEqualTo(1500L);
+        verify(rScript).eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.MULTI),
+                eq(List.of(pointBalanceBuckets.key(USER_ID), "point:ledger:{" + partition + "}",
+                        "point:daily:{" + partition + "}:" + result.getCreatedAt().toLocalDate())),
+                eq("1"), eq("1000"), eq("EARNED"), eq("1000"), eq(DESCRIPTION), anyString());
+        verify(redissonClient, never()).getLock(anyString());
+        verifyNoInteractions(pointBalanceRepository);
+        verify(pointBalanceNearCache).invalidate(USER_ID);
+    }
+
+    @Test
+    @DisplayName("포인트 사용 - 음수 증감량으로 차감")
+    void usePoints_Success() {
+        // given
+        givenScriptResults(List.of(0L, "1-1"));
+
+        // when
+        PointDto.LedgerResponse result = pointAtomicService.usePoints(USER_ID, AMOUNT, DESCRIPTION);
+
+        // then
+        assertThat(result.getType()).isEqualTo(PointType.USED);
+        assertThat(result.getBalanceSnapshot()).isZero();
+        verify(rScript).eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.MULTI), anyList(),
+                eq("1"), eq("-1000"), eq("USED"), eq("1000"), eq(DESCRIPTION), anyString());
+    }
+
+    @Test
+    @DisplayName("잔액 부족으로 포인트 사용 실패")
+    void usePoints_InsufficientBalance() {
+        // given
+        givenScriptResults(List.of(-1L));
+
+        // when & then
+        assertThatThrownBy(() -> pointAtomicService.usePoints(USER_ID, AMOUNT, DESCRIPTION))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Insufficient balance");
+    }
+
+    @Test
+    @DisplayName("잔액이 Redis에 없으면 DB에서 초기화 후 다시 실행")
+    void usePoints_LoadsBalanceFromDB() {
+        // given
+        givenScriptResults(List.of(-3L), List.of(500L, "1-2"));
+        doReturn(1500L).when(pointBalanceBuckets).loadIfAbsent(eq(USER_ID), any());
+
+        // when
+        PointDto.LedgerResponse result = pointAtomicService.usePoints(USER_ID, AMOUNT, DESCRIPTION);
+
+        // then
+        assertThat(result.getBalanceSnapshot()).isEqualTo(500L);
+        verify(pointBalanceBuckets).loadIfAbsent(eq(USER_ID), any());
+        verify(rScript, times(2)).eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.MULTI), anyList(),
+                any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("잔액 조회 - 사용자의 버킷 Hash에서 조회")
+    void getBalance_FromBucket() {
+        // given
+        given(pointBalanceNearCache.get(eq(USER_ID), any())).willAnswer(invocation -> invocation.<Supplier<Long>>getArgument(1).get());
+        given(redissonClient.<String, Long>getMap(eq(pointBalanceBuckets.key(USER_ID)), any(Codec.class))).willReturn(balances);
+        given(balances.get("1")).willReturn(700L);
+
+        // when
+        Long balance = pointAtomicService.getBalance(USER_ID);
+
+        // then
+        assertThat(balance).isEqualTo(700L);
+        verifyNoInteractions(pointBalanceRepository);
+    }
+}
@@ -0,0 +1,92 @@
+package org.sky.haaneul.pointservice.service.v3;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.StreamMessageId;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointLedgerTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private PointLedger pointLedger;
+
+    @BeforeEach
+    void setUp() {
+        pointLedger = new PointLedger(jdbcTemplate);
+    }
+
+    private Map<String, String> entry(Long userId, Long amount, String type, Long balanceSnapshot) {
+        return Map.of(
+                "userId", String.valueOf(userId),
+                "amount", String.valueOf(amount),
+                "type", type,
+                "description", "test",
+                "balanceSnapshot", String.valueOf(balanceSnapshot),
+                "createdAt", LocalDateTime.now().toString()
+        );
+    }
+
+    @Test
+    @DisplayName("원장 저장 - 사용자별 증감량을 합산해 잔액 UPDATE, 이력은 batch INSERT")
+    @SuppressWarnings("unchecked")
+    void write_AggregatesBalanceDeltas() {
+        // given
+        Map<StreamMessageId, Map<String, String>> entries = new LinkedHashMap<>();
+        entries.put(new StreamMessageId(1L, 0L), entry(1L, 1000L, "EARNED", 1000L));
+        entries.put(new StreamMessageId(1L, 1L), entry(1L, 300L, "USED", 700L));
+        entries.put(new StreamMessageId(1L, 2L), entry(2L, 500L, "EARNED", 500L));
+        given(jdbcTemplate.queryForList(contains("FROM points"), eq(String.class), any(Object[].class))).willReturn(List.of());
+        given(jdbcTemplate.queryForList(contains("FROM point_balances"), eq(Long.class), any(Object[].class))).willReturn(List.of(1L));
+
+        // when
+        int written = pointLedger.write(3, entries);
+
+        // then
+        assertThat(written).isEqualTo(3);
+        ArgumentCaptor<List<Object[]>> created = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO point_balances"), created.capture());
+        assertThat(created.getValue()).hasSize(1);
+        assertThat(created.getValue().get(0)[0]).isEqualTo(2L);
+
+        ArgumentCaptor<List<Object[]>> deltas = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE point_balances"), deltas.capture());
+        assertThat(deltas.getValue()).extracting(row -> row[0]).containsExactly(700L, 500L);
+
+        ArgumentCaptor<List<Object[]>> points = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO points"), points.capture());
+        assertThat(points.getValue()).extracting(row -> row[8]).containsExactly("3:1-0", "3:1-1", "3:1-2");
+    }
+
+    @Test
+    @DisplayName("원장 저장 - 이미 저장된 entry는 이력/잔액 모두 건너뜀")
+    void write_SkipsWrittenEntries() {
+        // given
+        Map<StreamMessageId, Map<String, String>> entries = Map.of(
+                new StreamMessageId(1L, 0L), entry(1L, 1000L, "EARNED", 1000L));
+        given(jdbcTemplate.queryForList(anyString(), eq(String.class), any(Object[].class))).willReturn(List.of("3:1-0"));
+
+        // when
+        int written = pointLedger.write(3, entries);
+
+        // then
+        assertThat(written).isZero();
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+}
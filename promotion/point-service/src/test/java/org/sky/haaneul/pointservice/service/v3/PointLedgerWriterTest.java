@@ -0,0 +1,94 @@
+package org.sky.haaneul.pointservice.service.v3;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.AutoClaimResult;
+import org.redisson.api.RStream;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.api.stream.StreamCreateGroupArgs;
+import org.redisson.api.stream.StreamReadGroupArgs;
+import org.redisson.client.codec.Codec;
+import org.sky.haaneul.pointservice.service.PointBalanceBuckets;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointLedgerWriterTest {
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private PointLedger pointLedger;
+    @Mock
+    private PointBalanceBuckets pointBalanceBuckets;
+    @Mock
+    private RStream<String, String> ledger;
+    @Mock
+    private AutoClaimResult<String, String> claimed;
+
+    private PointLedgerWriter pointLedgerWriter;
+
+    @BeforeEach
+    void setUp() {
+        pointLedgerWriter = new PointLedgerWriter(redissonClient, pointLedger, pointBalanceBuckets);
+        ReflectionTestUtils.setField(pointLedgerWriter, "batchSize", 2);
+        ReflectionTestUtils.setField(pointLedgerWriter, "claimIdleMs", 30_000L);
+
+        given(pointBalanceBuckets.partitions()).willReturn(1);
+        given(pointBalanceBuckets.ledgerKey(0)).willReturn("point:ledger:{0}");
+        given(redissonClient.<String, String>getStream(eq("point:ledger:{0}"), any(Codec.class))).willReturn(ledger);
+        given(ledger.autoClaim(anyString(), anyString(), anyLong(), any(TimeUnit.class), any(StreamMessageId.class), anyInt()))
+                .willReturn(claimed);
+    }
+
+    @Test
+    @DisplayName("원장 저장 - 재처리 대상과 새 entry를 저장한 뒤 ACK 및 삭제")
+    void drain_WritesClaimedAndNewEntries() {
+        // given
+        StreamMessageId pending = new StreamMessageId(1L, 0L);
+        StreamMessageId fresh = new StreamMessageId(2L, 0L);
+        Map<StreamMessageId, Map<String, String>> claimedEntries = Map.of(pending, Map.of("userId", "1"));
+        Map<StreamMessageId, Map<String, String>> newEntries = Map.of(fresh, Map.of("userId", "2"));
+        given(claimed.getMessages()).willReturn(claimedEntries);
+        given(ledger.readGroup(anyString(), anyString(), any(StreamReadGroupArgs.class))).willReturn(newEntries);
+
+        // when
+        pointLedgerWriter.drain();
+
+        // then
+        verify(ledger).createGroup(any(StreamCreateGroupArgs.class));
+        verify(pointLedger).write(0, claimedEntries);
+        verify(pointLedger).write(0, newEntries);
+        verify(ledger).ack(anyString(), eq(pending));
+        verify(ledger).remove(pending);
+        verify(ledger).ack(anyString(), eq(fresh));
+        verify(ledger).remove(fresh);
+    }
+
+    @Test
+    @DisplayName("원장 저장 실패 - ACK하지 않아 이후 재처리")
+    void drain_FailureLeavesEntriesPending() {
+        // given
+        StreamMessageId pending = new StreamMessageId(1L, 0L);
+        Map<StreamMessageId, Map<String, String>> claimedEntries = Map.of(pending, Map.of("userId", "1"));
+        given(claimed.getMessages()).willReturn(claimedEntries);
+        given(pointLedger.write(0, claimedEntries)).willThrow(new RuntimeException("db down"));
+
+        // when
+        pointLedgerWriter.drain();
+
+        // then
+        verify(ledger, never()).ack(anyString(), any(StreamMessageId[].class));
+        verify(ledger, never()).remove(any(StreamMessageId[].class));
+    }
+}
@@ -5,11 +5,21 @@ import lombok.RequiredArgsConstructor;
 import org.sky.haaneul.timesaleservice.domain.Product;
 import org.sky.haaneul.timesaleservice.dto.ProductDto;
 import org.sky.haaneul.timesaleservice.service.v1.ProductService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @RestController
@@ -26,17 +36,64 @@ public class ProductController {
     }
 
     @GetMapping("/{productId}")
-    public ResponseEntity<ProductDto.Response> getProduct(@PathVariable Long productId) {
-        Product product = productService.getProduct(productId);
-        return ResponseEntity.ok(ProductDto.Response.from(product));
+    public ResponseEntity<ProductDto.Response> getProduct(
+            @PathVariable Long productId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        // 상품은 생성 이후 변경되지 않으므로 상품 ID만으로 ETag 결정
+        return withETag(eTag("product", productId), ifNoneMatch,
+                () -> ProductDto.Response.from(productService.getProduct(productId)));
     }
 
     @GetMapping
-    public ResponseEntity<List<ProductDto.Response>> getAllProducts() {
-        List<Product> products = productService.getAllProducts();
-        return ResponseEntity.ok(products.stream()
-                .map(ProductDto.Response::from)
-                .collect(Collectors.toList()));
+    public ResponseEntity<Page<ProductDto.Response>> getProducts(
+            @PageableDefault(size = 20, sort = "id", direction = Sort.Direction.ASC) Pageable pageable,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        String eTag = eTag("page", productService.getCatalogVersion(),
+                pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+        return withETag(eTag, ifNoneMatch,
+                () -> productService.getProducts(pageable).map(ProductDto.Response::from));
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<ProductDto.CursorResponse> getProductsAfter(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return withETag(eTag("cursor", productService.getCatalogVersion(), cursor, size), ifNoneMatch, () -> {
+            Slice<Product> products = productService.getProductsAfter(cursor, size);
+            List<Product> content = products.getContent();
+            return ProductDto.CursorResponse.builder()
+                    .items(content.stream().map(ProductDto.Response::from).toList())
+                    .nextCursor(products.hasNext() ? content.get(content.size() - 1).getId() : null)
+                    .build();
+        });
+    }
+
+    // 타임세일 목록 등에서 여러 상품을 한 번에 조회 (최대 100건)
+    @GetMapping("/batch")
+    public ResponseEntity<List<ProductDto.Response>> getProducts(
+            @RequestParam List<Long> ids,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        // 없던 상품이 생성되면 응답이 바뀌므로 목록 버전 포함
+        return withETag(eTag("batch", productService.getCatalogVersion(), ids), ifNoneMatch,
+                () -> productService.getProducts(ids).stream().map(ProductDto.Response::from).toList());
+    }
+
+    // 조회 전에 ETag를 비교하여 같은 내용이면 DB/캐시 조회 없이 본문 없는 304 응답
+    private static <T> ResponseEntity<T> withETag(String eTag, String ifNoneMatch, Supplier<T> body) {
+        if (eTag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(body.get());
+    }
+
+    // 요청 조건과 목록 버전으로 ETag 생성 (상품을 조회하거나 본문을 직렬화하지 않고 계산)
+    private static String eTag(Object... parts) {
+        String source = Arrays.stream(parts).map(String::valueOf).collect(Collectors.joining(":"));
+        return "\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
 }
@@ -4,6 +4,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.sky.haaneul.timesaleservice.domain.TimeSale;
 import org.sky.haaneul.timesaleservice.dto.TimeSaleDto;
+import org.sky.haaneul.timesaleservice.dto.TimeSaleSnapshot;
 import org.sky.haaneul.timesaleservice.service.v1.TimeSaleService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -32,7 +33,7 @@ public class TimeSaleController {
 
     @GetMapping
     public ResponseEntity<Page<TimeSaleDto.Response>> getOngoingTimeSale(@PathVariable Pageable pageable) {
-        Page<TimeSale> timeSales = timeSaleService.getOngoingTimeSales(pageable);
+        Page<TimeSaleSnapshot> timeSales = timeSaleService.getOngoingTimeSales(pageable);
         return ResponseEntity.ok(timeSales.map(TimeSaleDto.Response::from));
     }
 
@@ -45,4 +46,13 @@ public class TimeSaleController {
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(TimeSaleDto.PurchaseResponse.from(timeSale, request.getUserId(), request.getQuantity()));
     }
+
+    @PostMapping("/{timeSaleId}/purchase/conditional")
+    public ResponseEntity<TimeSaleDto.PurchaseResponse> purchaseTimeSaleConditionally(
+            @PathVariable Long timeSaleId,
+            @Valid @RequestBody TimeSaleDto.PurchaseRequest request
+    ) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(timeSaleService.purchaseTimeSaleConditionally(timeSaleId, request));
+    }
 }
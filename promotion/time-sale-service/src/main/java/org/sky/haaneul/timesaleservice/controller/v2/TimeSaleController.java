@@ -4,7 +4,12 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.sky.haaneul.timesaleservice.domain.TimeSale;
 import org.sky.haaneul.timesaleservice.dto.TimeSaleDto;
+import org.sky.haaneul.timesaleservice.dto.TimeSaleSnapshot;
+import org.sky.haaneul.timesaleservice.service.v2.IdempotencyService;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSaleBundleService;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSaleHoldService;
 import org.sky.haaneul.timesaleservice.service.v2.TimeSaleRedisService;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSaleVelocityTracker;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
@@ -17,6 +22,10 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class TimeSaleController {
     private final TimeSaleRedisService timeSaleRedisService;
+    private final TimeSaleHoldService timeSaleHoldService;
+    private final IdempotencyService idempotencyService;
+    private final TimeSaleBundleService timeSaleBundleService;
+    private final TimeSaleVelocityTracker timeSaleVelocityTracker;
 
     @PostMapping
     public ResponseEntity<TimeSaleDto.Response> createTimeSale(@Valid @RequestBody TimeSaleDto.CreateRequest request) {
@@ -27,24 +36,61 @@ public class TimeSaleController {
 
     @GetMapping("{timeSaleId}")
     public ResponseEntity<TimeSaleDto.Response> getTimeSale(@PathVariable Long timeSaleId) {
-        TimeSale timeSale = timeSaleRedisService.getTimeSale(timeSaleId);
+        TimeSaleSnapshot timeSale = timeSaleRedisService.getTimeSale(timeSaleId);
         return ResponseEntity.ok(TimeSaleDto.Response.from(timeSale));
     }
 
+    // 운영용 - 판매 속도 및 매진 예상 시간 (대기실 입장 속도/Consumer 동시성 조정)
+    @GetMapping("/{timeSaleId}/velocity")
+    public ResponseEntity<TimeSaleDto.VelocityResponse> getVelocity(@PathVariable Long timeSaleId) {
+        return ResponseEntity.ok(timeSaleVelocityTracker.getVelocity(timeSaleId));
+    }
+
     @GetMapping
     public ResponseEntity<Page<TimeSaleDto.Response>> getOngoingTimeSales(@PageableDefault Pageable pageable) {
-        Page<TimeSale> timeSales = timeSaleRedisService.getOngoingTimeSales(pageable);
+        Page<TimeSaleSnapshot> timeSales = timeSaleRedisService.getOngoingTimeSales(pageable);
         return ResponseEntity.ok(timeSales.map(TimeSaleDto.Response::from));
     }
 
     @PostMapping("/{timeSaleId}/purchase")
     public ResponseEntity<TimeSaleDto.PurchaseResponse> purchaseTimeSale(
+            @PathVariable Long timeSaleId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @Valid @RequestBody TimeSaleDto.PurchaseRequest request
+    ) {
+        // 같은 Idempotency-Key 재시도는 구매를 다시 처리하지 않고 기록된 응답 반환
+        TimeSaleDto.PurchaseResponse response = idempotencyService.execute(
+                "v2:purchase:" + timeSaleId + ":" + request.getUserId(), idempotencyKey,
+                () -> timeSaleRedisService.purchaseTimeSale(timeSaleId, request),
+                TimeSaleDto.PurchaseResponse::toRecord,
+                TimeSaleDto.PurchaseResponse::fromRecord);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(response);
+    }
+
+    @PostMapping("/bundle/purchase")
+    public ResponseEntity<TimeSaleDto.BundlePurchaseResponse> purchaseBundle(
+            @Valid @RequestBody TimeSaleDto.BundlePurchaseRequest request
+    ) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(timeSaleBundleService.purchaseBundle(request));
+    }
+
+    @PostMapping("/{timeSaleId}/holds")
+    public ResponseEntity<TimeSaleDto.HoldResponse> holdTimeSale(
             @PathVariable Long timeSaleId,
             @Valid @RequestBody TimeSaleDto.PurchaseRequest request
     ) {
-        TimeSale timeSale = timeSaleRedisService.purchaseTimeSale(timeSaleId, request);
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(TimeSaleDto.PurchaseResponse.from(timeSale, request.getUserId(), request.getQuantity()));
+                .body(timeSaleHoldService.hold(timeSaleId, request));
     }
 
+    @PostMapping("/holds/{orderId}/confirm")
+    public ResponseEntity<Void> confirmHold(
+            @PathVariable Long orderId,
+            @Valid @RequestBody TimeSaleDto.ConfirmRequest request
+    ) {
+        timeSaleHoldService.confirm(orderId, request.getUserId());
+        return ResponseEntity.ok().build();
+    }
 }
@@ -1,18 +1,23 @@
 package org.sky.haaneul.timesaleservice.controller.v3;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.sky.haaneul.timesaleservice.dto.TimeSaleDto;
+import org.sky.haaneul.timesaleservice.service.v2.IdempotencyService;
 import org.sky.haaneul.timesaleservice.service.v3.AsyncTimeSaleService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.function.Function;
+
 @RestController
 @RequestMapping("/api/v3/time-sale")
 @RequiredArgsConstructor
 public class AsyncTimeSaleController {
     private final AsyncTimeSaleService asyncTimeSaleService;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping
     public ResponseEntity<TimeSaleDto.Response> createTimeSale(@RequestBody TimeSaleDto.CreateRequest request) {
@@ -29,12 +34,35 @@ public class AsyncTimeSaleController {
         return ResponseEntity.ok(asyncTimeSaleService.getOngoingTimeSale(pageable).map(TimeSaleDto.Response::from));
     }
 
+    @PostMapping("/{id}/waiting-room")
+    public ResponseEntity<TimeSaleDto.WaitingTicketResponse> issueWaitingTicket(
+            @PathVariable Long id,
+            @Valid @RequestBody TimeSaleDto.WaitingTicketRequest request
+    ) {
+        return ResponseEntity.ok(asyncTimeSaleService.issueWaitingTicket(id, request.getUserId()));
+    }
+
+    @GetMapping("/{id}/waiting-room/{ticket}")
+    public ResponseEntity<TimeSaleDto.WaitingTicketResponse> getWaitingTicket(
+            @PathVariable Long id,
+            @PathVariable String ticket
+    ) {
+        return ResponseEntity.ok(asyncTimeSaleService.getWaitingTicket(id, ticket));
+    }
+
     @PostMapping("/{id}/purchase")
     public ResponseEntity<TimeSaleDto.AsyncPurchaseResponse> purchaseTimeSale(
             @PathVariable Long id,
+            @RequestHeader(value = "X-Admission-Token", required = false) String admissionToken,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody TimeSaleDto.PurchaseRequest request
     ) {
-        String requestId = asyncTimeSaleService.purchaseTimeSale(id, request);
+        // 같은 Idempotency-Key 재시도는 Kafka로 다시 보내지 않고 처음 발급한 requestId 반환
+        String requestId = idempotencyService.execute(
+                "v3:purchase:" + id + ":" + request.getUserId(), idempotencyKey,
+                () -> asyncTimeSaleService.purchaseTimeSale(id, request, admissionToken),
+                Function.identity(),
+                Function.identity());
         return ResponseEntity.ok(TimeSaleDto.AsyncPurchaseResponse.builder()
                 .requestId(requestId)
                 .status("PENDING")
@@ -3,5 +3,6 @@ package org.sky.haaneul.timesaleservice.domain;
 public enum OrderStatus {
     PENDING,    // 대기중
     COMPLETED,  // 완료
-    FAILED      // 실패
+    FAILED,     // 실패
+    EXPIRED     // 결제 대기 시간 초과 (재고 반환)
 }
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.Hibernate;
 import org.hibernate.proxy.HibernateProxy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -44,6 +45,8 @@ public class TimeSale {
     @Column(nullable = false)
     private TimeSaleStatus status = TimeSaleStatus.ACTIVE;
 
+    private Long perUserLimit;  // 사용자당 최대 구매 수량 (null이면 제한 없음)
+
     @Version
     private Long version = 0L;
 
@@ -56,7 +59,7 @@ public class TimeSale {
     private LocalDateTime updatedAt;
 
     @Builder
-    public TimeSale(Long id, Product product, Long quantity, Long remainingQuantity, Long discountPrice, LocalDateTime startAt, LocalDateTime endAt, TimeSaleStatus status, Long version) {
+    public TimeSale(Long id, Product product, Long quantity, Long remainingQuantity, Long discountPrice, LocalDateTime startAt, LocalDateTime endAt, TimeSaleStatus status, Long version, Long perUserLimit) {
         this.id = id;
         this.product = product;
         this.quantity = quantity;
@@ -66,17 +69,26 @@ public class TimeSale {
         this.endAt = endAt;
         this.status = status;
         this.version = version;
+        this.perUserLimit = perUserLimit;
+    }
+
+    // 생성 시점의 상태 (시작/종료 전환은 TimeSaleLifecycleScheduler가 처리)
+    public static TimeSaleStatus initialStatus(LocalDateTime startAt) {
+        return startAt.isAfter(LocalDateTime.now()) ? TimeSaleStatus.SCHEDULED : TimeSaleStatus.ACTIVE;
     }
 
     public void purchase(Long quantity) {
         validatePurchase(quantity);
         this.remainingQuantity -= quantity;
+        if (this.remainingQuantity == 0) {
+            this.status = TimeSaleStatus.SOLD_OUT;
+        }
     }
 
-    private void validatePurchase(Long quantity) {
+    // 기간은 상태 전환으로 반영되므로 상태만 비교 (요청마다 현재 시각 비교 X)
+    public void validatePurchase(Long quantity) {
         validateStatue();
         validateQuantity(quantity);
-        validatePeriod();
     }
 
     private void validateStatue() {
@@ -91,17 +103,20 @@ public class TimeSale {
         }
     }
 
-    private void validatePeriod() {
-        LocalDateTime now = LocalDateTime.now();
-        if (now.isBefore(startAt) || now.isAfter(endAt)) {
-            throw new IllegalStateException("Time sale is not in valid period");
-        }
-    }
-
     public Product getProduct() {
         if (this.product instanceof HibernateProxy) {  // product객체를 HibernateLazyInitializer를 통해서 실제 Product를 객체로 만들어서 반환
             return (Product) ((HibernateProxy) this.product).getHibernateLazyInitializer().getImplementation();
         }
         return this.product;
     }
+
+    // product 프록시를 초기화하지 않고 상품 ID만 조회
+    public Long getProductId() {
+        return this.product != null ? this.product.getId() : null;
+    }
+
+    // product가 이미 로딩되었는지 여부 (LAZY 로딩을 발생시키지 않음)
+    public boolean isProductLoaded() {
+        return this.product != null && Hibernate.isInitialized(this.product);
+    }
 }
@@ -38,6 +38,11 @@ public class TimeSaleOrder {
     @Column(nullable = false)
     private OrderStatus status;
 
+    private LocalDateTime expiresAt;  // 재고 홀드 만료 시각 (홀드 주문만)
+
+    @Column(unique = true, length = 32)
+    private String journalId;  // 주문 저널 entry ID (write-behind 저장 주문만, 재처리시 중복 저장 방지)
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -47,13 +52,14 @@ public class TimeSaleOrder {
     private LocalDateTime updatedAt;
 
     @Builder
-    public TimeSaleOrder(Long id, Long userId, TimeSale timeSale, Long quantity, Long discountPrice) {
+    public TimeSaleOrder(Long id, Long userId, TimeSale timeSale, Long quantity, Long discountPrice, LocalDateTime expiresAt) {
         this.id = id;
         this.userId = userId;
         this.timeSale = timeSale;
         this.quantity = quantity;
         this.discountPrice = discountPrice;
         this.status = OrderStatus.PENDING;
+        this.expiresAt = expiresAt;
     }
 
     public void complete() {
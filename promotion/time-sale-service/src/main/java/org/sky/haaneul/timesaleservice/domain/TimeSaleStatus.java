@@ -1,6 +1,7 @@
 package org.sky.haaneul.timesaleservice.domain;
 
 public enum TimeSaleStatus {
+    SCHEDULED,  // 시작 전 (시작 시각이 되면 ACTIVE)
     ACTIVE,
     SOLD_OUT,
     ENDED
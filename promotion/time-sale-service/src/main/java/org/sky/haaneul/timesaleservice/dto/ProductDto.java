@@ -8,6 +8,7 @@ import lombok.Getter;
 import org.sky.haaneul.timesaleservice.domain.Product;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class ProductDto {
     @Getter
@@ -43,4 +44,11 @@ public class ProductDto {
                     .build();
         }
     }
+
+    @Getter
+    @Builder
+    public static class CursorResponse {
+        private List<Response> items;
+        private Long nextCursor;  // 다음 요청의 cursor (마지막 페이지면 null)
+    }
 }
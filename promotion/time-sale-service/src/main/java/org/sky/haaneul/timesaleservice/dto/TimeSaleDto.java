@@ -1,11 +1,12 @@
 package org.sky.haaneul.timesaleservice.dto;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 import lombok.*;
 import org.sky.haaneul.timesaleservice.domain.TimeSale;
-import org.springframework.http.ResponseEntity;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class TimeSaleDto {
     @Getter
@@ -29,6 +30,9 @@ public class TimeSaleDto {
         @NotNull(message = "End time is required")
         @Future(message = "End time must be in the future")
         private LocalDateTime endAt;
+
+        @Positive(message = "Per user limit must be positive")
+        private Long perUserLimit;  // 선택 (없으면 제한 없음)
     }
 
     @Getter
@@ -42,6 +46,33 @@ public class TimeSaleDto {
         private Long quantity;
     }
 
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BundlePurchaseRequest {
+        @NotNull(message = "userId must not be null")
+        private Long userId;
+
+        @Valid
+        @NotEmpty(message = "items must not be empty")
+        @Size(max = 20, message = "items must not exceed 20")
+        private List<BundleItem> items;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BundleItem {
+        @NotNull(message = "timeSaleId must not be null")
+        private Long timeSaleId;
+
+        @NotNull(message = "quantity must not be null")
+        @Min(value = 1, message = "quantity must be greater than 0")
+        private Long quantity;
+    }
+
     @Getter
     @Builder
     public static class Response {
@@ -54,11 +85,27 @@ public class TimeSaleDto {
         private LocalDateTime endAt;
         private LocalDateTime createdAt;
         private String status;
+        private Long perUserLimit;
 
         public static Response from(TimeSale timeSale) {
             return Response.builder()
                     .id(timeSale.getId())
-                    .productId(timeSale.getProduct().getId())
+                    .productId(timeSale.getProductId())
+                    .quantity(timeSale.getQuantity())
+                    .remainingQuantity(timeSale.getRemainingQuantity())
+                    .discountPrice(timeSale.getDiscountPrice())
+                    .startAt(timeSale.getStartAt())
+                    .endAt(timeSale.getEndAt())
+                    .createdAt(timeSale.getCreatedAt())
+                    .status(timeSale.getStatus().name())
+                    .perUserLimit(timeSale.getPerUserLimit())
+                    .build();
+        }
+
+        public static Response from(TimeSaleSnapshot timeSale) {
+            return Response.builder()
+                    .id(timeSale.getId())
+                    .productId(timeSale.getProductId())
                     .quantity(timeSale.getQuantity())
                     .remainingQuantity(timeSale.getRemainingQuantity())
                     .discountPrice(timeSale.getDiscountPrice())
@@ -66,6 +113,7 @@ public class TimeSaleDto {
                     .endAt(timeSale.getEndAt())
                     .createdAt(timeSale.getCreatedAt())
                     .status(timeSale.getStatus().name())
+                    .perUserLimit(timeSale.getPerUserLimit())
                     .build();
         }
     }
@@ -85,15 +133,71 @@ public class TimeSaleDto {
             return PurchaseResponse.builder()
                     .timeSaleId(timeSale.getId())
                     .userId(userId)
-                    .productId(timeSale.getProduct().getId())
+                    .productId(timeSale.getProductId())
                     .quantity(quantity)
                     .discountPrice(timeSale.getDiscountPrice())
                     .purchasedAt(LocalDateTime.now())
                     .build();
         }
 
+        // Idempotency-Key 응답 기록용 (timeSaleId|userId|productId|quantity|discountPrice|purchasedAt)
+        public String toRecord() {
+            return timeSaleId + "|" + userId + "|" + productId + "|" + quantity + "|" + discountPrice + "|" + purchasedAt;
+        }
+
+        public static PurchaseResponse fromRecord(String record) {
+            String[] fields = record.split("\\|");
+            return PurchaseResponse.builder()
+                    .timeSaleId(Long.valueOf(fields[0]))
+                    .userId(Long.valueOf(fields[1]))
+                    .productId(Long.valueOf(fields[2]))
+                    .quantity(Long.valueOf(fields[3]))
+                    .discountPrice(Long.valueOf(fields[4]))
+                    .purchasedAt(LocalDateTime.parse(fields[5]))
+                    .build();
+        }
+    }
+
+
+    @Getter
+    @Builder
+    public static class BundlePurchaseResponse {
+        private Long userId;
+        private List<PurchaseResponse> items;
+        private Long totalPrice;  // 할인가 * 수량 합계
+    }
+
+    @Getter
+    @Builder
+    public static class VelocityResponse {
+        private Long timeSaleId;
+        private Double purchaseRate;  // 이 인스턴스의 초당 구매 수량 (최근 60초)
+        private Double drainRate;  // 전체 초당 재고 소진량 (최근 60초)
+        private Long remainingQuantity;
+        private Long queueDepth;  // v3 대기 요청 수
+        private Long sellOutEtaSeconds;  // 매진 예상 시간 (소진 속도가 0이면 null)
     }
 
+    @Getter
+    @Builder
+    public static class HoldResponse {
+        private Long orderId;
+        private Long timeSaleId;
+        private Long userId;
+        private Long productId;
+        private Long quantity;
+        private Long discountPrice;
+        private LocalDateTime expiresAt;  // 만료 시각까지 확정하지 않으면 재고 반환
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ConfirmRequest {
+        @NotNull(message = "userId must not be null")
+        private Long userId;
+    }
 
     @Data
     @Builder
@@ -106,4 +210,23 @@ public class TimeSaleDto {
         private Integer queuePosition;
         private Long totalWaiting;
     }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class WaitingTicketRequest {
+        @NotNull(message = "userId must not be null")
+        private Long userId;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class WaitingTicketResponse {
+        private String ticket;  // 입장 후 X-Admission-Token 헤더로 사용
+        private String status;  // WAITING -> ADMITTED (CLOSED: 매진/종료, EXPIRED: 입장 후 미사용으로 만료)
+        private Long position;  // 대기 순서 (WAITING 상태에서만)
+    }
 }
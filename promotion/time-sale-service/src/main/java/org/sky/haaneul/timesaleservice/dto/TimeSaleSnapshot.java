@@ -0,0 +1,74 @@
+package org.sky.haaneul.timesaleservice.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.sky.haaneul.timesaleservice.domain.Product;
+import org.sky.haaneul.timesaleservice.domain.TimeSale;
+import org.sky.haaneul.timesaleservice.domain.TimeSaleStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시 조회용 타임세일 스냅샷 (불변)
+ * - JPA 엔티티 대신 캐시에 저장되는 값으로, 조회 경로에서 LAZY 로딩이 발생하지 않음
+ * - 상품 정보는 이미 로딩된 경우에만 포함 (productName, productPrice는 null일 수 있음)
+ */
+@Getter
+@Builder(toBuilder = true)
+public class TimeSaleSnapshot {
+    private final Long id;
+    private final Long productId;
+    private final String productName;
+    private final Long productPrice;
+    private final Long quantity;
+    private final Long remainingQuantity;
+    private final Long discountPrice;
+    private final LocalDateTime startAt;
+    private final LocalDateTime endAt;
+    private final TimeSaleStatus status;
+    private final Long version;
+    private final Long perUserLimit;
+    private final LocalDateTime createdAt;
+
+    public static TimeSaleSnapshot from(TimeSale timeSale) {
+        Product product = timeSale.isProductLoaded() ? timeSale.getProduct() : null;
+
+        return TimeSaleSnapshot.builder()
+                .id(timeSale.getId())
+                .productId(timeSale.getProductId())
+                .productName(product != null ? product.getName() : null)
+                .productPrice(product != null ? product.getPrice() : null)
+                .quantity(timeSale.getQuantity())
+                .remainingQuantity(timeSale.getRemainingQuantity())
+                .discountPrice(timeSale.getDiscountPrice())
+                .startAt(timeSale.getStartAt())
+                .endAt(timeSale.getEndAt())
+                .status(timeSale.getStatus())
+                .version(timeSale.getVersion())
+                .perUserLimit(timeSale.getPerUserLimit())
+                .createdAt(timeSale.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * 구매 후 남은 재고 반영 (마지막 재고면 SOLD_OUT, 상품 정보는 그대로 유지)
+     */
+    public TimeSaleSnapshot withRemainingQuantity(Long remainingQuantity) {
+        return toBuilder()
+                .remainingQuantity(remainingQuantity)
+                .status(remainingQuantity == 0 ? TimeSaleStatus.SOLD_OUT : status)
+                .build();
+    }
+
+    /**
+     * 캐시된 정보로 구매 가능 여부를 미리 확인 (DB 조회 전 빠른 실패)
+     */
+    public void validatePurchase(Long quantity) {
+        if (status != TimeSaleStatus.ACTIVE) {
+            throw new IllegalStateException("Time sale is not active");
+        }
+        if (remainingQuantity < quantity) {
+            throw new IllegalStateException("Not enough quantity available");
+        }
+    }
+}
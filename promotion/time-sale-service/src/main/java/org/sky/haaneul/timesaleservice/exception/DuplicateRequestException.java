@@ -0,0 +1,12 @@
+package org.sky.haaneul.timesaleservice.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 같은 Idempotency-Key 요청이 아직 처리 중
+@ResponseStatus(HttpStatus.CONFLICT)
+public class DuplicateRequestException extends RuntimeException {
+    public DuplicateRequestException(String message) {
+        super(message);
+    }
+}
@@ -1,7 +1,11 @@
 package org.sky.haaneul.timesaleservice.repository;
 
 import org.sky.haaneul.timesaleservice.domain.Product;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
+    // 커서(마지막으로 받은 상품 ID) 이후 상품 조회 (OFFSET 없이 PK 범위 조회)
+    Slice<Product> findByIdGreaterThanOrderByIdAsc(Long cursor, Pageable pageable);
 }
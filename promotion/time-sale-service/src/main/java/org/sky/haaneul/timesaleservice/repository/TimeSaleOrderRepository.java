@@ -1,7 +1,36 @@
 package org.sky.haaneul.timesaleservice.repository;
 
+import jakarta.persistence.LockModeType;
+import org.sky.haaneul.timesaleservice.domain.OrderStatus;
 import org.sky.haaneul.timesaleservice.domain.TimeSaleOrder;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface TimeSaleOrderRepository extends JpaRepository<TimeSaleOrder, Long> {
+    @Query("SELECT o.userId AS userId, SUM(o.quantity) AS quantity FROM TimeSaleOrder o " +
+            "WHERE o.timeSale.id = :timeSaleId AND o.status IN :statuses GROUP BY o.userId")
+    List<UserPurchaseQuantity> sumQuantityByUser(@Param("timeSaleId") Long timeSaleId, @Param("statuses") Collection<OrderStatus> statuses);
+
+    // 만료 대상 홀드 주문 조회 (확정과 동시에 처리되지 않도록 락)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM TimeSaleOrder o WHERE o.id IN :ids AND o.status = :status AND o.expiresAt <= :now")
+    List<TimeSaleOrder> findAllExpiredForUpdate(@Param("ids") Collection<Long> ids, @Param("status") OrderStatus status, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE TimeSaleOrder o SET o.status = :to, o.updatedAt = :now WHERE o.id IN :ids AND o.status = :from")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("from") OrderStatus from, @Param("to") OrderStatus to, @Param("now") LocalDateTime now);
+
+    // 만료되지 않은 본인의 홀드 주문만 확정
+    @Modifying
+    @Query("UPDATE TimeSaleOrder o SET o.status = :to, o.updatedAt = :now " +
+            "WHERE o.id = :id AND o.userId = :userId AND o.status = :from AND o.expiresAt > :now")
+    int confirmHold(@Param("id") Long id, @Param("userId") Long userId,
+                    @Param("from") OrderStatus from, @Param("to") OrderStatus to, @Param("now") LocalDateTime now);
 }
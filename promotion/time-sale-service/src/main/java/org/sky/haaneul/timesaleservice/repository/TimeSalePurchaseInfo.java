@@ -0,0 +1,14 @@
+package org.sky.haaneul.timesaleservice.repository;
+
+/**
+ * 조건부 구매시 필요한 타임세일 정보만 조회하는 projection (엔티티 로딩 X)
+ */
+public interface TimeSalePurchaseInfo {
+    Long getId();
+
+    Long getProductId();
+
+    Long getDiscountPrice();
+
+    Long getRemainingQuantity();
+}
@@ -7,16 +7,61 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TimeSaleRepository extends JpaRepository<TimeSale, Long> {
     @Query("SELECT ts FROM TimeSale ts WHERE ts.startAt <= :now AND ts.endAt > :now AND ts.status = :status")
     Page<TimeSale> findAllByStartAtBeforeAndEndAtAfterAndStatus(@Param("now") LocalDateTime now, @Param("status") TimeSaleStatus status, Pageable pageable);
 
+    @Query("SELECT ts FROM TimeSale ts JOIN FETCH ts.product WHERE ts.id = :id")
+    Optional<TimeSale> findWithProductById(@Param("id") Long id);
+
+    @Query("SELECT ts FROM TimeSale ts JOIN FETCH ts.product WHERE ts.id IN :ids")
+    List<TimeSale> findAllWithProductByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT ts FROM TimeSale ts JOIN FETCH ts.product WHERE ts.status IN :statuses AND ts.endAt > :now")
+    List<TimeSale> findAllWithProductByStatusInAndEndAtAfter(@Param("statuses") Collection<TimeSaleStatus> statuses, @Param("now") LocalDateTime now);
+
+    @Query("SELECT ts.id AS id, ts.startAt AS startAt, ts.endAt AS endAt, ts.status AS status FROM TimeSale ts WHERE ts.status IN :statuses")
+    List<TimeSaleSchedule> findSchedulesByStatusIn(@Param("statuses") Collection<TimeSaleStatus> statuses);
+
+    @Query("SELECT ts.id AS id, ts.product.id AS productId, ts.discountPrice AS discountPrice, ts.remainingQuantity AS remainingQuantity FROM TimeSale ts WHERE ts.id = :id")
+    Optional<TimeSalePurchaseInfo> findPurchaseInfoById(@Param("id") Long id);
+
+    @Query("SELECT ts.id AS id, ts.product.id AS productId, ts.discountPrice AS discountPrice, ts.remainingQuantity AS remainingQuantity FROM TimeSale ts WHERE ts.id IN :ids")
+    List<TimeSalePurchaseInfo> findAllPurchaseInfoByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 재고가 충분하고 진행중인 타임세일인 경우에만 재고 차감 (조건을 만족하지 않으면 0 반환)
+    // 마지막 재고를 차감하면 SOLD_OUT으로 변경 (status를 먼저 계산하여 차감 전 재고와 비교)
+    @Modifying
+    @Query("UPDATE TimeSale ts SET " +
+            "ts.status = CASE WHEN ts.remainingQuantity = :quantity THEN org.sky.haaneul.timesaleservice.domain.TimeSaleStatus.SOLD_OUT ELSE ts.status END, " +
+            "ts.remainingQuantity = ts.remainingQuantity - :quantity, ts.version = ts.version + 1, ts.updatedAt = :now " +
+            "WHERE ts.id = :id AND ts.status = :status AND ts.remainingQuantity >= :quantity")
+    int decreaseRemainingQuantity(@Param("id") Long id, @Param("quantity") Long quantity,
+                                  @Param("status") TimeSaleStatus status, @Param("now") LocalDateTime now);
+
+    // 만료된 홀드의 재고 반환 (SOLD_OUT이면 다시 ACTIVE)
+    @Modifying
+    @Query("UPDATE TimeSale ts SET " +
+            "ts.status = CASE WHEN ts.status = org.sky.haaneul.timesaleservice.domain.TimeSaleStatus.SOLD_OUT " +
+            "THEN org.sky.haaneul.timesaleservice.domain.TimeSaleStatus.ACTIVE ELSE ts.status END, " +
+            "ts.remainingQuantity = ts.remainingQuantity + :quantity, ts.version = ts.version + 1, ts.updatedAt = :now WHERE ts.id = :id")
+    int increaseRemainingQuantity(@Param("id") Long id, @Param("quantity") Long quantity, @Param("now") LocalDateTime now);
+
+    // 시작/종료 시각이 된 타임세일의 상태를 일괄 변경 (from 상태인 경우에만)
+    @Modifying
+    @Query("UPDATE TimeSale ts SET ts.status = :to, ts.version = ts.version + 1, ts.updatedAt = :now WHERE ts.id IN :ids AND ts.status IN :from")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("from") Collection<TimeSaleStatus> from,
+                           @Param("to") TimeSaleStatus to, @Param("now") LocalDateTime now);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT ts FROM TimeSale ts WHERE ts.id = :id")
     Optional<TimeSale> findByIdWithPessimisticLock(Long timeSaleId);
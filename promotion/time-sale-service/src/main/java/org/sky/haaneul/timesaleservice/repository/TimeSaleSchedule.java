@@ -0,0 +1,18 @@
+package org.sky.haaneul.timesaleservice.repository;
+
+import org.sky.haaneul.timesaleservice.domain.TimeSaleStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상태 전환 스케줄 복구에 필요한 컬럼만 조회하는 projection
+ */
+public interface TimeSaleSchedule {
+    Long getId();
+
+    LocalDateTime getStartAt();
+
+    LocalDateTime getEndAt();
+
+    TimeSaleStatus getStatus();
+}
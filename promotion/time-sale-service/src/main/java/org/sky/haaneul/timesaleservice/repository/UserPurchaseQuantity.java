@@ -0,0 +1,10 @@
+package org.sky.haaneul.timesaleservice.repository;
+
+/**
+ * 사용자별 구매 수량 합계 projection
+ */
+public interface UserPurchaseQuantity {
+    Long getUserId();
+
+    Long getQuantity();
+}
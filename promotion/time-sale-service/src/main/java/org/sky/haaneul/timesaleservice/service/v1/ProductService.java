@@ -1,18 +1,59 @@
 package org.sky.haaneul.timesaleservice.service.v1;
 
 import lombok.RequiredArgsConstructor;
+import org.redisson.api.RedissonClient;
 import org.sky.haaneul.timesaleservice.domain.Product;
 import org.sky.haaneul.timesaleservice.dto.ProductDto;
 import org.sky.haaneul.timesaleservice.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class ProductService {
+    static final int MAX_PAGE_SIZE = 100;
+    private static final String CATALOG_VERSION_KEY = "product:catalog-version";
+
     private final ProductRepository productRepository;
+    private final RedissonClient redissonClient;
+
+    @Value("${product.cache.max-size:10000}")
+    private int cacheMaxSize = 10_000;
+
+    // 상품은 생성 이후 변경되지 않으므로 조회한 상품을 로컬에 보관 (접근 순서 기준 LRU, 최대 cacheMaxSize건)
+    private final Map<Long, Product> cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Product> eldest) {
+            return size() > cacheMaxSize;
+        }
+    });
+
+    @Value("${product.cache.list-max-size:1000}")
+    private int listCacheMaxSize = 1_000;
+
+    // 페이지/커서 목록 (키에 목록 버전 포함 -> 상품이 생성되면 이전 버전 목록은 더 이상 조회되지 않고 LRU로 밀려남)
+    private final Map<String, Slice<Product>> listCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Slice<Product>> eldest) {
+            return size() > listCacheMaxSize;
+        }
+    });
 
     @Transactional
     public Product createProduct(ProductDto.CreateRequest request) {
@@ -21,17 +62,111 @@ public class ProductService {
                 .price(request.getPrice())
                 .description(request.getDescription())
                 .build();
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        runAfterCommit(() -> redissonClient.getAtomicLong(CATALOG_VERSION_KEY).incrementAndGet());
+        return saved;
+    }
+
+    /**
+     * 상품 목록 버전 (상품 생성 커밋마다 증가, 모든 인스턴스 공유)
+     * - 상품은 생성 이후 변경되지 않으므로 목록은 생성시에만 바뀜 -> 목록 ETag와 목록 캐시 키로 사용
+     */
+    public long getCatalogVersion() {
+        return redissonClient.getAtomicLong(CATALOG_VERSION_KEY).get();
     }
 
     @Transactional(readOnly = true)
     public Product getProduct(Long productId) {
-        return productRepository.findById(productId)
+        Product cached = cache.get(productId);
+        if (cached != null) {
+            return cached;
+        }
+
+        Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new RuntimeException("Product not found"));
+        cache.put(productId, product);
+        return product;
+    }
+
+    /**
+     * 여러 상품을 한 번에 조회 (캐시에 없는 상품만 IN 조회, 요청 순서 유지, 없는 상품은 제외)
+     */
+    @Transactional(readOnly = true)
+    public List<Product> getProducts(Collection<Long> productIds) {
+        Set<Long> ids = new LinkedHashSet<>(productIds);
+        if (ids.size() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Too many product ids (max " + MAX_PAGE_SIZE + ")");
+        }
+
+        Map<Long, Product> found = new LinkedHashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            Product cached = cache.get(id);
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (Product product : productRepository.findAllById(missing)) {
+                cache.put(product.getId(), product);
+                found.put(product.getId(), product);
+            }
+        }
+
+        return ids.stream().filter(found::containsKey).map(found::get).toList();
+    }
+
+    /**
+     * 페이지 조회 (페이지 크기는 최대 MAX_PAGE_SIZE, 같은 목록 버전의 페이지는 캐시에서 반환)
+     */
+    @Transactional(readOnly = true)
+    public Page<Product> getProducts(Pageable pageable) {
+        Pageable bounded = pageable.getPageSize() > MAX_PAGE_SIZE
+                ? PageRequest.of(pageable.getPageNumber(), MAX_PAGE_SIZE, pageable.getSort())
+                : pageable;
+        String key = "page:" + getCatalogVersion() + ":" + bounded.getPageNumber() + ":" + bounded.getPageSize() + ":" + bounded.getSort();
+        if (listCache.get(key) instanceof Page<Product> cached) {
+            return cached;
+        }
+        return cacheList(key, productRepository.findAll(bounded));
     }
 
+    /**
+     * 커서 기반 조회 - 깊은 페이지에서도 OFFSET 만큼 읽고 버리지 않음 (같은 목록 버전의 결과는 캐시에서 반환)
+     *
+     * @param cursor 마지막으로 받은 상품 ID (처음이면 null)
+     */
     @Transactional(readOnly = true)
-    public List<Product> getAllProducts() {
-        return productRepository.findAll();  // TODO 실제 서비스에서는 paging 처리가 필요
+    public Slice<Product> getProductsAfter(Long cursor, int size) {
+        long after = cursor != null ? cursor : 0L;
+        int boundedSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        String key = "cursor:" + getCatalogVersion() + ":" + after + ":" + boundedSize;
+        Slice<Product> cached = listCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        return cacheList(key, productRepository.findByIdGreaterThanOrderByIdAsc(after, PageRequest.of(0, boundedSize)));
+    }
+
+    // 조회한 목록 보관 (DB 조회는 캐시 락 밖에서 수행, 목록의 상품도 단건 캐시에 보관)
+    private <S extends Slice<Product>> S cacheList(String key, S products) {
+        products.forEach(product -> cache.put(product.getId(), product));
+        listCache.put(key, products);
+        return products;
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
     }
 }
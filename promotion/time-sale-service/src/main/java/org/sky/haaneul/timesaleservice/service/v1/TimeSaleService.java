@@ -7,13 +7,22 @@ import org.sky.haaneul.timesaleservice.domain.TimeSale;
 import org.sky.haaneul.timesaleservice.domain.TimeSaleOrder;
 import org.sky.haaneul.timesaleservice.domain.TimeSaleStatus;
 import org.sky.haaneul.timesaleservice.dto.TimeSaleDto;
+import org.sky.haaneul.timesaleservice.dto.TimeSaleSnapshot;
 import org.sky.haaneul.timesaleservice.repository.ProductRepository;
 import org.sky.haaneul.timesaleservice.repository.TimeSaleOrderRepository;
+import org.sky.haaneul.timesaleservice.repository.TimeSalePurchaseInfo;
 import org.sky.haaneul.timesaleservice.repository.TimeSaleRepository;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSaleLifecycleScheduler;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSaleListingIndex;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSalePurchaseLimiter;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSaleRedisService;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSaleSoldOutRegistry;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 
@@ -23,6 +32,11 @@ public class TimeSaleService {
     private final TimeSaleRepository timeSaleRepository;
     private final ProductRepository productRepository;
     private final TimeSaleOrderRepository timeSaleOrderRepository;
+    private final TimeSaleListingIndex timeSaleListingIndex;
+    private final TimeSaleLifecycleScheduler timeSaleLifecycleScheduler;
+    private final TimeSalePurchaseLimiter timeSalePurchaseLimiter;
+    private final TimeSaleSoldOutRegistry timeSaleSoldOutRegistry;
+    private final TimeSaleRedisService timeSaleRedisService;
 
     @Transactional
     public TimeSale createTimeSale(TimeSaleDto.CreateRequest request) {
@@ -40,10 +54,14 @@ public class TimeSaleService {
                 .discountPrice(request.getDiscountPrice())
                 .startAt(request.getStartAt())
                 .endAt(request.getEndAt())
-                .status(TimeSaleStatus.ACTIVE)
+                .status(TimeSale.initialStatus(request.getStartAt()))
+                .perUserLimit(request.getPerUserLimit())
                 .build();
 
-        return timeSaleRepository.save(timeSale);
+        TimeSale savedTimeSale = timeSaleRepository.save(timeSale);
+        timeSaleListingIndex.register(savedTimeSale);
+        timeSaleLifecycleScheduler.schedule(savedTimeSale);
+        return savedTimeSale;
     }
 
     @Transactional(readOnly = true)
@@ -52,22 +70,34 @@ public class TimeSaleService {
                 .orElseThrow(() -> new IllegalArgumentException("Time sale not found"));
     }
 
-    // 현재 진행중인 타임세일 리스트 조회(현재 기간 ~ 실제 기간까지)
-    @Transactional(readOnly = true)
-    public Page<TimeSale> getOngoingTimeSales(Pageable pageable) {
-        LocalDateTime now = LocalDateTime.now();
-        return timeSaleRepository.findAllByStartAtBeforeAndEndAtAfterAndStatus(now, TimeSaleStatus.ACTIVE, pageable);
+    // 현재 진행중인 타임세일 리스트 조회(현재 기간 ~ 실제 기간까지) -> 목록 인덱스의 로컬 스냅샷에서 조회
+    public Page<TimeSaleSnapshot> getOngoingTimeSales(Pageable pageable) {
+        return timeSaleListingIndex.getOngoingTimeSales(pageable);
     }
 
     // 진행중인 타임세일
     @Transactional
     @TimeSaleMetered(version = "v1")
     public TimeSale purchasesTimeSale(Long timeSaleId, TimeSaleDto.PurchaseRequest request) {
+        // 재고 및 사용자별 구매 제한을 Redis에서 차감 (구매 실패시 반환)
+        timeSalePurchaseLimiter.reserve(timeSaleId, request.getUserId(), request.getQuantity());
+        try {
+            return purchaseWithPessimisticLock(timeSaleId, request);
+        } catch (RuntimeException e) {
+            timeSalePurchaseLimiter.release(timeSaleId, request.getUserId(), request.getQuantity());
+            throw e;
+        }
+    }
+
+    private TimeSale purchaseWithPessimisticLock(Long timeSaleId, TimeSaleDto.PurchaseRequest request) {
         TimeSale timeSale = timeSaleRepository.findByIdWithPessimisticLock(timeSaleId)
                 .orElseThrow(() -> new IllegalArgumentException("TimeSale not found"));
 
         timeSale.purchase(request.getQuantity());
         timeSaleRepository.save(timeSale);
+        if (timeSale.getStatus() == TimeSaleStatus.SOLD_OUT) {
+            closeSoldOutAfterCommit(timeSaleId);
+        }
 
         TimeSaleOrder order = TimeSaleOrder.builder()
                 .userId(request.getUserId())
@@ -82,6 +112,90 @@ public class TimeSaleService {
         return timeSale;
     }
 
+    /**
+     * 조건부 UPDATE를 이용한 구매 (비관적 락 X)
+     * 0. 재고 및 사용자별 구매 제한 차감 (Redis, 실패시 반환)
+     * 1. 재고/상태/기간 조건을 만족하는 경우에만 재고 차감 (단일 UPDATE, 마지막 재고면 SOLD_OUT)
+     * 2. 차감 이후 타임세일 정보 조회 (필요한 컬럼만 조회)
+     * 3. 주문 생성, 매진된 경우 커밋 이후 매진 전파 및 v2 캐시 삭제
+     * -> 행 락은 UPDATE ~ 커밋 구간에만 유지되어 락 대기 없이 처리량 개선
+     */
+    @Transactional
+    @TimeSaleMetered(version = "v1-conditional")
+    public TimeSaleDto.PurchaseResponse purchaseTimeSaleConditionally(Long timeSaleId, TimeSaleDto.PurchaseRequest request) {
+        timeSalePurchaseLimiter.reserve(timeSaleId, request.getUserId(), request.getQuantity());
+        try {
+            return purchaseWithConditionalUpdate(timeSaleId, request);
+        } catch (RuntimeException e) {
+            timeSalePurchaseLimiter.release(timeSaleId, request.getUserId(), request.getQuantity());
+            throw e;
+        }
+    }
+
+    private TimeSaleDto.PurchaseResponse purchaseWithConditionalUpdate(Long timeSaleId, TimeSaleDto.PurchaseRequest request) {
+        int updated = timeSaleRepository.decreaseRemainingQuantity(
+                timeSaleId, request.getQuantity(), TimeSaleStatus.ACTIVE, LocalDateTime.now());
+        if (updated == 0) {
+            throw purchaseFailure(timeSaleId, request.getQuantity());
+        }
+
+        // 차감 이후 조회 (같은 트랜잭션이므로 차감된 재고가 보임 -> UPDATE의 CASE로 매진되었는지 확인)
+        TimeSalePurchaseInfo purchaseInfo = timeSaleRepository.findPurchaseInfoById(timeSaleId)
+                .orElseThrow(() -> new IllegalArgumentException("TimeSale not found"));
+        if (purchaseInfo.getRemainingQuantity() == 0) {
+            closeSoldOutAfterCommit(timeSaleId);
+        }
+
+        // 주문은 완료 상태로 저장 (저장 후 상태 변경으로 인한 추가 UPDATE X)
+        TimeSaleOrder order = TimeSaleOrder.builder()
+                .userId(request.getUserId())
+                .timeSale(timeSaleRepository.getReferenceById(timeSaleId))
+                .quantity(request.getQuantity())
+                .discountPrice(purchaseInfo.getDiscountPrice())
+                .build();
+        order.complete();
+        timeSaleOrderRepository.save(order);
+
+        return TimeSaleDto.PurchaseResponse.builder()
+                .timeSaleId(timeSaleId)
+                .userId(request.getUserId())
+                .productId(purchaseInfo.getProductId())
+                .quantity(request.getQuantity())
+                .discountPrice(purchaseInfo.getDiscountPrice())
+                .purchasedAt(LocalDateTime.now())
+                .build();
+    }
+
+    // 조건부 UPDATE 실패 원인 확인 (기존 구매 검증과 동일한 예외 메시지 사용)
+    private IllegalStateException purchaseFailure(Long timeSaleId, Long quantity) {
+        TimeSale timeSale = timeSaleRepository.findById(timeSaleId)
+                .orElseThrow(() -> new IllegalArgumentException("TimeSale not found"));
+        try {
+            timeSale.validatePurchase(quantity);
+        } catch (IllegalStateException e) {
+            return e;
+        }
+        return new IllegalStateException("Time sale is not purchasable");
+    }
+
+    /**
+     * DB에서 매진된 타임세일을 커밋 이후에 닫음 (롤백된 구매로 매진 처리되지 않도록)
+     * - 매진 레지스트리에 전파하여 v2/v3 구매 요청을 로컬에서 거절
+     * - v2 스냅샷 캐시는 ACTIVE 상태로 남아 있으므로 삭제 -> 다음 조회시 DB에서 다시 로딩
+     */
+    private void closeSoldOutAfterCommit(Long timeSaleId) {
+        timeSaleSoldOutRegistry.markSoldOutAfterCommit(timeSaleId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    timeSaleRedisService.evictFromRedis(timeSaleId);
+                }
+            });
+        } else {
+            timeSaleRedisService.evictFromRedis(timeSaleId);
+        }
+    }
 
     private void validateTimeSale(Long quantity, Long discountPrice, LocalDateTime startAt, LocalDateTime endAt) {
         if (startAt.isAfter(endAt)) {
@@ -0,0 +1,192 @@
+package org.sky.haaneul.timesaleservice.service.v2;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.sky.haaneul.timesaleservice.exception.DuplicateRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 기반 중복 요청 처리
+ * - 첫 요청의 응답을 압축된 문자열로 Redis(idempotency:{scope}:{key})에 TTL과 함께 기록하고, 같은 키의 재시도는 기록된 응답을 반환
+ * - 처리 중인 요청과 같은 키가 들어오면
+ *   - 같은 인스턴스: 첫 요청의 결과를 함께 기다림 (Redis 접근 X)
+ *   - 다른 인스턴스: 결과가 기록될 때까지 잠시 대기 후, 그래도 처리 중이면 409
+ * - 처리에 실패한 요청은 기록하지 않음 (재시도시 다시 처리)
+ * - 처리 중 표시는 처리가 끝날 때까지 renew-interval-ms마다 TTL 연장 (락 대기 등으로 in-progress-ttl보다 오래 걸려도 만료 X)
+ *   -> 인스턴스가 종료되면 연장이 멈추므로 in-progress-ttl 이후 재시도 가능
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+    private static final String IDEMPOTENCY_KEY = "idempotency:";
+    private static final String IN_PROGRESS = "";  // 처리 중 표시 (응답은 항상 비어있지 않음)
+    private static final long POLL_INTERVAL_MILLIS = 50L;
+    // KEYS: 기록 / ARGV: 처리 중 표시, TTL(ms) -> 아직 처리 중인 경우에만 연장 (기록된 응답의 TTL은 변경 X)
+    private static final String RENEW_SCRIPT =
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+            "return 0";
+
+    private final RedissonClient redissonClient;
+
+    // 이 인스턴스에서 처리 중인 요청 (같은 키의 동시 요청을 하나로 합침)
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    // 이 인스턴스가 처리 중 표시를 기록하고 처리 중인 키 (TTL 연장 대상)
+    private final Set<String> processing = ConcurrentHashMap.newKeySet();
+
+    @Value("${time-sale.idempotency.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    @Value("${time-sale.idempotency.in-progress-ttl-seconds:10}")
+    private long inProgressTtlSeconds;
+
+    @Value("${time-sale.idempotency.wait-ms:3000}")
+    private long waitMillis;
+
+    /**
+     * 같은 scope + idempotencyKey 요청은 한 번만 처리하고 기록된 응답을 반환
+     * idempotencyKey가 없으면 그대로 처리
+     *
+     * @param scope 키 충돌 방지용 범위 (API, 타임세일 ID, 사용자 ID 등)
+     * @param encoder 응답 -> 기록용 문자열
+     * @param decoder 기록용 문자열 -> 응답
+     */
+    public <T> T execute(String scope, String idempotencyKey, Supplier<T> action,
+                         Function<T, String> encoder, Function<String, T> decoder) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+
+        String key = IDEMPOTENCY_KEY + scope + ":" + idempotencyKey;
+        CompletableFuture<String> future = new CompletableFuture<>();
+        CompletableFuture<String> running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            return decoder.apply(await(running));
+        }
+
+        try {
+            String recorded = executeOnce(key, action, encoder);
+            future.complete(recorded);
+            return decoder.apply(recorded);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private <T> String executeOnce(String key, Supplier<T> action, Function<T, String> encoder) {
+        RBucket<String> bucket = redissonClient.getBucket(key, StringCodec.INSTANCE);
+
+        // 재시도 대부분은 이미 처리가 끝난 요청이므로 조회 한 번으로 응답
+        String recorded = bucket.get();
+        if (recorded != null && !IN_PROGRESS.equals(recorded)) {
+            return recorded;
+        }
+        if (recorded == null && bucket.setIfAbsent(IN_PROGRESS, Duration.ofSeconds(inProgressTtlSeconds))) {
+            processing.add(key);
+            try {
+                return record(bucket, action, encoder);
+            } finally {
+                processing.remove(key);
+            }
+        }
+        return waitForRecord(bucket);
+    }
+
+    private <T> String record(RBucket<String> bucket, Supplier<T> action, Function<T, String> encoder) {
+        String response;
+        try {
+            response = encoder.apply(action.get());
+        } catch (RuntimeException e) {
+            bucket.delete();
+            throw e;
+        }
+
+        try {
+            bucket.set(response, Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            // 처리는 끝났으므로 응답은 그대로 반환 (처리 중 표시는 TTL 후 만료)
+            log.error("Failed to record idempotent response: {}", bucket.getName(), e);
+        }
+        return response;
+    }
+
+    /**
+     * 처리 중인 요청의 처리 중 표시 TTL 연장
+     */
+    @Scheduled(fixedDelayString = "${time-sale.idempotency.renew-interval-ms:3000}")
+    public void renewInProgress() {
+        for (String key : processing) {
+            try {
+                redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, RENEW_SCRIPT,
+                        RScript.ReturnType.INTEGER, List.of(key), IN_PROGRESS,
+                        String.valueOf(TimeUnit.SECONDS.toMillis(inProgressTtlSeconds)));
+            } catch (Exception e) {
+                log.warn("Failed to renew idempotency in-progress marker: {}", key, e);
+            }
+        }
+    }
+
+    // 다른 인스턴스에서 처리 중인 요청의 결과 대기
+    private String waitForRecord(RBucket<String> bucket) {
+        long deadline = System.currentTimeMillis() + waitMillis;
+        while (System.currentTimeMillis() < deadline) {
+            sleep();
+            String recorded = bucket.get();
+            if (recorded != null && !IN_PROGRESS.equals(recorded)) {
+                return recorded;
+            }
+            if (recorded == null) {
+                // 첫 요청이 실패하여 기록이 삭제됨
+                break;
+            }
+        }
+        throw new DuplicateRequestException("Request with the same Idempotency-Key is in progress");
+    }
+
+    private String await(CompletableFuture<String> running) {
+        try {
+            return running.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CompletionException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new DuplicateRequestException("Request with the same Idempotency-Key is in progress");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DuplicateRequestException("Request with the same Idempotency-Key is in progress");
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DuplicateRequestException("Request with the same Idempotency-Key is in progress");
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package org.sky.haaneul.timesaleservice.service.v2;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sky.haaneul.timesaleservice.aop.TimeSaleMetered;
+import org.sky.haaneul.timesaleservice.domain.TimeSale;
+import org.sky.haaneul.timesaleservice.domain.TimeSaleOrder;
+import org.sky.haaneul.timesaleservice.domain.TimeSaleStatus;
+import org.sky.haaneul.timesaleservice.dto.TimeSaleDto;
+import org.sky.haaneul.timesaleservice.repository.TimeSalePurchaseInfo;
+import org.sky.haaneul.timesaleservice.repository.TimeSaleRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 타임세일 상품 묶음 구매 (전부 성공 또는 전부 실패)
+ * 1. Redis: 모든 타임세일의 재고/구매 제한을 하나의 Lua 스크립트로 확인 후 차감 (하나라도 부족하면 차감 X)
+ *    - 구매 제한 키가 공통 hash tag를 사용하므로 Redis Cluster에서도 한 스크립트로 처리
+ * 2. DB: 타임세일 ID 순으로 조건부 UPDATE (하나라도 실패하면 트랜잭션 롤백 + Redis 차감 반환)
+ * 3. 주문을 한 번에 저널에 추가 (DB INSERT는 TimeSaleOrderJournalWriter가 배치로 처리)
+ * -> 상품마다 락을 잡고 따로 구매하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimeSaleBundleService {
+    private final TimeSaleRepository timeSaleRepository;
+    private final TimeSaleOrderJournal timeSaleOrderJournal;
+    private final TimeSaleRedisService timeSaleRedisService;
+    private final TimeSaleSoldOutRegistry timeSaleSoldOutRegistry;
+    private final TimeSalePurchaseLimiter timeSalePurchaseLimiter;
+    private final TimeSaleVelocityTracker timeSaleVelocityTracker;
+
+    @Transactional
+    @TimeSaleMetered(version = "v2-bundle")
+    public TimeSaleDto.BundlePurchaseResponse purchaseBundle(TimeSaleDto.BundlePurchaseRequest request) {
+        // 같은 타임세일은 수량 합산, ID 순으로 정렬 (DB 행 락 순서 고정 -> 교착 상태 방지)
+        Map<Long, Long> quantities = request.getItems().stream()
+                .collect(Collectors.groupingBy(TimeSaleDto.BundleItem::getTimeSaleId, TreeMap::new,
+                        Collectors.summingLong(TimeSaleDto.BundleItem::getQuantity)));
+
+        // 매진/종료된 타임세일이 하나라도 있으면 I/O 없이 거절
+        quantities.keySet().forEach(timeSaleSoldOutRegistry::rejectIfClosed);
+
+        timeSalePurchaseLimiter.reserveAll(request.getUserId(), quantities);
+        try {
+            return purchaseAll(request.getUserId(), quantities);
+        } catch (RuntimeException e) {
+            quantities.forEach((timeSaleId, quantity) ->
+                    timeSalePurchaseLimiter.release(timeSaleId, request.getUserId(), quantity));
+            throw e;
+        }
+    }
+
+    private TimeSaleDto.BundlePurchaseResponse purchaseAll(Long userId, Map<Long, Long> quantities) {
+        LocalDateTime now = LocalDateTime.now();
+        quantities.forEach((timeSaleId, quantity) -> {
+            int updated = timeSaleRepository.decreaseRemainingQuantity(timeSaleId, quantity, TimeSaleStatus.ACTIVE, now);
+            if (updated == 0) {
+                throw purchaseFailure(timeSaleId, quantity);
+            }
+        });
+
+        // 차감 이후 조회 (같은 트랜잭션이므로 차감된 재고가 보임)
+        Map<Long, TimeSalePurchaseInfo> purchaseInfos = timeSaleRepository.findAllPurchaseInfoByIdIn(quantities.keySet()).stream()
+                .collect(Collectors.toMap(TimeSalePurchaseInfo::getId, Function.identity()));
+
+        List<TimeSaleOrder> orders = new ArrayList<>();
+        List<TimeSaleDto.PurchaseResponse> items = new ArrayList<>();
+        long totalPrice = 0L;
+        for (Map.Entry<Long, Long> entry : quantities.entrySet()) {
+            Long timeSaleId = entry.getKey();
+            Long quantity = entry.getValue();
+            TimeSalePurchaseInfo purchaseInfo = purchaseInfos.get(timeSaleId);
+
+            TimeSaleOrder order = TimeSaleOrder.builder()
+                    .userId(userId)
+                    .timeSale(timeSaleRepository.getReferenceById(timeSaleId))
+                    .quantity(quantity)
+                    .discountPrice(purchaseInfo.getDiscountPrice())
+                    .build();
+            order.complete();
+            orders.add(order);
+
+            items.add(TimeSaleDto.PurchaseResponse.builder()
+                    .timeSaleId(timeSaleId)
+                    .userId(userId)
+                    .productId(purchaseInfo.getProductId())
+                    .quantity(quantity)
+                    .discountPrice(purchaseInfo.getDiscountPrice())
+                    .purchasedAt(now)
+                    .build());
+            totalPrice += purchaseInfo.getDiscountPrice() * quantity;
+
+            if (purchaseInfo.getRemainingQuantity() == 0) {
+                timeSaleSoldOutRegistry.markSoldOutAfterCommit(timeSaleId);
+            }
+        }
+        timeSaleOrderJournal.appendAll(orders);
+        quantities.forEach(timeSaleVelocityTracker::record);
+        runAfterCommit(() -> quantities.keySet().forEach(timeSaleRedisService::evictFromRedis));
+
+        return TimeSaleDto.BundlePurchaseResponse.builder()
+                .userId(userId)
+                .items(items)
+                .totalPrice(totalPrice)
+                .build();
+    }
+
+    // 조건부 UPDATE 실패 원인 확인 (기존 구매 검증과 동일한 예외 메시지 사용)
+    private IllegalStateException purchaseFailure(Long timeSaleId, Long quantity) {
+        TimeSale timeSale = timeSaleRepository.findById(timeSaleId)
+                .orElseThrow(() -> new IllegalArgumentException("TimeSale not found"));
+        try {
+            timeSale.validatePurchase(quantity);
+        } catch (IllegalStateException e) {
+            if (timeSale.getRemainingQuantity() == 0) {
+                timeSaleSoldOutRegistry.markSoldOut(timeSaleId);
+            }
+            return e;
+        }
+        return new IllegalStateException("Time sale is not purchasable");
+    }
+
+    private void runAfterCommit(Runnable action) {
+        Runnable safeAction = () -> {
+            try {
+                action.run();
+            } catch (Exception e) {
+                log.error("Failed to run time sale bundle post-commit action", e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeAction.run();
+                }
+            });
+        } else {
+            safeAction.run();
+        }
+    }
+}
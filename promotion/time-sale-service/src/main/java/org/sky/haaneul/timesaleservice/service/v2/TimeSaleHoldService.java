@@ -0,0 +1,195 @@
+package org.sky.haaneul.timesaleservice.service.v2;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.sky.haaneul.timesaleservice.aop.TimeSaleMetered;
+import org.sky.haaneul.timesaleservice.domain.OrderStatus;
+import org.sky.haaneul.timesaleservice.domain.TimeSale;
+import org.sky.haaneul.timesaleservice.domain.TimeSaleOrder;
+import org.sky.haaneul.timesaleservice.domain.TimeSaleStatus;
+import org.sky.haaneul.timesaleservice.dto.TimeSaleDto;
+import org.sky.haaneul.timesaleservice.repository.TimeSaleOrderRepository;
+import org.sky.haaneul.timesaleservice.repository.TimeSalePurchaseInfo;
+import org.sky.haaneul.timesaleservice.repository.TimeSaleRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 재고 홀드 후 결제 확정
+ * 1. 홀드: 조건부 UPDATE로 재고를 차감하고 PENDING 주문(만료 시각 포함) 생성
+ * 2. 확정: 만료되지 않은 PENDING 주문만 COMPLETED로 변경
+ * 3. 만료: 만료 시각이 지난 홀드는 Sweeper가 일괄로 EXPIRED 처리하고 재고 반환
+ * - 만료 시각은 Redis Sorted Set(time-sale-hold:expiry)에 보관 (홀드마다 타이머를 두지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimeSaleHoldService {
+    static final String HOLD_EXPIRY_KEY = "time-sale-hold:expiry";  // orderId -> expiresAt(epoch millis)
+
+    private final TimeSaleRepository timeSaleRepository;
+    private final TimeSaleOrderRepository timeSaleOrderRepository;
+    private final TimeSaleRedisService timeSaleRedisService;
+    private final TimeSaleSoldOutRegistry timeSaleSoldOutRegistry;
+    private final TimeSalePurchaseLimiter timeSalePurchaseLimiter;
+    private final RedissonClient redissonClient;
+
+    @Value("${time-sale.hold.ttl-seconds:600}")
+    private long holdTtlSeconds;
+
+    @Transactional
+    @TimeSaleMetered(version = "v2-hold")
+    public TimeSaleDto.HoldResponse hold(Long timeSaleId, TimeSaleDto.PurchaseRequest request) {
+        timeSaleSoldOutRegistry.rejectIfClosed(timeSaleId);
+
+        // 재고 및 사용자별 구매 제한 차감 (홀드 실패/만료시 반환)
+        timeSalePurchaseLimiter.reserve(timeSaleId, request.getUserId(), request.getQuantity());
+        try {
+            return holdStock(timeSaleId, request);
+        } catch (RuntimeException e) {
+            timeSalePurchaseLimiter.release(timeSaleId, request.getUserId(), request.getQuantity());
+            throw e;
+        }
+    }
+
+    private TimeSaleDto.HoldResponse holdStock(Long timeSaleId, TimeSaleDto.PurchaseRequest request) {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = timeSaleRepository.decreaseRemainingQuantity(
+                timeSaleId, request.getQuantity(), TimeSaleStatus.ACTIVE, now);
+        if (updated == 0) {
+            throw holdFailure(timeSaleId, request.getQuantity());
+        }
+
+        // 차감 이후 조회 (같은 트랜잭션이므로 차감된 재고가 보임)
+        TimeSalePurchaseInfo purchaseInfo = timeSaleRepository.findPurchaseInfoById(timeSaleId)
+                .orElseThrow(() -> new IllegalArgumentException("TimeSale not found"));
+
+        LocalDateTime expiresAt = now.plusSeconds(holdTtlSeconds);
+        TimeSaleOrder order = timeSaleOrderRepository.save(TimeSaleOrder.builder()
+                .userId(request.getUserId())
+                .timeSale(timeSaleRepository.getReferenceById(timeSaleId))
+                .quantity(request.getQuantity())
+                .discountPrice(purchaseInfo.getDiscountPrice())
+                .expiresAt(expiresAt)
+                .build());
+
+        // 커밋 전에 등록 (Redis 등록 실패시 홀드도 롤백되어 재고가 묶이지 않음, 롤백된 주문은 만료 처리시 무시됨)
+        redissonClient.getScoredSortedSet(HOLD_EXPIRY_KEY, StringCodec.INSTANCE)
+                .add(toEpochMillis(expiresAt), String.valueOf(order.getId()));
+
+        if (purchaseInfo.getRemainingQuantity() == 0) {
+            timeSaleSoldOutRegistry.markSoldOutAfterCommit(timeSaleId);
+        }
+        runAfterCommit(() -> timeSaleRedisService.evictFromRedis(timeSaleId));
+
+        return TimeSaleDto.HoldResponse.builder()
+                .orderId(order.getId())
+                .timeSaleId(timeSaleId)
+                .userId(request.getUserId())
+                .productId(purchaseInfo.getProductId())
+                .quantity(request.getQuantity())
+                .discountPrice(purchaseInfo.getDiscountPrice())
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    @Transactional
+    public void confirm(Long orderId, Long userId) {
+        int updated = timeSaleOrderRepository.confirmHold(
+                orderId, userId, OrderStatus.PENDING, OrderStatus.COMPLETED, LocalDateTime.now());
+        if (updated == 0) {
+            throw new IllegalStateException("Hold not found or expired");
+        }
+
+        runAfterCommit(() -> redissonClient.getScoredSortedSet(HOLD_EXPIRY_KEY, StringCodec.INSTANCE)
+                .remove(String.valueOf(orderId)));
+    }
+
+    /**
+     * 만료된 홀드 일괄 처리
+     * - 확정되지 않은 주문만 EXPIRED로 변경하고 타임세일별로 재고를 합산하여 반환
+     *
+     * @return 만료 처리된 홀드 수
+     */
+    @Transactional
+    public int expireHolds(Collection<Long> orderIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<TimeSaleOrder> expired = timeSaleOrderRepository.findAllExpiredForUpdate(orderIds, OrderStatus.PENDING, now);
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        // 타임세일 ID 순서로 재고 반환 (락 순서 고정)
+        Map<Long, Long> releasedQuantities = expired.stream()
+                .collect(Collectors.groupingBy(order -> order.getTimeSale().getId(), TreeMap::new,
+                        Collectors.summingLong(TimeSaleOrder::getQuantity)));
+
+        timeSaleOrderRepository.updateStatusByIdIn(
+                expired.stream().map(TimeSaleOrder::getId).toList(), OrderStatus.PENDING, OrderStatus.EXPIRED, now);
+        releasedQuantities.forEach((timeSaleId, quantity) ->
+                timeSaleRepository.increaseRemainingQuantity(timeSaleId, quantity, now));
+
+        runAfterCommit(() -> {
+            expired.forEach(order -> timeSalePurchaseLimiter.release(
+                    order.getTimeSale().getId(), order.getUserId(), order.getQuantity()));
+            releasedQuantities.keySet().forEach(timeSaleId -> {
+                timeSaleRedisService.evictFromRedis(timeSaleId);
+                timeSaleSoldOutRegistry.reopen(timeSaleId);
+            });
+        });
+        return expired.size();
+    }
+
+    // 조건부 UPDATE 실패 원인 확인 (기존 구매 검증과 동일한 예외 메시지 사용)
+    private IllegalStateException holdFailure(Long timeSaleId, Long quantity) {
+        TimeSale timeSale = timeSaleRepository.findById(timeSaleId)
+                .orElseThrow(() -> new IllegalArgumentException("TimeSale not found"));
+        try {
+            timeSale.validatePurchase(quantity);
+        } catch (IllegalStateException e) {
+            if (timeSale.getRemainingQuantity() == 0) {
+                timeSaleSoldOutRegistry.markSoldOut(timeSaleId);
+            }
+            return e;
+        }
+        return new IllegalStateException("Time sale is not purchasable");
+    }
+
+    private void runAfterCommit(Runnable action) {
+        Runnable safeAction = () -> {
+            try {
+                action.run();
+            } catch (Exception e) {
+                log.error("Failed to run time sale hold post-commit action", e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeAction.run();
+                }
+            });
+        } else {
+            safeAction.run();
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,58 @@
+package org.sky.haaneul.timesaleservice.service.v2;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+
+/**
+ * 만료된 홀드 정리
+ * - 만료 시각이 지난 홀드를 Sorted Set에서 배치 단위로 꺼내 일괄 만료 처리
+ * - 인스턴스가 여러 개여도 한 인스턴스만 처리 (락 획득 실패시 이번 주기는 건너뜀)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimeSaleHoldSweeper {
+    private static final String SWEEP_LOCK = "time-sale-hold:sweep-lock";
+    private static final int SWEEP_BATCH_SIZE = 500;
+
+    private final RedissonClient redissonClient;
+    private final TimeSaleHoldService timeSaleHoldService;
+
+    @Scheduled(fixedDelay = 1_000)
+    public void releaseExpiredHolds() {
+        RLock lock = redissonClient.getLock(SWEEP_LOCK);
+        if (!lock.tryLock()) {
+            return;
+        }
+
+        try {
+            RScoredSortedSet<String> expiry = redissonClient.getScoredSortedSet(TimeSaleHoldService.HOLD_EXPIRY_KEY, StringCodec.INSTANCE);
+            int released = 0;
+            Collection<String> orderIds;
+            do {
+                orderIds = expiry.valueRange(Double.NEGATIVE_INFINITY, true, System.currentTimeMillis(), true, 0, SWEEP_BATCH_SIZE);
+                if (orderIds.isEmpty()) {
+                    break;
+                }
+                released += timeSaleHoldService.expireHolds(orderIds.stream().map(Long::valueOf).toList());
+                expiry.removeAll(orderIds);
+            } while (orderIds.size() == SWEEP_BATCH_SIZE);
+
+            if (released > 0) {
+                log.info("Released {} expired time sale holds", released);
+            }
+        } catch (Exception e) {
+            log.error("Failed to release expired time sale holds", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
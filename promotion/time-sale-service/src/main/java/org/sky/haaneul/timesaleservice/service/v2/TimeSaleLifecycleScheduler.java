@@ -0,0 +1,244 @@
+package org.sky.haaneul.timesaleservice.service.v2;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.sky.haaneul.timesaleservice.domain.TimeSale;
+import org.sky.haaneul.timesaleservice.domain.TimeSaleStatus;
+import org.sky.haaneul.timesaleservice.repository.TimeSaleRepository;
+import org.sky.haaneul.timesaleservice.repository.TimeSaleSchedule;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 타임세일 시작/종료 스케줄러
+ * - 시작/종료 시각을 로컬 DelayQueue(시각 순 우선순위 큐)에 보관하고, 가장 빠른 시각이 될 때까지 대기 (polling X)
+ * - 같은 시각에 도래한 전환은 모아서 일괄 처리
+ * - 타임세일 생성시 Redis Pub/Sub(time-sale:lifecycle:topic)으로 모든 인스턴스의 큐에 등록
+ * - 애플리케이션 시작시 종료되지 않은 타임세일을 DB에서 읽어 큐 복구 (이미 지난 전환은 즉시 처리)
+ *   - 복구에 실패해도 워커는 시작하고, 워커가 RETRY_DELAY_MILLIS마다 복구를 다시 시도
+ * -> 구매/목록 조회는 현재 시각 대신 상태만 비교
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimeSaleLifecycleScheduler {
+    private static final String LIFECYCLE_TOPIC = "time-sale:lifecycle:topic";  // "timeSaleId:STATUS:startAt:endAt" (epoch millis)
+    private static final List<TimeSaleStatus> PENDING_STATUSES = List.of(TimeSaleStatus.SCHEDULED, TimeSaleStatus.ACTIVE, TimeSaleStatus.SOLD_OUT);
+    private static final long RETRY_DELAY_MILLIS = 1_000L;  // 전환 실패시 재시도 간격
+
+    private final RedissonClient redissonClient;
+    private final TimeSaleRepository timeSaleRepository;
+    private final TimeSaleLifecycleService timeSaleLifecycleService;
+
+    private final DelayQueue<Transition> transitions = new DelayQueue<>();
+    private final Set<Long> scheduledSales = ConcurrentHashMap.newKeySet();  // 중복 등록 방지
+    private volatile Thread worker;
+    private volatile boolean recovered;
+
+    /**
+     * 새로 생성된 타임세일의 시작/종료 등록 (트랜잭션 안에서 호출되면 커밋 이후에 전파)
+     */
+    public void schedule(TimeSale timeSale) {
+        Long timeSaleId = timeSale.getId();
+        long startAt = toEpochMillis(timeSale.getStartAt());
+        long endAt = toEpochMillis(timeSale.getEndAt());
+        TimeSaleStatus status = timeSale.getStatus();
+
+        runAfterCommit(() -> {
+            try {
+                redissonClient.getTopic(LIFECYCLE_TOPIC, StringCodec.INSTANCE)
+                        .publish(timeSaleId + ":" + status.name() + ":" + startAt + ":" + endAt);
+            } catch (Exception e) {
+                // 전파에 실패해도 이 인스턴스에서는 전환되도록 등록
+                log.error("Failed to broadcast time sale schedule: {}", timeSaleId, e);
+                enqueue(timeSaleId, startAt, endAt, status == TimeSaleStatus.SCHEDULED);
+            }
+        });
+    }
+
+    /**
+     * 애플리케이션 시작시 구독 및 DB 기준으로 큐 복구
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        try {
+            redissonClient.getTopic(LIFECYCLE_TOPIC, StringCodec.INSTANCE)
+                    .addListener(String.class, (channel, message) -> onScheduled(message));
+        } catch (Exception e) {
+            log.error("Failed to subscribe time sale lifecycle topic", e);
+        }
+
+        try {
+            loadSchedules();
+        } catch (Exception e) {
+            log.error("Failed to recover time sale lifecycle, retrying in worker", e);
+        } finally {
+            worker = new Thread(this::run, "time-sale-lifecycle");
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    // 아직 도래하지 않은 전환 수
+    int pendingTransitions() {
+        return transitions.size();
+    }
+
+    private void loadSchedules() {
+        List<TimeSaleSchedule> schedules = timeSaleRepository.findSchedulesByStatusIn(PENDING_STATUSES);
+        for (TimeSaleSchedule schedule : schedules) {
+            enqueue(schedule.getId(), toEpochMillis(schedule.getStartAt()), toEpochMillis(schedule.getEndAt()),
+                    schedule.getStatus() == TimeSaleStatus.SCHEDULED);
+        }
+        recovered = true;
+        log.info("Time sale lifecycle recovered: {} sales", schedules.size());
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                if (!recovered) {
+                    retryRecover();
+                }
+                // 복구 전에는 재시도 간격만큼만 대기, 이후에는 가장 빠른 전환 시각까지 대기
+                Transition next = recovered ? transitions.take() : transitions.poll(RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+                if (next == null) {
+                    continue;
+                }
+                List<Transition> due = new ArrayList<>();
+                due.add(next);
+                transitions.drainTo(due);
+                apply(due);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("Failed to apply time sale transitions", e);
+            }
+        }
+    }
+
+    private void retryRecover() {
+        try {
+            loadSchedules();
+        } catch (Exception e) {
+            log.warn("Failed to recover time sale lifecycle: {}", e.getMessage());
+        }
+    }
+
+    // 시작 -> 종료 순서로 일괄 처리 (시작 전에 종료 시각이 지난 경우도 한 번에 처리)
+    private void apply(List<Transition> due) {
+        List<Transition> starts = due.stream().filter(transition -> transition.type == Type.START).toList();
+        List<Transition> ends = due.stream().filter(transition -> transition.type == Type.END).toList();
+
+        if (!starts.isEmpty()) {
+            applyOrRetry(starts, () -> timeSaleLifecycleService.start(ids(starts)));
+        }
+        if (!ends.isEmpty()) {
+            applyOrRetry(ends, () -> {
+                timeSaleLifecycleService.end(ids(ends));
+                ends.forEach(transition -> scheduledSales.remove(transition.timeSaleId));
+            });
+        }
+    }
+
+    private void applyOrRetry(List<Transition> batch, Runnable action) {
+        try {
+            action.run();
+            log.info("Time sale {} applied: {}", batch.get(0).type, ids(batch));
+        } catch (Exception e) {
+            log.error("Failed to apply time sale {}: {}, retrying", batch.get(0).type, ids(batch), e);
+            long retryAt = System.currentTimeMillis() + RETRY_DELAY_MILLIS;
+            batch.forEach(transition -> transitions.add(new Transition(transition.timeSaleId, transition.type, retryAt)));
+        }
+    }
+
+    private void onScheduled(String message) {
+        try {
+            String[] fields = message.split(":");
+            enqueue(Long.valueOf(fields[0]), Long.parseLong(fields[2]), Long.parseLong(fields[3]),
+                    TimeSaleStatus.valueOf(fields[1]) == TimeSaleStatus.SCHEDULED);
+        } catch (Exception e) {
+            log.warn("Invalid time sale lifecycle message: {}", message, e);
+        }
+    }
+
+    private void enqueue(Long timeSaleId, long startAt, long endAt, boolean scheduled) {
+        if (!scheduledSales.add(timeSaleId)) {
+            return;
+        }
+        if (scheduled) {
+            transitions.add(new Transition(timeSaleId, Type.START, startAt));
+        }
+        transitions.add(new Transition(timeSaleId, Type.END, endAt));
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static List<Long> ids(List<Transition> batch) {
+        return batch.stream().map(transition -> transition.timeSaleId).distinct().toList();
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private enum Type {
+        START, END
+    }
+
+    private static final class Transition implements Delayed {
+        private final Long timeSaleId;
+        private final Type type;
+        private final long at;  // epoch millis
+
+        private Transition(Long timeSaleId, Type type, long at) {
+            this.timeSaleId = timeSaleId;
+            this.type = type;
+            this.at = at;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(at - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(at, ((Transition) other).at);
+        }
+    }
+}
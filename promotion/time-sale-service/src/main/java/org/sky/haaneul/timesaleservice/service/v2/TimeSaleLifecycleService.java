@@ -0,0 +1,97 @@
+package org.sky.haaneul.timesaleservice.service.v2;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+import org.sky.haaneul.timesaleservice.domain.TimeSaleStatus;
+import org.sky.haaneul.timesaleservice.repository.TimeSaleRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 타임세일 상태 전환 (시작/종료)
+ * - 시작/종료 시각이 된 타임세일을 조건부 UPDATE로 일괄 전환 (여러 인스턴스가 동시에 실행해도 한 번만 반영)
+ * - 커밋 이후 캐시 삭제, 목록 인덱스 갱신, 종료 상태 전파
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimeSaleLifecycleService {
+    private static final List<TimeSaleStatus> STARTABLE_STATUSES = List.of(TimeSaleStatus.SCHEDULED);
+    private static final List<TimeSaleStatus> ENDABLE_STATUSES = List.of(TimeSaleStatus.SCHEDULED, TimeSaleStatus.ACTIVE, TimeSaleStatus.SOLD_OUT);
+
+    private final TimeSaleRepository timeSaleRepository;
+    private final TimeSaleListingIndex timeSaleListingIndex;
+    private final TimeSaleSoldOutRegistry timeSaleSoldOutRegistry;
+    private final RedissonClient redissonClient;
+
+    /**
+     * SCHEDULED -> ACTIVE
+     *
+     * @return 전환된 타임세일 수 (다른 인스턴스가 이미 전환했으면 0)
+     */
+    @Transactional
+    public int start(Collection<Long> timeSaleIds) {
+        int started = timeSaleRepository.updateStatusByIdIn(
+                timeSaleIds, STARTABLE_STATUSES, TimeSaleStatus.ACTIVE, LocalDateTime.now());
+        if (started > 0) {
+            runAfterCommit(() -> evictFromRedis(timeSaleIds));
+            timeSaleListingIndex.invalidate();
+        }
+        return started;
+    }
+
+    /**
+     * SCHEDULED/ACTIVE/SOLD_OUT -> ENDED
+     *
+     * @return 전환된 타임세일 수 (다른 인스턴스가 이미 전환했으면 0)
+     */
+    @Transactional
+    public int end(Collection<Long> timeSaleIds) {
+        int ended = timeSaleRepository.updateStatusByIdIn(
+                timeSaleIds, ENDABLE_STATUSES, TimeSaleStatus.ENDED, LocalDateTime.now());
+        if (ended > 0) {
+            runAfterCommit(() -> {
+                evictFromRedis(timeSaleIds);
+                timeSaleIds.forEach(timeSaleSoldOutRegistry::markEnded);
+            });
+            timeSaleListingIndex.remove(timeSaleIds);
+        }
+        return ended;
+    }
+
+    // 캐시된 스냅샷을 한 번에 삭제 (다음 조회시 DB에서 변경된 상태로 다시 로딩)
+    private void evictFromRedis(Collection<Long> timeSaleIds) {
+        String[] keys = timeSaleIds.stream()
+                .map(timeSaleId -> TimeSaleRedisService.TIME_SALE_KEY + timeSaleId)
+                .toArray(String[]::new);
+        redissonClient.getKeys().unlink(keys);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        Runnable safeAction = () -> {
+            try {
+                action.run();
+            } catch (Exception e) {
+                log.error("Failed to run time sale lifecycle post-commit action", e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeAction.run();
+                }
+            });
+        } else {
+            safeAction.run();
+        }
+    }
+}
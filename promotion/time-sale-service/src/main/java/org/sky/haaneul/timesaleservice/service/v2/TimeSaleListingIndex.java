@@ -0,0 +1,299 @@
+package org.sky.haaneul.timesaleservice.service.v2;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.sky.haaneul.timesaleservice.domain.TimeSale;
+import org.sky.haaneul.timesaleservice.domain.TimeSaleStatus;
+import org.sky.haaneul.timesaleservice.dto.TimeSaleSnapshot;
+import org.sky.haaneul.timesaleservice.repository.TimeSaleRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진행중인 타임세일 목록 인덱스
+ * - Redis Sorted Set(time-sale:index)에 종료되지 않은 SCHEDULED/ACTIVE 타임세일을 endAt 기준으로 보관
+ * - 각 인스턴스는 인덱스의 로컬 스냅샷에서 페이지를 잘라서 응답 (목록 조회마다 DB range query + count를 하지 않음)
+ * - 타임세일의 시작/종료 시각이 지나면 DB 조회 없이 로컬 스냅샷만 다시 계산
+ * - 타임세일 생성/상태 변경시 인덱스 버전을 올려 다른 인스턴스도 스냅샷을 다시 읽도록 함
+ * - 정렬 조건(sort)이 있으면 스냅샷별로 한 번만 정렬하여 재사용 (지원하지 않는 속성은 거절)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimeSaleListingIndex {
+    private static final String INDEX_KEY = "time-sale:index";  // timeSaleId -> endAt(epoch millis)
+    private static final String INDEX_VERSION_KEY = "time-sale:index:version";
+    private static final long VERSION_CHECK_INTERVAL_MILLIS = 1_000L;  // 인덱스 버전 확인 주기
+    private static final long SNAPSHOT_MAX_AGE_MILLIS = 5_000L;  // 남은 수량 표시를 위한 스냅샷 최대 유지 시간
+    private static final List<TimeSaleStatus> LISTED_STATUSES = List.of(TimeSaleStatus.SCHEDULED, TimeSaleStatus.ACTIVE);
+    private static final Comparator<TimeSaleSnapshot> DEFAULT_ORDER =
+            Comparator.comparing(TimeSaleSnapshot::getEndAt).thenComparing(TimeSaleSnapshot::getId);
+    private static final Map<String, Comparator<TimeSaleSnapshot>> SORTABLE_PROPERTIES = Map.of(
+            "id", Comparator.comparing(TimeSaleSnapshot::getId),
+            "startAt", Comparator.comparing(TimeSaleSnapshot::getStartAt),
+            "endAt", Comparator.comparing(TimeSaleSnapshot::getEndAt),
+            "discountPrice", Comparator.comparing(TimeSaleSnapshot::getDiscountPrice),
+            "quantity", Comparator.comparing(TimeSaleSnapshot::getQuantity),
+            "remainingQuantity", Comparator.comparing(TimeSaleSnapshot::getRemainingQuantity),
+            "createdAt", Comparator.comparing(TimeSaleSnapshot::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+    );
+
+    private final RedissonClient redissonClient;
+    private final TimeSaleRepository timeSaleRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile long versionCheckedAt = 0L;
+
+    /**
+     * 타임세일을 인덱스에 등록 (트랜잭션 안에서 호출되면 커밋 이후에 등록)
+     */
+    public void register(TimeSale timeSale) {
+        Long timeSaleId = timeSale.getId();
+        double score = toEpochMillis(timeSale.getEndAt());
+        runAfterCommit(() -> {
+            RBatch batch = redissonClient.createBatch();
+            batch.getScoredSortedSet(INDEX_KEY, StringCodec.INSTANCE).addAsync(score, String.valueOf(timeSaleId));
+            batch.getAtomicLong(INDEX_VERSION_KEY).incrementAndGetAsync();
+            batch.execute();
+        });
+    }
+
+    /**
+     * 타임세일을 인덱스에서 제거 (매진/종료 등 상태 변경시)
+     */
+    public void remove(Long timeSaleId) {
+        remove(List.of(timeSaleId));
+    }
+
+    public void remove(Collection<Long> timeSaleIds) {
+        List<String> members = timeSaleIds.stream().map(String::valueOf).toList();
+        runAfterCommit(() -> {
+            RBatch batch = redissonClient.createBatch();
+            batch.getScoredSortedSet(INDEX_KEY, StringCodec.INSTANCE).removeAllAsync(members);
+            batch.getAtomicLong(INDEX_VERSION_KEY).incrementAndGetAsync();
+            batch.execute();
+        });
+    }
+
+    /**
+     * 인덱스 버전만 올려 모든 인스턴스가 스냅샷을 다시 읽도록 함 (시작 등 상태 변경시)
+     */
+    public void invalidate() {
+        runAfterCommit(() -> redissonClient.getAtomicLong(INDEX_VERSION_KEY).incrementAndGet());
+    }
+
+    /**
+     * 진행중인 타임세일 페이지 조회 (정렬 조건이 없으면 endAt 오름차순)
+     */
+    public Page<TimeSaleSnapshot> getOngoingTimeSales(Pageable pageable) {
+        List<TimeSaleSnapshot> ongoing = currentSnapshot().sorted(pageable.getSort());
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(ongoing, pageable, ongoing.size());
+        }
+
+        int from = (int) Math.min(pageable.getOffset(), ongoing.size());
+        int to = Math.min(from + pageable.getPageSize(), ongoing.size());
+        return new PageImpl<>(ongoing.subList(from, to), pageable, ongoing.size());
+    }
+
+    /**
+     * 애플리케이션 시작시 DB 기준으로 인덱스 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        try {
+            List<TimeSale> timeSales = timeSaleRepository.findAllWithProductByStatusInAndEndAtAfter(
+                    LISTED_STATUSES, LocalDateTime.now()
+            );
+
+            RBatch batch = redissonClient.createBatch();
+            for (TimeSale timeSale : timeSales) {
+                batch.getScoredSortedSet(INDEX_KEY, StringCodec.INSTANCE)
+                        .addAsync(toEpochMillis(timeSale.getEndAt()), String.valueOf(timeSale.getId()));
+            }
+            batch.getAtomicLong(INDEX_VERSION_KEY).incrementAndGetAsync();
+            batch.execute();
+            log.info("Time sale listing index rebuilt: {} sales", timeSales.size());
+        } catch (Exception e) {
+            log.error("Failed to rebuild time sale listing index", e);
+        }
+    }
+
+    private Snapshot currentSnapshot() {
+        long nowMillis = System.currentTimeMillis();
+        Snapshot current = snapshot;
+
+        if (nowMillis - current.loadedAt >= SNAPSHOT_MAX_AGE_MILLIS || isIndexChanged(current, nowMillis)) {
+            return reload(current);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (current.nextBoundary != null && !now.isBefore(current.nextBoundary)) {
+            // 타임세일 시작/종료 시각이 지남 -> 로컬에서만 다시 계산
+            current = Snapshot.of(current.sales, current.version, current.loadedAt, now);
+            snapshot = current;
+        }
+        return current;
+    }
+
+    private boolean isIndexChanged(Snapshot current, long nowMillis) {
+        if (nowMillis - versionCheckedAt < VERSION_CHECK_INTERVAL_MILLIS) {
+            return false;
+        }
+        versionCheckedAt = nowMillis;
+
+        try {
+            return redissonClient.getAtomicLong(INDEX_VERSION_KEY).get() != current.version;
+        } catch (Exception e) {
+            log.warn("Failed to check time sale listing index version", e);
+            return false;
+        }
+    }
+
+    private synchronized Snapshot reload(Snapshot stale) {
+        if (snapshot != stale) {
+            // 다른 스레드가 이미 갱신함
+            return snapshot;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        long nowMillis = toEpochMillis(now);
+        List<TimeSale> sales;
+        long version;
+
+        try {
+            version = redissonClient.getAtomicLong(INDEX_VERSION_KEY).get();
+            RScoredSortedSet<String> index = redissonClient.getScoredSortedSet(INDEX_KEY, StringCodec.INSTANCE);
+            index.removeRangeByScore(Double.NEGATIVE_INFINITY, true, nowMillis, true);  // 종료된 타임세일 정리
+            Collection<String> ids = index.valueRange(nowMillis, false, Double.POSITIVE_INFINITY, true);
+
+            sales = ids.isEmpty()
+                    ? List.of()
+                    : timeSaleRepository.findAllWithProductByIdIn(ids.stream().map(Long::valueOf).toList());
+        } catch (Exception e) {
+            // Redis 장애시 DB에서 직접 조회
+            log.warn("Failed to load time sale listing index, falling back to DB", e);
+            version = stale.version;
+            sales = timeSaleRepository.findAllWithProductByStatusInAndEndAtAfter(LISTED_STATUSES, now);
+        }
+
+        // 엔티티 대신 불변 스냅샷을 보관 (목록 응답 변환시 LAZY 로딩 발생 X)
+        List<TimeSaleSnapshot> activeSales = sales.stream()
+                .filter(timeSale -> LISTED_STATUSES.contains(timeSale.getStatus()))
+                .map(TimeSaleSnapshot::from)
+                .sorted(DEFAULT_ORDER)
+                .toList();
+
+        Snapshot reloaded = Snapshot.of(activeSales, version, System.currentTimeMillis(), now);
+        snapshot = reloaded;
+        versionCheckedAt = reloaded.loadedAt;
+        return reloaded;
+    }
+
+    private void runAfterCommit(Runnable action) {
+        Runnable safeAction = () -> {
+            try {
+                action.run();
+            } catch (Exception e) {
+                log.error("Failed to update time sale listing index", e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeAction.run();
+                }
+            });
+        } else {
+            safeAction.run();
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // 요청한 정렬 조건 + id (같은 값이면 페이지 사이에서 순서가 바뀌지 않도록)
+    private static Comparator<TimeSaleSnapshot> comparator(Sort sort) {
+        Comparator<TimeSaleSnapshot> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<TimeSaleSnapshot> property = SORTABLE_PROPERTIES.get(order.getProperty());
+            if (property == null) {
+                throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+            }
+            Comparator<TimeSaleSnapshot> next = order.isAscending() ? property : property.reversed();
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator.thenComparing(TimeSaleSnapshot::getId);
+    }
+
+    /**
+     * 인덱스의 로컬 스냅샷
+     * - sales: 종료되지 않은 SCHEDULED/ACTIVE 타임세일 전체
+     * - ongoing: 현재 시각 기준 진행중인 타임세일
+     * - nextBoundary: ongoing을 다시 계산해야 하는 가장 빠른 시작/종료 시각
+     * - sortedOngoing: 정렬 조건별로 정렬한 ongoing (스냅샷이 바뀌면 함께 버려짐)
+     */
+    private static final class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(List.of(), List.of(), -1L, 0L, null);
+
+        private final List<TimeSaleSnapshot> sales;
+        private final List<TimeSaleSnapshot> ongoing;
+        private final long version;
+        private final long loadedAt;
+        private final LocalDateTime nextBoundary;
+        private final Map<Sort, List<TimeSaleSnapshot>> sortedOngoing = new ConcurrentHashMap<>();
+
+        private Snapshot(List<TimeSaleSnapshot> sales, List<TimeSaleSnapshot> ongoing, long version, long loadedAt, LocalDateTime nextBoundary) {
+            this.sales = sales;
+            this.ongoing = ongoing;
+            this.version = version;
+            this.loadedAt = loadedAt;
+            this.nextBoundary = nextBoundary;
+        }
+
+        private static Snapshot of(List<TimeSaleSnapshot> sales, long version, long loadedAt, LocalDateTime now) {
+            LocalDateTime nextBoundary = null;
+            for (TimeSaleSnapshot timeSale : sales) {
+                LocalDateTime boundary = timeSale.getStartAt().isAfter(now) ? timeSale.getStartAt() : timeSale.getEndAt();
+                if (boundary.isAfter(now) && (nextBoundary == null || boundary.isBefore(nextBoundary))) {
+                    nextBoundary = boundary;
+                }
+            }
+
+            List<TimeSaleSnapshot> ongoing = sales.stream()
+                    .filter(timeSale -> !timeSale.getStartAt().isAfter(now) && timeSale.getEndAt().isAfter(now))
+                    .toList();
+            return new Snapshot(sales, ongoing, version, loadedAt, nextBoundary);
+        }
+
+        private List<TimeSaleSnapshot> sorted(Sort sort) {
+            if (sort.isUnsorted()) {
+                return ongoing;
+            }
+            Comparator<TimeSaleSnapshot> comparator = comparator(sort);  // 지원하지 않는 속성은 캐시 전에 거절
+            return sortedOngoing.computeIfAbsent(sort, key -> ongoing.stream().sorted(comparator).toList());
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package org.sky.haaneul.timesaleservice.service.v2;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.api.stream.StreamAddArgs;
+import org.redisson.client.codec.StringCodec;
+import org.sky.haaneul.timesaleservice.domain.TimeSaleOrder;
+import org.sky.haaneul.timesaleservice.exception.TimeSaleException;
+import org.sky.haaneul.timesaleservice.repository.TimeSaleOrderRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 타임세일 주문 저널 (write-behind)
+ * - 구매 트랜잭션에서는 주문을 Redis Stream({time-sale:order-journal})에 추가만 하고 DB INSERT는 하지 않음
+ * - entry는 구매 트랜잭션이 커밋된 후에 추가 (재고 차감이 커밋되기 전에 Writer가 주문을 저장하지 않도록)
+ *   - 커밋 후 추가에 실패하면 새 트랜잭션으로 DB에 직접 저장
+ * - TimeSaleOrderJournalWriter가 Consumer Group으로 읽어 JDBC batch INSERT 후 ACK/삭제
+ * - 재처리로 같은 entry가 다시 들어와도 journal_id(entry ID)로 중복 저장 방지
+ * - 쌓인 entry가 max-backlog를 넘으면 DB에 직접 저장 (DB가 따라오지 못하면 구매 속도를 DB 속도로 제한)
+ * - 아직 DB에 저장되지 않은 주문 수량을 타임세일별/사용자별로 보관 (entry 추가/ACK와 같은 MULTI에서 증감)
+ *   -> 구매 제한 초기화/정리시 DB 주문 내역에 더하거나 저장이 끝날 때까지 대기
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimeSaleOrderJournal {
+    // 저널과 미저장 수량을 한 MULTI에서 변경하므로 Redis Cluster에서도 같은 슬롯에 배치되도록 공통 hash tag 사용
+    static final String JOURNAL_KEY = "{time-sale:order-journal}";
+    private static final String PENDING_KEY = "{time-sale:order-journal}:pending:%d";  // userId -> 저장되지 않은 주문 수량
+    // KEYS: pending / ARGV: userId, 수량 증감 (0 이하가 되면 필드 삭제)
+    private static final String PENDING_SCRIPT =
+            "if redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2]) <= 0 then redis.call('HDEL', KEYS[1], ARGV[1]) end " +
+            "return 1";
+    private static final String INSERT_SQL = "INSERT INTO time_sale_orders " +
+            "(user_id, time_sale_id, quantity, discount_price, status, created_at, updated_at, journal_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final RedissonClient redissonClient;
+    private final TimeSaleOrderRepository timeSaleOrderRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${time-sale.order-journal.enabled:true}")
+    private boolean enabled;
+
+    @Value("${time-sale.order-journal.max-backlog:100000}")
+    private long maxBacklog;
+
+    private volatile long backlog;  // Writer가 마지막으로 확인한 미저장 entry 수 (구매마다 XLEN 호출 X)
+
+    /**
+     * 주문을 저널에 추가 (트랜잭션 안에서 호출되면 커밋 후 추가)
+     */
+    public void append(TimeSaleOrder order) {
+        appendAll(List.of(order));
+    }
+
+    public void appendAll(List<TimeSaleOrder> orders) {
+        if (!enabled || backlog >= maxBacklog) {
+            timeSaleOrderRepository.saveAll(orders);
+            return;
+        }
+
+        // 엔티티 대신 entry 값을 미리 만들어 두고 커밋 후에 추가
+        LocalDateTime now = LocalDateTime.now();
+        List<Map<String, String>> entries = orders.stream()
+                .map(order -> toEntry(order, now))
+                .toList();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(entries);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    add(entries);
+                } catch (Exception e) {
+                    log.error("Failed to append order journal after commit, inserting orders directly: {}", entries, e);
+                    insertDirectly(entries);
+                }
+            }
+        });
+    }
+
+    /**
+     * DB에 저장한 entry를 ACK 후 삭제하고 미저장 수량 차감 (한 MULTI에서 처리 -> 재처리되어도 한 번만 차감)
+     */
+    public void acknowledge(String group, Map<StreamMessageId, Map<String, String>> entries) {
+        StreamMessageId[] ids = entries.keySet().toArray(new StreamMessageId[0]);
+        RBatch batch = redissonClient.createBatch(BatchOptions.defaults()
+                .executionMode(BatchOptions.ExecutionMode.IN_MEMORY_ATOMIC));
+        batch.<String, String>getStream(JOURNAL_KEY, StringCodec.INSTANCE).ackAsync(group, ids);
+        batch.<String, String>getStream(JOURNAL_KEY, StringCodec.INSTANCE).removeAsync(ids);
+        entries.values().forEach(entry -> addPending(batch, Long.valueOf(entry.get("timeSaleId")),
+                Long.valueOf(entry.get("userId")), -Long.parseLong(entry.get("quantity"))));
+        batch.execute();
+    }
+
+    /**
+     * 타임세일의 아직 DB에 저장되지 않은 사용자별 주문 수량
+     */
+    public Map<Long, Long> getPendingQuantities(Long timeSaleId) {
+        Map<Long, Long> quantities = new HashMap<>();
+        redissonClient.<String, String>getMap(pendingKey(timeSaleId), StringCodec.INSTANCE).readAllMap()
+                .forEach((userId, quantity) -> quantities.put(Long.valueOf(userId), Long.valueOf(quantity)));
+        return quantities;
+    }
+
+    public boolean hasPending(Long timeSaleId) {
+        return redissonClient.getMap(pendingKey(timeSaleId), StringCodec.INSTANCE).isExists();
+    }
+
+    /**
+     * 저널 entry를 batch INSERT (이미 저장된 entry는 건너뜀)
+     *
+     * @return 새로 저장된 주문 수
+     */
+    @Transactional
+    public int write(Map<StreamMessageId, Map<String, String>> entries) {
+        Set<String> written = findWrittenJournalIds(entries.keySet());
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>();
+        entries.forEach((id, entry) -> {
+            if (written.contains(id.toString())) {
+                return;
+            }
+            LocalDateTime createdAt = LocalDateTime.parse(entry.get("createdAt"));
+            rows.add(new Object[]{
+                    Long.valueOf(entry.get("userId")),
+                    Long.valueOf(entry.get("timeSaleId")),
+                    Long.valueOf(entry.get("quantity")),
+                    Long.valueOf(entry.get("discountPrice")),
+                    entry.get("status"),
+                    Timestamp.valueOf(createdAt),
+                    Timestamp.valueOf(now),
+                    id.toString()
+            });
+        });
+
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        }
+        return rows.size();
+    }
+
+    // 여러 주문은 MULTI/EXEC로 한 번에 추가 (entry와 미저장 수량이 일부만 반영되지 않음)
+    private void add(List<Map<String, String>> entries) {
+        RBatch batch = redissonClient.createBatch(BatchOptions.defaults()
+                .executionMode(BatchOptions.ExecutionMode.IN_MEMORY_ATOMIC));
+        entries.forEach(entry -> {
+            batch.<String, String>getStream(JOURNAL_KEY, StringCodec.INSTANCE).addAsync(StreamAddArgs.entries(entry));
+            addPending(batch, Long.valueOf(entry.get("timeSaleId")), Long.valueOf(entry.get("userId")),
+                    Long.valueOf(entry.get("quantity")));
+        });
+        try {
+            batch.execute();
+        } catch (Exception e) {
+            throw new TimeSaleException("Failed to append order journal", e);
+        }
+    }
+
+    // 커밋 이후에는 기존 트랜잭션에 참여할 수 없으므로 새 트랜잭션으로 저장 (journal_id 없음)
+    private void insertDirectly(List<Map<String, String>> entries) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = entries.stream()
+                .map(entry -> new Object[]{
+                        Long.valueOf(entry.get("userId")),
+                        Long.valueOf(entry.get("timeSaleId")),
+                        Long.valueOf(entry.get("quantity")),
+                        Long.valueOf(entry.get("discountPrice")),
+                        entry.get("status"),
+                        Timestamp.valueOf(LocalDateTime.parse(entry.get("createdAt"))),
+                        Timestamp.valueOf(now),
+                        null
+                })
+                .toList();
+        try {
+            TransactionTemplate requiresNew = new TransactionTemplate(transactionTemplate.getTransactionManager());
+            requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            requiresNew.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, rows));
+        } catch (Exception e) {
+            log.error("Failed to insert orders after journal failure: {}", entries, e);
+        }
+    }
+
+    void updateBacklog(long backlog) {
+        this.backlog = backlog;
+    }
+
+    private Set<String> findWrittenJournalIds(Set<StreamMessageId> ids) {
+        List<String> journalIds = ids.stream().map(StreamMessageId::toString).toList();
+        String placeholders = String.join(",", Collections.nCopies(journalIds.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT journal_id FROM time_sale_orders WHERE journal_id IN (" + placeholders + ")",
+                String.class, journalIds.toArray()));
+    }
+
+    private static void addPending(RBatch batch, Long timeSaleId, Long userId, Long quantity) {
+        batch.getScript(StringCodec.INSTANCE).evalAsync(RScript.Mode.READ_WRITE, PENDING_SCRIPT, RScript.ReturnType.INTEGER,
+                List.of(pendingKey(timeSaleId)), String.valueOf(userId), String.valueOf(quantity));
+    }
+
+    private static String pendingKey(Long timeSaleId) {
+        return String.format(PENDING_KEY, timeSaleId);
+    }
+
+    private static Map<String, String> toEntry(TimeSaleOrder order, LocalDateTime createdAt) {
+        return Map.of(
+                "userId", String.valueOf(order.getUserId()),
+                "timeSaleId", String.valueOf(order.getTimeSale().getId()),
+                "quantity", String.valueOf(order.getQuantity()),
+                "discountPrice", String.valueOf(order.getDiscountPrice()),
+                "status", order.getStatus().name(),
+                "createdAt", createdAt.toString()
+        );
+    }
+}
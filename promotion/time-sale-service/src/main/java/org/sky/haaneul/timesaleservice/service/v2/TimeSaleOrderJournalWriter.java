@@ -0,0 +1,108 @@
+package org.sky.haaneul.timesaleservice.service.v2;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.AutoClaimResult;
+import org.redisson.api.RStream;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.api.stream.StreamCreateGroupArgs;
+import org.redisson.api.stream.StreamReadGroupArgs;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 저널을 DB로 저장
+ * - Consumer Group으로 읽으므로 여러 인스턴스가 나눠서 처리 (락 X)
+ * - 저장 후 ACK + 삭제 (미저장 수량 차감 포함), 저장 실패/인스턴스 종료로 ACK되지 않은 entry는 claim-idle-ms 이후 다시 가져와 재처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimeSaleOrderJournalWriter {
+    private static final String GROUP = "time-sale-order-writer";
+    private static final int MAX_BATCHES_PER_RUN = 20;  // 한 주기에 처리할 최대 배치 수
+
+    private final RedissonClient redissonClient;
+    private final TimeSaleOrderJournal timeSaleOrderJournal;
+
+    private final String consumerName = UUID.randomUUID().toString();
+    private volatile boolean groupCreated;
+
+    @Value("${time-sale.order-journal.enabled:true}")
+    private boolean enabled;
+
+    @Value("${time-sale.order-journal.batch-size:500}")
+    private int batchSize;
+
+    @Value("${time-sale.order-journal.claim-idle-ms:30000}")
+    private long claimIdleMs;
+
+    @Scheduled(fixedDelayString = "${time-sale.order-journal.flush-interval-ms:200}")
+    public void drain() {
+        if (!enabled) {
+            return;
+        }
+
+        RStream<String, String> journal = redissonClient.getStream(TimeSaleOrderJournal.JOURNAL_KEY, StringCodec.INSTANCE);
+        try {
+            createGroupIfAbsent(journal);
+
+            // 1. 처리되지 못하고 남은 entry 회수 (저장 실패, 다른 인스턴스 종료)
+            AutoClaimResult<String, String> claimed = journal.autoClaim(
+                    GROUP, consumerName, claimIdleMs, TimeUnit.MILLISECONDS, StreamMessageId.MIN, batchSize);
+            write(journal, claimed.getMessages());
+
+            // 2. 새 entry
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                Map<StreamMessageId, Map<String, String>> entries = journal.readGroup(
+                        GROUP, consumerName, StreamReadGroupArgs.neverDelivered().count(batchSize));
+                write(journal, entries);
+                if (entries.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to write time sale order journal", e);
+        } finally {
+            updateBacklog(journal);
+        }
+    }
+
+    private void write(RStream<String, String> journal, Map<StreamMessageId, Map<String, String>> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        int written = timeSaleOrderJournal.write(entries);
+        timeSaleOrderJournal.acknowledge(GROUP, entries);
+        log.debug("Time sale order journal written: {} / {}", written, entries.size());
+    }
+
+    private void createGroupIfAbsent(RStream<String, String> journal) {
+        if (groupCreated) {
+            return;
+        }
+        try {
+            journal.createGroup(StreamCreateGroupArgs.name(GROUP).id(StreamMessageId.ALL).makeStream());
+        } catch (Exception e) {
+            // 다른 인스턴스가 이미 생성한 경우 (BUSYGROUP)
+            log.debug("Time sale order journal group already exists: {}", e.getMessage());
+        }
+        groupCreated = true;
+    }
+
+    private void updateBacklog(RStream<String, String> journal) {
+        try {
+            timeSaleOrderJournal.updateBacklog(journal.size());
+        } catch (Exception e) {
+            log.warn("Failed to read time sale order journal size", e);
+        }
+    }
+}
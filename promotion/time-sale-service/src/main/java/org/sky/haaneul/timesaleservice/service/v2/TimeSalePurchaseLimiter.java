@@ -0,0 +1,323 @@
+package org.sky.haaneul.timesaleservice.service.v2;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.ScoredEntry;
+import org.sky.haaneul.timesaleservice.domain.OrderStatus;
+import org.sky.haaneul.timesaleservice.domain.TimeSale;
+import org.sky.haaneul.timesaleservice.exception.TimeSaleException;
+import org.sky.haaneul.timesaleservice.repository.TimeSaleOrderRepository;
+import org.sky.haaneul.timesaleservice.repository.TimeSaleRepository;
+import org.sky.haaneul.timesaleservice.repository.UserPurchaseQuantity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 재고 및 사용자별 구매 제한
+ * - Redis Hash({time-sale-limit}:stock:ID)에 남은 재고와 사용자당 제한 수량을, Hash({time-sale-limit}:buyers:ID)에 사용자별 구매 수량을 보관
+ *   - 모든 타임세일이 같은 hash tag를 사용 -> Redis Cluster에서도 묶음 구매 스크립트가 여러 타임세일의 키를 함께 사용 가능
+ *   - 대신 구매 제한 키는 한 슬롯에 모임 (스크립트가 짧고 키 몇 개만 사용하므로 감수, 조회/캐시 키는 타임세일별로 분산)
+ * - Lua 스크립트로 재고 확인/제한 확인/차감을 한 번에 처리 (단일 round trip, 동시 요청에도 제한 초과 X)
+ * - 묶음 구매는 여러 타임세일을 한 스크립트에서 모두 확인한 후 차감 (하나라도 부족하면 아무것도 차감 X)
+ *   - 타임세일마다 차감 후 보상 반환하면 동시 묶음 구매끼리 서로 재고를 잡고 실패하거나, 반환 전 장애시 재고가 유실됨
+ * - 최초 요청시 DB에서 남은 재고와 사용자별 구매 수량(저널에 남은 미저장 주문 포함)을 읽어 초기화
+ * - 구매 실패/홀드 만료시 차감한 수량을 반환 (반환 후 재고가 남으면 매진 상태 해제)
+ * - 타임세일 종료 후 주문 내역과 비교(reconcile)하고 키 정리
+ *   - 종료 후 reconcile-grace-ms가 지나고, 주문 저널과 v3 대기 요청이 모두 처리된 뒤에 정리 (처리 중인 주문을 불일치로 보지 않도록)
+ *   - 키 보관 기간(KEY_RETENTION)이 지나면 남은 요청이 있어도 정리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimeSalePurchaseLimiter {
+    // 여러 타임세일의 키를 한 스크립트에서 사용하므로(묶음 구매) Redis Cluster에서도 같은 슬롯에 배치되도록 공통 hash tag 사용
+    private static final String STOCK_KEY = "{time-sale-limit}:stock:%d";  // stock, limit (0이면 제한 없음)
+    private static final String BUYERS_KEY = "{time-sale-limit}:buyers:%d";  // userId -> 구매 수량
+    private static final String RECONCILE_KEY = "time-sale-limit:reconcile";  // timeSaleId -> endAt(epoch millis)
+    private static final String TOTAL_REQUESTS_KEY = "time-sale-total-requests:";  // v3 대기 요청 수
+    private static final Duration KEY_RETENTION = Duration.ofDays(1);  // 종료 후 정리 전까지 유지
+    private static final int RECONCILE_BATCH_SIZE = 100;
+    private static final List<OrderStatus> PURCHASED_STATUSES = List.of(OrderStatus.PENDING, OrderStatus.COMPLETED);
+
+    private static final long OUT_OF_STOCK = -1L;
+    private static final long LIMIT_EXCEEDED = -2L;
+    private static final long NOT_INITIALIZED = -3L;
+
+    // KEYS: stock, buyers / ARGV: userId, quantity
+    private static final String RESERVE_SCRIPT =
+            "local values = redis.call('HMGET', KEYS[1], 'stock', 'limit') " +
+            "if not values[1] then return -3 end " +
+            "local quantity = tonumber(ARGV[2]) " +
+            "local stock = tonumber(values[1]) " +
+            "if stock < quantity then return -1 end " +
+            "local limit = tonumber(values[2]) " +
+            "if limit > 0 then " +
+            "  local bought = tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0') " +
+            "  if bought + quantity > limit then return -2 end " +
+            "end " +
+            "redis.call('HINCRBY', KEYS[1], 'stock', -quantity) " +
+            "redis.call('HINCRBY', KEYS[2], ARGV[1], quantity) " +
+            "if redis.call('TTL', KEYS[2]) < 0 then redis.call('EXPIRE', KEYS[2], redis.call('TTL', KEYS[1])) end " +
+            "return stock - quantity";
+
+    // KEYS: stock1, buyers1, stock2, buyers2, ... / ARGV: userId, quantity1, quantity2, ...
+    // 반환: {0, 0} 성공, {실패 코드, 실패한 항목 순서(1부터)}
+    private static final String RESERVE_ALL_SCRIPT =
+            "local count = #ARGV - 1 " +
+            "for i = 1, count do " +
+            "  local values = redis.call('HMGET', KEYS[2 * i - 1], 'stock', 'limit') " +
+            "  if not values[1] then return {-3, i} end " +
+            "  local quantity = tonumber(ARGV[i + 1]) " +
+            "  if tonumber(values[1]) < quantity then return {-1, i} end " +
+            "  local limit = tonumber(values[2]) " +
+            "  if limit > 0 then " +
+            "    local bought = tonumber(redis.call('HGET', KEYS[2 * i], ARGV[1]) or '0') " +
+            "    if bought + quantity > limit then return {-2, i} end " +
+            "  end " +
+            "end " +
+            "for i = 1, count do " +
+            "  local quantity = tonumber(ARGV[i + 1]) " +
+            "  redis.call('HINCRBY', KEYS[2 * i - 1], 'stock', -quantity) " +
+            "  redis.call('HINCRBY', KEYS[2 * i], ARGV[1], quantity) " +
+            "  if redis.call('TTL', KEYS[2 * i]) < 0 then redis.call('EXPIRE', KEYS[2 * i], redis.call('TTL', KEYS[2 * i - 1])) end " +
+            "end " +
+            "return {0, 0}";
+
+    // KEYS: stock, buyers / ARGV: userId, quantity
+    // 반환: 반환 후 남은 재고 (초기화되지 않았으면 -3)
+    private static final String RELEASE_SCRIPT =
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -3 end " +
+            "local stock = redis.call('HINCRBY', KEYS[1], 'stock', ARGV[2]) " +
+            "if redis.call('HINCRBY', KEYS[2], ARGV[1], -tonumber(ARGV[2])) <= 0 then redis.call('HDEL', KEYS[2], ARGV[1]) end " +
+            "return stock";
+
+    // KEYS: stock, buyers / ARGV: stock, limit, expireAt(epoch seconds), userId1, quantity1, ...
+    private static final String INIT_SCRIPT =
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "redis.call('HSET', KEYS[1], 'stock', ARGV[1], 'limit', ARGV[2]) " +
+            "redis.call('EXPIREAT', KEYS[1], ARGV[3]) " +
+            "redis.call('DEL', KEYS[2]) " +
+            "for i = 4, #ARGV, 2 do redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 1]) end " +
+            "if #ARGV >= 4 then redis.call('EXPIREAT', KEYS[2], ARGV[3]) end " +
+            "return 1";
+
+    private final RedissonClient redissonClient;
+    private final TimeSaleRepository timeSaleRepository;
+    private final TimeSaleOrderRepository timeSaleOrderRepository;
+    private final MeterRegistry meterRegistry;
+    private final TimeSaleSoldOutRegistry timeSaleSoldOutRegistry;
+    private final TimeSaleOrderJournal timeSaleOrderJournal;
+
+    @Value("${time-sale.purchase-limit.reconcile-grace-ms:60000}")
+    private long reconcileGraceMs;
+
+    /**
+     * 재고 및 사용자별 구매 제한 차감 (실패시 예외)
+     */
+    public void reserve(Long timeSaleId, Long userId, Long quantity) {
+        long result = tryReserve(timeSaleId, userId, quantity);
+        if (result == OUT_OF_STOCK) {
+            throw new IllegalStateException("Not enough quantity available");
+        }
+        if (result == LIMIT_EXCEEDED) {
+            throw new IllegalStateException("Purchase limit exceeded");
+        }
+    }
+
+    /**
+     * 여러 타임세일의 재고 및 사용자별 구매 제한을 한 번에 차감 (하나라도 실패하면 아무것도 차감하지 않고 예외)
+     *
+     * @param quantities timeSaleId -> 수량
+     */
+    public void reserveAll(Long userId, Map<Long, Long> quantities) {
+        List<Long> timeSaleIds = new ArrayList<>(quantities.keySet());
+        List<Object> keys = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        args.add(String.valueOf(userId));
+        for (Long timeSaleId : timeSaleIds) {
+            keys.addAll(keys(timeSaleId));
+            args.add(String.valueOf(quantities.get(timeSaleId)));
+        }
+
+        // 초기화되지 않은 타임세일은 초기화 후 재시도 (항목마다 최대 한 번)
+        for (int attempt = 0; attempt <= timeSaleIds.size(); attempt++) {
+            List<Long> result = redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE,
+                    RESERVE_ALL_SCRIPT, RScript.ReturnType.MULTI, keys, args.toArray());
+            long code = result.get(0);
+            if (code == 0L) {
+                return;
+            }
+
+            Long failedTimeSaleId = timeSaleIds.get(result.get(1).intValue() - 1);
+            if (code == OUT_OF_STOCK) {
+                throw new IllegalStateException("Not enough quantity available: " + failedTimeSaleId);
+            }
+            if (code == LIMIT_EXCEEDED) {
+                throw new IllegalStateException("Purchase limit exceeded: " + failedTimeSaleId);
+            }
+            initialize(failedTimeSaleId);
+        }
+        throw new TimeSaleException("Failed to initialize purchase limit");
+    }
+
+    // 차감 스크립트 실행 (초기화되지 않았으면 DB 기준으로 초기화 후 한 번 재시도)
+    private long tryReserve(Long timeSaleId, Long userId, Long quantity) {
+        long result = eval(RESERVE_SCRIPT, timeSaleId, userId, quantity);
+        if (result == NOT_INITIALIZED) {
+            initialize(timeSaleId);
+            result = eval(RESERVE_SCRIPT, timeSaleId, userId, quantity);
+        }
+        if (result == NOT_INITIALIZED) {
+            throw new TimeSaleException("Failed to initialize purchase limit");
+        }
+        return result;
+    }
+
+    /**
+     * 차감한 수량 반환 (구매 실패, 홀드 만료)
+     * - 반환 후 재고가 남아 있는데 매진으로 전파된 상태면 재오픈 (롤백된 구매로 매진 상태가 남지 않도록)
+     */
+    public void release(Long timeSaleId, Long userId, Long quantity) {
+        try {
+            long stock = eval(RELEASE_SCRIPT, timeSaleId, userId, quantity);
+            if (stock > 0 && timeSaleSoldOutRegistry.isClosed(timeSaleId)) {
+                timeSaleSoldOutRegistry.reopen(timeSaleId);
+            }
+        } catch (Exception e) {
+            log.error("Failed to release purchase limit: timeSaleId={}, userId={}, quantity={}", timeSaleId, userId, quantity, e);
+        }
+    }
+
+    /**
+     * 종료된 타임세일의 사용자별 구매 수량을 주문 내역과 비교하고 키 정리
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void reconcileEndedSales() {
+        RScoredSortedSet<String> reconcileIndex = redissonClient.getScoredSortedSet(RECONCILE_KEY, StringCodec.INSTANCE);
+        long now = System.currentTimeMillis();
+        Collection<ScoredEntry<String>> ended = reconcileIndex.entryRange(
+                Double.NEGATIVE_INFINITY, true, now - reconcileGraceMs, true, 0, RECONCILE_BATCH_SIZE);
+
+        List<String> done = new ArrayList<>();
+        for (ScoredEntry<String> entry : ended) {
+            Long timeSaleId = Long.valueOf(entry.getValue());
+            boolean expired = now >= entry.getScore().longValue() + KEY_RETENTION.toMillis();
+            if (!expired && !isDrained(timeSaleId)) {
+                continue;  // 다음 주기에 다시 확인
+            }
+            try {
+                reconcile(timeSaleId);
+            } catch (Exception e) {
+                log.error("Failed to reconcile purchase limit: {}", timeSaleId, e);
+            }
+            done.add(entry.getValue());
+        }
+        if (!done.isEmpty()) {
+            reconcileIndex.removeAll(done);
+        }
+    }
+
+    // 저널에 남은 주문, 처리되지 않은 v3 요청이 없는지 확인
+    private boolean isDrained(Long timeSaleId) {
+        if (timeSaleOrderJournal.hasPending(timeSaleId)) {
+            return false;
+        }
+        return redissonClient.getAtomicLong(TOTAL_REQUESTS_KEY + timeSaleId).get() <= 0;
+    }
+
+    private void reconcile(Long timeSaleId) {
+        Map<String, String> reserved = new HashMap<>(
+                redissonClient.<String, String>getMap(buyersKey(timeSaleId), StringCodec.INSTANCE).readAllMap());
+        Long perUserLimit = timeSaleRepository.findById(timeSaleId).map(TimeSale::getPerUserLimit).orElse(null);
+
+        int mismatches = 0;
+        for (Map.Entry<Long, Long> purchased : purchasedQuantities(timeSaleId).entrySet()) {
+            String userId = String.valueOf(purchased.getKey());
+            long reservedQuantity = Long.parseLong(reserved.getOrDefault(userId, "0"));
+            if (reservedQuantity != purchased.getValue()) {
+                mismatches++;
+                log.warn("Purchase limit mismatch: timeSaleId={}, userId={}, reserved={}, ordered={}",
+                        timeSaleId, userId, reservedQuantity, purchased.getValue());
+            }
+            if (perUserLimit != null && purchased.getValue() > perUserLimit) {
+                log.warn("Purchase limit exceeded: timeSaleId={}, userId={}, ordered={}, limit={}",
+                        timeSaleId, userId, purchased.getValue(), perUserLimit);
+            }
+            reserved.remove(userId);
+        }
+        for (Map.Entry<String, String> entry : reserved.entrySet()) {
+            mismatches++;
+            log.warn("Purchase limit mismatch: timeSaleId={}, userId={}, reserved={}, ordered=0",
+                    timeSaleId, entry.getKey(), entry.getValue());
+        }
+
+        if (mismatches > 0) {
+            Counter.builder("time.sale.purchase.limit.mismatch")
+                    .tag("timeSaleId", String.valueOf(timeSaleId))
+                    .register(meterRegistry)
+                    .increment(mismatches);
+        }
+        redissonClient.getKeys().unlink(stockKey(timeSaleId), buyersKey(timeSaleId));
+    }
+
+    // DB 기준으로 남은 재고와 사용자별 구매 수량을 Redis에 적재 (이미 초기화되었으면 무시)
+    private void initialize(Long timeSaleId) {
+        TimeSale timeSale = timeSaleRepository.findById(timeSaleId)
+                .orElseThrow(() -> new IllegalArgumentException("TimeSale not found"));
+        long endAtMillis = timeSale.getEndAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        long expireAtSeconds = (endAtMillis + KEY_RETENTION.toMillis()) / 1000L;
+
+        List<Object> args = new ArrayList<>();
+        args.add(String.valueOf(timeSale.getRemainingQuantity()));
+        args.add(String.valueOf(timeSale.getPerUserLimit() != null ? timeSale.getPerUserLimit() : 0L));
+        args.add(String.valueOf(expireAtSeconds));
+        purchasedQuantities(timeSaleId).forEach((userId, quantity) -> {
+            args.add(String.valueOf(userId));
+            args.add(String.valueOf(quantity));
+        });
+
+        redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, INIT_SCRIPT, RScript.ReturnType.INTEGER,
+                keys(timeSaleId), args.toArray());
+        redissonClient.getScoredSortedSet(RECONCILE_KEY, StringCodec.INSTANCE)
+                .add(endAtMillis, String.valueOf(timeSaleId));
+        log.info("Purchase limit initialized: timeSaleId={}, remaining={}", timeSaleId, timeSale.getRemainingQuantity());
+    }
+
+    // 사용자별 구매 수량 = DB 주문 내역 + 저널에서 아직 DB에 저장되지 않은 주문
+    private Map<Long, Long> purchasedQuantities(Long timeSaleId) {
+        Map<Long, Long> quantities = new HashMap<>(timeSaleOrderJournal.getPendingQuantities(timeSaleId));
+        for (UserPurchaseQuantity purchased : timeSaleOrderRepository.sumQuantityByUser(timeSaleId, PURCHASED_STATUSES)) {
+            quantities.merge(purchased.getUserId(), purchased.getQuantity(), Long::sum);
+        }
+        return quantities;
+    }
+
+    private long eval(String script, Long timeSaleId, Long userId, Long quantity) {
+        Long result = redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, script, RScript.ReturnType.INTEGER,
+                keys(timeSaleId), String.valueOf(userId), String.valueOf(quantity));
+        return result;
+    }
+
+    private static List<Object> keys(Long timeSaleId) {
+        return List.of(stockKey(timeSaleId), buyersKey(timeSaleId));
+    }
+
+    static String stockKey(Long timeSaleId) {
+        return String.format(STOCK_KEY, timeSaleId);
+    }
+
+    private static String buyersKey(Long timeSaleId) {
+        return String.format(BUYERS_KEY, timeSaleId);
+    }
+}
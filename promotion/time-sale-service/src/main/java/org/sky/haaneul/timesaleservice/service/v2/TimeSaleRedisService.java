@@ -1,26 +1,28 @@
 package org.sky.haaneul.timesaleservice.service.v2;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RBucket;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
 import org.sky.haaneul.timesaleservice.aop.TimeSaleMetered;
 import org.sky.haaneul.timesaleservice.domain.Product;
 import org.sky.haaneul.timesaleservice.domain.TimeSale;
 import org.sky.haaneul.timesaleservice.domain.TimeSaleOrder;
 import org.sky.haaneul.timesaleservice.domain.TimeSaleStatus;
 import org.sky.haaneul.timesaleservice.dto.TimeSaleDto;
+import org.sky.haaneul.timesaleservice.dto.TimeSaleSnapshot;
 import org.sky.haaneul.timesaleservice.exception.TimeSaleException;
 import org.sky.haaneul.timesaleservice.repository.ProductRepository;
-import org.sky.haaneul.timesaleservice.repository.TimeSaleOrderRepository;
+import org.sky.haaneul.timesaleservice.repository.TimeSalePurchaseInfo;
 import org.sky.haaneul.timesaleservice.repository.TimeSaleRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.concurrent.TimeUnit;
@@ -29,16 +31,20 @@ import java.util.concurrent.TimeUnit;
 @Service
 @RequiredArgsConstructor
 public class TimeSaleRedisService {
-    private static final String TIME_SALE_KEY = "time-sale:";
+    static final String TIME_SALE_KEY = "time-sale:";
     private static final String TIME_SALE_LOCK = "time-sale-lock:";
     private static final long WAIT_TIME = 3L;
     private static final long LEASE_TIME = 3L;
 
     private final TimeSaleRepository timeSaleRepository;
     private final ProductRepository productRepository;
-    private final TimeSaleOrderRepository timeSaleOrderRepository;
+    private final TimeSaleOrderJournal timeSaleOrderJournal;
     private final RedissonClient redissonClient;
-    private final ObjectMapper objectMapper;
+    private final TimeSaleListingIndex timeSaleListingIndex;
+    private final TimeSaleSoldOutRegistry timeSaleSoldOutRegistry;
+    private final TimeSalePurchaseLimiter timeSalePurchaseLimiter;
+    private final TimeSaleLifecycleScheduler timeSaleLifecycleScheduler;
+    private final TimeSaleVelocityTracker timeSaleVelocityTracker;
 
     @Transactional
     public TimeSale createTimeSale(TimeSaleDto.CreateRequest request) {
@@ -52,65 +58,90 @@ public class TimeSaleRedisService {
                 .discountPrice(request.getDiscountPrice())
                 .startAt(request.getStartAt())
                 .endAt(request.getEndAt())
-                .status(TimeSaleStatus.ACTIVE)
+                .status(TimeSale.initialStatus(request.getStartAt()))
+                .perUserLimit(request.getPerUserLimit())
                 .build();
 
         TimeSale savedTimeSale = timeSaleRepository.save(timeSale);
         saveToRedis(savedTimeSale);
+        timeSaleListingIndex.register(savedTimeSale);
+        timeSaleLifecycleScheduler.schedule(savedTimeSale);
         return savedTimeSale;
     }
 
+    // 엔티티를 직렬화하지 않고 스냅샷으로 변환하여 저장 (LAZY 로딩 발생 X)
     public void saveToRedis(TimeSale timeSale) {
-        String json = null;
+        saveToRedis(TimeSaleSnapshot.from(timeSale));
+    }
+
+    public void saveToRedis(TimeSaleSnapshot snapshot) {
         try {
-            json = objectMapper.writeValueAsString(timeSale);
-            RBucket<String> bucket = redissonClient.getBucket(TIME_SALE_KEY + timeSale.getId());
-            bucket.set(json);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
+            RBucket<byte[]> bucket = redissonClient.getBucket(TIME_SALE_KEY + snapshot.getId(), ByteArrayCodec.INSTANCE);
+            bucket.set(TimeSaleSnapshotCodec.encode(snapshot));
         } catch (Exception e) {
-            log.error("Failed to save TimeSale to Redis: {}", timeSale.getId(), e);
+            log.error("Failed to save TimeSale to Redis: {}", snapshot.getId(), e);
         }
     }
 
-    @Transactional(readOnly = true)
-    public Page<TimeSale> getOngoingTimeSales(Pageable pageable) {
-        LocalDateTime now = LocalDateTime.now();
-        return timeSaleRepository.findAllByStartAtBeforeAndEndAtAfterAndStatus(
-                now, TimeSaleStatus.ACTIVE, pageable
-        );
+    // DB에서 직접 재고를 변경한 경우 (홀드/만료) 캐시 삭제 -> 다음 조회시 DB에서 다시 로딩
+    public void evictFromRedis(Long timeSaleId) {
+        try {
+            redissonClient.getBucket(TIME_SALE_KEY + timeSaleId, ByteArrayCodec.INSTANCE).delete();
+        } catch (Exception e) {
+            log.error("Failed to evict TimeSale from Redis: {}", timeSaleId, e);
+        }
+    }
+
+    public Page<TimeSaleSnapshot> getOngoingTimeSales(Pageable pageable) {
+        return timeSaleListingIndex.getOngoingTimeSales(pageable);
     }
 
     @Transactional(readOnly = true)
-    public TimeSale getTimeSale(Long timeSaleId) {
+    public TimeSaleSnapshot getTimeSale(Long timeSaleId) {
         return getFromRedis(timeSaleId);
     }
 
-    // redis에서 timeSale 정보를 가져옴
-    private TimeSale getFromRedis(Long timeSaleId) {
-        RBucket<String> bucket = redissonClient.getBucket(TIME_SALE_KEY + timeSaleId);
-        String json = bucket.get();
-
-        try {
-            if (json != null) {
-                return objectMapper.readValue(json, TimeSale.class);
+    // redis에서 timeSale 스냅샷을 가져옴
+    private TimeSaleSnapshot getFromRedis(Long timeSaleId) {
+        RBucket<byte[]> bucket = redissonClient.getBucket(TIME_SALE_KEY + timeSaleId, ByteArrayCodec.INSTANCE);
+        byte[] value = bucket.get();
+
+        if (value != null) {
+            try {
+                return TimeSaleSnapshotCodec.decode(value);
+            } catch (Exception e) {
+                // 이전 포맷으로 저장된 값은 캐시 미스로 처리하고 다시 저장
+                log.warn("Failed to decode TimeSale from Redis: {}", timeSaleId, e);
             }
+        }
 
-            // Redis에 없으면 DB에서 조회
-            TimeSale timeSale = timeSaleRepository.findById(timeSaleId)
-                    .orElseThrow(() -> new IllegalArgumentException("TimeSale not found"));
+        // Redis에 없으면 DB에서 조회 (상품 정보는 fetch join으로 함께 조회)
+        TimeSale timeSale = timeSaleRepository.findWithProductById(timeSaleId)
+                .orElseThrow(() -> new IllegalArgumentException("TimeSale not found"));
 
-            // Redis에 저장
-            saveToRedis(timeSale);
-            return timeSale;
-        } catch (JsonProcessingException e) {
-            throw new TimeSaleException("Failed to parse TimeSale from Redis", e);
-        }
+        // Redis에 저장
+        TimeSaleSnapshot snapshot = TimeSaleSnapshot.from(timeSale);
+        saveToRedis(snapshot);
+        return snapshot;
     }
 
     @Transactional
     @TimeSaleMetered(version = "v2")
-    public TimeSale purchaseTimeSale(Long timeSaleId, TimeSaleDto.PurchaseRequest request) {
+    public TimeSaleDto.PurchaseResponse purchaseTimeSale(Long timeSaleId, TimeSaleDto.PurchaseRequest request) {
+        // 매진/종료된 타임세일은 락 획득 전에 로컬 상태로 거절
+        timeSaleSoldOutRegistry.rejectIfClosed(timeSaleId);
+
+        // 재고 및 사용자별 구매 제한을 Redis에서 원자적으로 차감 (구매 실패시 반환)
+        timeSalePurchaseLimiter.reserve(timeSaleId, request.getUserId(), request.getQuantity());
+        try {
+            return purchaseWithLock(timeSaleId, request);
+        } catch (RuntimeException e) {
+            timeSalePurchaseLimiter.release(timeSaleId, request.getUserId(), request.getQuantity());
+            throw e;
+        }
+    }
+
+    private TimeSaleDto.PurchaseResponse purchaseWithLock(Long timeSaleId, TimeSaleDto.PurchaseRequest request) {
         RLock lock = redissonClient.getLock(TIME_SALE_LOCK + timeSaleId);
         if (lock == null) {
             throw new TimeSaleException("Failed to create lock");
@@ -124,24 +155,48 @@ public class TimeSaleRedisService {
                 throw new TimeSaleException("Failed to acquire lock");
             }
 
-            // timeSale정보를 redis에서 조회 -> v1보다 속도 개선
-            TimeSale timeSale = getFromRedis(timeSaleId);
-            timeSale.purchase(request.getQuantity());
+            // timeSale정보를 redis에서 조회하여 구매 불가능한 요청은 DB 조회 없이 실패 처리 -> v1보다 속도 개선
+            // 캐시는 커밋 전에 저장될 수 있으므로 매진 전파는 커밋 이후에만 (markSoldOutAfterCommit)
+            TimeSaleSnapshot cached = getFromRedis(timeSaleId);
+            cached.validatePurchase(request.getQuantity());
+
+            // 엔티티 변경 대신 조건부 UPDATE로 차감 (커밋 시점의 @Version 충돌 X)
+            int updated = timeSaleRepository.decreaseRemainingQuantity(
+                    timeSaleId, request.getQuantity(), TimeSaleStatus.ACTIVE, LocalDateTime.now());
+            if (updated == 0) {
+                throw purchaseFailure(timeSaleId, request.getQuantity());
+            }
 
-            // Save changes to DB
-            timeSale = timeSaleRepository.save(timeSale);
+            // 차감 이후 조회 (같은 트랜잭션이므로 차감된 재고가 보임)
+            TimeSalePurchaseInfo purchaseInfo = timeSaleRepository.findPurchaseInfoById(timeSaleId)
+                    .orElseThrow(() -> new IllegalArgumentException("TimeSale not found"));
 
             TimeSaleOrder order = TimeSaleOrder.builder()
                     .userId(request.getUserId())
-                    .timeSale(timeSale)
+                    .timeSale(timeSaleRepository.getReferenceById(timeSaleId))
                     .quantity(request.getQuantity())
-                    .discountPrice(timeSale.getDiscountPrice())
+                    .discountPrice(purchaseInfo.getDiscountPrice())
                     .build();
 
-            timeSaleOrderRepository.save(order);
-            saveToRedis(timeSale);
+            // 주문은 저널에 추가 (DB INSERT는 TimeSaleOrderJournalWriter가 배치로 처리)
+            timeSaleOrderJournal.append(order);
+            timeSaleVelocityTracker.record(timeSaleId, request.getQuantity());
 
-            return timeSale;
+            // 캐시는 커밋 이후에 갱신 (롤백된 차감이 캐시에 남지 않도록)
+            TimeSaleSnapshot purchased = cached.withRemainingQuantity(purchaseInfo.getRemainingQuantity());
+            runAfterCommit(() -> saveToRedis(purchased));
+            if (purchaseInfo.getRemainingQuantity() == 0) {
+                timeSaleSoldOutRegistry.markSoldOutAfterCommit(timeSaleId);
+            }
+
+            return TimeSaleDto.PurchaseResponse.builder()
+                    .timeSaleId(timeSaleId)
+                    .userId(request.getUserId())
+                    .productId(purchaseInfo.getProductId())
+                    .quantity(request.getQuantity())
+                    .discountPrice(purchaseInfo.getDiscountPrice())
+                    .purchasedAt(LocalDateTime.now())
+                    .build();
 
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -158,4 +213,29 @@ public class TimeSaleRedisService {
 
     }
 
+    // 조건부 UPDATE 실패 원인 확인 (캐시가 DB와 달랐으므로 삭제 후 다시 로딩)
+    private IllegalStateException purchaseFailure(Long timeSaleId, Long quantity) {
+        evictFromRedis(timeSaleId);
+        TimeSale timeSale = timeSaleRepository.findById(timeSaleId)
+                .orElseThrow(() -> new IllegalArgumentException("TimeSale not found"));
+        try {
+            timeSale.validatePurchase(quantity);
+        } catch (IllegalStateException e) {
+            return e;
+        }
+        return new IllegalStateException("Time sale is not purchasable");
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
 }
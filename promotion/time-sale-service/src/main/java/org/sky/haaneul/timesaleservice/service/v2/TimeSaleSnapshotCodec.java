@@ -0,0 +1,109 @@
+package org.sky.haaneul.timesaleservice.service.v2;
+
+import org.sky.haaneul.timesaleservice.domain.TimeSaleStatus;
+import org.sky.haaneul.timesaleservice.dto.TimeSaleSnapshot;
+
+import java.io.*;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * TimeSaleSnapshot <-> byte[] 변환
+ * - JSON 대신 고정 순서의 바이너리 포맷을 사용하여 필드명/타입 정보 없이 저장
+ * - 첫 바이트는 포맷 버전 (포맷이 바뀌면 이전 값은 캐시 미스로 처리)
+ */
+public final class TimeSaleSnapshotCodec {
+    private static final byte FORMAT_VERSION = 3;  // 2: perUserLimit 추가, 3: createdAt 추가
+    private static final long NULL_VALUE = -1L;
+
+    private TimeSaleSnapshotCodec() {
+    }
+
+    public static byte[] encode(TimeSaleSnapshot snapshot) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(96);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeLong(snapshot.getId());
+            out.writeLong(snapshot.getProductId());
+
+            boolean hasProductSummary = snapshot.getProductName() != null;
+            out.writeBoolean(hasProductSummary);
+            if (hasProductSummary) {
+                out.writeUTF(snapshot.getProductName());
+                out.writeLong(nullToDefault(snapshot.getProductPrice()));
+            }
+
+            out.writeLong(snapshot.getQuantity());
+            out.writeLong(snapshot.getRemainingQuantity());
+            out.writeLong(snapshot.getDiscountPrice());
+            writeDateTime(out, snapshot.getStartAt());
+            writeDateTime(out, snapshot.getEndAt());
+            out.writeUTF(snapshot.getStatus().name());
+            out.writeLong(nullToDefault(snapshot.getVersion()));
+            out.writeLong(nullToDefault(snapshot.getPerUserLimit()));
+            writeNullableDateTime(out, snapshot.getCreatedAt());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode TimeSale snapshot", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static TimeSaleSnapshot decode(byte[] value) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(value))) {
+            byte formatVersion = in.readByte();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported TimeSale snapshot format: " + formatVersion);
+            }
+
+            TimeSaleSnapshot.TimeSaleSnapshotBuilder builder = TimeSaleSnapshot.builder()
+                    .id(in.readLong())
+                    .productId(in.readLong());
+
+            if (in.readBoolean()) {
+                builder.productName(in.readUTF())
+                        .productPrice(defaultToNull(in.readLong()));
+            }
+
+            return builder.quantity(in.readLong())
+                    .remainingQuantity(in.readLong())
+                    .discountPrice(in.readLong())
+                    .startAt(readDateTime(in))
+                    .endAt(readDateTime(in))
+                    .status(TimeSaleStatus.valueOf(in.readUTF()))
+                    .version(defaultToNull(in.readLong()))
+                    .perUserLimit(defaultToNull(in.readLong()))
+                    .createdAt(readNullableDateTime(in))
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode TimeSale snapshot", e);
+        }
+    }
+
+    private static void writeDateTime(DataOutputStream out, LocalDateTime dateTime) throws IOException {
+        out.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(dateTime.getNano());
+    }
+
+    private static LocalDateTime readDateTime(DataInputStream in) throws IOException {
+        return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+    }
+
+    private static void writeNullableDateTime(DataOutputStream out, LocalDateTime dateTime) throws IOException {
+        out.writeBoolean(dateTime != null);
+        if (dateTime != null) {
+            writeDateTime(out, dateTime);
+        }
+    }
+
+    private static LocalDateTime readNullableDateTime(DataInputStream in) throws IOException {
+        return in.readBoolean() ? readDateTime(in) : null;
+    }
+
+    private static long nullToDefault(Long value) {
+        return value != null ? value : NULL_VALUE;
+    }
+
+    private static Long defaultToNull(long value) {
+        return value != NULL_VALUE ? value : null;
+    }
+}
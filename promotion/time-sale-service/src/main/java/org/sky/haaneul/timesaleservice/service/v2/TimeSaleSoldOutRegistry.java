@@ -0,0 +1,168 @@
+package org.sky.haaneul.timesaleservice.service.v2;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.sky.haaneul.timesaleservice.domain.TimeSaleStatus;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/**
+ * 매진/종료된 타임세일 레지스트리
+ * - 인스턴스마다 로컬 메모리에 매진/종료 여부를 보관하여 구매 요청을 I/O 없이 즉시 거절
+ * - 매진/종료시 Redis Pub/Sub(time-sale:closed:topic)으로 모든 인스턴스에 전파
+ * - 새로 시작한 인스턴스는 Redis Hash(time-sale:closed)에서 현재 상태를 읽어옴
+ * - 매진/종료 상태가 처음 반영되면 인스턴스마다 등록된 리스너에 상태와 함께 전달 (타임세일별 로컬 상태/메트릭 정리)
+ *   - 매진은 재오픈될 수 있으므로 리스너는 상태에 따라 정리 범위를 결정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimeSaleSoldOutRegistry {
+    private static final String CLOSED_KEY = "time-sale:closed";  // timeSaleId -> SOLD_OUT / ENDED
+    private static final String CLOSED_TOPIC = "time-sale:closed:topic";  // "timeSaleId:STATUS"
+
+    private final RedissonClient redissonClient;
+
+    private final Map<Long, TimeSaleStatus> closedSales = new ConcurrentHashMap<>();
+    private final List<BiConsumer<Long, TimeSaleStatus>> closeListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 구매 가능 여부를 로컬 상태로만 확인 (매진/종료된 타임세일이면 예외)
+     */
+    public void rejectIfClosed(Long timeSaleId) {
+        TimeSaleStatus status = closedSales.get(timeSaleId);
+        if (status == TimeSaleStatus.SOLD_OUT) {
+            throw new IllegalStateException("Not enough quantity available");
+        }
+        if (status == TimeSaleStatus.ENDED) {
+            throw new IllegalStateException("Time sale is not active");
+        }
+    }
+
+    public boolean isClosed(Long timeSaleId) {
+        return closedSales.containsKey(timeSaleId);
+    }
+
+    // 종료는 재오픈되지 않으므로 매진과 구분
+    public boolean isEnded(Long timeSaleId) {
+        return closedSales.get(timeSaleId) == TimeSaleStatus.ENDED;
+    }
+
+    // 커밋된 DB 상태에서 매진/종료를 확인한 경우 즉시 전파 (커밋 전에 저장될 수 있는 캐시 기준으로는 호출 X)
+    public void markSoldOut(Long timeSaleId) {
+        close(timeSaleId, TimeSaleStatus.SOLD_OUT);
+    }
+
+    public void markEnded(Long timeSaleId) {
+        close(timeSaleId, TimeSaleStatus.ENDED);
+    }
+
+    // 구매 트랜잭션에서 재고가 0이 된 경우 커밋 이후에 전파 (롤백된 구매로 매진 처리되지 않도록)
+    public void markSoldOutAfterCommit(Long timeSaleId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markSoldOut(timeSaleId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markSoldOut(timeSaleId);
+            }
+        });
+    }
+
+    /**
+     * 이 인스턴스에서 매진/종료가 반영될 때 호출할 리스너 등록 (직접 처리한 경우와 다른 인스턴스의 전파 모두)
+     */
+    public void addCloseListener(BiConsumer<Long, TimeSaleStatus> listener) {
+        closeListeners.add(listener);
+    }
+
+    /**
+     * 매진된 타임세일 재오픈 (홀드 만료, 구매 실패 등으로 재고가 반환된 경우)
+     */
+    public void reopen(Long timeSaleId) {
+        if (closedSales.get(timeSaleId) == TimeSaleStatus.ENDED) {
+            return;  // 종료된 타임세일은 재오픈하지 않음
+        }
+        closedSales.remove(timeSaleId);
+        try {
+            // 다른 인스턴스에서만 매진 처리되었을 수 있으므로 항상 전파
+            RBatch batch = redissonClient.createBatch();
+            batch.getMap(CLOSED_KEY, StringCodec.INSTANCE).fastRemoveAsync(String.valueOf(timeSaleId));
+            batch.getTopic(CLOSED_TOPIC, StringCodec.INSTANCE).publishAsync(timeSaleId + ":" + TimeSaleStatus.ACTIVE.name());
+            batch.execute();
+        } catch (Exception e) {
+            log.error("Failed to broadcast time sale reopen: {}", timeSaleId, e);
+        }
+    }
+
+    /**
+     * 애플리케이션 시작시 구독 및 현재 매진/종료 상태 로딩
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        try {
+            redissonClient.getTopic(CLOSED_TOPIC, StringCodec.INSTANCE)
+                    .addListener(String.class, (channel, message) -> apply(message));
+
+            Map<String, String> closed = redissonClient.<String, String>getMap(CLOSED_KEY, StringCodec.INSTANCE).readAllMap();
+            closed.forEach((timeSaleId, status) -> closedSales.put(Long.valueOf(timeSaleId), TimeSaleStatus.valueOf(status)));
+            log.info("Time sale sold-out registry loaded: {} sales", closed.size());
+        } catch (Exception e) {
+            log.error("Failed to subscribe time sale sold-out registry", e);
+        }
+    }
+
+    private void close(Long timeSaleId, TimeSaleStatus status) {
+        if (closedSales.put(timeSaleId, status) == status) {
+            return;  // 이미 전파됨
+        }
+        notifyClosed(timeSaleId, status);
+        try {
+            RBatch batch = redissonClient.createBatch();
+            batch.getMap(CLOSED_KEY, StringCodec.INSTANCE).fastPutAsync(String.valueOf(timeSaleId), status.name());
+            batch.getTopic(CLOSED_TOPIC, StringCodec.INSTANCE).publishAsync(timeSaleId + ":" + status.name());
+            batch.execute();
+        } catch (Exception e) {
+            log.error("Failed to broadcast time sale {}: {}", status, timeSaleId, e);
+        }
+    }
+
+    private void apply(String message) {
+        try {
+            int separator = message.indexOf(':');
+            Long timeSaleId = Long.valueOf(message.substring(0, separator));
+            TimeSaleStatus status = TimeSaleStatus.valueOf(message.substring(separator + 1));
+            if (status == TimeSaleStatus.ACTIVE) {
+                closedSales.remove(timeSaleId, TimeSaleStatus.SOLD_OUT);
+            } else if (closedSales.put(timeSaleId, status) != status) {
+                notifyClosed(timeSaleId, status);
+            }
+        } catch (Exception e) {
+            log.warn("Invalid time sale sold-out message: {}", message, e);
+        }
+    }
+
+    private void notifyClosed(Long timeSaleId, TimeSaleStatus status) {
+        for (BiConsumer<Long, TimeSaleStatus> listener : closeListeners) {
+            try {
+                listener.accept(timeSaleId, status);
+            } catch (Exception e) {
+                log.warn("Failed to run time sale close listener: {}", timeSaleId, e);
+            }
+        }
+    }
+}
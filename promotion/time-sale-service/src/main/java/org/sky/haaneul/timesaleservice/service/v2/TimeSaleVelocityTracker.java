@@ -0,0 +1,209 @@
+package org.sky.haaneul.timesaleservice.service.v2;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.sky.haaneul.timesaleservice.dto.TimeSaleDto;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 타임세일별 판매 속도 및 매진 예상 시간
+ * - 구매 속도: 이 인스턴스에서 처리한 최근 60초 구매 수량 (초 단위 버킷, CAS로 갱신하는 lock-free 카운터)
+ * - 남은 재고/대기 요청 수: 1초마다 모든 추적 대상을 Redis batch 한 번으로 조회
+ * - 소진 속도: 남은 재고 변화량 기준 (모든 인스턴스/구매 경로 합산)
+ * - 매진 예상 시간: 남은 재고 / 소진 속도
+ * 메트릭 수집(Gauge)시에는 보관된 값만 반환 (Redis 조회 X)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimeSaleVelocityTracker {
+    private static final int WINDOW_SECONDS = 60;
+    private static final String TOTAL_REQUESTS_KEY = "time-sale-total-requests:";  // v3 대기 요청 수
+
+    private final RedissonClient redissonClient;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, Velocity> velocities = new ConcurrentHashMap<>();
+
+    /**
+     * 구매 성공 기록
+     */
+    public void record(Long timeSaleId, Long quantity) {
+        track(timeSaleId).purchases.add(System.currentTimeMillis() / 1_000, quantity);
+    }
+
+    /**
+     * 현재 판매 속도 조회
+     * - 이 인스턴스에서 구매가 기록된 타임세일만 추적 (임의 ID 조회로 추적 대상/메트릭이 늘어나지 않도록)
+     * - 추적하지 않는 타임세일은 속도 0 (남은 재고는 알 수 없으므로 null)
+     */
+    public TimeSaleDto.VelocityResponse getVelocity(Long timeSaleId) {
+        Velocity velocity = velocities.get(timeSaleId);
+        if (velocity == null) {
+            return TimeSaleDto.VelocityResponse.builder()
+                    .timeSaleId(timeSaleId)
+                    .purchaseRate(0.0)
+                    .drainRate(0.0)
+                    .queueDepth(0L)
+                    .build();
+        }
+
+        double etaSeconds = velocity.sellOutEtaSeconds();
+        return TimeSaleDto.VelocityResponse.builder()
+                .timeSaleId(timeSaleId)
+                .purchaseRate(velocity.purchaseRate())
+                .drainRate(velocity.drainRate)
+                .remainingQuantity(velocity.remaining)
+                .queueDepth(velocity.queueDepth)
+                .sellOutEtaSeconds(Double.isNaN(etaSeconds) ? null : (long) Math.ceil(etaSeconds))
+                .build();
+    }
+
+    @Scheduled(fixedDelay = 1_000)
+    public void sampleAll() {
+        if (velocities.isEmpty()) {
+            return;
+        }
+        // 조회 중에 추적 해제/추가되어도 같은 순서로 응답과 매칭되도록 entry를 복사해 사용
+        List<Map.Entry<Long, Velocity>> tracked = new ArrayList<>(velocities.entrySet());
+        try {
+            RBatch batch = redissonClient.createBatch();
+            for (Map.Entry<Long, Velocity> entry : tracked) {
+                batch.<String, String>getMap(TimeSalePurchaseLimiter.stockKey(entry.getKey()), StringCodec.INSTANCE).getAsync("stock");
+                batch.getAtomicLong(TOTAL_REQUESTS_KEY + entry.getKey()).getAsync();
+            }
+            List<?> responses = batch.execute().getResponses();
+
+            long now = System.currentTimeMillis();
+            for (int i = 0; i < tracked.size(); i++) {
+                Map.Entry<Long, Velocity> entry = tracked.get(i);
+                Object stock = responses.get(i * 2);
+                if (stock == null) {
+                    // 종료 후 재고 키가 정리된 타임세일
+                    untrack(entry.getKey(), entry.getValue());
+                    continue;
+                }
+                entry.getValue().update(now, Long.parseLong(stock.toString()), (Long) responses.get(i * 2 + 1));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to sample time sale velocity", e);
+        }
+    }
+
+    private Velocity track(Long timeSaleId) {
+        return velocities.computeIfAbsent(timeSaleId, id -> {
+            Velocity velocity = new Velocity();
+            String tag = String.valueOf(id);
+            velocity.meters.add(Gauge.builder("time.sale.velocity.purchase.rate", velocity, Velocity::purchaseRate)
+                    .tag("timeSaleId", tag).description("purchased units per second on this instance").register(meterRegistry));
+            velocity.meters.add(Gauge.builder("time.sale.velocity.drain.rate", velocity, v -> v.drainRate)
+                    .tag("timeSaleId", tag).description("stock drained per second across all instances").register(meterRegistry));
+            velocity.meters.add(Gauge.builder("time.sale.velocity.remaining", velocity, v -> v.remaining)
+                    .tag("timeSaleId", tag).register(meterRegistry));
+            velocity.meters.add(Gauge.builder("time.sale.velocity.queue.depth", velocity, v -> v.queueDepth)
+                    .tag("timeSaleId", tag).register(meterRegistry));
+            velocity.meters.add(Gauge.builder("time.sale.velocity.sellout.eta", velocity, Velocity::sellOutEtaSeconds)
+                    .tag("timeSaleId", tag).baseUnit("seconds").register(meterRegistry));
+            return velocity;
+        });
+    }
+
+    private void untrack(Long timeSaleId, Velocity velocity) {
+        if (velocities.remove(timeSaleId, velocity)) {
+            velocity.meters.forEach(meterRegistry::remove);
+        }
+    }
+
+    private static final class Velocity {
+        private final WindowedCounter purchases = new WindowedCounter();
+        private final ArrayDeque<long[]> samples = new ArrayDeque<>();  // {epochMillis, remaining}
+        private final List<Meter> meters = new ArrayList<>();
+
+        private volatile long remaining;
+        private volatile long queueDepth;
+        private volatile double drainRate;
+
+        private synchronized void update(long now, long remaining, long queueDepth) {
+            this.remaining = remaining;
+            this.queueDepth = queueDepth;
+
+            samples.addLast(new long[]{now, remaining});
+            while (samples.size() > 1 && now - samples.peekFirst()[0] > WINDOW_SECONDS * 1_000L) {
+                samples.pollFirst();
+            }
+
+            long[] oldest = samples.peekFirst();
+            long elapsedMillis = now - oldest[0];
+            // 재고 반환(홀드 만료 등)으로 늘어난 경우는 0으로 처리
+            this.drainRate = elapsedMillis > 0 ? Math.max(0, oldest[1] - remaining) * 1_000.0 / elapsedMillis : 0.0;
+        }
+
+        private double purchaseRate() {
+            return purchases.rate(System.currentTimeMillis() / 1_000);
+        }
+
+        private double sellOutEtaSeconds() {
+            double rate = drainRate;
+            return rate > 0 ? remaining / rate : Double.NaN;
+        }
+    }
+
+    /**
+     * 최근 WINDOW_SECONDS초 합계를 구하는 lock-free 카운터
+     * - 버킷 하나에 (초 << 32 | 수량)을 저장하고 CAS로 갱신 (지난 초의 버킷은 0부터 다시 시작)
+     */
+    static final class WindowedCounter {
+        private final AtomicLongArray buckets = new AtomicLongArray(WINDOW_SECONDS);
+        private volatile long firstSecond = -1;
+
+        void add(long second, long amount) {
+            if (firstSecond < 0) {
+                firstSecond = second;
+            }
+            int index = (int) (second % WINDOW_SECONDS);
+            long epoch = second & 0xFFFFFFFFL;
+            while (true) {
+                long current = buckets.get(index);
+                long count = (current >>> 32) == epoch ? current & 0xFFFFFFFFL : 0L;
+                if (buckets.compareAndSet(index, current, (epoch << 32) | (count + amount))) {
+                    return;
+                }
+            }
+        }
+
+        long sum(long second) {
+            long total = 0;
+            for (int i = 0; i < WINDOW_SECONDS; i++) {
+                long value = buckets.get(i);
+                long age = ((second & 0xFFFFFFFFL) - (value >>> 32)) & 0xFFFFFFFFL;
+                if (age < WINDOW_SECONDS) {
+                    total += value & 0xFFFFFFFFL;
+                }
+            }
+            return total;
+        }
+
+        // 초당 수량 (추적 시작 후 WINDOW_SECONDS초가 지나지 않았으면 지난 시간 기준)
+        double rate(long second) {
+            if (firstSecond < 0) {
+                return 0.0;
+            }
+            long elapsed = Math.max(1, Math.min(WINDOW_SECONDS, second - firstSecond + 1));
+            return (double) sum(second) / elapsed;
+        }
+    }
+}
@@ -1,12 +1,13 @@
 package org.sky.haaneul.timesaleservice.service.v3;
 
 import lombok.RequiredArgsConstructor;
-import org.redisson.api.RBucket;
-import org.redisson.api.RedissonClient;
 import org.sky.haaneul.timesaleservice.aop.TimeSaleMetered;
 import org.sky.haaneul.timesaleservice.domain.TimeSale;
 import org.sky.haaneul.timesaleservice.dto.TimeSaleDto;
+import org.sky.haaneul.timesaleservice.dto.TimeSaleSnapshot;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSalePurchaseLimiter;
 import org.sky.haaneul.timesaleservice.service.v2.TimeSaleRedisService;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSaleSoldOutRegistry;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -16,32 +17,54 @@ import org.springframework.stereotype.Service;
 public class AsyncTimeSaleService {
     private final TimeSaleRedisService timeSaleRedisService;
     private final TimeSaleProducer timeSaleProducer;
-    private final RedissonClient redissonClient;
-
-    private static final String RESULT_PREFIX = "purchase-result:";
+    private final PurchaseResultStore purchaseResultStore;
+    private final TimeSaleSoldOutRegistry timeSaleSoldOutRegistry;
+    private final WaitingRoomService waitingRoomService;
+    private final TimeSalePurchaseLimiter timeSalePurchaseLimiter;
 
     public TimeSale createTimeSale(TimeSaleDto.CreateRequest request) {
         return timeSaleRedisService.createTimeSale(request);
     }
 
-    public TimeSale getTimeSale(Long id) {
+    public TimeSaleSnapshot getTimeSale(Long id) {
         return timeSaleRedisService.getTimeSale(id);
     }
 
-    public Page<TimeSale> getOngoingTimeSale(Pageable pageable) {
+    public Page<TimeSaleSnapshot> getOngoingTimeSale(Pageable pageable) {
         return timeSaleRedisService.getOngoingTimeSales(pageable);
     }
 
     @TimeSaleMetered(version = "v3")
-    public String purchaseTimeSale(Long timeSaleId, TimeSaleDto.PurchaseRequest request) {
+    public String purchaseTimeSale(Long timeSaleId, TimeSaleDto.PurchaseRequest request, String admissionToken) {
+        // 매진/종료된 타임세일은 Kafka로 전송하지 않고 바로 거절
+        timeSaleSoldOutRegistry.rejectIfClosed(timeSaleId);
+
+        // 대기실에서 입장한 요청만 처리
+        waitingRoomService.consumeAdmission(timeSaleId, request.getUserId(), admissionToken);
+
+        // 재고 및 사용자별 구매 제한 차감 (Consumer에서 구매 실패시 반환)
+        timeSalePurchaseLimiter.reserve(timeSaleId, request.getUserId(), request.getQuantity());
+
         // 구매 요청을 Kafka로 전송하고 요청 ID를 반환
-        return timeSaleProducer.sendPurchaseRequest(timeSaleId, request.getUserId(), request.getQuantity());
+        try {
+            return timeSaleProducer.sendPurchaseRequest(timeSaleId, request.getUserId(), request.getQuantity());
+        } catch (RuntimeException e) {
+            timeSalePurchaseLimiter.release(timeSaleId, request.getUserId(), request.getQuantity());
+            throw e;
+        }
     }
 
 
+    public TimeSaleDto.WaitingTicketResponse issueWaitingTicket(Long timeSaleId, Long userId) {
+        return waitingRoomService.issueTicket(timeSaleId, userId);
+    }
+
+    public TimeSaleDto.WaitingTicketResponse getWaitingTicket(Long timeSaleId, String ticket) {
+        return waitingRoomService.getTicketStatus(timeSaleId, ticket);
+    }
+
     public TimeSaleDto.AsyncPurchaseResponse getPurchaseResult(Long timeSaleId, String requestId) {
-        RBucket<String> resultBucket = redissonClient.getBucket(RESULT_PREFIX + requestId);
-        String result = resultBucket.get();
+        String result = purchaseResultStore.getResult(timeSaleId, requestId);
         String status = result != null ? result : "PENDING";
 
         // 대기 순서 정보 조회
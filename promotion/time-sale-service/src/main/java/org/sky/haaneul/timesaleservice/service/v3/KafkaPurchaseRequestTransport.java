@@ -0,0 +1,32 @@
+package org.sky.haaneul.timesaleservice.service.v3;
+
+import lombok.RequiredArgsConstructor;
+import org.sky.haaneul.timesaleservice.dto.PurchaseRequestMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Kafka 토픽(time-sale-requests)으로 구매 요청 전달
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "time-sale.transport", havingValue = "kafka", matchIfMissing = true)
+public class KafkaPurchaseRequestTransport implements PurchaseRequestTransport {
+    // Kafka 토픽 이름
+    private static final String TOPIC = "time-sale-requests";
+
+    private final KafkaTemplate<String, PurchaseRequestMessage> kafkaTemplate;
+    private final TimeSaleConsumer timeSaleConsumer;
+
+    @Override
+    public void send(PurchaseRequestMessage message) {
+        kafkaTemplate.send(TOPIC, message.getRequestId(), message);
+    }
+
+    @KafkaListener(topics = TOPIC, groupId = "time-sale-group")
+    public void receive(PurchaseRequestMessage message) {
+        timeSaleConsumer.consumePurchaseRequest(message);
+    }
+}
@@ -0,0 +1,13 @@
+package org.sky.haaneul.timesaleservice.service.v3;
+
+import org.sky.haaneul.timesaleservice.dto.PurchaseRequestMessage;
+
+/**
+ * v3 구매 요청 전달 방식 (time-sale.transport)
+ * - kafka: Kafka 토픽 (기본값)
+ * - redis-stream: Redis Stream Consumer Group (Kafka 없이 운영하는 소규모 배포용)
+ * 수신한 요청은 모두 TimeSaleConsumer가 처리
+ */
+public interface PurchaseRequestTransport {
+    void send(PurchaseRequestMessage message);
+}
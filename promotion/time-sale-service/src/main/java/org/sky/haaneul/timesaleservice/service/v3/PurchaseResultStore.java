@@ -0,0 +1,214 @@
+package org.sky.haaneul.timesaleservice.service.v3;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMap;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.sky.haaneul.timesaleservice.domain.TimeSaleStatus;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSaleRedisService;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSaleSoldOutRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 비동기 구매 요청의 처리 결과 저장소
+ * - 요청마다 키를 만들지 않고 타임세일별 Hash(purchase-result:{timeSaleId})에 requestId -> 결과를 저장
+ * - Hash에는 타임세일 종료 시각 + 보관 기간으로 TTL을 설정하여 메모리가 무한히 늘어나지 않도록 함
+ * - 종료된 타임세일의 결과/대기열 키는 스케줄러가 일괄 삭제
+ * - 타임세일별 로컬 상태(만료 시각, 메트릭)는 인스턴스마다 정리
+ *   - 종료 전파를 받으면 메트릭 제거, 보관 기간이 지나면 만료 시각도 제거 (Redis 키를 정리한 인스턴스가 아니어도)
+ *   - 매진은 재고 반환으로 재오픈될 수 있으므로 메트릭을 유지
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PurchaseResultStore {
+    // Redis 키 접두사
+    private static final String RESULT_PREFIX = "purchase-result:";
+    private static final String EXPIRY_INDEX_KEY = "purchase-result:expiry";  // timeSaleId -> 정리 시각(epoch millis)
+    private static final String QUEUE_KEY = "time-sale-queue:";
+    private static final String TOTAL_REQUESTS_KEY = "time-sale-total-requests:";
+
+    private static final String PENDING = "PENDING";
+    private static final Duration RESULT_RETENTION = Duration.ofHours(1);  // 종료 후 결과 조회를 허용하는 시간
+    private static final int CLEANUP_BATCH_SIZE = 100;
+
+    private final RedissonClient redissonClient;
+    private final TimeSaleRedisService timeSaleRedisService;
+    private final MeterRegistry meterRegistry;
+    private final TimeSaleSoldOutRegistry timeSaleSoldOutRegistry;
+
+    // 타임세일별 결과 Hash 만료 시각 (요청마다 타임세일을 조회하지 않도록 로컬에 보관)
+    private final Map<Long, Instant> expireAtBySale = new ConcurrentHashMap<>();
+    private final Map<Long, List<Meter>> metersBySale = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void registerCloseListener() {
+        timeSaleSoldOutRegistry.addCloseListener((timeSaleId, status) -> {
+            if (status == TimeSaleStatus.ENDED) {
+                unregisterMeters(timeSaleId);
+            }
+        });
+    }
+
+    /**
+     * 구매 요청의 초기 상태(PENDING) 저장
+     */
+    public void savePending(Long timeSaleId, String requestId) {
+        saveResult(timeSaleId, requestId, PENDING);
+    }
+
+    /**
+     * 구매 요청의 처리 결과 저장
+     * 결과 저장과 TTL 설정을 하나의 batch로 묶어 한 번의 왕복으로 처리
+     *
+     * @param timeSaleId 타임세일 ID
+     * @param requestId 요청 ID
+     * @param result 처리 결과 (PENDING/SUCCESS/FAIL)
+     */
+    public void saveResult(Long timeSaleId, String requestId, String result) {
+        Instant expireAt = expireAtBySale.computeIfAbsent(timeSaleId, this::registerSale);
+
+        RBatch batch = redissonClient.createBatch();
+        batch.<String, String>getMap(RESULT_PREFIX + timeSaleId, StringCodec.INSTANCE).fastPutAsync(requestId, result);
+        batch.getMap(RESULT_PREFIX + timeSaleId, StringCodec.INSTANCE).expireAsync(expireAt);
+        batch.execute();
+    }
+
+    /**
+     * 구매 요청의 처리 결과 조회 (결과가 없으면 null)
+     */
+    public String getResult(Long timeSaleId, String requestId) {
+        RMap<String, String> results = redissonClient.getMap(RESULT_PREFIX + timeSaleId, StringCodec.INSTANCE);
+        return results.get(requestId);
+    }
+
+    /**
+     * 종료된 타임세일의 결과/대기열 키를 일괄 삭제
+     */
+    public void cleanup(Long timeSaleId) {
+        redissonClient.getKeys().unlink(
+                RESULT_PREFIX + timeSaleId,
+                QUEUE_KEY + timeSaleId,
+                TOTAL_REQUESTS_KEY + timeSaleId
+        );
+        expireAtBySale.remove(timeSaleId);
+        unregisterMeters(timeSaleId);
+        log.info("Purchase results cleaned up: timeSaleId={}", timeSaleId);
+    }
+
+    /**
+     * 보관 기간이 지난 타임세일을 찾아 일괄 정리
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void cleanupEndedSales() {
+        // Redis 키는 한 인스턴스만 정리하므로 로컬 상태는 모든 인스턴스에서 보관 기간 기준으로 정리
+        cleanupLocalState(Instant.now());
+
+        RScoredSortedSet<String> expiryIndex = redissonClient.getScoredSortedSet(EXPIRY_INDEX_KEY, StringCodec.INSTANCE);
+        Collection<String> dueSales = expiryIndex.valueRange(
+                Double.NEGATIVE_INFINITY, true, System.currentTimeMillis(), true, 0, CLEANUP_BATCH_SIZE
+        );
+
+        for (String timeSaleId : dueSales) {
+            try {
+                cleanup(Long.valueOf(timeSaleId));
+            } catch (Exception e) {
+                log.error("Failed to clean up purchase results: timeSaleId={}", timeSaleId, e);
+            }
+        }
+
+        if (!dueSales.isEmpty()) {
+            expiryIndex.removeAll(dueSales);
+        }
+    }
+
+    private void cleanupLocalState(Instant now) {
+        expireAtBySale.forEach((timeSaleId, expireAt) -> {
+            if (expireAt.isBefore(now) && expireAtBySale.remove(timeSaleId, expireAt)) {
+                unregisterMeters(timeSaleId);
+            }
+        });
+    }
+
+    // 결과 Hash 크기
+    double getResultCount(Long timeSaleId) {
+        try {
+            return redissonClient.getMap(RESULT_PREFIX + timeSaleId, StringCodec.INSTANCE).size();
+        } catch (Exception e) {
+            return 0.0;
+        }
+    }
+
+    // 결과 Hash가 사용하는 Redis 메모리 (MEMORY USAGE)
+    double getResultMemoryUsage(Long timeSaleId) {
+        try {
+            return redissonClient.getMap(RESULT_PREFIX + timeSaleId, StringCodec.INSTANCE).sizeInMemory();
+        } catch (Exception e) {
+            return 0.0;
+        }
+    }
+
+    // 처음 결과가 기록되는 타임세일의 만료 시각 계산, 정리 대상 등록, 메트릭 등록
+    private Instant registerSale(Long timeSaleId) {
+        Instant expireAt = resolveEndAt(timeSaleId).plus(RESULT_RETENTION);
+
+        RScoredSortedSet<String> expiryIndex = redissonClient.getScoredSortedSet(EXPIRY_INDEX_KEY, StringCodec.INSTANCE);
+        expiryIndex.add(expireAt.toEpochMilli(), String.valueOf(timeSaleId));
+
+        // 종료 이후에 기록되는 결과(대기 중이던 요청의 실패)는 메트릭을 다시 등록하지 않음
+        if (!timeSaleSoldOutRegistry.isEnded(timeSaleId)) {
+            registerMeters(timeSaleId);
+        }
+        return expireAt;
+    }
+
+    private Instant resolveEndAt(Long timeSaleId) {
+        try {
+            return timeSaleRedisService.getTimeSale(timeSaleId).getEndAt()
+                    .atZone(ZoneId.systemDefault())
+                    .toInstant();
+        } catch (Exception e) {
+            // 타임세일 정보를 찾을 수 없는 요청도 결과는 남겨야 하므로 현재 시각 기준으로 보관
+            log.warn("Failed to resolve end time of time sale: timeSaleId={}", timeSaleId);
+            return Instant.now();
+        }
+    }
+
+    private void registerMeters(Long timeSaleId) {
+        metersBySale.computeIfAbsent(timeSaleId, id -> {
+            List<Meter> meters = new ArrayList<>();
+            meters.add(Gauge.builder("time.sale.purchase.result.entries", () -> getResultCount(id))
+                    .tag("timeSaleId", String.valueOf(id))
+                    .register(meterRegistry));
+            meters.add(Gauge.builder("time.sale.purchase.result.memory", () -> getResultMemoryUsage(id))
+                    .tag("timeSaleId", String.valueOf(id))
+                    .baseUnit("bytes")
+                    .register(meterRegistry));
+            return meters;
+        });
+    }
+
+    private void unregisterMeters(Long timeSaleId) {
+        List<Meter> meters = metersBySale.remove(timeSaleId);
+        if (meters != null) {
+            meters.forEach(meterRegistry::remove);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package org.sky.haaneul.timesaleservice.service.v3;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RStream;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.api.stream.StreamAddArgs;
+import org.redisson.api.stream.StreamCreateGroupArgs;
+import org.redisson.api.stream.StreamReadGroupArgs;
+import org.redisson.client.codec.StringCodec;
+import org.sky.haaneul.timesaleservice.dto.PurchaseRequestMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis Stream(time-sale:purchase-requests)으로 구매 요청 전달
+ * - Consumer Group으로 여러 인스턴스가 나눠서 처리, XREADGROUP으로 batch-size만큼 한 번에 읽음 (없으면 block-ms 동안 대기)
+ * - 처리한 요청은 한 번에 ACK + 삭제
+ * - 처리 중 종료된 인스턴스의 요청은 claim-idle-ms 이후 다른 인스턴스가 회수 (이미 결과가 저장된 요청은 다시 처리하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "time-sale.transport", havingValue = "redis-stream")
+public class RedisStreamPurchaseRequestTransport implements PurchaseRequestTransport {
+    static final String STREAM_KEY = "time-sale:purchase-requests";
+    private static final String GROUP = "time-sale-group";
+    private static final String PENDING = "PENDING";
+
+    private final RedissonClient redissonClient;
+    private final TimeSaleConsumer timeSaleConsumer;
+    private final PurchaseResultStore purchaseResultStore;
+
+    private final String consumerName = UUID.randomUUID().toString();
+    private volatile Thread worker;
+    private long lastClaimedAt;
+
+    @Value("${time-sale.redis-stream.batch-size:100}")
+    private int batchSize;
+
+    @Value("${time-sale.redis-stream.block-ms:1000}")
+    private long blockMillis;
+
+    @Value("${time-sale.redis-stream.claim-idle-ms:30000}")
+    private long claimIdleMillis;
+
+    @Override
+    public void send(PurchaseRequestMessage message) {
+        stream().add(StreamAddArgs.entries(Map.of(
+                "requestId", message.getRequestId(),
+                "timeSaleId", String.valueOf(message.getTimeSaleId()),
+                "userId", String.valueOf(message.getUserId()),
+                "quantity", String.valueOf(message.getQuantity()))));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            stream().createGroup(StreamCreateGroupArgs.name(GROUP).id(StreamMessageId.ALL).makeStream());
+        } catch (Exception e) {
+            // 다른 인스턴스가 이미 생성한 경우 (BUSYGROUP)
+            log.debug("Purchase request group already exists: {}", e.getMessage());
+        }
+
+        worker = new Thread(this::run, "time-sale-purchase-stream");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                poll();
+            } catch (Exception e) {
+                if (Thread.currentThread().isInterrupted()) {
+                    break;
+                }
+                log.error("Failed to read purchase requests", e);
+                sleepQuietly();
+            }
+        }
+    }
+
+    // 회수 대상 처리 후 새 요청 처리
+    void poll() {
+        RStream<String, String> stream = stream();
+        long now = System.currentTimeMillis();
+        if (now - lastClaimedAt >= claimIdleMillis) {
+            lastClaimedAt = now;
+            Map<StreamMessageId, Map<String, String>> claimed = stream.autoClaim(GROUP, consumerName,
+                    claimIdleMillis, TimeUnit.MILLISECONDS, StreamMessageId.MIN, batchSize).getMessages();
+            process(stream, claimed, true);
+        }
+
+        Map<StreamMessageId, Map<String, String>> entries = stream.readGroup(GROUP, consumerName,
+                StreamReadGroupArgs.neverDelivered().count(batchSize).timeout(Duration.ofMillis(blockMillis)));
+        process(stream, entries, false);
+    }
+
+    private void process(RStream<String, String> stream, Map<StreamMessageId, Map<String, String>> entries, boolean redelivered) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        for (Map<String, String> entry : entries.values()) {
+            PurchaseRequestMessage message = toMessage(entry);
+            if (redelivered && !PENDING.equals(purchaseResultStore.getResult(message.getTimeSaleId(), message.getRequestId()))) {
+                continue;  // 종료 전에 처리가 끝난 요청
+            }
+            // 처리 실패는 TimeSaleConsumer에서 FAIL 결과로 저장
+            timeSaleConsumer.consumePurchaseRequest(message);
+        }
+
+        StreamMessageId[] ids = entries.keySet().toArray(new StreamMessageId[0]);
+        stream.ack(GROUP, ids);
+        stream.remove(ids);
+    }
+
+    private RStream<String, String> stream() {
+        return redissonClient.getStream(STREAM_KEY, StringCodec.INSTANCE);
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(blockMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static PurchaseRequestMessage toMessage(Map<String, String> entry) {
+        return PurchaseRequestMessage.builder()
+                .requestId(entry.get("requestId"))
+                .timeSaleId(Long.valueOf(entry.get("timeSaleId")))
+                .userId(Long.valueOf(entry.get("userId")))
+                .quantity(Long.valueOf(entry.get("quantity")))
+                .build();
+    }
+}
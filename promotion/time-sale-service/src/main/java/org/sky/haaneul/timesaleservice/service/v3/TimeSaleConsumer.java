@@ -7,18 +7,27 @@ import org.redisson.api.RBucket;
 import org.redisson.api.RedissonClient;
 import org.sky.haaneul.timesaleservice.domain.TimeSale;
 import org.sky.haaneul.timesaleservice.domain.TimeSaleOrder;
+import org.sky.haaneul.timesaleservice.domain.TimeSaleStatus;
 import org.sky.haaneul.timesaleservice.dto.PurchaseRequestMessage;
-import org.sky.haaneul.timesaleservice.repository.TimeSaleOrderRepository;
+import org.sky.haaneul.timesaleservice.repository.TimeSalePurchaseInfo;
 import org.sky.haaneul.timesaleservice.repository.TimeSaleRepository;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSaleOrderJournal;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSalePurchaseLimiter;
 import org.sky.haaneul.timesaleservice.service.v2.TimeSaleRedisService;
-import org.springframework.kafka.annotation.KafkaListener;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSaleSoldOutRegistry;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSaleVelocityTracker;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
 
 /**
  * 타임세일 구매 요청을 처리하는 Consumer
- * - kafka를 통해 비동기로 전달된 구매 요청을 처리
- * - Redis의 재고를 감소시키고 주문을 생성
+ * - PurchaseRequestTransport(Kafka/Redis Stream)를 통해 비동기로 전달된 구매 요청을 처리
+ * - DB 재고를 조건부 UPDATE로 감소시키고 주문을 생성
  * - 대기열에서 처리된 요청을 제거
  */
 @Slf4j
@@ -26,74 +35,126 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class TimeSaleConsumer {
     private final TimeSaleRedisService timeSaleRedisService;
-    private final TimeSaleOrderRepository timeSaleOrderRepository;
+    private final TimeSaleOrderJournal timeSaleOrderJournal;
     private final TimeSaleRepository timeSaleRepository;
     private final RedissonClient redissonClient;
+    private final PurchaseResultStore purchaseResultStore;
+    private final TimeSaleSoldOutRegistry timeSaleSoldOutRegistry;
+    private final TimeSalePurchaseLimiter timeSalePurchaseLimiter;
+    private final TimeSaleVelocityTracker timeSaleVelocityTracker;
 
     // Redis 키 접두사
-    private static final String RESULT_PREFIX = "purchase-result:";
     private static final String QUEUE_KEY = "time-sale-queue:";
     private static final String TOTAL_REQUESTS_KEY = "time-sale-total-requests:";
 
     /**
-     * Kafka로부터 수신한 구매 요청을 처리
-     * 1. DB에서 타임세일 정보 조회
-     * 2. 재고 감소
-     * 3. 주문 생성
-     * 4. 결과 저장
-     * 5. 대기열에서 제거
+     * 수신한 구매 요청을 처리
+     * 1. 조건부 UPDATE로 재고 감소
+     * 2. 주문 생성
+     * 3. 커밋/롤백 이후 결과 저장 및 대기열에서 제거 (커밋 실패도 실패로 처리하고 구매 제한 반환)
      *
      * @Param message 구매 요청 메시지
      */
     @Transactional
-    @KafkaListener(topics = "time-sale-requests", groupId = "time-sale-group")
     public void consumePurchaseRequest(PurchaseRequestMessage message) {
+        boolean purchased = false;
         try {
-            // DB에서 타임세일 정보 조회 및 재고 감소
-            TimeSale timeSale = timeSaleRepository.findById(message.getTimeSaleId())
-                    .orElseThrow(() -> new IllegalArgumentException("TimeSale not found"));
-            timeSale.purchase(message.getQuantity());  // 요청 수량만큼 감소
-
-            // DB에 변경사항 저장
-            timeSale = timeSaleRepository.save(timeSale);
-
-            // Redis에 변경사항 저장
-            timeSaleRedisService.saveToRedis(timeSale);
-
-            // 주문 생성 및 저장
-            TimeSaleOrder order = TimeSaleOrder.builder()
-                    .userId(message.getUserId())
-                    .timeSale(timeSale)
-                    .quantity(message.getQuantity())
-                    .discountPrice(timeSale.getDiscountPrice())
-                    .build();
-
-            TimeSaleOrder savedOrder = timeSaleOrderRepository.save(order);
-            savedOrder.complete();
-
-            // 성공 결과 저장
-            savePurchaseResult(message.getRequestId(), "SUCCESS");
+            purchase(message);
+            purchased = true;
         } catch (Exception e) {
             log.error("Failed to process purchase request: {}", message, e);
-            // 실패 결과 저장
-            savePurchaseResult(message.getRequestId(), "FAIL");
+            // 예외를 삼키므로 차감한 재고가 커밋되지 않도록 롤백 표시
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            }
+        }
+        completeAfterTransaction(message, purchased);
+    }
+
+    private void purchase(PurchaseRequestMessage message) {
+        Long timeSaleId = message.getTimeSaleId();
+        // 매진/종료 이후 대기열에 남아있던 요청은 DB 조회 없이 실패 처리
+        timeSaleSoldOutRegistry.rejectIfClosed(timeSaleId);
+
+        // 엔티티 변경 대신 조건부 UPDATE로 차감 (커밋 시점의 @Version 충돌 X)
+        int updated = timeSaleRepository.decreaseRemainingQuantity(
+                timeSaleId, message.getQuantity(), TimeSaleStatus.ACTIVE, LocalDateTime.now());
+        if (updated == 0) {
+            throw purchaseFailure(timeSaleId, message.getQuantity());
+        }
+
+        // 차감 이후 조회 (같은 트랜잭션이므로 차감된 재고가 보임)
+        TimeSalePurchaseInfo purchaseInfo = timeSaleRepository.findPurchaseInfoById(timeSaleId)
+                .orElseThrow(() -> new IllegalArgumentException("TimeSale not found"));
+        if (purchaseInfo.getRemainingQuantity() == 0) {
+            timeSaleSoldOutRegistry.markSoldOutAfterCommit(timeSaleId);
+        }
+
+        // 주문 생성 및 저장
+        TimeSaleOrder order = TimeSaleOrder.builder()
+                .userId(message.getUserId())
+                .timeSale(timeSaleRepository.getReferenceById(timeSaleId))
+                .quantity(message.getQuantity())
+                .discountPrice(purchaseInfo.getDiscountPrice())
+                .build();
+
+        order.complete();
+        timeSaleOrderJournal.append(order);  // DB INSERT는 TimeSaleOrderJournalWriter가 배치로 처리
+        timeSaleVelocityTracker.record(timeSaleId, message.getQuantity());
+    }
+
+    // 조건부 UPDATE 실패 원인 확인 (기존 구매 검증과 동일한 예외 메시지 사용)
+    private IllegalStateException purchaseFailure(Long timeSaleId, Long quantity) {
+        TimeSale timeSale = timeSaleRepository.findById(timeSaleId)
+                .orElseThrow(() -> new IllegalArgumentException("TimeSale not found"));
+        try {
+            timeSale.validatePurchase(quantity);
+        } catch (IllegalStateException e) {
+            return e;
+        }
+        return new IllegalStateException("Time sale is not purchasable");
+    }
+
+    // 트랜잭션 종료 후 결과 확정 (커밋 전에 SUCCESS를 저장하면 커밋 실패시 결과와 DB가 달라짐)
+    private void completeAfterTransaction(PurchaseRequestMessage message, boolean purchased) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            complete(message, purchased);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                complete(message, purchased && status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private void complete(PurchaseRequestMessage message, boolean success) {
+        try {
+            if (success) {
+                // 캐시 삭제 -> 다음 조회시 DB에서 변경된 재고로 다시 로딩
+                timeSaleRedisService.evictFromRedis(message.getTimeSaleId());
+                savePurchaseResult(message.getTimeSaleId(), message.getRequestId(), "SUCCESS");
+            } else {
+                // 요청시 차감한 재고/구매 제한 반환
+                timeSalePurchaseLimiter.release(message.getTimeSaleId(), message.getUserId(), message.getQuantity());
+                savePurchaseResult(message.getTimeSaleId(), message.getRequestId(), "FAIL");
+            }
         } finally {
             // 대기열에서 제거
             removeFromQueue(message.getTimeSaleId(), message.getRequestId());
         }
-
-
     }
 
     /**
      * 구매 요청의 처리 결과를 Redis에 저장
      *
+     * @param timeSaleId 타임세일 ID
      * @param requestId 요청 ID
      * @param result 처리 결과 (SUCCESS/FAIL)
      */
-    private void savePurchaseResult(String requestId, String result) {
-        RBucket<String> resultBucker = redissonClient.getBucket(RESULT_PREFIX + requestId);
-        resultBucker.set(result);
+    private void savePurchaseResult(Long timeSaleId, String requestId, String result) {
+        purchaseResultStore.saveResult(timeSaleId, requestId, result);
     }
 
 
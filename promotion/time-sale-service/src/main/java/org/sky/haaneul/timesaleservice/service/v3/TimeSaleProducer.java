@@ -5,37 +5,33 @@ import org.redisson.api.RAtomicLong;
 import org.redisson.api.RBucket;
 import org.redisson.api.RedissonClient;
 import org.sky.haaneul.timesaleservice.dto.PurchaseRequestMessage;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
 
 /**
  * 타임세일 구매 요청을 처리하는 Producer
- * - Kafka를 통해 비동기로 구매 요청을 처리
+ * - PurchaseRequestTransport(Kafka/Redis Stream)를 통해 비동기로 구매 요청을 처리
  * - Redis를 사용하여 대기열 관리
  * - Redisson을 사용하여 분산 환경에서의 동시성 제어
  */
 @Service
 @RequiredArgsConstructor
 public class TimeSaleProducer {
-    // Kafka 토픽 이름
-    private static final String TOPIC = "time-sale-requests";
-
     // Redis 키 접두사
     private static final String QUEUE_KEY = "time-sale-queue:";
-    private static final String RESULT_PREFIX = "purchase-result:";
     private static final String TOTAL_REQUESTS_KEY = "time-sale-total-requests:";
 
-    private final KafkaTemplate<String, PurchaseRequestMessage> kafkaTemplate;
+    private final PurchaseRequestTransport purchaseRequestTransport;
     private final RedissonClient redissonClient;
+    private final PurchaseResultStore purchaseResultStore;
 
     /**
      * 타임세일 구매 요청을 처리
      * 1. 요청 ID 생성
      * 2. Redis에 요청 상태 저장
      * 3. 대기열에 요청 추가
-     * 4. Kafka로 메시지 전송
+     * 4. 구매 요청 전송 (Kafka/Redis Stream)
      */
     public String sendPurchaseRequest(Long timeSaleId, Long userId, Long quantity) {
         // 고유한 요청 ID 생성
@@ -50,8 +46,7 @@ public class TimeSaleProducer {
                 .build();
 
         // Redis에 초기 상태 저장
-        RBucket<String> resultBucker = redissonClient.getBucket(RESULT_PREFIX + requestId);
-        resultBucker.set("PENDING");
+        purchaseResultStore.savePending(timeSaleId, requestId);
 
         // 대기열에 추가하고 카운터 증가
         String queueKey = QUEUE_KEY + timeSaleId;
@@ -64,8 +59,8 @@ public class TimeSaleProducer {
         RAtomicLong totalCounter = redissonClient.getAtomicLong(totalKey);
         totalCounter.incrementAndGet();
 
-        // Kafka로 메시지 전송
-        kafkaTemplate.send(TOPIC, requestId, message);
+        // 구매 요청 전송
+        purchaseRequestTransport.send(message);
         return requestId;
     }
 
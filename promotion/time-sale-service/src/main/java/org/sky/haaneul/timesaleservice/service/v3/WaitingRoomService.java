@@ -0,0 +1,213 @@
+package org.sky.haaneul.timesaleservice.service.v3;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.*;
+import org.redisson.client.codec.StringCodec;
+import org.sky.haaneul.timesaleservice.dto.TimeSaleDto;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSaleRedisService;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSaleSoldOutRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 타임세일 대기실
+ * - 구매 전에 대기표(ticket)를 발급받고, 스케줄러가 일정 주기마다 입장(admission)시킴
+ * - 입장 인원 = min(초당 입장 인원 * 주기, 남은 재고 * 초과 입장 비율 - 입장 후 아직 구매하지 않은 인원)
+ * - 입장한 대기표만 구매 요청 가능 (1회용, TTL 이후 만료)
+ * - 사용자당 타임세일별 대기표는 하나 (재시도하면 대기 중/입장한 기존 대기표 반환, 사용/만료된 경우에만 새로 발급)
+ * -> 요청량이 아니라 재고량에 비례하여 Kafka 메시지/DB 트랜잭션이 발생하도록 제한
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WaitingRoomService {
+    // 대기열과 사용자별 대기표는 한 스크립트에서 사용하므로 Redis Cluster에서도 같은 슬롯에 배치되도록 타임세일 ID를 hash tag로 사용
+    private static final String WAITING_KEY = "time-sale-waiting:{%d}";  // 대기열 (Sorted Set, ticket -> 발급 시각)
+    private static final String TICKETS_KEY = "time-sale-waiting:{%d}:tickets";  // 사용자별 대기표 (userId -> ticket)
+    private static final String ADMITTED_KEY = "time-sale-admitted:";  // 입장한 대기표 (ticket -> userId, TTL)
+    private static final String ADMIT_TICK_KEY = "time-sale-admit-tick:";  // 인스턴스가 여러 개여도 주기당 한 번만 입장 처리
+    private static final String WAITING_SALES_KEY = "time-sale-waiting:sales";  // 대기열이 있는 타임세일 ID 목록
+
+    // KEYS: 사용자별 대기표, 대기열 / ARGV: userId, 새 ticket, 발급 시각, 교체할 기존 ticket (없으면 빈 문자열)
+    // 반환: 사용자의 현재 ticket (기존 ticket이 있고 교체 대상이 아니면 기존 ticket)
+    private static final String ISSUE_SCRIPT =
+            "local existing = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if existing and existing ~= ARGV[4] then return existing end " +
+            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) " +
+            "redis.call('ZADD', KEYS[2], ARGV[3], ARGV[2]) " +
+            "return ARGV[2]";
+
+    public static final String WAITING = "WAITING";
+    public static final String ADMITTED = "ADMITTED";
+    public static final String CLOSED = "CLOSED";
+    public static final String EXPIRED = "EXPIRED";
+
+    private final RedissonClient redissonClient;
+    private final TimeSaleRedisService timeSaleRedisService;
+    private final TimeSaleSoldOutRegistry timeSaleSoldOutRegistry;
+
+    @Value("${time-sale.waiting-room.enabled:false}")
+    private boolean enabled;
+
+    @Value("${time-sale.waiting-room.admit-per-second:100}")
+    private long admitPerSecond;
+
+    @Value("${time-sale.waiting-room.admit-interval-ms:1000}")
+    private long admitIntervalMillis;
+
+    @Value("${time-sale.waiting-room.oversubscription:1.5}")
+    private double oversubscription;
+
+    @Value("${time-sale.waiting-room.token-ttl-seconds:60}")
+    private long tokenTtlSeconds;
+
+    /**
+     * 대기표 발급 (같은 사용자의 재시도는 기존 대기표 반환)
+     */
+    public TimeSaleDto.WaitingTicketResponse issueTicket(Long timeSaleId, Long userId) {
+        timeSaleSoldOutRegistry.rejectIfClosed(timeSaleId);
+
+        // 대기표에 userId를 포함하여 입장시 별도 조회 없이 사용자 확인
+        String ticket = userId + ":" + UUID.randomUUID();
+        String current = issue(timeSaleId, userId, ticket, "");
+        if (!ticket.equals(current)) {
+            TimeSaleDto.WaitingTicketResponse existing = getTicketStatus(timeSaleId, current);
+            if (!EXPIRED.equals(existing.getStatus())) {
+                return existing;  // 대기 중이거나 입장한 기존 대기표
+            }
+            // 사용했거나 만료된 대기표만 교체 (동시에 다른 요청이 교체했으면 그 대기표 반환)
+            current = issue(timeSaleId, userId, ticket, current);
+            if (!ticket.equals(current)) {
+                return getTicketStatus(timeSaleId, current);
+            }
+        }
+        redissonClient.getSet(WAITING_SALES_KEY, StringCodec.INSTANCE).add(String.valueOf(timeSaleId));
+
+        Integer rank = waiting(timeSaleId).rank(ticket);
+        return TimeSaleDto.WaitingTicketResponse.builder()
+                .ticket(ticket)
+                .status(WAITING)
+                .position(rank != null ? rank + 1L : null)
+                .build();
+    }
+
+    /**
+     * 대기표 상태 조회 (ADMITTED 이면 ticket을 X-Admission-Token 헤더로 구매 요청)
+     */
+    public TimeSaleDto.WaitingTicketResponse getTicketStatus(Long timeSaleId, String ticket) {
+        TimeSaleDto.WaitingTicketResponse.WaitingTicketResponseBuilder response = TimeSaleDto.WaitingTicketResponse.builder()
+                .ticket(ticket);
+
+        if (admitted(timeSaleId).containsKey(ticket)) {
+            return response.status(ADMITTED).build();
+        }
+
+        Integer rank = waiting(timeSaleId).rank(ticket);
+        if (rank != null) {
+            return response.status(WAITING).position(rank + 1L).build();
+        }
+
+        return response.status(timeSaleSoldOutRegistry.isClosed(timeSaleId) ? CLOSED : EXPIRED).build();
+    }
+
+    /**
+     * 입장 토큰 사용 (1회용)
+     */
+    public void consumeAdmission(Long timeSaleId, Long userId, String admissionToken) {
+        if (!enabled) {
+            return;
+        }
+        if (admissionToken == null || !admissionToken.startsWith(userId + ":")) {
+            throw new IllegalStateException("Invalid admission token");
+        }
+        if (admitted(timeSaleId).remove(admissionToken) == null) {
+            throw new IllegalStateException("Admission token expired or already used");
+        }
+    }
+
+    /**
+     * 대기열이 있는 타임세일마다 입장 처리
+     */
+    @Scheduled(fixedDelayString = "${time-sale.waiting-room.admit-interval-ms:1000}")
+    public void admitWaitingTickets() {
+        RSet<String> sales = redissonClient.getSet(WAITING_SALES_KEY, StringCodec.INSTANCE);
+        for (String timeSaleId : sales.readAll()) {
+            try {
+                admit(Long.valueOf(timeSaleId));
+            } catch (Exception e) {
+                log.error("Failed to admit waiting tickets: {}", timeSaleId, e);
+            }
+        }
+    }
+
+    private void admit(Long timeSaleId) {
+        if (timeSaleSoldOutRegistry.isClosed(timeSaleId)) {
+            close(timeSaleId);
+            return;
+        }
+
+        // 다른 인스턴스가 이번 주기에 이미 입장 처리함
+        RBucket<String> tick = redissonClient.getBucket(ADMIT_TICK_KEY + timeSaleId, StringCodec.INSTANCE);
+        if (!tick.setIfAbsent("1", Duration.ofMillis(admitIntervalMillis))) {
+            return;
+        }
+
+        RMapCache<String, String> admitted = admitted(timeSaleId);
+        long remaining = timeSaleRedisService.getTimeSale(timeSaleId).getRemainingQuantity();
+        long capacity = (long) Math.ceil(remaining * oversubscription) - admitted.size();
+        long perTick = Math.max(1L, admitPerSecond * admitIntervalMillis / 1000L);
+        int count = (int) Math.min(perTick, capacity);
+        if (count <= 0) {
+            return;
+        }
+
+        Collection<String> tickets = waiting(timeSaleId).pollFirst(count);
+        if (tickets.isEmpty()) {
+            return;
+        }
+
+        RBatch batch = redissonClient.createBatch();
+        RMapCacheAsync<String, String> admittedAsync = batch.getMapCache(ADMITTED_KEY + timeSaleId, StringCodec.INSTANCE);
+        for (String ticket : tickets) {
+            admittedAsync.fastPutAsync(ticket, ticket.substring(0, ticket.indexOf(':')), tokenTtlSeconds, TimeUnit.SECONDS);
+        }
+        batch.execute();
+        log.debug("Admitted {} tickets for time sale {}", tickets.size(), timeSaleId);
+    }
+
+    // 매진/종료된 타임세일의 대기열 정리
+    private void close(Long timeSaleId) {
+        redissonClient.getKeys().unlink(waitingKey(timeSaleId), ticketsKey(timeSaleId), ADMITTED_KEY + timeSaleId);
+        redissonClient.getSet(WAITING_SALES_KEY, StringCodec.INSTANCE).remove(String.valueOf(timeSaleId));
+    }
+
+    private String issue(Long timeSaleId, Long userId, String ticket, String replacing) {
+        return redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, ISSUE_SCRIPT, RScript.ReturnType.VALUE,
+                List.of(ticketsKey(timeSaleId), waitingKey(timeSaleId)),
+                String.valueOf(userId), ticket, String.valueOf(System.currentTimeMillis()), replacing);
+    }
+
+    private RScoredSortedSet<String> waiting(Long timeSaleId) {
+        return redissonClient.getScoredSortedSet(waitingKey(timeSaleId), StringCodec.INSTANCE);
+    }
+
+    private static String waitingKey(Long timeSaleId) {
+        return String.format(WAITING_KEY, timeSaleId);
+    }
+
+    private static String ticketsKey(Long timeSaleId) {
+        return String.format(TICKETS_KEY, timeSaleId);
+    }
+
+    private RMapCache<String, String> admitted(Long timeSaleId) {
+        return redissonClient.getMapCache(ADMITTED_KEY + timeSaleId, StringCodec.INSTANCE);
+    }
+}
@@ -7,17 +7,31 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RedissonClient;
 import org.sky.haaneul.timesaleservice.domain.Product;
 import org.sky.haaneul.timesaleservice.dto.ProductDto;
 import org.sky.haaneul.timesaleservice.repository.ProductRepository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
-import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +42,12 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RAtomicLong catalogVersion;
+
     private ProductDto.CreateRequest createRequest;
     private Product product;
     private LocalDateTime now;
@@ -53,6 +73,7 @@ class ProductServiceTest {
     void createProduct_Success() {
         // given
         when(productRepository.save(any(Product.class))).thenReturn(product);
+        when(redissonClient.getAtomicLong(anyString())).thenReturn(catalogVersion);
 
         // when
         Product result = productService.createProduct(createRequest);
@@ -63,6 +84,7 @@ class ProductServiceTest {
         assertThat(result.getPrice()).isEqualTo(createRequest.getPrice());
         assertThat(result.getDescription()).isEqualTo(createRequest.getDescription());
         verify(productRepository, times(1)).save(any(Product.class));
+        verify(catalogVersion).incrementAndGet();  // 목록 버전 증가 -> 목록 캐시/ETag 무효화
     }
 
     @Test
@@ -98,5 +120,85 @@ class ProductServiceTest {
         verify(productRepository, times(1)).findById(productId);
     }
 
+    @Test
+    @DisplayName("상품 조회 - 한 번 조회한 상품은 로컬 캐시에서 반환")
+    void getProduct_Cached() {
+        // given
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+
+        // when
+        productService.getProduct(1L);
+        Product result = productService.getProduct(1L);
 
-}
\ No newline at end of file
+        // then
+        assertThat(result).isSameAs(product);
+        verify(productRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("여러 상품 조회 - 캐시에 없는 상품만 한 번에 조회하고 요청 순서 유지")
+    void getProducts_ByIds() {
+        // given
+        Product other = Product.builder().id(2L).name("Other").price(5000L).description("Other").build();
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(productRepository.findAllById(List.of(2L, 3L))).thenReturn(List.of(other));
+        productService.getProduct(1L);
+
+        // when
+        List<Product> result = productService.getProducts(List.of(2L, 1L, 3L));
+
+        // then
+        assertThat(result).containsExactly(other, product);  // 없는 상품(3)은 제외
+        verify(productRepository).findAllById(List.of(2L, 3L));
+    }
+
+    @Test
+    @DisplayName("여러 상품 조회 - 최대 개수 초과시 예외")
+    void getProducts_TooManyIds() {
+        // given
+        List<Long> ids = LongStream.rangeClosed(1, ProductService.MAX_PAGE_SIZE + 1).boxed().toList();
+
+        // when & then
+        assertThatThrownBy(() -> productService.getProducts(ids))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("커서 조회 - 마지막 상품 ID 이후부터 최대 페이지 크기만큼 조회")
+    void getProductsAfter_Success() {
+        // given
+        Slice<Product> slice = new SliceImpl<>(List.of(product), PageRequest.of(0, 100), true);
+        when(redissonClient.getAtomicLong(anyString())).thenReturn(catalogVersion);
+        when(productRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class))).thenReturn(slice);
+
+        // when
+        Slice<Product> result = productService.getProductsAfter(null, 1_000);
+
+        // then
+        assertThat(result.getContent()).containsExactly(product);
+        verify(productRepository).findByIdGreaterThanOrderByIdAsc(0L, PageRequest.of(0, ProductService.MAX_PAGE_SIZE));
+    }
+
+    @Test
+    @DisplayName("페이지 조회 - 같은 목록 버전이면 캐시에서 반환하고 버전이 바뀌면 다시 조회")
+    void getProducts_PageCachedByCatalogVersion() {
+        // given
+        Pageable pageable = PageRequest.of(0, 20);
+        when(redissonClient.getAtomicLong(anyString())).thenReturn(catalogVersion);
+        when(catalogVersion.get()).thenReturn(1L, 1L, 2L);
+        when(productRepository.findAll(pageable)).thenReturn(new PageImpl<>(List.of(product)));
+
+        // when
+        Page<Product> first = productService.getProducts(pageable);
+        Page<Product> second = productService.getProducts(pageable);
+        productService.getProducts(pageable);
+
+        // then
+        assertThat(second).isSameAs(first);
+        verify(productRepository, times(2)).findAll(pageable);
+        // 목록으로 읽은 상품은 단건 조회시 DB 조회 X
+        assertThat(productService.getProduct(1L)).isSameAs(product);
+        verify(productRepository, never()).findById(anyLong());
+    }
+}
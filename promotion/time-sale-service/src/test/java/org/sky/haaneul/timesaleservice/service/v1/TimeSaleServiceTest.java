@@ -4,17 +4,26 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.sky.haaneul.timesaleservice.domain.OrderStatus;
 import org.sky.haaneul.timesaleservice.domain.Product;
 import org.sky.haaneul.timesaleservice.domain.TimeSale;
 import org.sky.haaneul.timesaleservice.domain.TimeSaleOrder;
 import org.sky.haaneul.timesaleservice.domain.TimeSaleStatus;
 import org.sky.haaneul.timesaleservice.dto.TimeSaleDto;
+import org.sky.haaneul.timesaleservice.dto.TimeSaleSnapshot;
 import org.sky.haaneul.timesaleservice.repository.ProductRepository;
 import org.sky.haaneul.timesaleservice.repository.TimeSaleOrderRepository;
+import org.sky.haaneul.timesaleservice.repository.TimeSalePurchaseInfo;
 import org.sky.haaneul.timesaleservice.repository.TimeSaleRepository;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSaleLifecycleScheduler;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSaleListingIndex;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSalePurchaseLimiter;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSaleRedisService;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSaleSoldOutRegistry;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -26,7 +35,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +52,21 @@ class TimeSaleServiceTest {
     @Mock
     private TimeSaleOrderRepository timeSaleOrderRepository;
 
+    @Mock
+    private TimeSaleListingIndex timeSaleListingIndex;
+
+    @Mock
+    private TimeSaleLifecycleScheduler timeSaleLifecycleScheduler;
+
+    @Mock
+    private TimeSalePurchaseLimiter timeSalePurchaseLimiter;
+
+    @Mock
+    private TimeSaleSoldOutRegistry timeSaleSoldOutRegistry;
+
+    @Mock
+    private TimeSaleRedisService timeSaleRedisService;
+
     private Product product;
     private TimeSale timeSale;
     private TimeSaleDto.CreateRequest createRequest;
@@ -98,6 +122,8 @@ class TimeSaleServiceTest {
         assertThat(result.getQuantity()).isEqualTo(createRequest.getQuantity());
         verify(productRepository, times(1)).findById(1L);
         verify(timeSaleRepository, times(1)).save(any(TimeSale.class));
+        verify(timeSaleListingIndex, times(1)).register(timeSale);
+        verify(timeSaleLifecycleScheduler, times(1)).schedule(timeSale);
     }
 
     @Test
@@ -119,22 +145,19 @@ class TimeSaleServiceTest {
     void getOngoingTimeSales_Success() {
         // given
         PageRequest pageRequest = PageRequest.of(0, 10);
-        Page<TimeSale> timeSalePage = new PageImpl<>(List.of(timeSale));
-        when(timeSaleRepository.findAllByStartAtBeforeAndEndAtAfterAndStatus(
-                any(LocalDateTime.class), eq(TimeSaleStatus.ACTIVE), eq(pageRequest)
-        )).thenReturn(timeSalePage);
+        TimeSaleSnapshot snapshot = TimeSaleSnapshot.from(timeSale);
+        Page<TimeSaleSnapshot> timeSalePage = new PageImpl<>(List.of(snapshot));
+        when(timeSaleListingIndex.getOngoingTimeSales(pageRequest)).thenReturn(timeSalePage);
 
         // when
-        Page<TimeSale> result = timeSaleService.getOngoingTimeSales(pageRequest);
+        Page<TimeSaleSnapshot> result = timeSaleService.getOngoingTimeSales(pageRequest);
 
         // then
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().get(0)).isEqualTo(timeSale);
-        verify(timeSaleRepository, times(1))
-                .findAllByStartAtBeforeAndEndAtAfterAndStatus(
-                        any(LocalDateTime.class), eq(TimeSaleStatus.ACTIVE), eq(pageRequest)
-                );
+        assertThat(result.getContent().get(0)).isEqualTo(snapshot);
+        verify(timeSaleListingIndex, times(1)).getOngoingTimeSales(pageRequest);
+        verifyNoInteractions(timeSaleRepository);
     }
 
     @Test
@@ -184,6 +207,8 @@ class TimeSaleServiceTest {
 
         verify(timeSaleRepository).findByIdWithPessimisticLock(1L);
         verify(timeSaleOrderRepository).save(any(TimeSaleOrder.class));
+        verify(timeSalePurchaseLimiter).reserve(1L, 1L, 2L);
+        verify(timeSalePurchaseLimiter, never()).release(anyLong(), anyLong(), anyLong());
     }
 
     @Test
@@ -237,7 +262,8 @@ class TimeSaleServiceTest {
                 () -> timeSaleService.purchasesTimeSale(1L, request));
         verify(timeSaleRepository).findByIdWithPessimisticLock(1L);
         verify(timeSaleOrderRepository, never()).save(any(TimeSaleOrder.class));
-
+        // 구매 실패시 차감한 구매 제한 반환
+        verify(timeSalePurchaseLimiter).release(1L, 1L, 2L);
     }
 
     @Test
@@ -250,6 +276,7 @@ class TimeSaleServiceTest {
                 .discountPrice(8000L)
                 .startAt(now.plusHours(1))
                 .endAt(now.plusDays(1))
+                .status(TimeSaleStatus.SCHEDULED)
                 .build();
 
         when(timeSaleRepository.findByIdWithPessimisticLock(1L)).thenReturn(Optional.of(notStartedTimeSale));
@@ -263,5 +290,105 @@ class TimeSaleServiceTest {
 
     }
 
+    @Test
+    @DisplayName("조건부 UPDATE 구매 성공 - 비관적 락 없이 재고 차감 후 주문 생성")
+    void purchaseTimeSaleConditionally_Success() {
+        // given
+        TimeSalePurchaseInfo purchaseInfo = mock(TimeSalePurchaseInfo.class);
+        when(purchaseInfo.getProductId()).thenReturn(1L);
+        when(purchaseInfo.getDiscountPrice()).thenReturn(8000L);
+        when(purchaseInfo.getRemainingQuantity()).thenReturn(99L);
+        when(timeSaleRepository.findPurchaseInfoById(1L)).thenReturn(Optional.of(purchaseInfo));
+        when(timeSaleRepository.decreaseRemainingQuantity(eq(1L), eq(1L), eq(TimeSaleStatus.ACTIVE), any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        // when
+        TimeSaleDto.PurchaseResponse response = timeSaleService.purchaseTimeSaleConditionally(1L, purchaseRequest);
+
+        // then
+        assertThat(response.getTimeSaleId()).isEqualTo(1L);
+        assertThat(response.getProductId()).isEqualTo(1L);
+        assertThat(response.getDiscountPrice()).isEqualTo(8000L);
+
+        ArgumentCaptor<TimeSaleOrder> orderCaptor = ArgumentCaptor.forClass(TimeSaleOrder.class);
+        verify(timeSaleOrderRepository).save(orderCaptor.capture());
+        assertThat(orderCaptor.getValue().getStatus()).isEqualTo(OrderStatus.COMPLETED);
+        verify(timeSaleRepository, never()).findByIdWithPessimisticLock(anyLong());
+        verifyNoInteractions(timeSaleSoldOutRegistry, timeSaleRedisService);
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 구매 성공 - 마지막 재고를 구매하면 매진 전파 및 v2 캐시 삭제")
+    void purchaseTimeSaleConditionally_SoldOut() {
+        // given
+        TimeSalePurchaseInfo purchaseInfo = mock(TimeSalePurchaseInfo.class);
+        when(purchaseInfo.getRemainingQuantity()).thenReturn(0L);
+        when(timeSaleRepository.findPurchaseInfoById(1L)).thenReturn(Optional.of(purchaseInfo));
+        when(timeSaleRepository.decreaseRemainingQuantity(eq(1L), eq(1L), eq(TimeSaleStatus.ACTIVE), any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        // when
+        timeSaleService.purchaseTimeSaleConditionally(1L, purchaseRequest);
+
+        // then (트랜잭션 밖에서는 즉시 실행)
+        verify(timeSaleSoldOutRegistry).markSoldOutAfterCommit(1L);
+        verify(timeSaleRedisService).evictFromRedis(1L);
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 구매 실패 - 재고 부족시 주문 생성 X")
+    void purchaseTimeSaleConditionally_InsufficientQuantity() {
+        // given
+        TimeSale lowStockTimeSale = TimeSale.builder()
+                .id(1L)
+                .product(product)
+                .quantity(100L)
+                .remainingQuantity(0L)
+                .discountPrice(8000L)
+                .startAt(now.minusHours(1))
+                .endAt(now.plusHours(1))
+                .status(TimeSaleStatus.ACTIVE)
+                .build();
+
+        when(timeSaleRepository.decreaseRemainingQuantity(eq(1L), eq(1L), eq(TimeSaleStatus.ACTIVE), any(LocalDateTime.class)))
+                .thenReturn(0);
+        when(timeSaleRepository.findById(1L)).thenReturn(Optional.of(lowStockTimeSale));
+
+        // when & then
+        assertThatThrownBy(() -> timeSaleService.purchaseTimeSaleConditionally(1L, purchaseRequest))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Not enough quantity available");
+        verify(timeSaleOrderRepository, never()).save(any(TimeSaleOrder.class));
+        verify(timeSalePurchaseLimiter).release(1L, purchaseRequest.getUserId(), 1L);
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 구매 실패 - 사용자별 구매 제한 초과시 DB 조회 X")
+    void purchaseTimeSaleConditionally_PurchaseLimitExceeded() {
+        // given
+        doThrow(new IllegalStateException("Purchase limit exceeded"))
+                .when(timeSalePurchaseLimiter).reserve(1L, purchaseRequest.getUserId(), 1L);
 
-}
\ No newline at end of file
+        // when & then
+        assertThatThrownBy(() -> timeSaleService.purchaseTimeSaleConditionally(1L, purchaseRequest))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Purchase limit exceeded");
+        verifyNoInteractions(timeSaleRepository, timeSaleOrderRepository);
+        verify(timeSalePurchaseLimiter, never()).release(anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 구매 실패 - 존재하지 않는 타임세일")
+    void purchaseTimeSaleConditionally_NotFound() {
+        // given
+        when(timeSaleRepository.decreaseRemainingQuantity(eq(1L), eq(1L), eq(TimeSaleStatus.ACTIVE), any(LocalDateTime.class)))
+                .thenReturn(0);
+        when(timeSaleRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThrows(IllegalArgumentException.class,
+                () -> timeSaleService.purchaseTimeSaleConditionally(1L, purchaseRequest));
+        verify(timeSaleRepository, never()).findPurchaseInfoById(anyLong());
+        verify(timeSaleOrderRepository, never()).save(any(TimeSaleOrder.class));
+    }
+}
@@ -0,0 +1,154 @@
+package org.sky.haaneul.timesaleservice.service.v2;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RBucket;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.sky.haaneul.timesaleservice.exception.DuplicateRequestException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private RBucket<String> bucket;
+
+    private IdempotencyService idempotencyService;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService(redissonClient);
+        ReflectionTestUtils.setField(idempotencyService, "ttlSeconds", 3600L);
+        ReflectionTestUtils.setField(idempotencyService, "inProgressTtlSeconds", 10L);
+        ReflectionTestUtils.setField(idempotencyService, "waitMillis", 100L);
+        executions = new AtomicInteger();
+    }
+
+    private String purchase() {
+        executions.incrementAndGet();
+        return "request-id";
+    }
+
+    private String execute(String idempotencyKey) {
+        return idempotencyService.execute("v3:purchase:1:1", idempotencyKey, this::purchase,
+                Function.identity(), Function.identity());
+    }
+
+    @Test
+    @DisplayName("첫 요청 - 처리 후 응답 기록")
+    void execute_FirstRequest() {
+        // given
+        given(redissonClient.<String>getBucket(anyString(), any(Codec.class))).willReturn(bucket);
+        given(bucket.get()).willReturn(null);
+        given(bucket.setIfAbsent(eq(""), any(Duration.class))).willReturn(true);
+
+        // when
+        String result = execute("key-1");
+
+        // then
+        assertThat(result).isEqualTo("request-id");
+        assertThat(executions.get()).isEqualTo(1);
+        verify(redissonClient).getBucket(eq("idempotency:v3:purchase:1:1:key-1"), any(Codec.class));
+        verify(bucket).set("request-id", Duration.ofSeconds(3600));
+    }
+
+    @Test
+    @DisplayName("중복 요청 - 처리하지 않고 기록된 응답 반환")
+    void execute_Duplicate() {
+        // given
+        given(redissonClient.<String>getBucket(anyString(), any(Codec.class))).willReturn(bucket);
+        given(bucket.get()).willReturn("recorded-id");
+
+        // when
+        String result = execute("key-1");
+
+        // then
+        assertThat(result).isEqualTo("recorded-id");
+        assertThat(executions.get()).isZero();
+        verify(bucket, never()).setIfAbsent(anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("중복 요청 - 다른 인스턴스에서 계속 처리 중이면 409")
+    void execute_InProgress() {
+        // given
+        given(redissonClient.<String>getBucket(anyString(), any(Codec.class))).willReturn(bucket);
+        given(bucket.get()).willReturn("");
+
+        // when & then
+        assertThatThrownBy(() -> execute("key-1"))
+                .isInstanceOf(DuplicateRequestException.class);
+        assertThat(executions.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("처리 실패 - 기록을 삭제하여 재시도 가능")
+    void execute_Failed() {
+        // given
+        given(redissonClient.<String>getBucket(anyString(), any(Codec.class))).willReturn(bucket);
+        given(bucket.get()).willReturn(null);
+        given(bucket.setIfAbsent(eq(""), any(Duration.class))).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> idempotencyService.execute("v3:purchase:1:1", "key-1",
+                () -> {
+                    throw new IllegalStateException("Not enough quantity available");
+                },
+                Function.identity(), Function.identity()))
+                .isInstanceOf(IllegalStateException.class);
+        verify(bucket).delete();
+        verify(bucket, never()).set(anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("처리 중 표시 연장 - 처리 중인 요청만 연장하고 처리가 끝나면 중단")
+    void renewInProgress_WhileProcessing() {
+        // given
+        RScript rScript = mock(RScript.class);
+        given(redissonClient.<String>getBucket(anyString(), any(Codec.class))).willReturn(bucket);
+        given(bucket.get()).willReturn(null);
+        given(bucket.setIfAbsent(eq(""), any(Duration.class))).willReturn(true);
+        given(redissonClient.getScript(any(Codec.class))).willReturn(rScript);
+
+        // when
+        idempotencyService.execute("v3:purchase:1:1", "key-1", () -> {
+            idempotencyService.renewInProgress();
+            return "request-id";
+        }, Function.identity(), Function.identity());
+        idempotencyService.renewInProgress();
+
+        // then
+        verify(rScript, times(1)).eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER),
+                eq(List.of("idempotency:v3:purchase:1:1:key-1")), eq(""), eq("10000"));
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key가 없으면 Redis 접근 없이 처리")
+    void execute_WithoutKey() {
+        // when
+        String result = execute(null);
+
+        // then
+        assertThat(result).isEqualTo("request-id");
+        verifyNoInteractions(redissonClient);
+    }
+}
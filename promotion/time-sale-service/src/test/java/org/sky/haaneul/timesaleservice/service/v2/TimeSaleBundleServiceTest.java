@@ -0,0 +1,159 @@
+package org.sky.haaneul.timesaleservice.service.v2;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.sky.haaneul.timesaleservice.domain.Product;
+import org.sky.haaneul.timesaleservice.domain.TimeSale;
+import org.sky.haaneul.timesaleservice.domain.TimeSaleOrder;
+import org.sky.haaneul.timesaleservice.domain.TimeSaleStatus;
+import org.sky.haaneul.timesaleservice.dto.TimeSaleDto;
+import org.sky.haaneul.timesaleservice.repository.TimeSalePurchaseInfo;
+import org.sky.haaneul.timesaleservice.repository.TimeSaleRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimeSaleBundleServiceTest {
+    @InjectMocks
+    private TimeSaleBundleService timeSaleBundleService;
+
+    @Mock
+    private TimeSaleRepository timeSaleRepository;
+    @Mock
+    private TimeSaleOrderJournal timeSaleOrderJournal;
+    @Mock
+    private TimeSaleRedisService timeSaleRedisService;
+    @Mock
+    private TimeSaleSoldOutRegistry timeSaleSoldOutRegistry;
+    @Mock
+    private TimeSalePurchaseLimiter timeSalePurchaseLimiter;
+    @Mock
+    private TimeSaleVelocityTracker timeSaleVelocityTracker;
+
+    private TimeSaleDto.BundlePurchaseRequest request;
+
+    @BeforeEach
+    void setUp() {
+        // 같은 타임세일(2번)은 수량 합산
+        request = TimeSaleDto.BundlePurchaseRequest.builder()
+                .userId(1L)
+                .items(List.of(
+                        TimeSaleDto.BundleItem.builder().timeSaleId(2L).quantity(1L).build(),
+                        TimeSaleDto.BundleItem.builder().timeSaleId(1L).quantity(2L).build(),
+                        TimeSaleDto.BundleItem.builder().timeSaleId(2L).quantity(2L).build()))
+                .build();
+    }
+
+    private TimeSalePurchaseInfo purchaseInfo(Long id, Long productId, Long discountPrice, Long remainingQuantity) {
+        TimeSalePurchaseInfo purchaseInfo = mock(TimeSalePurchaseInfo.class);
+        given(purchaseInfo.getId()).willReturn(id);
+        given(purchaseInfo.getProductId()).willReturn(productId);
+        given(purchaseInfo.getDiscountPrice()).willReturn(discountPrice);
+        given(purchaseInfo.getRemainingQuantity()).willReturn(remainingQuantity);
+        return purchaseInfo;
+    }
+
+    @Test
+    @DisplayName("묶음 구매 성공 - 한 번에 예약하고 주문을 일괄 저장")
+    @SuppressWarnings("unchecked")
+    void purchaseBundle_Success() {
+        // given
+        given(timeSaleRepository.decreaseRemainingQuantity(anyLong(), anyLong(), eq(TimeSaleStatus.ACTIVE), any(LocalDateTime.class)))
+                .willReturn(1);
+        TimeSalePurchaseInfo first = purchaseInfo(1L, 10L, 5000L, 8L);
+        TimeSalePurchaseInfo second = purchaseInfo(2L, 20L, 3000L, 0L);
+        given(timeSaleRepository.findAllPurchaseInfoByIdIn(anyCollection())).willReturn(List.of(first, second));
+
+        // when
+        TimeSaleDto.BundlePurchaseResponse response = timeSaleBundleService.purchaseBundle(request);
+
+        // then
+        verify(timeSalePurchaseLimiter).reserveAll(1L, Map.of(1L, 2L, 2L, 3L));
+        verify(timeSaleRepository).decreaseRemainingQuantity(eq(2L), eq(3L), eq(TimeSaleStatus.ACTIVE), any(LocalDateTime.class));
+
+        ArgumentCaptor<List<TimeSaleOrder>> orders = ArgumentCaptor.forClass(List.class);
+        verify(timeSaleOrderJournal).appendAll(orders.capture());
+        assertThat(orders.getValue()).hasSize(2);
+
+        assertThat(response.getItems()).extracting(TimeSaleDto.PurchaseResponse::getTimeSaleId).containsExactly(1L, 2L);
+        assertThat(response.getTotalPrice()).isEqualTo(5000L * 2 + 3000L * 3);
+        verify(timeSaleSoldOutRegistry).markSoldOutAfterCommit(2L);
+        verify(timeSaleSoldOutRegistry, never()).markSoldOutAfterCommit(1L);
+        verify(timeSaleRedisService).evictFromRedis(1L);
+        verify(timeSaleRedisService).evictFromRedis(2L);
+        verify(timeSaleVelocityTracker).record(2L, 3L);
+        verify(timeSalePurchaseLimiter, never()).release(anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("묶음 구매 실패 - 하나라도 재고가 부족하면 전체 롤백 및 예약 반환")
+    void purchaseBundle_OneItemOutOfStock() {
+        // given
+        TimeSale timeSale = TimeSale.builder()
+                .id(2L)
+                .product(Product.builder().id(20L).name("Test Product").price(10000L).build())
+                .quantity(10L)
+                .remainingQuantity(1L)
+                .discountPrice(3000L)
+                .status(TimeSaleStatus.ACTIVE)
+                .build();
+        given(timeSaleRepository.decreaseRemainingQuantity(eq(1L), anyLong(), any(), any(LocalDateTime.class))).willReturn(1);
+        given(timeSaleRepository.decreaseRemainingQuantity(eq(2L), anyLong(), any(), any(LocalDateTime.class))).willReturn(0);
+        given(timeSaleRepository.findById(2L)).willReturn(Optional.of(timeSale));
+
+        // when & then
+        assertThatThrownBy(() -> timeSaleBundleService.purchaseBundle(request))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Not enough quantity available");
+
+        verify(timeSaleOrderJournal, never()).appendAll(anyList());
+        verify(timeSalePurchaseLimiter).release(1L, 1L, 2L);
+        verify(timeSalePurchaseLimiter).release(2L, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("묶음 구매 실패 - Redis 예약이 거절되면 DB 접근 X")
+    void purchaseBundle_ReserveRejected() {
+        // given
+        willThrow(new IllegalStateException("Purchase limit exceeded: 2"))
+                .given(timeSalePurchaseLimiter).reserveAll(eq(1L), anyMap());
+
+        // when & then
+        assertThatThrownBy(() -> timeSaleBundleService.purchaseBundle(request))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Purchase limit exceeded: 2");
+
+        verifyNoInteractions(timeSaleRepository, timeSaleOrderJournal);
+        verify(timeSalePurchaseLimiter, never()).release(anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("묶음 구매 실패 - 종료된 타임세일이 포함되면 즉시 거절")
+    void purchaseBundle_ClosedSale() {
+        // given
+        willThrow(new IllegalStateException("Time sale is not active"))
+                .given(timeSaleSoldOutRegistry).rejectIfClosed(2L);
+
+        // when & then
+        assertThatThrownBy(() -> timeSaleBundleService.purchaseBundle(request))
+                .isInstanceOf(IllegalStateException.class);
+
+        verifyNoInteractions(timeSalePurchaseLimiter, timeSaleRepository);
+    }
+}
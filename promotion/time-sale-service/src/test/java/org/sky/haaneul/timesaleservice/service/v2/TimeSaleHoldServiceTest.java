@@ -0,0 +1,176 @@
+package org.sky.haaneul.timesaleservice.service.v2;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.sky.haaneul.timesaleservice.domain.OrderStatus;
+import org.sky.haaneul.timesaleservice.domain.Product;
+import org.sky.haaneul.timesaleservice.domain.TimeSale;
+import org.sky.haaneul.timesaleservice.domain.TimeSaleOrder;
+import org.sky.haaneul.timesaleservice.domain.TimeSaleStatus;
+import org.sky.haaneul.timesaleservice.dto.TimeSaleDto;
+import org.sky.haaneul.timesaleservice.repository.TimeSaleOrderRepository;
+import org.sky.haaneul.timesaleservice.repository.TimeSalePurchaseInfo;
+import org.sky.haaneul.timesaleservice.repository.TimeSaleRepository;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimeSaleHoldServiceTest {
+    @Mock
+    private TimeSaleRepository timeSaleRepository;
+    @Mock
+    private TimeSaleOrderRepository timeSaleOrderRepository;
+    @Mock
+    private TimeSaleRedisService timeSaleRedisService;
+    @Mock
+    private TimeSaleSoldOutRegistry timeSaleSoldOutRegistry;
+    @Mock
+    private TimeSalePurchaseLimiter timeSalePurchaseLimiter;
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private RScoredSortedSet<String> holdExpiry;
+    @Mock
+    private TimeSalePurchaseInfo purchaseInfo;
+
+    private TimeSaleHoldService timeSaleHoldService;
+    private TimeSaleDto.PurchaseRequest purchaseRequest;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now();
+        timeSaleHoldService = new TimeSaleHoldService(timeSaleRepository, timeSaleOrderRepository,
+                timeSaleRedisService, timeSaleSoldOutRegistry, timeSalePurchaseLimiter, redissonClient);
+        ReflectionTestUtils.setField(timeSaleHoldService, "holdTtlSeconds", 600L);
+
+        purchaseRequest = TimeSaleDto.PurchaseRequest.builder()
+                .userId(1L)
+                .quantity(2L)
+                .build();
+    }
+
+    private TimeSale timeSale(Long id, Long remainingQuantity) {
+        return TimeSale.builder()
+                .id(id)
+                .product(Product.builder().id(1L).name("Test Product").price(10000L).build())
+                .quantity(100L)
+                .remainingQuantity(remainingQuantity)
+                .discountPrice(5000L)
+                .startAt(now.minusHours(1))
+                .endAt(now.plusHours(1))
+                .status(TimeSaleStatus.ACTIVE)
+                .build();
+    }
+
+    private TimeSaleOrder hold(Long orderId, TimeSale timeSale, Long quantity) {
+        return TimeSaleOrder.builder()
+                .id(orderId)
+                .userId(1L)
+                .timeSale(timeSale)
+                .quantity(quantity)
+                .discountPrice(5000L)
+                .expiresAt(now.minusSeconds(1))
+                .build();
+    }
+
+    @Test
+    @DisplayName("홀드 성공 - 재고 차감 후 만료 시각을 가진 PENDING 주문 생성")
+    void hold_Success() {
+        // given
+        given(timeSaleRepository.decreaseRemainingQuantity(eq(1L), eq(2L), eq(TimeSaleStatus.ACTIVE), any(LocalDateTime.class)))
+                .willReturn(1);
+        given(timeSaleRepository.findPurchaseInfoById(1L)).willReturn(Optional.of(purchaseInfo));
+        given(purchaseInfo.getDiscountPrice()).willReturn(5000L);
+        given(purchaseInfo.getProductId()).willReturn(1L);
+        given(purchaseInfo.getRemainingQuantity()).willReturn(0L);
+        given(timeSaleOrderRepository.save(any(TimeSaleOrder.class))).willAnswer(invocation -> {
+            TimeSaleOrder order = invocation.getArgument(0);
+            ReflectionTestUtils.setField(order, "id", 10L);
+            return order;
+        });
+        given(redissonClient.<String>getScoredSortedSet(anyString(), any(Codec.class))).willReturn(holdExpiry);
+
+        // when
+        TimeSaleDto.HoldResponse response = timeSaleHoldService.hold(1L, purchaseRequest);
+
+        // then
+        assertThat(response.getOrderId()).isEqualTo(10L);
+        assertThat(response.getExpiresAt()).isAfter(now.plusSeconds(599));
+        verify(holdExpiry).add(anyDouble(), eq("10"));
+        // 마지막 재고를 홀드하면 매진 처리
+        verify(timeSaleSoldOutRegistry).markSoldOutAfterCommit(1L);
+        verify(timeSaleRedisService).evictFromRedis(1L);
+    }
+
+    @Test
+    @DisplayName("홀드 실패 - 재고 부족시 주문 생성 X")
+    void hold_InsufficientQuantity() {
+        // given
+        given(timeSaleRepository.decreaseRemainingQuantity(eq(1L), eq(2L), eq(TimeSaleStatus.ACTIVE), any(LocalDateTime.class)))
+                .willReturn(0);
+        given(timeSaleRepository.findById(1L)).willReturn(Optional.of(timeSale(1L, 0L)));
+
+        // when & then
+        assertThatThrownBy(() -> timeSaleHoldService.hold(1L, purchaseRequest))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Not enough quantity available");
+        verify(timeSaleOrderRepository, never()).save(any(TimeSaleOrder.class));
+        verify(timeSaleSoldOutRegistry).markSoldOut(1L);
+        verify(timeSalePurchaseLimiter).release(1L, 1L, 2L);
+    }
+
+    @Test
+    @DisplayName("확정 실패 - 만료되었거나 다른 사용자의 홀드")
+    void confirm_Expired() {
+        // given
+        given(timeSaleOrderRepository.confirmHold(eq(10L), eq(1L), eq(OrderStatus.PENDING), eq(OrderStatus.COMPLETED), any(LocalDateTime.class)))
+                .willReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> timeSaleHoldService.confirm(10L, 1L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Hold not found or expired");
+    }
+
+    @Test
+    @DisplayName("홀드 만료 - 타임세일별로 재고를 합산하여 반환")
+    void expireHolds_Success() {
+        // given
+        TimeSale first = timeSale(1L, 0L);
+        TimeSale second = timeSale(2L, 0L);
+        given(timeSaleOrderRepository.findAllExpiredForUpdate(anyCollection(), eq(OrderStatus.PENDING), any(LocalDateTime.class)))
+                .willReturn(List.of(hold(10L, first, 2L), hold(11L, first, 3L), hold(12L, second, 1L)));
+
+        // when
+        int expired = timeSaleHoldService.expireHolds(List.of(10L, 11L, 12L, 13L));
+
+        // then
+        assertThat(expired).isEqualTo(3);
+        verify(timeSaleOrderRepository).updateStatusByIdIn(eq(List.of(10L, 11L, 12L)), eq(OrderStatus.PENDING),
+                eq(OrderStatus.EXPIRED), any(LocalDateTime.class));
+        verify(timeSaleRepository).increaseRemainingQuantity(eq(1L), eq(5L), any(LocalDateTime.class));
+        verify(timeSaleRepository).increaseRemainingQuantity(eq(2L), eq(1L), any(LocalDateTime.class));
+        verify(timeSaleSoldOutRegistry).reopen(1L);
+        verify(timeSaleSoldOutRegistry).reopen(2L);
+        verify(timeSalePurchaseLimiter).release(1L, 1L, 2L);
+        verify(timeSalePurchaseLimiter).release(1L, 1L, 3L);
+        verify(timeSalePurchaseLimiter).release(2L, 1L, 1L);
+    }
+}
@@ -0,0 +1,137 @@
+package org.sky.haaneul.timesaleservice.service.v2;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.client.codec.Codec;
+import org.sky.haaneul.timesaleservice.domain.TimeSaleStatus;
+import org.sky.haaneul.timesaleservice.repository.TimeSaleRepository;
+import org.sky.haaneul.timesaleservice.repository.TimeSaleSchedule;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimeSaleLifecycleSchedulerTest {
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private TimeSaleRepository timeSaleRepository;
+    @Mock
+    private TimeSaleLifecycleService timeSaleLifecycleService;
+    @Mock
+    private RTopic topic;
+
+    private TimeSaleLifecycleScheduler timeSaleLifecycleScheduler;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now();
+        timeSaleLifecycleScheduler = new TimeSaleLifecycleScheduler(redissonClient, timeSaleRepository, timeSaleLifecycleService);
+        given(redissonClient.getTopic(anyString(), any(Codec.class))).willReturn(topic);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timeSaleLifecycleScheduler.stop();
+    }
+
+    private TimeSaleSchedule schedule(Long id, LocalDateTime startAt, LocalDateTime endAt, TimeSaleStatus status) {
+        TimeSaleSchedule schedule = mock(TimeSaleSchedule.class);
+        given(schedule.getId()).willReturn(id);
+        given(schedule.getStartAt()).willReturn(startAt);
+        given(schedule.getEndAt()).willReturn(endAt);
+        given(schedule.getStatus()).willReturn(status);
+        return schedule;
+    }
+
+    @Test
+    @DisplayName("시작시 복구 - 이미 지난 시작/종료는 즉시 일괄 처리하고 남은 전환은 대기")
+    void recover_AppliesOverdueTransitions() {
+        // given
+        TimeSaleSchedule started = schedule(1L, now.minusMinutes(1), now.plusHours(1), TimeSaleStatus.SCHEDULED);
+        TimeSaleSchedule ended = schedule(2L, now.minusHours(2), now.minusMinutes(1), TimeSaleStatus.ACTIVE);
+        given(timeSaleRepository.findSchedulesByStatusIn(anyCollection())).willReturn(List.of(started, ended));
+
+        // when
+        timeSaleLifecycleScheduler.recover();
+
+        // then
+        verify(timeSaleLifecycleService, timeout(1_000)).start(List.of(1L));
+        verify(timeSaleLifecycleService, timeout(1_000)).end(List.of(2L));
+        // 1번 타임세일의 종료만 남음
+        assertThat(timeSaleLifecycleScheduler.pendingTransitions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상태 전환 실패 - 잠시 후 재시도")
+    void recover_RetryOnFailure() {
+        // given
+        TimeSaleSchedule ended = schedule(2L, now.minusHours(2), now.minusMinutes(1), TimeSaleStatus.ACTIVE);
+        given(timeSaleRepository.findSchedulesByStatusIn(anyCollection())).willReturn(List.of(ended));
+        given(timeSaleLifecycleService.end(List.of(2L)))
+                .willThrow(new RuntimeException("db down"))
+                .willReturn(1);
+
+        // when
+        timeSaleLifecycleScheduler.recover();
+
+        // then
+        verify(timeSaleLifecycleService, timeout(3_000).times(2)).end(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("시작시 복구 실패 - 워커는 시작하고 복구를 다시 시도")
+    void recover_RetryLoadOnFailure() {
+        // given
+        TimeSaleSchedule ended = schedule(2L, now.minusHours(2), now.minusMinutes(1), TimeSaleStatus.ACTIVE);
+        given(timeSaleRepository.findSchedulesByStatusIn(anyCollection()))
+                .willThrow(new RuntimeException("db down"))
+                .willReturn(List.of(ended));
+
+        // when
+        timeSaleLifecycleScheduler.recover();
+
+        // then
+        verify(timeSaleLifecycleService, timeout(3_000)).end(List.of(2L));
+        verify(timeSaleRepository, times(2)).findSchedulesByStatusIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 생성된 타임세일 등록 - 시작 전이면 시작/종료 모두 대기")
+    @SuppressWarnings("unchecked")
+    void onScheduled_EnqueueStartAndEnd() {
+        // given
+        ArgumentCaptor<MessageListener<String>> listener = ArgumentCaptor.forClass(MessageListener.class);
+        given(timeSaleRepository.findSchedulesByStatusIn(anyCollection())).willReturn(List.of());
+        timeSaleLifecycleScheduler.recover();
+        verify(topic).addListener(eq(String.class), listener.capture());
+
+        long startAt = now.plusHours(1).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        long endAt = now.plusHours(2).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        // when
+        listener.getValue().onMessage("time-sale:lifecycle:topic", "3:SCHEDULED:" + startAt + ":" + endAt);
+        // 같은 타임세일이 다시 전파되어도 중복 등록 X
+        listener.getValue().onMessage("time-sale:lifecycle:topic", "3:SCHEDULED:" + startAt + ":" + endAt);
+
+        // then
+        assertThat(timeSaleLifecycleScheduler.pendingTransitions()).isEqualTo(2);
+        verifyNoInteractions(timeSaleLifecycleService);
+    }
+}
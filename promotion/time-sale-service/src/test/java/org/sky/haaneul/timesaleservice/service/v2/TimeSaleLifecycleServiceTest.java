@@ -0,0 +1,91 @@
+package org.sky.haaneul.timesaleservice.service.v2;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RKeys;
+import org.redisson.api.RedissonClient;
+import org.sky.haaneul.timesaleservice.domain.TimeSaleStatus;
+import org.sky.haaneul.timesaleservice.repository.TimeSaleRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimeSaleLifecycleServiceTest {
+    @Mock
+    private TimeSaleRepository timeSaleRepository;
+    @Mock
+    private TimeSaleListingIndex timeSaleListingIndex;
+    @Mock
+    private TimeSaleSoldOutRegistry timeSaleSoldOutRegistry;
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private RKeys rKeys;
+
+    private TimeSaleLifecycleService timeSaleLifecycleService;
+
+    @BeforeEach
+    void setUp() {
+        timeSaleLifecycleService = new TimeSaleLifecycleService(timeSaleRepository, timeSaleListingIndex,
+                timeSaleSoldOutRegistry, redissonClient);
+    }
+
+    @Test
+    @DisplayName("시작 - SCHEDULED 타임세일을 일괄 ACTIVE로 변경하고 캐시 삭제")
+    void start_Success() {
+        // given
+        given(timeSaleRepository.updateStatusByIdIn(eq(List.of(1L, 2L)), eq(List.of(TimeSaleStatus.SCHEDULED)),
+                eq(TimeSaleStatus.ACTIVE), any(LocalDateTime.class))).willReturn(2);
+        given(redissonClient.getKeys()).willReturn(rKeys);
+
+        // when
+        int started = timeSaleLifecycleService.start(List.of(1L, 2L));
+
+        // then
+        assertThat(started).isEqualTo(2);
+        verify(rKeys).unlink("time-sale:1", "time-sale:2");
+        verify(timeSaleListingIndex).invalidate();
+    }
+
+    @Test
+    @DisplayName("종료 - 일괄 ENDED로 변경하고 목록에서 제거, 종료 상태 전파")
+    void end_Success() {
+        // given
+        given(timeSaleRepository.updateStatusByIdIn(eq(List.of(1L)), anyCollection(),
+                eq(TimeSaleStatus.ENDED), any(LocalDateTime.class))).willReturn(1);
+        given(redissonClient.getKeys()).willReturn(rKeys);
+
+        // when
+        timeSaleLifecycleService.end(List.of(1L));
+
+        // then
+        verify(rKeys).unlink("time-sale:1");
+        verify(timeSaleSoldOutRegistry).markEnded(1L);
+        verify(timeSaleListingIndex).remove(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("종료 - 다른 인스턴스가 이미 전환했으면 후속 처리 X")
+    void end_AlreadyApplied() {
+        // given
+        given(timeSaleRepository.updateStatusByIdIn(anyCollection(), anyCollection(),
+                eq(TimeSaleStatus.ENDED), any(LocalDateTime.class))).willReturn(0);
+
+        // when
+        int ended = timeSaleLifecycleService.end(List.of(1L));
+
+        // then
+        assertThat(ended).isZero();
+        verifyNoInteractions(redissonClient, timeSaleSoldOutRegistry, timeSaleListingIndex);
+    }
+}
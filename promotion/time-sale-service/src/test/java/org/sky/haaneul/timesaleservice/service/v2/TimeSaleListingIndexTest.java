@@ -0,0 +1,162 @@
+package org.sky.haaneul.timesaleservice.service.v2;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.sky.haaneul.timesaleservice.domain.Product;
+import org.sky.haaneul.timesaleservice.domain.TimeSale;
+import org.sky.haaneul.timesaleservice.domain.TimeSaleStatus;
+import org.sky.haaneul.timesaleservice.dto.TimeSaleSnapshot;
+import org.sky.haaneul.timesaleservice.repository.TimeSaleRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimeSaleListingIndexTest {
+    @InjectMocks
+    private TimeSaleListingIndex timeSaleListingIndex;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private TimeSaleRepository timeSaleRepository;
+
+    @Mock
+    private RAtomicLong indexVersion;
+
+    @Mock
+    private RScoredSortedSet<String> index;
+
+    private Product product;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now();
+        product = Product.builder()
+                .id(1L)
+                .name("Test Product")
+                .price(10000L)
+                .build();
+    }
+
+    private TimeSale timeSale(Long id, LocalDateTime startAt, LocalDateTime endAt) {
+        return timeSale(id, startAt, endAt, 5000L);
+    }
+
+    private TimeSale timeSale(Long id, LocalDateTime startAt, LocalDateTime endAt, Long discountPrice) {
+        return TimeSale.builder()
+                .id(id)
+                .product(product)
+                .quantity(100L)
+                .remainingQuantity(100L)
+                .discountPrice(discountPrice)
+                .startAt(startAt)
+                .endAt(endAt)
+                .status(TimeSaleStatus.ACTIVE)
+                .build();
+    }
+
+    @Test
+    @DisplayName("진행중인 타임세일 조회 - 인덱스 스냅샷에서 시작 전 세일을 제외하고 endAt 순으로 페이징")
+    void getOngoingTimeSales_Success() {
+        // given
+        TimeSale endingLater = timeSale(1L, now.minusHours(1), now.plusHours(2));
+        TimeSale endingSoon = timeSale(2L, now.minusHours(1), now.plusHours(1));
+        TimeSale notStarted = timeSale(3L, now.plusHours(1), now.plusHours(3));
+
+        given(redissonClient.getAtomicLong(anyString())).willReturn(indexVersion);
+        given(indexVersion.get()).willReturn(1L);
+        given(redissonClient.<String>getScoredSortedSet(anyString(), any(Codec.class))).willReturn(index);
+        given(index.valueRange(anyDouble(), anyBoolean(), anyDouble(), anyBoolean())).willReturn(List.of("1", "2", "3"));
+        given(timeSaleRepository.findAllWithProductByIdIn(anyCollection()))
+                .willReturn(List.of(endingLater, endingSoon, notStarted));
+
+        // when
+        Page<TimeSaleSnapshot> firstPage = timeSaleListingIndex.getOngoingTimeSales(PageRequest.of(0, 1));
+        Page<TimeSaleSnapshot> secondPage = timeSaleListingIndex.getOngoingTimeSales(PageRequest.of(1, 1));
+
+        // then
+        assertThat(firstPage.getTotalElements()).isEqualTo(2);
+        assertThat(firstPage.getContent()).extracting(TimeSaleSnapshot::getId).containsExactly(endingSoon.getId());
+        assertThat(secondPage.getContent()).extracting(TimeSaleSnapshot::getId).containsExactly(endingLater.getId());
+        // 스냅샷에 상품 정보 포함
+        assertThat(firstPage.getContent().get(0).getProductName()).isEqualTo("Test Product");
+        // 두 번째 조회는 로컬 스냅샷에서 응답
+        verify(timeSaleRepository, times(1)).findAllWithProductByIdIn(anyCollection());
+        verify(timeSaleRepository, never()).findAllByStartAtBeforeAndEndAtAfterAndStatus(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("진행중인 타임세일 조회 - Redis 장애시 DB에서 조회")
+    void getOngoingTimeSales_RedisFailure() {
+        // given
+        TimeSale ongoing = timeSale(1L, now.minusHours(1), now.plusHours(1));
+        given(redissonClient.getAtomicLong(anyString())).willThrow(new RuntimeException("redis down"));
+        given(timeSaleRepository.findAllWithProductByStatusInAndEndAtAfter(anyCollection(), any(LocalDateTime.class)))
+                .willReturn(List.of(ongoing));
+
+        // when
+        Page<TimeSaleSnapshot> result = timeSaleListingIndex.getOngoingTimeSales(PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getContent()).extracting(TimeSaleSnapshot::getId).containsExactly(ongoing.getId());
+    }
+
+    @Test
+    @DisplayName("진행중인 타임세일 조회 - 요청한 정렬 조건으로 페이징")
+    void getOngoingTimeSales_Sorted() {
+        // given
+        TimeSale cheap = timeSale(1L, now.minusHours(1), now.plusHours(1), 3000L);
+        TimeSale expensive = timeSale(2L, now.minusHours(1), now.plusHours(2), 9000L);
+        TimeSale middle = timeSale(3L, now.minusHours(1), now.plusHours(3), 5000L);
+
+        given(redissonClient.getAtomicLong(anyString())).willReturn(indexVersion);
+        given(indexVersion.get()).willReturn(1L);
+        given(redissonClient.<String>getScoredSortedSet(anyString(), any(Codec.class))).willReturn(index);
+        given(index.valueRange(anyDouble(), anyBoolean(), anyDouble(), anyBoolean())).willReturn(List.of("1", "2", "3"));
+        given(timeSaleRepository.findAllWithProductByIdIn(anyCollection())).willReturn(List.of(cheap, expensive, middle));
+
+        // when
+        Page<TimeSaleSnapshot> result = timeSaleListingIndex.getOngoingTimeSales(
+                PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "discountPrice")));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getContent()).extracting(TimeSaleSnapshot::getId).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("진행중인 타임세일 조회 - 지원하지 않는 정렬 속성은 거절")
+    void getOngoingTimeSales_UnsupportedSort() {
+        // given
+        given(redissonClient.getAtomicLong(anyString())).willReturn(indexVersion);
+        given(indexVersion.get()).willReturn(1L);
+        given(redissonClient.<String>getScoredSortedSet(anyString(), any(Codec.class))).willReturn(index);
+        given(index.valueRange(anyDouble(), anyBoolean(), anyDouble(), anyBoolean())).willReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> timeSaleListingIndex.getOngoingTimeSales(PageRequest.of(0, 10, Sort.by("product.name"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unsupported sort property: product.name");
+    }
+}
@@ -0,0 +1,201 @@
+package org.sky.haaneul.timesaleservice.service.v2;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RScript;
+import org.redisson.api.RScriptAsync;
+import org.redisson.api.RStreamAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.api.stream.StreamAddArgs;
+import org.redisson.client.codec.Codec;
+import org.sky.haaneul.timesaleservice.domain.TimeSale;
+import org.sky.haaneul.timesaleservice.domain.TimeSaleOrder;
+import org.sky.haaneul.timesaleservice.repository.TimeSaleOrderRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimeSaleOrderJournalTest {
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private TimeSaleOrderRepository timeSaleOrderRepository;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private RBatch batch;
+    @Mock
+    private RStreamAsync<String, String> streamAsync;
+    @Mock
+    private RScriptAsync scriptAsync;
+
+    private TimeSaleOrderJournal timeSaleOrderJournal;
+    private TimeSaleOrder order;
+
+    @BeforeEach
+    void setUp() {
+        timeSaleOrderJournal = new TimeSaleOrderJournal(redissonClient, timeSaleOrderRepository, jdbcTemplate, transactionTemplate);
+        ReflectionTestUtils.setField(timeSaleOrderJournal, "enabled", true);
+        ReflectionTestUtils.setField(timeSaleOrderJournal, "maxBacklog", 1_000L);
+
+        order = TimeSaleOrder.builder()
+                .userId(1L)
+                .timeSale(TimeSale.builder().id(1L).build())
+                .quantity(2L)
+                .discountPrice(5000L)
+                .build();
+    }
+
+    private Map<String, String> entry(Long userId) {
+        return Map.of("userId", String.valueOf(userId), "timeSaleId", "1", "quantity", "2",
+                "discountPrice", "5000", "status", "COMPLETED", "createdAt", LocalDateTime.now().toString());
+    }
+
+    @Test
+    @DisplayName("저널 추가 - DB INSERT 없이 Stream에 추가")
+    void appendAll_Success() {
+        // given
+        given(redissonClient.createBatch(any(BatchOptions.class))).willReturn(batch);
+        given(batch.<String, String>getStream(anyString(), any(Codec.class))).willReturn(streamAsync);
+        given(batch.getScript(any(Codec.class))).willReturn(scriptAsync);
+
+        // when
+        timeSaleOrderJournal.appendAll(List.of(order, order));
+
+        // then
+        verify(streamAsync, times(2)).addAsync(any(StreamAddArgs.class));
+        // 사용자별 미저장 수량 증가
+        verify(scriptAsync, times(2)).evalAsync(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER),
+                eq(List.of("{time-sale:order-journal}:pending:1")), eq("1"), eq("2"));
+        verifyNoInteractions(timeSaleOrderRepository, jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("저널 추가 - 트랜잭션 안에서는 커밋 후에 추가")
+    void appendAll_AfterCommit() {
+        // given
+        given(redissonClient.createBatch(any(BatchOptions.class))).willReturn(batch);
+        given(batch.<String, String>getStream(anyString(), any(Codec.class))).willReturn(streamAsync);
+        given(batch.getScript(any(Codec.class))).willReturn(scriptAsync);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            timeSaleOrderJournal.append(order);
+
+            // then
+            verifyNoInteractions(redissonClient);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(streamAsync).addAsync(any(StreamAddArgs.class));
+            verify(batch).execute();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("저널 추가 - 커밋 후 추가에 실패하면 새 트랜잭션으로 DB에 직접 저장")
+    void appendAll_FallbackToDatabaseAfterCommit() {
+        // given
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        given(transactionTemplate.getTransactionManager()).willReturn(transactionManager);
+        given(redissonClient.createBatch(any(BatchOptions.class))).willReturn(batch);
+        given(batch.<String, String>getStream(anyString(), any(Codec.class))).willReturn(streamAsync);
+        given(batch.getScript(any(Codec.class))).willReturn(scriptAsync);
+        given(batch.execute()).willThrow(new RuntimeException("Redis unavailable"));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            timeSaleOrderJournal.append(order);
+
+            // when
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        verify(jdbcTemplate).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("저널 ACK - ACK/삭제와 미저장 수량 차감을 한 번에 처리")
+    void acknowledge_DecrementsPending() {
+        // given
+        StreamMessageId id = new StreamMessageId(1L, 0L);
+        given(redissonClient.createBatch(any(BatchOptions.class))).willReturn(batch);
+        given(batch.<String, String>getStream(anyString(), any(Codec.class))).willReturn(streamAsync);
+        given(batch.getScript(any(Codec.class))).willReturn(scriptAsync);
+
+        // when
+        timeSaleOrderJournal.acknowledge("group", Map.of(id, entry(7L)));
+
+        // then
+        verify(streamAsync).ackAsync("group", id);
+        verify(streamAsync).removeAsync(id);
+        verify(scriptAsync).evalAsync(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER),
+                eq(List.of("{time-sale:order-journal}:pending:1")), eq("7"), eq("-2"));
+        verify(batch).execute();
+    }
+
+    @Test
+    @DisplayName("저널 추가 - 저장되지 않은 entry가 max-backlog 이상이면 DB에 직접 저장")
+    void appendAll_BackPressure() {
+        // given
+        timeSaleOrderJournal.updateBacklog(1_000L);
+
+        // when
+        timeSaleOrderJournal.append(order);
+
+        // then
+        verify(timeSaleOrderRepository).saveAll(List.of(order));
+        verifyNoInteractions(redissonClient);
+    }
+
+    @Test
+    @DisplayName("저널 저장 - 이미 저장된 entry는 건너뛰고 나머지를 batch INSERT")
+    @SuppressWarnings("unchecked")
+    void write_SkipsWrittenEntries() {
+        // given
+        Map<StreamMessageId, Map<String, String>> entries = new LinkedHashMap<>();
+        entries.put(new StreamMessageId(1L, 0L), entry(1L));
+        entries.put(new StreamMessageId(1L, 1L), entry(2L));
+        given(jdbcTemplate.queryForList(anyString(), eq(String.class), any(Object[].class))).willReturn(List.of("1-0"));
+
+        // when
+        int written = timeSaleOrderJournal.write(entries);
+
+        // then
+        assertThat(written).isEqualTo(1);
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertThat(rows.getValue()).hasSize(1);
+        assertThat(rows.getValue().get(0)[0]).isEqualTo(2L);
+        assertThat(rows.getValue().get(0)[7]).isEqualTo("1-1");
+    }
+}
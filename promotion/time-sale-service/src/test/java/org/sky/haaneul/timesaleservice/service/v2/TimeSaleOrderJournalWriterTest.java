@@ -0,0 +1,91 @@
+package org.sky.haaneul.timesaleservice.service.v2;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.AutoClaimResult;
+import org.redisson.api.RStream;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.api.stream.StreamCreateGroupArgs;
+import org.redisson.api.stream.StreamReadGroupArgs;
+import org.redisson.client.codec.Codec;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimeSaleOrderJournalWriterTest {
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private TimeSaleOrderJournal timeSaleOrderJournal;
+    @Mock
+    private RStream<String, String> journal;
+    @Mock
+    private AutoClaimResult<String, String> claimed;
+
+    private TimeSaleOrderJournalWriter timeSaleOrderJournalWriter;
+
+    @BeforeEach
+    void setUp() {
+        timeSaleOrderJournalWriter = new TimeSaleOrderJournalWriter(redissonClient, timeSaleOrderJournal);
+        ReflectionTestUtils.setField(timeSaleOrderJournalWriter, "enabled", true);
+        ReflectionTestUtils.setField(timeSaleOrderJournalWriter, "batchSize", 2);
+        ReflectionTestUtils.setField(timeSaleOrderJournalWriter, "claimIdleMs", 30_000L);
+
+        given(redissonClient.<String, String>getStream(anyString(), any(Codec.class))).willReturn(journal);
+        given(journal.autoClaim(anyString(), anyString(), anyLong(), any(TimeUnit.class), any(StreamMessageId.class), anyInt()))
+                .willReturn(claimed);
+    }
+
+    @Test
+    @DisplayName("저널 저장 - 재처리 대상과 새 entry를 저장한 뒤 ACK")
+    void drain_WritesClaimedAndNewEntries() {
+        // given
+        StreamMessageId pending = new StreamMessageId(1L, 0L);
+        StreamMessageId fresh = new StreamMessageId(2L, 0L);
+        Map<StreamMessageId, Map<String, String>> claimedEntries = Map.of(pending, Map.of("userId", "1"));
+        Map<StreamMessageId, Map<String, String>> newEntries = Map.of(fresh, Map.of("userId", "2"));
+        given(claimed.getMessages()).willReturn(claimedEntries);
+        given(journal.readGroup(anyString(), anyString(), any(StreamReadGroupArgs.class))).willReturn(newEntries);
+        given(journal.size()).willReturn(0L);
+
+        // when
+        timeSaleOrderJournalWriter.drain();
+
+        // then
+        verify(journal).createGroup(any(StreamCreateGroupArgs.class));
+        verify(timeSaleOrderJournal).write(claimedEntries);
+        verify(timeSaleOrderJournal).write(newEntries);
+        verify(timeSaleOrderJournal).acknowledge(anyString(), eq(claimedEntries));
+        verify(timeSaleOrderJournal).acknowledge(anyString(), eq(newEntries));
+        verify(timeSaleOrderJournal).updateBacklog(0L);
+    }
+
+    @Test
+    @DisplayName("저널 저장 실패 - ACK하지 않아 이후 재처리")
+    void drain_FailureLeavesEntriesPending() {
+        // given
+        StreamMessageId pending = new StreamMessageId(1L, 0L);
+        Map<StreamMessageId, Map<String, String>> claimedEntries = Map.of(pending, Map.of("userId", "1"));
+        given(claimed.getMessages()).willReturn(claimedEntries);
+        given(timeSaleOrderJournal.write(claimedEntries)).willThrow(new RuntimeException("db down"));
+        given(journal.size()).willReturn(1L);
+
+        // when
+        timeSaleOrderJournalWriter.drain();
+
+        // then
+        verify(timeSaleOrderJournal, never()).acknowledge(anyString(), anyMap());
+        verify(timeSaleOrderJournal).updateBacklog(1L);
+    }
+}
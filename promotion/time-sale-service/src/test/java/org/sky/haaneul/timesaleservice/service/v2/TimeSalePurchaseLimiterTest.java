@@ -0,0 +1,331 @@
+package org.sky.haaneul.timesaleservice.service.v2;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RKeys;
+import org.redisson.api.RMap;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.protocol.ScoredEntry;
+import org.sky.haaneul.timesaleservice.domain.Product;
+import org.sky.haaneul.timesaleservice.domain.TimeSale;
+import org.sky.haaneul.timesaleservice.domain.TimeSaleStatus;
+import org.sky.haaneul.timesaleservice.repository.TimeSaleOrderRepository;
+import org.sky.haaneul.timesaleservice.repository.TimeSaleRepository;
+import org.sky.haaneul.timesaleservice.repository.UserPurchaseQuantity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimeSalePurchaseLimiterTest {
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private TimeSaleRepository timeSaleRepository;
+    @Mock
+    private TimeSaleOrderRepository timeSaleOrderRepository;
+    @Mock
+    private RScript rScript;
+    @Mock
+    private RScoredSortedSet<String> reconcileIndex;
+    @Mock
+    private TimeSaleSoldOutRegistry timeSaleSoldOutRegistry;
+    @Mock
+    private TimeSaleOrderJournal timeSaleOrderJournal;
+
+    private MeterRegistry meterRegistry;
+    private TimeSalePurchaseLimiter timeSalePurchaseLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        timeSalePurchaseLimiter = new TimeSalePurchaseLimiter(redissonClient, timeSaleRepository, timeSaleOrderRepository, meterRegistry,
+                timeSaleSoldOutRegistry, timeSaleOrderJournal);
+        ReflectionTestUtils.setField(timeSalePurchaseLimiter, "reconcileGraceMs", 60_000L);
+    }
+
+    private void givenReserveResults(Long first, Long... rest) {
+        given(redissonClient.getScript(any(Codec.class))).willReturn(rScript);
+        given(rScript.<Long>eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER), anyList(), any(), any()))
+                .willReturn(first, rest);
+    }
+
+    private UserPurchaseQuantity purchased(Long userId, Long quantity) {
+        UserPurchaseQuantity purchased = mock(UserPurchaseQuantity.class);
+        given(purchased.getUserId()).willReturn(userId);
+        given(purchased.getQuantity()).willReturn(quantity);
+        return purchased;
+    }
+
+    @Test
+    @DisplayName("구매 제한 차감 성공")
+    void reserve_Success() {
+        // given
+        givenReserveResults(98L);
+
+        // when
+        timeSalePurchaseLimiter.reserve(1L, 1L, 2L);
+
+        // then
+        verify(rScript).eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER),
+                eq(List.of("{time-sale-limit}:stock:1", "{time-sale-limit}:buyers:1")), eq("1"), eq("2"));
+        verify(timeSaleRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("구매 제한 차감 실패 - 사용자별 구매 제한 초과")
+    void reserve_LimitExceeded() {
+        // given
+        givenReserveResults(-2L);
+
+        // when & then
+        assertThatThrownBy(() -> timeSalePurchaseLimiter.reserve(1L, 1L, 2L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Purchase limit exceeded");
+    }
+
+    @Test
+    @DisplayName("구매 제한 차감 실패 - 재고 부족")
+    void reserve_OutOfStock() {
+        // given
+        givenReserveResults(-1L);
+
+        // when & then
+        assertThatThrownBy(() -> timeSalePurchaseLimiter.reserve(1L, 1L, 2L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Not enough quantity available");
+    }
+
+    @Test
+    @DisplayName("묶음 구매 제한 차감 - 모든 타임세일을 한 스크립트로 차감")
+    void reserveAll_Success() {
+        // given
+        given(redissonClient.getScript(any(Codec.class))).willReturn(rScript);
+        given(rScript.<List<Long>>eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.MULTI), anyList(), any(), any(), any()))
+                .willReturn(List.of(0L, 0L));
+        Map<Long, Long> quantities = new LinkedHashMap<>();
+        quantities.put(1L, 2L);
+        quantities.put(2L, 3L);
+
+        // when
+        timeSalePurchaseLimiter.reserveAll(1L, quantities);
+
+        // then
+        verify(rScript).eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.MULTI),
+                eq(List.of("{time-sale-limit}:stock:1", "{time-sale-limit}:buyers:1", "{time-sale-limit}:stock:2", "{time-sale-limit}:buyers:2")),
+                eq("1"), eq("2"), eq("3"));
+        verify(timeSaleRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("묶음 구매 제한 차감 실패 - 하나라도 부족하면 아무것도 차감하지 않고 예외")
+    void reserveAll_OutOfStock() {
+        // given
+        // 2번째 항목(2번 타임세일) 재고 부족
+        given(redissonClient.getScript(any(Codec.class))).willReturn(rScript);
+        given(rScript.<List<Long>>eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.MULTI), anyList(), any(), any(), any()))
+                .willReturn(List.of(-1L, 2L));
+        Map<Long, Long> quantities = new LinkedHashMap<>();
+        quantities.put(1L, 2L);
+        quantities.put(2L, 3L);
+
+        // when & then
+        assertThatThrownBy(() -> timeSalePurchaseLimiter.reserveAll(1L, quantities))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Not enough quantity available: 2");
+
+        // 보상 반환 없이 한 번만 실행
+        verify(rScript, times(1)).eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.MULTI), anyList(), any(), any(), any());
+        verify(rScript, never()).eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER), anyList(), any(), any());
+    }
+
+    @Test
+    @DisplayName("구매 제한 차감 - 초기화되지 않았으면 DB 기준으로 초기화 후 재시도")
+    void reserve_InitializeFromDatabase() {
+        // given
+        givenReserveResults(-3L, 8L);
+        TimeSale timeSale = TimeSale.builder()
+                .id(1L)
+                .product(Product.builder().id(1L).name("Test Product").price(10000L).build())
+                .quantity(100L)
+                .remainingQuantity(10L)
+                .discountPrice(5000L)
+                .startAt(LocalDateTime.now().minusHours(1))
+                .endAt(LocalDateTime.now().plusHours(1))
+                .status(TimeSaleStatus.ACTIVE)
+                .perUserLimit(5L)
+                .build();
+        UserPurchaseQuantity purchased = purchased(7L, 3L);
+        given(timeSaleRepository.findById(1L)).willReturn(Optional.of(timeSale));
+        given(timeSaleOrderRepository.sumQuantityByUser(eq(1L), anyCollection())).willReturn(List.of(purchased));
+        given(rScript.<Long>eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER), anyList(),
+                any(), any(), any(), any(), any())).willReturn(1L);
+        given(redissonClient.<String>getScoredSortedSet(anyString(), any(Codec.class))).willReturn(reconcileIndex);
+
+        // when
+        timeSalePurchaseLimiter.reserve(1L, 1L, 2L);
+
+        // then
+        // 남은 재고, 사용자당 제한, 만료 시각, 기존 구매 내역(userId, 수량) 순으로 전달
+        verify(rScript).eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER), anyList(),
+                eq("10"), eq("5"), anyString(), eq("7"), eq("3"));
+        verify(reconcileIndex).add(anyDouble(), eq("1"));
+        verify(rScript, times(2)).eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER),
+                anyList(), eq("1"), eq("2"));
+    }
+
+    @Test
+    @DisplayName("구매 제한 초기화 - 저널에 남은 미저장 주문 수량도 포함")
+    void reserve_InitializeWithPendingJournal() {
+        // given
+        givenReserveResults(-3L, 8L);
+        TimeSale timeSale = TimeSale.builder()
+                .id(1L)
+                .product(Product.builder().id(1L).name("Test Product").price(10000L).build())
+                .quantity(100L)
+                .remainingQuantity(10L)
+                .discountPrice(5000L)
+                .startAt(LocalDateTime.now().minusHours(1))
+                .endAt(LocalDateTime.now().plusHours(1))
+                .status(TimeSaleStatus.ACTIVE)
+                .perUserLimit(5L)
+                .build();
+        UserPurchaseQuantity purchased = purchased(7L, 3L);
+        given(timeSaleRepository.findById(1L)).willReturn(Optional.of(timeSale));
+        given(timeSaleOrderRepository.sumQuantityByUser(eq(1L), anyCollection())).willReturn(List.of(purchased));
+        given(timeSaleOrderJournal.getPendingQuantities(1L)).willReturn(Map.of(7L, 1L, 9L, 2L));
+        given(rScript.<Long>eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER), anyList(),
+                any(), any(), any(), any(), any(), any(), any())).willReturn(1L);
+        given(redissonClient.<String>getScoredSortedSet(anyString(), any(Codec.class))).willReturn(reconcileIndex);
+
+        // when
+        timeSalePurchaseLimiter.reserve(1L, 1L, 2L);
+
+        // then
+        // 7번 사용자는 DB 3개 + 저널 1개, 9번 사용자는 저널 2개
+        verify(rScript).eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER), anyList(),
+                eq("10"), eq("5"), anyString(), eq("7"), eq("4"), eq("9"), eq("2"));
+    }
+
+    @Test
+    @DisplayName("구매 제한 반환 - 재고가 남고 매진 상태면 재오픈")
+    void release_ReopensSoldOutSale() {
+        // given
+        givenReserveResults(2L);
+        given(timeSaleSoldOutRegistry.isClosed(1L)).willReturn(true);
+
+        // when
+        timeSalePurchaseLimiter.release(1L, 1L, 2L);
+
+        // then
+        verify(timeSaleSoldOutRegistry).reopen(1L);
+    }
+
+    @Test
+    @DisplayName("구매 제한 반환 - 초기화되지 않은 타임세일은 재오픈 X")
+    void release_NotInitialized() {
+        // given
+        givenReserveResults(-3L);
+
+        // when
+        timeSalePurchaseLimiter.release(1L, 1L, 2L);
+
+        // then
+        verify(timeSaleSoldOutRegistry, never()).reopen(anyLong());
+    }
+
+    @Test
+    @DisplayName("종료된 타임세일 정리 - 주문 내역과 다르면 불일치 기록 후 키 삭제")
+    void reconcileEndedSales_Mismatch() {
+        // given
+        RMap<String, String> buyers = mock(RMap.class);
+        RKeys rKeys = mock(RKeys.class);
+        RAtomicLong inFlight = mock(RAtomicLong.class);
+        UserPurchaseQuantity purchased = purchased(7L, 3L);
+        given(redissonClient.<String>getScoredSortedSet(anyString(), any(Codec.class))).willReturn(reconcileIndex);
+        given(reconcileIndex.entryRange(anyDouble(), anyBoolean(), anyDouble(), anyBoolean(), anyInt(), anyInt()))
+                .willReturn(List.of(new ScoredEntry<>(endedAt(Duration.ofMinutes(5)), "1")));
+        given(redissonClient.getAtomicLong("time-sale-total-requests:1")).willReturn(inFlight);
+        given(redissonClient.<String, String>getMap(anyString(), any(Codec.class))).willReturn(buyers);
+        given(buyers.readAllMap()).willReturn(Map.of("7", "3", "8", "1"));
+        given(timeSaleRepository.findById(1L)).willReturn(Optional.empty());
+        given(timeSaleOrderRepository.sumQuantityByUser(eq(1L), anyCollection())).willReturn(List.of(purchased));
+        given(redissonClient.getKeys()).willReturn(rKeys);
+
+        // when
+        timeSalePurchaseLimiter.reconcileEndedSales();
+
+        // then
+        // 8번 사용자는 차감 내역만 있고 주문이 없음
+        assertThat(meterRegistry.counter("time.sale.purchase.limit.mismatch", "timeSaleId", "1").count()).isEqualTo(1.0);
+        verify(rKeys).unlink("{time-sale-limit}:stock:1", "{time-sale-limit}:buyers:1");
+        verify(reconcileIndex).removeAll(List.of("1"));
+    }
+
+    @Test
+    @DisplayName("종료된 타임세일 정리 - 저널에 저장되지 않은 주문이 남아 있으면 다음 주기로 미룸")
+    void reconcileEndedSales_WaitsForJournal() {
+        // given
+        given(redissonClient.<String>getScoredSortedSet(anyString(), any(Codec.class))).willReturn(reconcileIndex);
+        given(reconcileIndex.entryRange(anyDouble(), anyBoolean(), anyDouble(), anyBoolean(), anyInt(), anyInt()))
+                .willReturn(List.of(new ScoredEntry<>(endedAt(Duration.ofMinutes(5)), "1")));
+        given(timeSaleOrderJournal.hasPending(1L)).willReturn(true);
+
+        // when
+        timeSalePurchaseLimiter.reconcileEndedSales();
+
+        // then
+        verify(timeSaleOrderRepository, never()).sumQuantityByUser(anyLong(), anyCollection());
+        verify(redissonClient, never()).getKeys();
+        verify(reconcileIndex, never()).removeAll(anyCollection());
+    }
+
+    @Test
+    @DisplayName("종료된 타임세일 정리 - 키 보관 기간이 지나면 남은 요청이 있어도 정리")
+    void reconcileEndedSales_ExpiredRetention() {
+        // given
+        RMap<String, String> buyers = mock(RMap.class);
+        RKeys rKeys = mock(RKeys.class);
+        given(redissonClient.<String>getScoredSortedSet(anyString(), any(Codec.class))).willReturn(reconcileIndex);
+        given(reconcileIndex.entryRange(anyDouble(), anyBoolean(), anyDouble(), anyBoolean(), anyInt(), anyInt()))
+                .willReturn(List.of(new ScoredEntry<>(endedAt(Duration.ofDays(2)), "1")));
+        given(redissonClient.<String, String>getMap(anyString(), any(Codec.class))).willReturn(buyers);
+        given(buyers.readAllMap()).willReturn(Map.of());
+        given(timeSaleRepository.findById(1L)).willReturn(Optional.empty());
+        given(timeSaleOrderRepository.sumQuantityByUser(eq(1L), anyCollection())).willReturn(List.of());
+        given(redissonClient.getKeys()).willReturn(rKeys);
+
+        // when
+        timeSalePurchaseLimiter.reconcileEndedSales();
+
+        // then
+        verify(timeSaleOrderJournal, never()).hasPending(anyLong());
+        verify(rKeys).unlink("{time-sale-limit}:stock:1", "{time-sale-limit}:buyers:1");
+        verify(reconcileIndex).removeAll(List.of("1"));
+    }
+
+    private static double endedAt(Duration ago) {
+        return System.currentTimeMillis() - ago.toMillis();
+    }
+}
@@ -1,6 +1,5 @@
 package org.sky.haaneul.timesaleservice.service.v2;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,14 +10,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.redisson.api.RBucket;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
 import org.sky.haaneul.timesaleservice.domain.Product;
 import org.sky.haaneul.timesaleservice.domain.TimeSale;
 import org.sky.haaneul.timesaleservice.domain.TimeSaleOrder;
 import org.sky.haaneul.timesaleservice.domain.TimeSaleStatus;
 import org.sky.haaneul.timesaleservice.dto.TimeSaleDto;
+import org.sky.haaneul.timesaleservice.dto.TimeSaleSnapshot;
 import org.sky.haaneul.timesaleservice.exception.TimeSaleException;
 import org.sky.haaneul.timesaleservice.repository.ProductRepository;
-import org.sky.haaneul.timesaleservice.repository.TimeSaleOrderRepository;
+import org.sky.haaneul.timesaleservice.repository.TimeSalePurchaseInfo;
 import org.sky.haaneul.timesaleservice.repository.TimeSaleRepository;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -32,7 +33,10 @@ import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,15 +49,23 @@ class TimeSaleRedisServiceTest {
     @Mock
     private ProductRepository productRepository;
     @Mock
-    private TimeSaleOrderRepository timeSaleOrderRepository;
+    private TimeSaleOrderJournal timeSaleOrderJournal;
     @Mock
     private RedissonClient redissonClient;
     @Mock
-    private ObjectMapper objectMapper;
+    private TimeSaleListingIndex timeSaleListingIndex;
+    @Mock
+    private TimeSaleSoldOutRegistry timeSaleSoldOutRegistry;
+    @Mock
+    private TimeSalePurchaseLimiter timeSalePurchaseLimiter;
+    @Mock
+    private TimeSaleLifecycleScheduler timeSaleLifecycleScheduler;
+    @Mock
+    private TimeSaleVelocityTracker timeSaleVelocityTracker;
     @Mock
     private RLock rLock;
     @Mock
-    private RBucket<String> rBucket;
+    private RBucket<byte[]> rBucket;
 
     private TimeSale timeSale;
     private Product product;
@@ -110,8 +122,7 @@ class TimeSaleRedisServiceTest {
 
         given(productRepository.findById(1L)).willReturn(Optional.of(product));
         given(timeSaleRepository.save(any(TimeSale.class))).willReturn(timeSale);
-        given(objectMapper.writeValueAsString(any(TimeSale.class))).willReturn("json");
-        given(redissonClient.<String>getBucket(anyString())).willReturn(rBucket);
+        given(redissonClient.<byte[]>getBucket(anyString(), any(Codec.class))).willReturn(rBucket);
 
         // when
         TimeSale result = timeSaleRedisService.createTimeSale(request);
@@ -121,8 +132,9 @@ class TimeSaleRedisServiceTest {
         assertThat(result.getId()).isEqualTo(1L);
         assertThat(result.getProduct().getId()).isEqualTo(1L);
         verify(timeSaleRepository).save(any(TimeSale.class));
-        verify(rBucket).set(anyString());
-
+        verify(rBucket).set(any(byte[].class));
+        verify(timeSaleListingIndex).register(timeSale);
+        verify(timeSaleLifecycleScheduler).schedule(timeSale);
     }
 
     @Test
@@ -130,9 +142,7 @@ class TimeSaleRedisServiceTest {
     void getOngoingTimeSales_Success() {
         // given
         PageRequest pageRequest = PageRequest.of(0, 10);
-        given(timeSaleRepository.findAllByStartAtBeforeAndEndAtAfterAndStatus(
-                any(LocalDateTime.class), eq(TimeSaleStatus.ACTIVE), eq(pageRequest)
-        )).willReturn(new PageImpl<>(List.of(timeSale)));
+        given(timeSaleListingIndex.getOngoingTimeSales(pageRequest)).willReturn(new PageImpl<>(List.of(TimeSaleSnapshot.from(timeSale))));
 
         // when
         var result = timeSaleRedisService.getOngoingTimeSales(pageRequest);
@@ -146,60 +156,164 @@ class TimeSaleRedisServiceTest {
     @DisplayName("타임세일 조회 성공 - Redis Cache Hit")
     void getTimeSale_Success_CacheHit() throws Exception {
         // given
-        given(redissonClient.<String>getBucket(anyString())).willReturn(rBucket);
-        given(rBucket.get()).willReturn("json");
-        given(objectMapper.readValue(anyString(), eq(TimeSale.class))).willReturn(timeSale);
+        given(redissonClient.<byte[]>getBucket(anyString(), any(Codec.class))).willReturn(rBucket);
+        given(rBucket.get()).willReturn(TimeSaleSnapshotCodec.encode(TimeSaleSnapshot.from(timeSale)));
 
         // when
-        TimeSale result = timeSaleRedisService.getTimeSale(1L);
+        TimeSaleSnapshot result = timeSaleRedisService.getTimeSale(1L);
 
         // then
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(1L);
-        verify(timeSaleRepository, never()).findById(anyLong());
+        assertThat(result.getProductId()).isEqualTo(1L);
+        assertThat(result.getRemainingQuantity()).isEqualTo(100L);
+        verify(timeSaleRepository, never()).findWithProductById(anyLong());
     }
 
     @Test
     @DisplayName("타임세일 조회 성공 - Redis Cache Miss")
     void getTimeSale_Success_CacheMiss() throws Exception {
         // given
-        given(redissonClient.<String>getBucket(anyString())).willReturn(rBucket);
+        given(redissonClient.<byte[]>getBucket(anyString(), any(Codec.class))).willReturn(rBucket);
         given(rBucket.get()).willReturn(null);
-        given(timeSaleRepository.findById(1L)).willReturn(Optional.of(timeSale));
-        given(objectMapper.writeValueAsString(any(TimeSale.class))).willReturn("json");
+        given(timeSaleRepository.findWithProductById(1L)).willReturn(Optional.of(timeSale));
 
         // when
-        TimeSale result = timeSaleRedisService.getTimeSale(1L);
+        TimeSaleSnapshot result = timeSaleRedisService.getTimeSale(1L);
 
         // then
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(1L);
-        verify(timeSaleRepository).findById(1L);
-        verify(rBucket).set(anyString());
+        assertThat(result.getProductName()).isEqualTo("Test Product");
+        verify(timeSaleRepository).findWithProductById(1L);
+        verify(rBucket).set(any(byte[].class));
+    }
+
+    @Test
+    @DisplayName("타임세일 조회 성공 - 이전 포맷의 캐시 값은 캐시 미스로 처리")
+    void getTimeSale_Success_LegacyCacheValue() {
+        // given
+        given(redissonClient.<byte[]>getBucket(anyString(), any(Codec.class))).willReturn(rBucket);
+        given(rBucket.get()).willReturn("{\"id\":1}".getBytes());
+        given(timeSaleRepository.findWithProductById(1L)).willReturn(Optional.of(timeSale));
+
+        // when
+        TimeSaleSnapshot result = timeSaleRedisService.getTimeSale(1L);
+
+        // then
+        assertThat(result.getId()).isEqualTo(1L);
+        verify(rBucket).set(any(byte[].class));
     }
 
     @Test
     @DisplayName("타임세일 구매 성공")
     void purchaseTimeSale_Success() throws Exception {
         // given
+        TimeSalePurchaseInfo purchaseInfo = mock(TimeSalePurchaseInfo.class);
+        given(purchaseInfo.getProductId()).willReturn(1L);
+        given(purchaseInfo.getDiscountPrice()).willReturn(5000L);
+        given(purchaseInfo.getRemainingQuantity()).willReturn(98L);
         given(redissonClient.getLock(anyString())).willReturn(rLock);
         given(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
-        given(redissonClient.<String>getBucket(anyString())).willReturn(rBucket);
+        given(redissonClient.<byte[]>getBucket(anyString(), any(Codec.class))).willReturn(rBucket);
         given(rBucket.get()).willReturn(null);  // Redis에 데이터가 없는 상황
-        given(timeSaleRepository.findById(1L)).willReturn(Optional.of(timeSale));  // DB에서 조회
-        given(timeSaleRepository.save(any(TimeSale.class))).willReturn(timeSale);
-        given(timeSaleOrderRepository.save(any(TimeSaleOrder.class))).willReturn(order);
+        given(timeSaleRepository.findWithProductById(1L)).willReturn(Optional.of(timeSale));  // DB에서 조회
+        given(timeSaleRepository.decreaseRemainingQuantity(eq(1L), eq(2L), eq(TimeSaleStatus.ACTIVE), any(LocalDateTime.class)))
+                .willReturn(1);
+        given(timeSaleRepository.findPurchaseInfoById(1L)).willReturn(Optional.of(purchaseInfo));
 
         // when
-        TimeSale result = timeSaleRedisService.purchaseTimeSale(1L, purchaseRequest);
+        TimeSaleDto.PurchaseResponse result = timeSaleRedisService.purchaseTimeSale(1L, purchaseRequest);
 
         // then
-        assertThat(result).isNotNull();
-        assertThat(result.getId()).isEqualTo(1L);
-        assertThat(result.getRemainingQuantity()).isEqualTo(98L); // 2건 구매 후 남은 갯수가 98개가 맞는지
-        verify(timeSaleOrderRepository).save(any(TimeSaleOrder.class));
+        assertThat(result.getTimeSaleId()).isEqualTo(1L);
+        assertThat(result.getProductId()).isEqualTo(1L);
+        assertThat(result.getDiscountPrice()).isEqualTo(5000L);
+        verify(timeSaleOrderJournal).append(any(TimeSaleOrder.class));
+        verify(rLock).unlock();
+        verify(timeSaleRepository).findWithProductById(1L);  // 캐시 미스 조회만 (차감은 조건부 UPDATE)
+        verify(timeSaleRepository, never()).save(any(TimeSale.class));
+        verify(rBucket, times(2)).set(any(byte[].class));  // 캐시 미스 저장 + 구매 후 남은 재고 반영
+        verify(timeSaleSoldOutRegistry, never()).markSoldOutAfterCommit(anyLong());
+    }
+
+    @Test
+    @DisplayName("타임세일 구매 실패 - 캐시와 달리 DB 재고가 부족하면 캐시 삭제 후 실패")
+    void purchaseTimeSale_ConditionalUpdateFailed() throws Exception {
+        // given
+        TimeSale lowStock = TimeSale.builder()
+                .id(1L)
+                .product(product)
+                .quantity(100L)
+                .remainingQuantity(1L)
+                .discountPrice(5000L)
+                .startAt(now.minusHours(1))
+                .endAt(now.plusHours(1))
+                .status(TimeSaleStatus.ACTIVE)
+                .build();
+        given(redissonClient.getLock(anyString())).willReturn(rLock);
+        given(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
+        given(redissonClient.<byte[]>getBucket(anyString(), any(Codec.class))).willReturn(rBucket);
+        given(rBucket.get()).willReturn(TimeSaleSnapshotCodec.encode(TimeSaleSnapshot.from(timeSale)));
+        given(timeSaleRepository.decreaseRemainingQuantity(eq(1L), eq(2L), eq(TimeSaleStatus.ACTIVE), any(LocalDateTime.class)))
+                .willReturn(0);
+        given(timeSaleRepository.findById(1L)).willReturn(Optional.of(lowStock));
+
+        // when & then
+        assertThatThrownBy(() -> timeSaleRedisService.purchaseTimeSale(1L, purchaseRequest))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Not enough quantity available");
+
+        verify(rBucket).delete();
+        verify(timeSaleOrderJournal, never()).append(any(TimeSaleOrder.class));
+        verify(timeSalePurchaseLimiter).release(1L, 1L, 2L);
+        verify(rLock).unlock();
+    }
+
+    @Test
+    @DisplayName("타임세일 구매 실패 - 캐시된 재고 부족시 DB 조회 없이 실패")
+    void purchaseTimeSale_SoldOutInCache() throws Exception {
+        // given
+        TimeSaleSnapshot soldOut = TimeSaleSnapshot.builder()
+                .id(1L)
+                .productId(1L)
+                .quantity(100L)
+                .remainingQuantity(0L)
+                .discountPrice(5000L)
+                .startAt(now.minusHours(1))
+                .endAt(now.plusHours(1))
+                .status(TimeSaleStatus.ACTIVE)
+                .build();
+        given(redissonClient.getLock(anyString())).willReturn(rLock);
+        given(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
+        given(redissonClient.<byte[]>getBucket(anyString(), any(Codec.class))).willReturn(rBucket);
+        given(rBucket.get()).willReturn(TimeSaleSnapshotCodec.encode(soldOut));
+
+        // when & then
+        assertThatThrownBy(() -> timeSaleRedisService.purchaseTimeSale(1L, purchaseRequest))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Not enough quantity available");
+
         verify(rLock).unlock();
-        verify(timeSaleRepository).findById(1L);
+        verify(timeSaleRepository, never()).findWithProductById(anyLong());
+        // 커밋 전에 저장되었을 수 있는 캐시 기준으로는 매진 전파 X
+        verify(timeSaleSoldOutRegistry, never()).markSoldOut(anyLong());
+    }
+
+    @Test
+    @DisplayName("타임세일 구매 실패 - 매진된 타임세일은 락 획득 없이 거절")
+    void purchaseTimeSale_RejectedBySoldOutRegistry() {
+        // given
+        willThrow(new IllegalStateException("Not enough quantity available"))
+                .given(timeSaleSoldOutRegistry).rejectIfClosed(1L);
+
+        // when & then
+        assertThatThrownBy(() -> timeSaleRedisService.purchaseTimeSale(1L, purchaseRequest))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Not enough quantity available");
+
+        verify(redissonClient, never()).getLock(anyString());
+        verify(timeSaleRepository, never()).findWithProductById(anyLong());
     }
 
     @Test
@@ -215,7 +329,9 @@ class TimeSaleRedisServiceTest {
                 .hasMessage("Failed to acquire lock");
 
         verify(rLock, never()).unlock();
-        verify(timeSaleOrderRepository, never()).save(any(TimeSaleOrder.class));
+        verify(timeSaleOrderJournal, never()).append(any(TimeSaleOrder.class));
+        // 락 획득 실패시 차감한 구매 제한 반환
+        verify(timeSalePurchaseLimiter).release(1L, 1L, 2L);
     }
 
     @Test
@@ -224,9 +340,9 @@ class TimeSaleRedisServiceTest {
         // given
         given(redissonClient.getLock(anyString())).willReturn(rLock);
         given(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
-        given(redissonClient.<String>getBucket(anyString())).willReturn(rBucket);
+        given(redissonClient.<byte[]>getBucket(anyString(), any(Codec.class))).willReturn(rBucket);
         given(rBucket.get()).willReturn(null);
-        given(timeSaleRepository.findById(anyLong())).willReturn(Optional.empty());
+        given(timeSaleRepository.findWithProductById(anyLong())).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> timeSaleRedisService.purchaseTimeSale(1L, purchaseRequest))
@@ -234,9 +350,22 @@ class TimeSaleRedisServiceTest {
                 .hasMessage("TimeSale not found");
 
         verify(rLock).unlock();
-        verify(timeSaleOrderRepository, never()).save(any(TimeSaleOrder.class));
+        verify(timeSaleOrderJournal, never()).append(any(TimeSaleOrder.class));
     }
 
+    @Test
+    @DisplayName("타임세일 구매 실패 - 사용자별 구매 제한 초과시 락 획득 없이 거절")
+    void purchaseTimeSale_PurchaseLimitExceeded() {
+        // given
+        willThrow(new IllegalStateException("Purchase limit exceeded"))
+                .given(timeSalePurchaseLimiter).reserve(1L, 1L, 2L);
 
+        // when & then
+        assertThatThrownBy(() -> timeSaleRedisService.purchaseTimeSale(1L, purchaseRequest))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Purchase limit exceeded");
 
-}
\ No newline at end of file
+        verify(redissonClient, never()).getLock(anyString());
+        verify(timeSalePurchaseLimiter, never()).release(anyLong(), anyLong(), anyLong());
+    }
+}
@@ -0,0 +1,77 @@
+package org.sky.haaneul.timesaleservice.service.v2;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sky.haaneul.timesaleservice.domain.TimeSaleStatus;
+import org.sky.haaneul.timesaleservice.dto.TimeSaleSnapshot;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimeSaleSnapshotCodecTest {
+
+    @Test
+    @DisplayName("스냅샷 인코딩/디코딩 - 모든 필드 복원")
+    void encodeDecode_Success() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        TimeSaleSnapshot snapshot = TimeSaleSnapshot.builder()
+                .id(1L)
+                .productId(2L)
+                .productName("Test Product")
+                .productPrice(10000L)
+                .quantity(100L)
+                .remainingQuantity(98L)
+                .discountPrice(5000L)
+                .startAt(now.minusHours(1))
+                .endAt(now.plusHours(1))
+                .status(TimeSaleStatus.ACTIVE)
+                .version(3L)
+                .perUserLimit(5L)
+                .createdAt(now.minusDays(1))
+                .build();
+
+        // when
+        TimeSaleSnapshot result = TimeSaleSnapshotCodec.decode(TimeSaleSnapshotCodec.encode(snapshot));
+
+        // then
+        assertThat(result).usingRecursiveComparison().isEqualTo(snapshot);
+    }
+
+    @Test
+    @DisplayName("스냅샷 인코딩/디코딩 - 상품 정보와 버전이 없는 경우")
+    void encodeDecode_WithoutProductSummary() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        TimeSaleSnapshot snapshot = TimeSaleSnapshot.builder()
+                .id(1L)
+                .productId(2L)
+                .quantity(100L)
+                .remainingQuantity(0L)
+                .discountPrice(5000L)
+                .startAt(now.minusHours(1))
+                .endAt(now.plusHours(1))
+                .status(TimeSaleStatus.SOLD_OUT)
+                .build();
+
+        // when
+        TimeSaleSnapshot result = TimeSaleSnapshotCodec.decode(TimeSaleSnapshotCodec.encode(snapshot));
+
+        // then
+        assertThat(result.getProductName()).isNull();
+        assertThat(result.getProductPrice()).isNull();
+        assertThat(result.getVersion()).isNull();
+        assertThat(result.getPerUserLimit()).isNull();
+        assertThat(result.getCreatedAt()).isNull();
+        assertThat(result.getStatus()).isEqualTo(TimeSaleStatus.SOLD_OUT);
+    }
+
+    @Test
+    @DisplayName("스냅샷 디코딩 실패 - 지원하지 않는 포맷")
+    void decode_UnsupportedFormat() {
+        assertThatThrownBy(() -> TimeSaleSnapshotCodec.decode("{\"id\":1}".getBytes()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,101 @@
+package org.sky.haaneul.timesaleservice.service.v2;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMapAsync;
+import org.redisson.api.RTopicAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TimeSaleSoldOutRegistryTest {
+    @InjectMocks
+    private TimeSaleSoldOutRegistry timeSaleSoldOutRegistry;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RBatch rBatch;
+
+    @Mock
+    private RMapAsync<Object, Object> closedMap;
+
+    @Mock
+    private RTopicAsync closedTopic;
+
+    @Test
+    @DisplayName("매진 처리 - 로컬 상태로 즉시 거절하고 한 번만 전파")
+    void markSoldOut_Success() {
+        // given
+        given(redissonClient.createBatch()).willReturn(rBatch);
+        given(rBatch.getMap(anyString(), any(Codec.class))).willReturn(closedMap);
+        given(rBatch.getTopic(anyString(), any(Codec.class))).willReturn(closedTopic);
+
+        // when
+        timeSaleSoldOutRegistry.markSoldOut(1L);
+        timeSaleSoldOutRegistry.markSoldOut(1L);
+
+        // then
+        assertThat(timeSaleSoldOutRegistry.isClosed(1L)).isTrue();
+        assertThat(timeSaleSoldOutRegistry.isClosed(2L)).isFalse();
+        assertThatThrownBy(() -> timeSaleSoldOutRegistry.rejectIfClosed(1L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Not enough quantity available");
+        verify(closedMap).fastPutAsync("1", "SOLD_OUT");
+        verify(closedTopic).publishAsync("1:SOLD_OUT");
+        verify(rBatch, times(1)).execute();
+    }
+
+    @Test
+    @DisplayName("매진 처리 - Redis 장애시에도 로컬 상태는 반영")
+    void markEnded_RedisFailure() {
+        // given
+        given(redissonClient.createBatch()).willThrow(new RuntimeException("redis down"));
+
+        // when
+        timeSaleSoldOutRegistry.markEnded(1L);
+
+        // then
+        assertThatThrownBy(() -> timeSaleSoldOutRegistry.rejectIfClosed(1L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Time sale is not active");
+    }
+
+    @Test
+    @DisplayName("매진 처리 - 처음 반영될 때만 리스너 호출")
+    void markSoldOut_NotifiesListenerOnce() {
+        // given
+        given(redissonClient.createBatch()).willReturn(rBatch);
+        given(rBatch.getMap(anyString(), any(Codec.class))).willReturn(closedMap);
+        given(rBatch.getTopic(anyString(), any(Codec.class))).willReturn(closedTopic);
+        List<Long> closed = new ArrayList<>();
+        timeSaleSoldOutRegistry.addCloseListener((timeSaleId, status) -> closed.add(timeSaleId));
+
+        // when
+        timeSaleSoldOutRegistry.markSoldOut(1L);
+        timeSaleSoldOutRegistry.markSoldOut(1L);
+
+        // then
+        assertThat(closed).containsExactly(1L);
+    }
+}
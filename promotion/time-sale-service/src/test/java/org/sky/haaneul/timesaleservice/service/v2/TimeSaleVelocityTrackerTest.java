@@ -0,0 +1,126 @@
+package org.sky.haaneul.timesaleservice.service.v2;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.BatchResult;
+import org.redisson.api.RAtomicLongAsync;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMapAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.sky.haaneul.timesaleservice.dto.TimeSaleDto;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class TimeSaleVelocityTrackerTest {
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private RBatch batch;
+    @Mock
+    private RMapAsync<String, String> stock;
+    @Mock
+    private RAtomicLongAsync totalRequests;
+    @Mock
+    private BatchResult<Object> batchResult;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TimeSaleVelocityTracker timeSaleVelocityTracker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        timeSaleVelocityTracker = new TimeSaleVelocityTracker(redissonClient, meterRegistry);
+    }
+
+    private void givenSample(String remaining, Long queueDepth) {
+        given(redissonClient.createBatch()).willReturn(batch);
+        given(batch.<String, String>getMap(anyString(), any(Codec.class))).willReturn(stock);
+        given(batch.getAtomicLong(anyString())).willReturn(totalRequests);
+        doReturn(batchResult).when(batch).execute();
+        given(batchResult.getResponses()).willReturn(Arrays.asList(remaining, queueDepth));
+    }
+
+    @Test
+    @DisplayName("윈도우 카운터 - 최근 60초 구매 수량만 합산")
+    void windowedCounter_SumsRecentSeconds() {
+        // given
+        TimeSaleVelocityTracker.WindowedCounter counter = new TimeSaleVelocityTracker.WindowedCounter();
+
+        // when
+        counter.add(1_000L, 3);
+        counter.add(1_000L, 2);
+        counter.add(1_030L, 5);
+        long beforeOverwrite = counter.sum(1_030L);
+        counter.add(1_060L, 4);  // 1_000초 버킷을 덮어씀
+
+        // then
+        assertThat(beforeOverwrite).isEqualTo(10);
+        assertThat(counter.sum(1_060L)).isEqualTo(9);
+        assertThat(counter.sum(1_200L)).isZero();
+    }
+
+    @Test
+    @DisplayName("판매 속도 - 남은 재고 감소량으로 소진 속도와 매진 예상 시간 계산")
+    void sampleAll_ComputesDrainRateAndEta() throws InterruptedException {
+        // given
+        givenSample("100", 7L);
+        timeSaleVelocityTracker.record(1L, 2L);
+        timeSaleVelocityTracker.sampleAll();
+        Thread.sleep(100);
+        given(batchResult.getResponses()).willReturn(Arrays.asList("90", 5L));
+
+        // when
+        timeSaleVelocityTracker.sampleAll();
+        TimeSaleDto.VelocityResponse velocity = timeSaleVelocityTracker.getVelocity(1L);
+
+        // then
+        assertThat(velocity.getRemainingQuantity()).isEqualTo(90L);
+        assertThat(velocity.getQueueDepth()).isEqualTo(5L);
+        assertThat(velocity.getDrainRate()).isPositive();
+        assertThat(velocity.getSellOutEtaSeconds()).isPositive();
+        assertThat(velocity.getPurchaseRate()).isPositive();
+        assertThat(meterRegistry.get("time.sale.velocity.remaining").tag("timeSaleId", "1").gauge().value()).isEqualTo(90.0);
+    }
+
+    @Test
+    @DisplayName("판매 속도 - 재고 키가 정리된 타임세일은 추적 및 메트릭 해제")
+    void sampleAll_UntrackEndedSale() {
+        // given
+        givenSample(null, 0L);
+        timeSaleVelocityTracker.record(1L, 1L);
+
+        // when
+        timeSaleVelocityTracker.sampleAll();
+
+        // then
+        assertThat(meterRegistry.find("time.sale.velocity.remaining").gauges()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("판매 속도 - 구매 기록이 없는 타임세일은 추적/메트릭 등록 없이 0 반환")
+    void getVelocity_UntrackedSale() {
+        // when
+        TimeSaleDto.VelocityResponse velocity = timeSaleVelocityTracker.getVelocity(999L);
+
+        // then
+        assertThat(velocity.getPurchaseRate()).isZero();
+        assertThat(velocity.getDrainRate()).isZero();
+        assertThat(velocity.getSellOutEtaSeconds()).isNull();
+        assertThat(meterRegistry.getMeters()).isEmpty();
+        timeSaleVelocityTracker.sampleAll();
+        verifyNoInteractions(redissonClient);
+    }
+}
@@ -6,14 +6,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.redisson.api.RBucket;
-import org.redisson.api.RedissonClient;
 import org.sky.haaneul.timesaleservice.dto.TimeSaleDto;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSalePurchaseLimiter;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSaleSoldOutRegistry;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -22,17 +24,23 @@ class AsyncTimeSaleServiceTest {
     private TimeSaleProducer timeSaleProducer;
 
     @Mock
-    private RedissonClient redissonClient;
+    private PurchaseResultStore purchaseResultStore;
 
     @Mock
-    private RBucket<String> rBucket;
+    private TimeSaleSoldOutRegistry timeSaleSoldOutRegistry;
+
+    @Mock
+    private WaitingRoomService waitingRoomService;
+
+    @Mock
+    private TimeSalePurchaseLimiter timeSalePurchaseLimiter;
 
     private AsyncTimeSaleService asyncTimeSaleService;
 
     @BeforeEach
     void setUp() {
         //timeSaleProducer은 Bean으로 처리되기때문에 @Mock으로 주입받아 처리
-        asyncTimeSaleService = new AsyncTimeSaleService(null, timeSaleProducer, redissonClient);
+        asyncTimeSaleService = new AsyncTimeSaleService(null, timeSaleProducer, purchaseResultStore, timeSaleSoldOutRegistry, waitingRoomService, timeSalePurchaseLimiter);
     }
 
     @Test
@@ -47,21 +55,38 @@ class AsyncTimeSaleServiceTest {
         given(timeSaleProducer.sendPurchaseRequest(1L, 1L, 1L)).willReturn(expectedRequestId);
 
         // when
-        String requestId = asyncTimeSaleService.purchaseTimeSale(1L, request);
+        String requestId = asyncTimeSaleService.purchaseTimeSale(1L, request, "admission-token");
 
         // then
         assertThat(requestId).isEqualTo(expectedRequestId);
+        verify(waitingRoomService).consumeAdmission(1L, 1L, "admission-token");
+        verify(timeSalePurchaseLimiter).reserve(1L, 1L, 1L);
         verify(timeSaleProducer).sendPurchaseRequest(1L, 1L, 1L);
     }
 
+    @Test
+    @DisplayName("비동기 구매 요청 실패 - 매진된 타임세일은 Kafka로 전송하지 않음")
+    void purchaseTimeSale_SoldOut() {
+        // given
+        TimeSaleDto.PurchaseRequest request = TimeSaleDto.PurchaseRequest.builder()
+                .userId(1L)
+                .quantity(1L)
+                .build();
+        willThrow(new IllegalStateException("Not enough quantity available"))
+                .given(timeSaleSoldOutRegistry).rejectIfClosed(1L);
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> asyncTimeSaleService.purchaseTimeSale(1L, request, "admission-token"));
+        verify(timeSaleProducer, never()).sendPurchaseRequest(anyLong(), anyLong(), anyLong());
+    }
+
     @Test
     @DisplayName("구매 결과 조회 - 대기 중")
     void getPurchaseResult_Pending() {
         // given
         Long timeSaleId = 1L;
         String resultId = "test-request-id";
-        given(redissonClient.<String>getBucket(anyString())).willReturn(rBucket);
-        given(rBucket.get()).willReturn(null);
+        given(purchaseResultStore.getResult(timeSaleId, resultId)).willReturn(null);
         given(timeSaleProducer.getQueuePosition(timeSaleId, resultId)).willReturn(5);
         given(timeSaleProducer.getTotalWaiting(timeSaleId)).willReturn(10L);
 
@@ -80,8 +105,7 @@ class AsyncTimeSaleServiceTest {
         // given
         Long timeSaleId = 1L;
         String requestId = "test-request-id";
-        given(redissonClient.<String>getBucket(anyString())).willReturn(rBucket);
-        given(rBucket.get()).willReturn("SUCCESS");
+        given(purchaseResultStore.getResult(timeSaleId, requestId)).willReturn("SUCCESS");
 
         // when
         TimeSaleDto.AsyncPurchaseResponse response = asyncTimeSaleService.getPurchaseResult(timeSaleId, requestId);
@@ -99,8 +123,7 @@ class AsyncTimeSaleServiceTest {
         // given
         Long timeSaleId = 1L;
         String requestId = "test-request-id";
-        given(redissonClient.<String>getBucket(anyString())).willReturn(rBucket);
-        given(rBucket.get()).willReturn("FAIL");
+        given(purchaseResultStore.getResult(timeSaleId, requestId)).willReturn("FAIL");
 
         // when
         TimeSaleDto.AsyncPurchaseResponse response = asyncTimeSaleService.getPurchaseResult(timeSaleId, requestId);
@@ -111,4 +134,19 @@ class AsyncTimeSaleServiceTest {
         assertThat(response.getTotalWaiting()).isEqualTo(0L);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("비동기 구매 요청 실패 - 입장하지 않은 요청은 Kafka로 전송하지 않음")
+    void purchaseTimeSale_NotAdmitted() {
+        // given
+        TimeSaleDto.PurchaseRequest request = TimeSaleDto.PurchaseRequest.builder()
+                .userId(1L)
+                .quantity(1L)
+                .build();
+        willThrow(new IllegalStateException("Invalid admission token"))
+                .given(waitingRoomService).consumeAdmission(1L, 1L, null);
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> asyncTimeSaleService.purchaseTimeSale(1L, request, null));
+        verify(timeSaleProducer, never()).sendPurchaseRequest(anyLong(), anyLong(), anyLong());
+    }
+}
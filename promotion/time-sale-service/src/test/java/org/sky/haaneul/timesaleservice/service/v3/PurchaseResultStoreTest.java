@@ -0,0 +1,196 @@
+package org.sky.haaneul.timesaleservice.service.v3;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.*;
+import org.redisson.client.codec.Codec;
+import org.sky.haaneul.timesaleservice.domain.TimeSaleStatus;
+import org.sky.haaneul.timesaleservice.dto.TimeSaleSnapshot;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSaleRedisService;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSaleSoldOutRegistry;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PurchaseResultStoreTest {
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private TimeSaleRedisService timeSaleRedisService;
+
+    @Mock
+    private TimeSaleSoldOutRegistry timeSaleSoldOutRegistry;
+
+    @Mock
+    private RBatch rBatch;
+
+    @Mock
+    private RMapAsync<String, String> resultMapAsync;
+
+    @Mock
+    private RMap<String, String> resultMap;
+
+    @Mock
+    private RScoredSortedSet<String> expiryIndex;
+
+    @Mock
+    private RKeys rKeys;
+
+    @Captor
+    private ArgumentCaptor<BiConsumer<Long, TimeSaleStatus>> closeListener;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PurchaseResultStore purchaseResultStore;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        purchaseResultStore = new PurchaseResultStore(redissonClient, timeSaleRedisService, meterRegistry, timeSaleSoldOutRegistry);
+    }
+
+    @Test
+    @DisplayName("결과 저장 - 타임세일별 Hash에 저장하고 종료 시각 기준 TTL 설정")
+    void savePending_Success() {
+        // given
+        TimeSaleSnapshot timeSale = TimeSaleSnapshot.builder()
+                .id(1L)
+                .endAt(LocalDateTime.now().plusHours(1))
+                .build();
+        given(timeSaleRedisService.getTimeSale(1L)).willReturn(timeSale);
+        given(redissonClient.<String>getScoredSortedSet(anyString(), any(Codec.class))).willReturn(expiryIndex);
+        given(redissonClient.createBatch()).willReturn(rBatch);
+        given(rBatch.<String, String>getMap(eq("purchase-result:1"), any(Codec.class))).willReturn(resultMapAsync);
+
+        // when
+        purchaseResultStore.savePending(1L, "request-1");
+        purchaseResultStore.savePending(1L, "request-2");
+
+        // then
+        verify(resultMapAsync).fastPutAsync("request-1", "PENDING");
+        verify(resultMapAsync).fastPutAsync("request-2", "PENDING");
+        verify(resultMapAsync, times(2)).expireAsync(any(Instant.class));
+        verify(rBatch, times(2)).execute();
+        // 타임세일 종료 시각은 한 번만 조회
+        verify(timeSaleRedisService, times(1)).getTimeSale(1L);
+        verify(expiryIndex, times(1)).add(anyDouble(), eq("1"));
+        assertThat(meterRegistry.find("time.sale.purchase.result.entries").tag("timeSaleId", "1").gauge()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("결과 조회 성공")
+    void getResult_Success() {
+        // given
+        given(redissonClient.<String, String>getMap(eq("purchase-result:1"), any(Codec.class))).willReturn(resultMap);
+        given(resultMap.get("request-1")).willReturn("SUCCESS");
+
+        // when
+        String result = purchaseResultStore.getResult(1L, "request-1");
+
+        // then
+        assertThat(result).isEqualTo("SUCCESS");
+    }
+
+    @Test
+    @DisplayName("종료된 타임세일의 결과 일괄 정리")
+    void cleanupEndedSales_Success() {
+        // given
+        given(redissonClient.<String>getScoredSortedSet(anyString(), any(Codec.class))).willReturn(expiryIndex);
+        given(expiryIndex.valueRange(anyDouble(), anyBoolean(), anyDouble(), anyBoolean(), anyInt(), anyInt()))
+                .willReturn(List.of("1", "2"));
+        given(redissonClient.getKeys()).willReturn(rKeys);
+
+        // when
+        purchaseResultStore.cleanupEndedSales();
+
+        // then
+        verify(rKeys).unlink("purchase-result:1", "time-sale-queue:1", "time-sale-total-requests:1");
+        verify(rKeys).unlink("purchase-result:2", "time-sale-queue:2", "time-sale-total-requests:2");
+        verify(expiryIndex).removeAll(List.of("1", "2"));
+    }
+
+    @Test
+    @DisplayName("종료 전파 - 이 인스턴스의 타임세일 메트릭 제거")
+    void closeListener_Ended_RemovesMeters() {
+        // given
+        TimeSaleSnapshot timeSale = TimeSaleSnapshot.builder()
+                .id(1L)
+                .endAt(LocalDateTime.now().plusHours(1))
+                .build();
+        given(timeSaleRedisService.getTimeSale(1L)).willReturn(timeSale);
+        given(redissonClient.<String>getScoredSortedSet(anyString(), any(Codec.class))).willReturn(expiryIndex);
+        given(redissonClient.createBatch()).willReturn(rBatch);
+        given(rBatch.<String, String>getMap(eq("purchase-result:1"), any(Codec.class))).willReturn(resultMapAsync);
+        purchaseResultStore.registerCloseListener();
+        verify(timeSaleSoldOutRegistry).addCloseListener(closeListener.capture());
+        purchaseResultStore.savePending(1L, "request-1");
+
+        // when
+        closeListener.getValue().accept(1L, TimeSaleStatus.ENDED);
+
+        // then
+        assertThat(meterRegistry.find("time.sale.purchase.result.entries").tag("timeSaleId", "1").gauge()).isNull();
+        assertThat(meterRegistry.find("time.sale.purchase.result.memory").tag("timeSaleId", "1").gauge()).isNull();
+    }
+
+    @Test
+    @DisplayName("매진 전파 - 재고 반환으로 재오픈될 수 있으므로 메트릭 유지")
+    void closeListener_SoldOut_KeepsMeters() {
+        // given
+        TimeSaleSnapshot timeSale = TimeSaleSnapshot.builder()
+                .id(1L)
+                .endAt(LocalDateTime.now().plusHours(1))
+                .build();
+        given(timeSaleRedisService.getTimeSale(1L)).willReturn(timeSale);
+        given(redissonClient.<String>getScoredSortedSet(anyString(), any(Codec.class))).willReturn(expiryIndex);
+        given(redissonClient.createBatch()).willReturn(rBatch);
+        given(rBatch.<String, String>getMap(eq("purchase-result:1"), any(Codec.class))).willReturn(resultMapAsync);
+        purchaseResultStore.registerCloseListener();
+        verify(timeSaleSoldOutRegistry).addCloseListener(closeListener.capture());
+        purchaseResultStore.savePending(1L, "request-1");
+
+        // when
+        closeListener.getValue().accept(1L, TimeSaleStatus.SOLD_OUT);
+
+        // then
+        assertThat(meterRegistry.find("time.sale.purchase.result.entries").tag("timeSaleId", "1").gauge()).isNotNull();
+        assertThat(meterRegistry.find("time.sale.purchase.result.memory").tag("timeSaleId", "1").gauge()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("결과 저장 - 종료된 타임세일은 메트릭을 다시 등록하지 않음")
+    void saveResult_EndedSale_SkipsMeters() {
+        // given
+        TimeSaleSnapshot timeSale = TimeSaleSnapshot.builder()
+                .id(1L)
+                .endAt(LocalDateTime.now().plusHours(1))
+                .build();
+        given(timeSaleRedisService.getTimeSale(1L)).willReturn(timeSale);
+        given(timeSaleSoldOutRegistry.isEnded(1L)).willReturn(true);
+        given(redissonClient.<String>getScoredSortedSet(anyString(), any(Codec.class))).willReturn(expiryIndex);
+        given(redissonClient.createBatch()).willReturn(rBatch);
+        given(rBatch.<String, String>getMap(eq("purchase-result:1"), any(Codec.class))).willReturn(resultMapAsync);
+
+        // when
+        purchaseResultStore.saveResult(1L, "request-1", "FAIL");
+
+        // then
+        verify(resultMapAsync).fastPutAsync("request-1", "FAIL");
+        assertThat(meterRegistry.find("time.sale.purchase.result.entries").tag("timeSaleId", "1").gauge()).isNull();
+    }
+}
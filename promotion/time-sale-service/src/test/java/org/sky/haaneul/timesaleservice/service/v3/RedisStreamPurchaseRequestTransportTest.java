@@ -0,0 +1,108 @@
+package org.sky.haaneul.timesaleservice.service.v3;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.AutoClaimResult;
+import org.redisson.api.RStream;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.api.stream.StreamAddArgs;
+import org.redisson.api.stream.StreamReadGroupArgs;
+import org.redisson.client.codec.Codec;
+import org.sky.haaneul.timesaleservice.dto.PurchaseRequestMessage;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisStreamPurchaseRequestTransportTest {
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private TimeSaleConsumer timeSaleConsumer;
+    @Mock
+    private PurchaseResultStore purchaseResultStore;
+    @Mock
+    private RStream<String, String> stream;
+    @Mock
+    private AutoClaimResult<String, String> claimed;
+
+    private RedisStreamPurchaseRequestTransport transport;
+
+    @BeforeEach
+    void setUp() {
+        transport = new RedisStreamPurchaseRequestTransport(redissonClient, timeSaleConsumer, purchaseResultStore);
+        ReflectionTestUtils.setField(transport, "batchSize", 100);
+        ReflectionTestUtils.setField(transport, "blockMillis", 1_000L);
+        ReflectionTestUtils.setField(transport, "claimIdleMillis", 30_000L);
+        given(redissonClient.<String, String>getStream(anyString(), any(Codec.class))).willReturn(stream);
+    }
+
+    private Map<String, String> entry(String requestId) {
+        return Map.of("requestId", requestId, "timeSaleId", "1", "userId", "1", "quantity", "2");
+    }
+
+    @Test
+    @DisplayName("구매 요청 전송 - Stream에 추가")
+    void send_Success() {
+        // when
+        transport.send(PurchaseRequestMessage.builder()
+                .requestId("request-1").timeSaleId(1L).userId(1L).quantity(2L).build());
+
+        // then
+        verify(stream).add(any(StreamAddArgs.class));
+    }
+
+    @Test
+    @DisplayName("구매 요청 수신 - 배치로 처리한 뒤 한 번에 ACK 및 삭제")
+    void poll_ProcessNewEntries() {
+        // given
+        StreamMessageId first = new StreamMessageId(1L, 0L);
+        StreamMessageId second = new StreamMessageId(1L, 1L);
+        given(stream.autoClaim(anyString(), anyString(), anyLong(), any(TimeUnit.class), any(StreamMessageId.class), anyInt()))
+                .willReturn(claimed);
+        given(claimed.getMessages()).willReturn(Map.of());
+        given(stream.readGroup(anyString(), anyString(), any(StreamReadGroupArgs.class)))
+                .willReturn(Map.of(first, entry("request-1"), second, entry("request-2")));
+
+        // when
+        transport.poll();
+
+        // then
+        verify(timeSaleConsumer, times(2)).consumePurchaseRequest(any(PurchaseRequestMessage.class));
+        verify(stream).ack(eq("time-sale-group"), any(StreamMessageId[].class));
+        verify(stream).remove(any(StreamMessageId[].class));
+        verifyNoInteractions(purchaseResultStore);
+    }
+
+    @Test
+    @DisplayName("회수한 구매 요청 - 이미 결과가 저장된 요청은 다시 처리하지 않고 ACK")
+    void poll_SkipCompletedRedeliveries() {
+        // given
+        StreamMessageId done = new StreamMessageId(1L, 0L);
+        StreamMessageId pending = new StreamMessageId(1L, 1L);
+        given(stream.autoClaim(anyString(), anyString(), anyLong(), any(TimeUnit.class), any(StreamMessageId.class), anyInt()))
+                .willReturn(claimed);
+        given(claimed.getMessages()).willReturn(Map.of(done, entry("request-1"), pending, entry("request-2")));
+        given(purchaseResultStore.getResult(1L, "request-1")).willReturn("SUCCESS");
+        given(purchaseResultStore.getResult(1L, "request-2")).willReturn("PENDING");
+        given(stream.readGroup(anyString(), anyString(), any(StreamReadGroupArgs.class))).willReturn(Map.of());
+
+        // when
+        transport.poll();
+
+        // then
+        verify(timeSaleConsumer).consumePurchaseRequest(argThat(message -> "request-2".equals(message.getRequestId())));
+        verify(timeSaleConsumer, never()).consumePurchaseRequest(argThat(message -> "request-1".equals(message.getRequestId())));
+        verify(stream).ack(eq("time-sale-group"), any(StreamMessageId[].class));
+    }
+}
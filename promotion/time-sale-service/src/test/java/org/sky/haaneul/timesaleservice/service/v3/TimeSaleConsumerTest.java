@@ -15,16 +15,22 @@ import org.sky.haaneul.timesaleservice.domain.TimeSale;
 import org.sky.haaneul.timesaleservice.domain.TimeSaleOrder;
 import org.sky.haaneul.timesaleservice.domain.TimeSaleStatus;
 import org.sky.haaneul.timesaleservice.dto.PurchaseRequestMessage;
-import org.sky.haaneul.timesaleservice.repository.TimeSaleOrderRepository;
+import org.sky.haaneul.timesaleservice.repository.TimeSalePurchaseInfo;
 import org.sky.haaneul.timesaleservice.repository.TimeSaleRepository;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSaleOrderJournal;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSalePurchaseLimiter;
 import org.sky.haaneul.timesaleservice.service.v2.TimeSaleRedisService;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSaleSoldOutRegistry;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSaleVelocityTracker;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,7 +42,7 @@ class TimeSaleConsumerTest {
     private TimeSaleRedisService timeSaleRedisService;
 
     @Mock
-    private TimeSaleOrderRepository timeSaleOrderRepository;
+    private TimeSaleOrderJournal timeSaleOrderJournal;
 
     @Mock
     private TimeSaleRepository timeSaleRepository;
@@ -45,7 +51,19 @@ class TimeSaleConsumerTest {
     private RedissonClient redissonClient;
 
     @Mock
-    private RBucket<String> resultBucket;
+    private PurchaseResultStore purchaseResultStore;
+
+    @Mock
+    private TimeSaleSoldOutRegistry timeSaleSoldOutRegistry;
+
+    @Mock
+    private TimeSalePurchaseLimiter timeSalePurchaseLimiter;
+
+    @Mock
+    private TimeSaleVelocityTracker timeSaleVelocityTracker;
+
+    @Mock
+    private RBucket<String> queueBucket;
 
     @Mock
     private RAtomicLong totalCounter;
@@ -59,7 +77,7 @@ class TimeSaleConsumerTest {
     void setUp() {
         now = LocalDateTime.now();
 
-        when(redissonClient.<String>getBucket(anyString())).thenReturn(resultBucket);
+        when(redissonClient.<String>getBucket(anyString())).thenReturn(queueBucket);
         when(redissonClient.getAtomicLong(anyString())).thenReturn(totalCounter);
 
         product = Product.builder()
@@ -99,19 +117,25 @@ class TimeSaleConsumerTest {
                 .quantity(2L)
                 .build();
 
-        when(timeSaleRepository.findById(1L)).thenReturn(Optional.of(timeSale));
-        when(timeSaleRepository.save(any(TimeSale.class))).thenReturn(timeSale);
-        when(timeSaleOrderRepository.save(any(TimeSaleOrder.class))).thenReturn(order);
+        TimeSalePurchaseInfo purchaseInfo = mock(TimeSalePurchaseInfo.class);
+        when(purchaseInfo.getDiscountPrice()).thenReturn(5000L);
+        when(purchaseInfo.getRemainingQuantity()).thenReturn(98L);
+        when(timeSaleRepository.decreaseRemainingQuantity(eq(1L), eq(2L), eq(TimeSaleStatus.ACTIVE), any(LocalDateTime.class)))
+                .thenReturn(1);
+        when(timeSaleRepository.findPurchaseInfoById(1L)).thenReturn(Optional.of(purchaseInfo));
 
         // when
         timeSaleConsumer.consumePurchaseRequest(message);
 
         // then
-        verify(resultBucket).set("SUCCESS");
-        verify(timeSaleRedisService).saveToRedis(timeSale);
+        verify(purchaseResultStore).saveResult(1L, "test-request-id", "SUCCESS");
+        verify(timeSaleRedisService).evictFromRedis(1L);
+        verify(timeSaleOrderJournal).append(any(TimeSaleOrder.class));
+        verify(timeSaleVelocityTracker).record(1L, 2L);
         verify(totalCounter).decrementAndGet();
-        verify(timeSaleRepository).findById(1L);
-        verify(timeSaleRepository).save(any(TimeSale.class));
+        verify(timeSaleRepository, never()).findWithProductById(anyLong());
+        verify(timeSaleRepository, never()).save(any(TimeSale.class));
+        verify(timeSalePurchaseLimiter, never()).release(anyLong(), anyLong(), anyLong());
     }
 
     @Test
@@ -125,17 +149,19 @@ class TimeSaleConsumerTest {
                 .quantity(2L)
                 .build();
 
+        when(timeSaleRepository.decreaseRemainingQuantity(eq(1L), eq(2L), eq(TimeSaleStatus.ACTIVE), any(LocalDateTime.class)))
+                .thenReturn(0);
         when(timeSaleRepository.findById(1L)).thenReturn(Optional.empty());
 
         // when
         timeSaleConsumer.consumePurchaseRequest(message);
 
         // then
-        verify(resultBucket).set("FAIL");
+        verify(purchaseResultStore).saveResult(1L, "test-request-id", "FAIL");
+        verify(timeSalePurchaseLimiter).release(1L, 1L, 2L);
         verify(totalCounter).decrementAndGet();
-        verify(timeSaleOrderRepository, never()).save(any(TimeSaleOrder.class));
-        verify(timeSaleRepository).findById(1L);
-        verify(timeSaleRepository, never()).save(any(TimeSale.class));
+        verify(timeSaleOrderJournal, never()).append(any(TimeSaleOrder.class));
+        verify(timeSaleRedisService, never()).evictFromRedis(anyLong());
     }
 
     @Test
@@ -160,19 +186,41 @@ class TimeSaleConsumerTest {
                 .quantity(2L)
                 .build();
 
-        // 1개가 남았는데 2개를 주문할 경우 테스트
+        // 1개가 남았는데 2개를 주문할 경우 조건부 UPDATE 실패
+        when(timeSaleRepository.decreaseRemainingQuantity(eq(1L), eq(2L), eq(TimeSaleStatus.ACTIVE), any(LocalDateTime.class)))
+                .thenReturn(0);
         when(timeSaleRepository.findById(1L)).thenReturn(Optional.of(timeSaleWithLowStock));
 
         // when
         timeSaleConsumer.consumePurchaseRequest(message);
 
         // then
-        verify(resultBucket).set("FAIL");
+        verify(purchaseResultStore).saveResult(1L, "test-request-id", "FAIL");
+        verify(timeSalePurchaseLimiter).release(1L, 1L, 2L);
         verify(totalCounter).decrementAndGet();
-        verify(timeSaleOrderRepository, never()).save(any(TimeSaleOrder.class));
-        verify(timeSaleRepository).findById(1L);
-        verify(timeSaleRepository, never()).save(any(TimeSale.class));
+        verify(timeSaleOrderJournal, never()).append(any(TimeSaleOrder.class));
+        verify(timeSaleRepository, never()).findPurchaseInfoById(anyLong());
     }
 
+    @Test
+    @DisplayName("구매 요청 처리 실패 - 매진된 타임세일은 DB 조회 없이 실패")
+    void consumePurchaseRequest_SoldOut() {
+        // given
+        PurchaseRequestMessage message = PurchaseRequestMessage.builder()
+                .requestId("test-request-id")
+                .timeSaleId(1L)
+                .userId(1L)
+                .quantity(2L)
+                .build();
+        doThrow(new IllegalStateException("Not enough quantity available"))
+                .when(timeSaleSoldOutRegistry).rejectIfClosed(1L);
+
+        // when
+        timeSaleConsumer.consumePurchaseRequest(message);
 
-}
\ No newline at end of file
+        // then
+        verify(purchaseResultStore).saveResult(1L, "test-request-id", "FAIL");
+        verify(timeSalePurchaseLimiter).release(1L, 1L, 2L);
+        verify(timeSaleRepository, never()).decreaseRemainingQuantity(anyLong(), anyLong(), any(), any());
+    }
+}
@@ -9,8 +9,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.redisson.api.RAtomicLong;
 import org.redisson.api.RBucket;
 import org.redisson.api.RedissonClient;
-import org.sky.haaneul.timesaleservice.dto.PurchaseRequestMessage;
-import org.springframework.kafka.core.KafkaTemplate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -24,13 +22,13 @@ class TimeSaleProducerTest {
     private TimeSaleProducer timeSaleProducer;
 
     @Mock
-    private KafkaTemplate<String, PurchaseRequestMessage> kafkaTemplate;
+    private PurchaseRequestTransport purchaseRequestTransport;
 
     @Mock
     private RedissonClient redissonClient;
 
     @Mock
-    private RBucket<String> resultBucket;
+    private PurchaseResultStore purchaseResultStore;
 
     @Mock
     private RBucket<String> queueBucket;
@@ -45,7 +43,6 @@ class TimeSaleProducerTest {
         Long timeSaleId = 1L;
         Long userId = 1L;
         Long quantity = 2L;
-        when(redissonClient.<String>getBucket(matches("purchase-result:.*"))).thenReturn(resultBucket);
         when(redissonClient.<String>getBucket(matches("time-sale-queue:.*"))).thenReturn(queueBucket);
         when(redissonClient.getAtomicLong(anyString())).thenReturn(totalCounter);
 
@@ -53,10 +50,10 @@ class TimeSaleProducerTest {
         String requestId = timeSaleProducer.sendPurchaseRequest(timeSaleId, userId, quantity);
 
         // then
-        verify(resultBucket).set("PENDING");
+        verify(purchaseResultStore).savePending(timeSaleId, requestId);
         verify(queueBucket).set(requestId);
         verify(totalCounter).incrementAndGet();
-        verify(kafkaTemplate).send(eq("time-sale-requests"), eq(requestId), any(PurchaseRequestMessage.class));
+        verify(purchaseRequestTransport).send(argThat(message -> requestId.equals(message.getRequestId())));
         assertThat(requestId).isNotNull();
     }
 
@@ -0,0 +1,230 @@
+package org.sky.haaneul.timesaleservice.service.v3;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.*;
+import org.redisson.client.codec.Codec;
+import org.sky.haaneul.timesaleservice.domain.TimeSaleStatus;
+import org.sky.haaneul.timesaleservice.dto.TimeSaleDto;
+import org.sky.haaneul.timesaleservice.dto.TimeSaleSnapshot;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSaleRedisService;
+import org.sky.haaneul.timesaleservice.service.v2.TimeSaleSoldOutRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WaitingRoomServiceTest {
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private TimeSaleRedisService timeSaleRedisService;
+
+    @Mock
+    private TimeSaleSoldOutRegistry timeSaleSoldOutRegistry;
+
+    @Mock
+    private RSet<String> waitingSales;
+
+    @Mock
+    private RBucket<String> tick;
+
+    @Mock
+    private RMapCache<String, String> admitted;
+
+    @Mock
+    private RScoredSortedSet<String> waiting;
+
+    @Mock
+    private RBatch rBatch;
+
+    @Mock
+    private RMapCacheAsync<String, String> admittedAsync;
+
+    @Mock
+    private RScript rScript;
+
+    private WaitingRoomService waitingRoomService;
+
+    @BeforeEach
+    void setUp() {
+        waitingRoomService = new WaitingRoomService(redissonClient, timeSaleRedisService, timeSaleSoldOutRegistry);
+        ReflectionTestUtils.setField(waitingRoomService, "enabled", true);
+        ReflectionTestUtils.setField(waitingRoomService, "admitPerSecond", 100L);
+        ReflectionTestUtils.setField(waitingRoomService, "admitIntervalMillis", 1000L);
+        ReflectionTestUtils.setField(waitingRoomService, "oversubscription", 1.5);
+        ReflectionTestUtils.setField(waitingRoomService, "tokenTtlSeconds", 60L);
+    }
+
+    @Test
+    @DisplayName("입장 처리 - 남은 재고 * 초과 입장 비율 만큼만 입장")
+    void admitWaitingTickets_LimitedByStock() {
+        // given
+        TimeSaleSnapshot timeSale = TimeSaleSnapshot.builder()
+                .id(1L)
+                .remainingQuantity(10L)
+                .status(TimeSaleStatus.ACTIVE)
+                .build();
+        given(redissonClient.<String>getSet(anyString(), any(Codec.class))).willReturn(waitingSales);
+        given(waitingSales.readAll()).willReturn(Set.of("1"));
+        given(redissonClient.<String>getBucket(anyString(), any(Codec.class))).willReturn(tick);
+        given(tick.setIfAbsent(anyString(), any(Duration.class))).willReturn(true);
+        given(redissonClient.<String, String>getMapCache(anyString(), any(Codec.class))).willReturn(admitted);
+        given(admitted.size()).willReturn(5);
+        given(timeSaleRedisService.getTimeSale(1L)).willReturn(timeSale);
+        given(redissonClient.<String>getScoredSortedSet(anyString(), any(Codec.class))).willReturn(waiting);
+        given(waiting.pollFirst(10)).willReturn(List.of("7:ticket-a", "8:ticket-b"));
+        given(redissonClient.createBatch()).willReturn(rBatch);
+        given(rBatch.<String, String>getMapCache(anyString(), any(Codec.class))).willReturn(admittedAsync);
+
+        // when
+        waitingRoomService.admitWaitingTickets();
+
+        // then
+        // 10 * 1.5 - 5 = 10명 입장 가능
+        verify(waiting).pollFirst(10);
+        verify(admittedAsync).fastPutAsync("7:ticket-a", "7", 60L, TimeUnit.SECONDS);
+        verify(admittedAsync).fastPutAsync("8:ticket-b", "8", 60L, TimeUnit.SECONDS);
+        verify(rBatch).execute();
+    }
+
+    @Test
+    @DisplayName("입장 처리 - 매진된 타임세일의 대기열 정리")
+    void admitWaitingTickets_Closed() {
+        // given
+        RKeys rKeys = mock(RKeys.class);
+        given(redissonClient.<String>getSet(anyString(), any(Codec.class))).willReturn(waitingSales);
+        given(waitingSales.readAll()).willReturn(Set.of("1"));
+        given(timeSaleSoldOutRegistry.isClosed(1L)).willReturn(true);
+        given(redissonClient.getKeys()).willReturn(rKeys);
+
+        // when
+        waitingRoomService.admitWaitingTickets();
+
+        // then
+        verify(rKeys).unlink("time-sale-waiting:{1}", "time-sale-waiting:{1}:tickets", "time-sale-admitted:1");
+        verify(waitingSales).remove("1");
+        verify(timeSaleRedisService, never()).getTimeSale(anyLong());
+    }
+
+    @Test
+    @DisplayName("대기표 발급 성공")
+    void issueTicket_Success() {
+        // given
+        given(redissonClient.getScript(any(Codec.class))).willReturn(rScript);
+        given(rScript.<String>eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.VALUE), anyList(),
+                eq("1"), anyString(), anyString(), eq(""))).willAnswer(invocation -> invocation.getArgument(5));
+        given(redissonClient.<String>getSet(anyString(), any(Codec.class))).willReturn(waitingSales);
+        given(redissonClient.<String>getScoredSortedSet(anyString(), any(Codec.class))).willReturn(waiting);
+        given(waiting.rank(anyString())).willReturn(2);
+
+        // when
+        TimeSaleDto.WaitingTicketResponse response = waitingRoomService.issueTicket(1L, 1L);
+
+        // then
+        assertThat(response.getTicket()).startsWith("1:");
+        assertThat(response.getStatus()).isEqualTo(WaitingRoomService.WAITING);
+        assertThat(response.getPosition()).isEqualTo(3L);
+        verify(rScript).eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.VALUE),
+                eq(List.of("time-sale-waiting:{1}:tickets", "time-sale-waiting:{1}")), eq("1"), anyString(), anyString(), eq(""));
+        verify(waitingSales).add("1");
+    }
+
+    @Test
+    @DisplayName("대기표 발급 - 재시도하면 대기 중인 기존 대기표 반환")
+    void issueTicket_ReturnsWaitingTicket() {
+        // given
+        given(redissonClient.getScript(any(Codec.class))).willReturn(rScript);
+        given(rScript.<String>eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.VALUE), anyList(),
+                eq("1"), anyString(), anyString(), eq(""))).willReturn("1:ticket");
+        given(redissonClient.<String, String>getMapCache(anyString(), any(Codec.class))).willReturn(admitted);
+        given(admitted.containsKey("1:ticket")).willReturn(false);
+        given(redissonClient.<String>getScoredSortedSet(anyString(), any(Codec.class))).willReturn(waiting);
+        given(waiting.rank("1:ticket")).willReturn(0);
+
+        // when
+        TimeSaleDto.WaitingTicketResponse response = waitingRoomService.issueTicket(1L, 1L);
+
+        // then
+        assertThat(response.getTicket()).isEqualTo("1:ticket");
+        assertThat(response.getStatus()).isEqualTo(WaitingRoomService.WAITING);
+        assertThat(response.getPosition()).isEqualTo(1L);
+        verify(rScript, times(1)).eval(any(RScript.Mode.class), anyString(), any(RScript.ReturnType.class), anyList(),
+                any(), any(), any(), any());
+        verify(redissonClient, never()).getSet(anyString(), any(Codec.class));
+    }
+
+    @Test
+    @DisplayName("대기표 발급 - 기존 대기표가 사용/만료되었으면 교체")
+    void issueTicket_ReplacesExpiredTicket() {
+        // given
+        given(redissonClient.getScript(any(Codec.class))).willReturn(rScript);
+        given(rScript.<String>eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.VALUE), anyList(),
+                eq("1"), anyString(), anyString(), eq(""))).willReturn("1:used");
+        given(rScript.<String>eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.VALUE), anyList(),
+                eq("1"), anyString(), anyString(), eq("1:used"))).willAnswer(invocation -> invocation.getArgument(5));
+        given(redissonClient.<String, String>getMapCache(anyString(), any(Codec.class))).willReturn(admitted);
+        given(admitted.containsKey("1:used")).willReturn(false);
+        given(redissonClient.<String>getScoredSortedSet(anyString(), any(Codec.class))).willReturn(waiting);
+        given(waiting.rank(anyString())).willReturn(null);
+        given(redissonClient.<String>getSet(anyString(), any(Codec.class))).willReturn(waitingSales);
+
+        // when
+        TimeSaleDto.WaitingTicketResponse response = waitingRoomService.issueTicket(1L, 1L);
+
+        // then
+        assertThat(response.getTicket()).startsWith("1:").isNotEqualTo("1:used");
+        assertThat(response.getStatus()).isEqualTo(WaitingRoomService.WAITING);
+        verify(waitingSales).add("1");
+    }
+
+    @Test
+    @DisplayName("입장 토큰 사용 성공")
+    void consumeAdmission_Success() {
+        // given
+        given(redissonClient.<String, String>getMapCache(anyString(), any(Codec.class))).willReturn(admitted);
+        given(admitted.remove("1:ticket")).willReturn("1");
+
+        // when
+        waitingRoomService.consumeAdmission(1L, 1L, "1:ticket");
+
+        // then
+        verify(admitted).remove("1:ticket");
+    }
+
+    @Test
+    @DisplayName("입장 토큰 사용 실패 - 다른 사용자의 토큰")
+    void consumeAdmission_OtherUser() {
+        assertThatThrownBy(() -> waitingRoomService.consumeAdmission(1L, 2L, "1:ticket"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Invalid admission token");
+        verifyNoInteractions(redissonClient);
+    }
+
+    @Test
+    @DisplayName("입장 토큰 사용 실패 - 만료되었거나 이미 사용한 토큰")
+    void consumeAdmission_Expired() {
+        // given
+        given(redissonClient.<String, String>getMapCache(anyString(), any(Codec.class))).willReturn(admitted);
+        given(admitted.remove("1:ticket")).willReturn(null);
+
+        // when & then
+        assertThatThrownBy(() -> waitingRoomService.consumeAdmission(1L, 1L, "1:ticket"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Admission token expired or already used");
+    }
+}